@@ -0,0 +1,53 @@
+package br.edu.ufape.plataforma.mentoria.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.edu.ufape.plataforma.mentoria.dto.AvailabilityWindowDTO;
+import br.edu.ufape.plataforma.mentoria.dto.AvailableSlotDTO;
+import br.edu.ufape.plataforma.mentoria.service.AuthService;
+import br.edu.ufape.plataforma.mentoria.service.AvailabilityService;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/mentor")
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+    private final AuthService authService;
+
+    public AvailabilityController(AvailabilityService availabilityService, AuthService authService) {
+        this.availabilityService = availabilityService;
+        this.authService = authService;
+    }
+
+    @GetMapping("/{mentorId}/availability")
+    public ResponseEntity<List<AvailabilityWindowDTO>> getAvailability(@PathVariable Long mentorId) {
+        return ResponseEntity.ok(availabilityService.getWindows(mentorId));
+    }
+
+    @PutMapping("/availability")
+    public ResponseEntity<List<AvailabilityWindowDTO>> replaceAvailability(
+            @RequestBody List<@Valid AvailabilityWindowDTO> windows) {
+        List<AvailabilityWindowDTO> saved = availabilityService.replaceWindows(authService.getCurrentUserId(),
+                windows);
+        return ResponseEntity.ok(saved);
+    }
+
+    @GetMapping("/{mentorId}/slots")
+    public ResponseEntity<List<AvailableSlotDTO>> getFreeSlots(@PathVariable Long mentorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(availabilityService.findFreeSlots(mentorId, from, to));
+    }
+}
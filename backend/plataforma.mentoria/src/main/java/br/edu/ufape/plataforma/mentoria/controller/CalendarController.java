@@ -0,0 +1,64 @@
+package br.edu.ufape.plataforma.mentoria.controller;
+
+import br.edu.ufape.plataforma.mentoria.dto.CalendarTokenDTO;
+import br.edu.ufape.plataforma.mentoria.service.AuthService;
+import br.edu.ufape.plataforma.mentoria.service.CalendarFeedService;
+import br.edu.ufape.plataforma.mentoria.service.CalendarFeedService.CalendarFeed;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Feeds iCalendar das sessões. Aplicativos de calendário não enviam o token
+ * de login, então cada feed é público e endereçado por um token aleatório do
+ * usuário, que pode ser trocado a qualquer momento. Um If-None-Match igual ao
+ * ETag do feed em memória é respondido com 304, sem corpo.
+ */
+@RestController
+@RequestMapping("/api/calendar")
+public class CalendarController {
+
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    private final CalendarFeedService calendarFeedService;
+    private final AuthService authService;
+
+    public CalendarController(CalendarFeedService calendarFeedService, AuthService authService) {
+        this.calendarFeedService = calendarFeedService;
+        this.authService = authService;
+    }
+
+    @GetMapping("/{token}.ics")
+    public ResponseEntity<String> getFeed(@PathVariable String token) {
+        return toResponse(calendarFeedService.getFeedByToken(token));
+    }
+
+    @GetMapping("/token")
+    public ResponseEntity<CalendarTokenDTO> getToken() {
+        return ResponseEntity.ok(toDTO(calendarFeedService.getToken(authService.getCurrentUserId())));
+    }
+
+    @PostMapping("/token")
+    public ResponseEntity<CalendarTokenDTO> rotateToken() {
+        return ResponseEntity.ok(toDTO(calendarFeedService.rotateToken(authService.getCurrentUserId())));
+    }
+
+    private static CalendarTokenDTO toDTO(String token) {
+        return new CalendarTokenDTO(token, "/api/calendar/" + token + ".ics");
+    }
+
+    private static ResponseEntity<String> toResponse(CalendarFeed feed) {
+        return ResponseEntity.ok()
+                .eTag(feed.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(TEXT_CALENDAR)
+                .body(feed.content());
+    }
+}
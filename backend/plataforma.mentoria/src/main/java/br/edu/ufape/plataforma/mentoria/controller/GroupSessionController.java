@@ -0,0 +1,53 @@
+package br.edu.ufape.plataforma.mentoria.controller;
+
+import br.edu.ufape.plataforma.mentoria.dto.GroupSessionDTO;
+import br.edu.ufape.plataforma.mentoria.service.GroupSessionService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/group-sessions")
+public class GroupSessionController {
+
+    private final GroupSessionService groupSessionService;
+
+    public GroupSessionController(GroupSessionService groupSessionService) {
+        this.groupSessionService = groupSessionService;
+    }
+
+    @PostMapping
+    public ResponseEntity<GroupSessionDTO> createGroupSession(@Valid @RequestBody GroupSessionDTO groupSessionDTO) {
+        return new ResponseEntity<>(groupSessionService.createGroupSession(groupSessionDTO), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<GroupSessionDTO> getGroupSession(@PathVariable Long id) {
+        return ResponseEntity.ok(groupSessionService.getGroupSession(id));
+    }
+
+    @GetMapping("/mentor/{mentorId}")
+    public ResponseEntity<List<GroupSessionDTO>> getUpcomingByMentor(@PathVariable Long mentorId) {
+        return ResponseEntity.ok(groupSessionService.getUpcomingByMentor(mentorId));
+    }
+
+    @GetMapping("/{id}/seats")
+    public ResponseEntity<List<Long>> getParticipants(@PathVariable Long id) {
+        return ResponseEntity.ok(groupSessionService.getParticipants(id));
+    }
+
+    @PostMapping("/{id}/seats/{mentoredId}")
+    public ResponseEntity<Void> bookSeat(@PathVariable Long id, @PathVariable Long mentoredId) {
+        groupSessionService.bookSeat(id, mentoredId);
+        return ResponseEntity.status(HttpStatus.CREATED).build();
+    }
+
+    @DeleteMapping("/{id}/seats/{mentoredId}")
+    public ResponseEntity<Void> cancelSeat(@PathVariable Long id, @PathVariable Long mentoredId) {
+        groupSessionService.cancelSeat(id, mentoredId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,11 +1,20 @@
 package br.edu.ufape.plataforma.mentoria.controller;
 
+import br.edu.ufape.plataforma.mentoria.dto.CursorPage;
 import br.edu.ufape.plataforma.mentoria.dto.MaterialDTO;
 import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
 import br.edu.ufape.plataforma.mentoria.enums.MaterialType; // Importe o Enum
 import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
 import br.edu.ufape.plataforma.mentoria.service.AuthService;
+import br.edu.ufape.plataforma.mentoria.service.MaterialRecommendationService;
 import br.edu.ufape.plataforma.mentoria.service.MaterialService;
+import br.edu.ufape.plataforma.mentoria.service.MaterialUploadService;
+import br.edu.ufape.plataforma.mentoria.util.CursorPagination;
+import br.edu.ufape.plataforma.mentoria.util.RangeFileSender;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -21,10 +30,15 @@ public class MaterialController {
 
     private final AuthService authService;
     private final MaterialService materialService;
+    private final MaterialRecommendationService recommendationService;
+    private final MaterialUploadService uploadService;
 
-    public MaterialController(MaterialService materialService, AuthService authService) {
+    public MaterialController(MaterialService materialService, AuthService authService,
+            MaterialRecommendationService recommendationService, MaterialUploadService uploadService) {
         this.materialService = materialService;
         this.authService = authService;
+        this.recommendationService = recommendationService;
+        this.uploadService = uploadService;
     }
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -35,7 +49,7 @@ public class MaterialController {
             @RequestParam("interestArea") Set<InterestArea> interestArea, 
             @RequestPart(name = "arquivo", required = false) MultipartFile arquivo) {
         try {
-            Long userId = authService.getCurrentUser().getId();
+            Long userId = authService.getCurrentUserId();
             
             MaterialDTO materialDTO = new MaterialDTO();
             materialDTO.setTitle(title);
@@ -50,6 +64,37 @@ public class MaterialController {
         }
     }
 
+    /**
+     * Upload em streaming: o corpo da requisição é o próprio arquivo e os
+     * metadados vão na query string.
+     */
+    @PostMapping(value = "/stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<MaterialDTO> createMaterialFromStream(
+            @RequestParam("title") String title,
+            @RequestParam("materialType") MaterialType materialType,
+            @RequestParam(value = "url", required = false) String url,
+            @RequestParam("interestArea") Set<InterestArea> interestArea,
+            @RequestParam("filename") String filename,
+            HttpServletRequest request) {
+        try {
+            Long userId = authService.getCurrentUserId();
+
+            MaterialDTO materialDTO = new MaterialDTO();
+            materialDTO.setTitle(title);
+            materialDTO.setMaterialType(materialType);
+            materialDTO.setUrl(url);
+            materialDTO.setInterestArea(interestArea);
+
+            MaterialDTO savedMaterialDTO = uploadService.createMaterialFromStream(materialDTO, filename,
+                    request.getInputStream(), request.getContentLengthLong(), userId);
+            return new ResponseEntity<>(savedMaterialDTO, HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IOException e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<MaterialDTO> getMaterialById(@PathVariable Long id) {
         try {
@@ -60,10 +105,32 @@ public class MaterialController {
         }
     }
 
+    @GetMapping("/{id}/content")
+    public void getMaterialContent(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        MaterialService.StoredFile storedFile = materialService.getMaterialFile(id);
+
+        // HEAD, trechos intermediários (seek de vídeo, retomada) e revalidações de cache não contam como download
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (!HttpMethod.HEAD.matches(request.getMethod()) && (range == null || range.startsWith("bytes=0-"))
+                && request.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+            recommendationService.recordDownload(id);
+        }
+        if (storedFile.contentHash() != null) {
+            // Blobs endereçados por conteúdo são imutáveis: o hash é um ETag forte
+            RangeFileSender.send(storedFile.path(), storedFile.filename(), "\"" + storedFile.contentHash() + "\"",
+                    request, response);
+        } else {
+            RangeFileSender.send(storedFile.path(), storedFile.filename(), request, response);
+        }
+    }
+
     @GetMapping
-    public ResponseEntity<List<MaterialDTO>> getAllMaterial() {
-        List<MaterialDTO> materiais = materialService.listAll();
-        return ResponseEntity.ok(materiais);
+    public ResponseEntity<List<MaterialDTO>> getAllMaterial(@RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<MaterialDTO> page = materialService.listPage(CursorPagination.afterId(cursor),
+                CursorPagination.pageSize(size));
+        return CursorPagination.toResponse(page);
     }
     
     @PutMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -103,7 +170,7 @@ public class MaterialController {
     @GetMapping("/sugestoes")
     public ResponseEntity<List<MaterialDTO>> suggestMaterials() {
         try {
-            Long userId = authService.getCurrentUser().getId();
+            Long userId = authService.getCurrentUserId();
             List<MaterialDTO> sugestoes = materialService.suggestMaterials(userId);
             return ResponseEntity.ok(sugestoes);
         } catch (EntityNotFoundException e) {
@@ -114,10 +181,12 @@ public class MaterialController {
     }
 
     @PostMapping("/filtrar-por-areas")
-    public ResponseEntity<List<MaterialDTO>> filterByAreas(@RequestBody List<InterestArea> areas) {
+    public ResponseEntity<List<MaterialDTO>> filterByAreas(@RequestBody List<InterestArea> areas,
+            @RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer size) {
         try {
-            List<MaterialDTO> materiais = materialService.filterByInterestArea(areas);
-            return ResponseEntity.ok(materiais);
+            CursorPage<MaterialDTO> page = materialService.filterByInterestArea(areas,
+                    CursorPagination.afterId(cursor), CursorPagination.pageSize(size));
+            return CursorPagination.toResponse(page);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -0,0 +1,94 @@
+package br.edu.ufape.plataforma.mentoria.controller;
+
+import br.edu.ufape.plataforma.mentoria.dto.ChunkedUploadDTO;
+import br.edu.ufape.plataforma.mentoria.dto.ChunkedUploadStatusDTO;
+import br.edu.ufape.plataforma.mentoria.dto.MaterialDTO;
+import br.edu.ufape.plataforma.mentoria.exceptions.BusinessException;
+import br.edu.ufape.plataforma.mentoria.service.AuthService;
+import br.edu.ufape.plataforma.mentoria.service.MaterialUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * Upload retomável em blocos: cria o upload, envia os blocos com PUT
+ * informando o offset, consulta o progresso e finaliza em um material.
+ */
+@RestController
+@RequestMapping("/api/materials/uploads")
+public class MaterialUploadController {
+
+    private final MaterialUploadService uploadService;
+    private final AuthService authService;
+
+    public MaterialUploadController(MaterialUploadService uploadService, AuthService authService) {
+        this.uploadService = uploadService;
+        this.authService = authService;
+    }
+
+    @PostMapping
+    public ResponseEntity<ChunkedUploadStatusDTO> createUpload(@Valid @RequestBody ChunkedUploadDTO uploadDTO) {
+        try {
+            ChunkedUploadStatusDTO status = uploadService.createUpload(uploadDTO, authService.getCurrentUserId());
+            return new ResponseEntity<>(status, HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (BusinessException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        } catch (IOException e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PutMapping(value = "/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ChunkedUploadStatusDTO> uploadChunk(
+            @PathVariable String uploadId,
+            @RequestParam("offset") long offset,
+            HttpServletRequest request) {
+        try {
+            ChunkedUploadStatusDTO status = uploadService.writeChunk(uploadId, authService.getCurrentUserId(), offset,
+                    request.getInputStream(), request.getContentLengthLong());
+            return ResponseEntity.ok(status);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (BusinessException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IOException e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<ChunkedUploadStatusDTO> getUploadStatus(@PathVariable String uploadId) {
+        return ResponseEntity.ok(uploadService.getStatus(uploadId, authService.getCurrentUserId()));
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<MaterialDTO> completeUpload(@PathVariable String uploadId) {
+        try {
+            MaterialDTO material = uploadService.completeUpload(uploadId, authService.getCurrentUserId());
+            return new ResponseEntity<>(material, HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (BusinessException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IOException e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> abortUpload(@PathVariable String uploadId) {
+        try {
+            uploadService.abortUpload(uploadId, authService.getCurrentUserId());
+            return ResponseEntity.noContent().build();
+        } catch (IOException e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
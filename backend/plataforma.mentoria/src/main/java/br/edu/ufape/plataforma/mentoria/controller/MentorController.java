@@ -2,6 +2,7 @@ package br.edu.ufape.plataforma.mentoria.controller;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import br.edu.ufape.plataforma.mentoria.service.contract.MentorSearchServiceInterface;
 import br.edu.ufape.plataforma.mentoria.service.contract.MentorServiceInterface;
 import br.edu.ufape.plataforma.mentoria.service.contract.MentoredSearchServiceInterface;
@@ -17,13 +18,22 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import br.edu.ufape.plataforma.mentoria.dto.CursorPage;
+import br.edu.ufape.plataforma.mentoria.dto.FacetedPage;
+import br.edu.ufape.plataforma.mentoria.dto.LeaderboardEntryDTO;
 import br.edu.ufape.plataforma.mentoria.dto.MentorDTO;
 import br.edu.ufape.plataforma.mentoria.dto.MentoredDTO;
 import br.edu.ufape.plataforma.mentoria.dto.UpdateMentorDTO;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
 import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
 import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
 import br.edu.ufape.plataforma.mentoria.mapper.MentorMapper;
 import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.service.AuthService;
+import br.edu.ufape.plataforma.mentoria.service.MentorLeaderboardService;
+import br.edu.ufape.plataforma.mentoria.service.MentorMatchingService;
+import br.edu.ufape.plataforma.mentoria.service.ProfileFacetSearchService;
+import br.edu.ufape.plataforma.mentoria.util.CursorPagination;
 import jakarta.validation.Valid;
 
 @RestController
@@ -34,16 +44,28 @@ public class MentorController {
     private final MentoredSearchServiceInterface mentoredSearchService;
     private final MentorSearchServiceInterface mentorSearchService;
     private final MentorMapper mentorMapper;
+    private final MentorMatchingService matchingService;
+    private final AuthService authService;
+    private final ProfileFacetSearchService facetSearchService;
+    private final MentorLeaderboardService leaderboardService;
 
     public MentorController(
             MentorServiceInterface mentorService,
             MentoredSearchServiceInterface mentoredSearchService,
             MentorSearchServiceInterface mentorSearchService,
-            MentorMapper mentorMapper) {
+            MentorMapper mentorMapper,
+            MentorMatchingService matchingService,
+            AuthService authService,
+            ProfileFacetSearchService facetSearchService,
+            MentorLeaderboardService leaderboardService) {
         this.mentorService = mentorService;
         this.mentoredSearchService = mentoredSearchService;
         this.mentorSearchService = mentorSearchService;
         this.mentorMapper = mentorMapper;
+        this.matchingService = matchingService;
+        this.authService = authService;
+        this.facetSearchService = facetSearchService;
+        this.leaderboardService = leaderboardService;
     }
 
     @GetMapping("/{idMentor}")
@@ -108,11 +130,37 @@ public class MentorController {
         return ResponseEntity.ok(results);
     }
 
+    @GetMapping("/mentoreds/facets")
+    public ResponseEntity<FacetedPage<MentoredDTO>> searchMentoredFacets(
+            @RequestParam(required = false) Set<Course> course,
+            @RequestParam(required = false) Set<InterestArea> interestArea,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        FacetedPage<MentoredDTO> page = facetSearchService.searchMentoreds(course, interestArea,
+                CursorPagination.afterId(cursor), CursorPagination.pageSize(size));
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/matches")
+    public ResponseEntity<List<MentoredDTO>> getMentoredMatches() {
+        List<MentoredDTO> matches = matchingService.matchMentoreds(authService.getCurrentUserId());
+        return ResponseEntity.ok(matches);
+    }
+
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<LeaderboardEntryDTO>> getLeaderboard(
+            @RequestParam(required = false) InterestArea interestArea,
+            @RequestParam(required = false) Course course,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(interestArea, course, limit));
+    }
+
     @GetMapping
-    public ResponseEntity<List<MentorDTO>> getAllMentors() {
-        List<Mentor> results = mentorSearchService.getAllMentors();
-        List<MentorDTO> dtos = results.stream().map(mentorMapper::toDTO).toList();
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<List<MentorDTO>> getAllMentors(@RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<MentorDTO> page = mentorSearchService.getMentorsPage(CursorPagination.afterId(cursor),
+                CursorPagination.pageSize(size));
+        return CursorPagination.toResponse(page);
     }
 
     @GetMapping("/me")
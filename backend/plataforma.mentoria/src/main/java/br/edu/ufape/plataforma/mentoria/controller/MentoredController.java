@@ -2,6 +2,7 @@ package br.edu.ufape.plataforma.mentoria.controller;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import br.edu.ufape.plataforma.mentoria.service.contract.MentorSearchServiceInterface;
 import br.edu.ufape.plataforma.mentoria.service.contract.MentoredSearchServiceInterface;
 import br.edu.ufape.plataforma.mentoria.service.contract.MentoredServiceInterface;
@@ -17,13 +18,22 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import br.edu.ufape.plataforma.mentoria.dto.CursorPage;
+import br.edu.ufape.plataforma.mentoria.dto.FacetedPage;
 import br.edu.ufape.plataforma.mentoria.dto.MentorDTO;
 import br.edu.ufape.plataforma.mentoria.dto.MentoredDTO;
 import br.edu.ufape.plataforma.mentoria.dto.UpdateMentoredDTO;
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
 import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
 import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
 import br.edu.ufape.plataforma.mentoria.mapper.MentoredMapper;
 import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.service.AuthService;
+import br.edu.ufape.plataforma.mentoria.service.MentorMatchingService;
+import br.edu.ufape.plataforma.mentoria.service.ProfileFacetSearchService;
+import br.edu.ufape.plataforma.mentoria.service.SpecializationTrie;
+import br.edu.ufape.plataforma.mentoria.util.CursorPagination;
 import jakarta.validation.Valid;
 
 @RestController
@@ -34,16 +44,30 @@ public class MentoredController {
     private final MentoredSearchServiceInterface mentoredSearchService;
     private final MentorSearchServiceInterface mentorSearchService;
     private final MentoredMapper mentoredMapper;
+    private final SpecializationTrie specializationTrie;
+    private final MentorMatchingService matchingService;
+    private final AuthService authService;
+    private final ProfileFacetSearchService facetSearchService;
+
+    private static final int MAX_SUGGESTIONS = 20;
 
     public MentoredController(
             MentoredServiceInterface mentoredService,
             MentoredSearchServiceInterface mentoredSearchService,
             MentorSearchServiceInterface mentorSearchService,
-            MentoredMapper mentoredMapper) {
+            MentoredMapper mentoredMapper,
+            SpecializationTrie specializationTrie,
+            MentorMatchingService matchingService,
+            AuthService authService,
+            ProfileFacetSearchService facetSearchService) {
         this.mentoredService = mentoredService;
         this.mentoredSearchService = mentoredSearchService;
         this.mentorSearchService = mentorSearchService;
         this.mentoredMapper = mentoredMapper;
+        this.specializationTrie = specializationTrie;
+        this.matchingService = matchingService;
+        this.authService = authService;
+        this.facetSearchService = facetSearchService;
     }
 
     @GetMapping("/{idMentored}")
@@ -107,13 +131,38 @@ public class MentoredController {
         return ResponseEntity.ok(results);
     }
 
+    @GetMapping("/mentors/facets")
+    public ResponseEntity<FacetedPage<MentorDTO>> searchMentorFacets(
+            @RequestParam(required = false) Set<Course> course,
+            @RequestParam(required = false) Set<AffiliationType> affiliationType,
+            @RequestParam(required = false) Set<InterestArea> interestArea,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        FacetedPage<MentorDTO> page = facetSearchService.searchMentors(course, affiliationType, interestArea,
+                CursorPagination.afterId(cursor), CursorPagination.pageSize(size));
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/mentors/specializations/autocomplete")
+    public ResponseEntity<List<String>> autocompleteSpecializations(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<String> suggestions = specializationTrie.suggest(prefix, Math.min(limit, MAX_SUGGESTIONS));
+        return ResponseEntity.ok(suggestions);
+    }
+
+    @GetMapping("/matches")
+    public ResponseEntity<List<MentorDTO>> getMentorMatches() {
+        List<MentorDTO> matches = matchingService.matchMentors(authService.getCurrentUserId());
+        return ResponseEntity.ok(matches);
+    }
+
     @GetMapping
-    public ResponseEntity<List<MentoredDTO>> getAllMentoreds(){
-        List<Mentored> results = mentoredService.getAllMentored();
-        List<MentoredDTO> dtos = results.stream()
-            .map(mentoredMapper::toDTO)
-            .toList();
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<List<MentoredDTO>> getAllMentoreds(@RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<MentoredDTO> page = mentoredService.getMentoredPage(CursorPagination.afterId(cursor),
+                CursorPagination.pageSize(size));
+        return CursorPagination.toResponse(page);
     }
 
     @GetMapping("/me")
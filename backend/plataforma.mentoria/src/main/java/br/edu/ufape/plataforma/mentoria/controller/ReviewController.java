@@ -5,16 +5,22 @@ import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import br.edu.ufape.plataforma.mentoria.dto.CursorPage;
+import br.edu.ufape.plataforma.mentoria.dto.RatingSummaryDTO;
 import br.edu.ufape.plataforma.mentoria.dto.ReviewDTO;
 import br.edu.ufape.plataforma.mentoria.dto.ReviewResponseDTO;
-import br.edu.ufape.plataforma.mentoria.model.User;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
 import br.edu.ufape.plataforma.mentoria.service.AuthService;
+import br.edu.ufape.plataforma.mentoria.service.RatingSummaryService;
 import br.edu.ufape.plataforma.mentoria.service.ReviewService;
+import br.edu.ufape.plataforma.mentoria.util.CursorPagination;
 import jakarta.validation.Valid;
 
 @RestController
@@ -23,10 +29,13 @@ public class ReviewController {
 
     private final ReviewService reviewService;
     private final AuthService authService;
+    private final RatingSummaryService ratingSummaryService;
 
-    public ReviewController(ReviewService reviewService, AuthService authService) {
+    public ReviewController(ReviewService reviewService, AuthService authService,
+            RatingSummaryService ratingSummaryService) {
         this.reviewService = reviewService;
         this.authService = authService;
+        this.ratingSummaryService = ratingSummaryService;
     }
 
     @PostMapping
@@ -36,10 +45,22 @@ public class ReviewController {
     }
 
     @GetMapping("/minhas")
-    public ResponseEntity<List<ReviewResponseDTO>> getMyReviews() {
-        User user = authService.getCurrentUser();
-        List<ReviewResponseDTO> reviews = reviewService.getReceivedReviewsForUser(user.getId());
-        return ResponseEntity.ok(reviews);
+    public ResponseEntity<List<ReviewResponseDTO>> getMyReviews(@RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        Long userId = authService.getCurrentUserId();
+        CursorPage<ReviewResponseDTO> page = reviewService.getReceivedReviewsPage(userId,
+                CursorPagination.afterId(cursor), CursorPagination.pageSize(size));
+        return CursorPagination.toResponse(page);
+    }
+
+    @GetMapping("/mentor/{mentorId}/resumo")
+    public ResponseEntity<RatingSummaryDTO> getMentorSummary(@PathVariable Long mentorId) {
+        return ResponseEntity.ok(ratingSummaryService.getSummary(mentorId, UserRole.MENTOR));
+    }
+
+    @GetMapping("/mentorado/{mentoredId}/resumo")
+    public ResponseEntity<RatingSummaryDTO> getMentoredSummary(@PathVariable Long mentoredId) {
+        return ResponseEntity.ok(ratingSummaryService.getSummary(mentoredId, UserRole.MENTORADO));
     }
 
     // @GetMapping("/criadas")
@@ -50,8 +71,10 @@ public class ReviewController {
     // }
 
     @GetMapping
-    public ResponseEntity<List<ReviewResponseDTO>> getAllReviews() {
-        List<ReviewResponseDTO> reviews = reviewService.getAllReviews();
-        return ResponseEntity.ok(reviews);
+    public ResponseEntity<List<ReviewResponseDTO>> getAllReviews(@RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<ReviewResponseDTO> page = reviewService.getReviewsPage(CursorPagination.afterId(cursor),
+                CursorPagination.pageSize(size));
+        return CursorPagination.toResponse(page);
     }
 }
@@ -1,14 +1,23 @@
 package br.edu.ufape.plataforma.mentoria.controller;
 
+import br.edu.ufape.plataforma.mentoria.dto.CursorPage;
 import br.edu.ufape.plataforma.mentoria.dto.SessionDTO;
+import br.edu.ufape.plataforma.mentoria.dto.SessionStatusChangeDTO;
 import br.edu.ufape.plataforma.mentoria.enums.Status;
 import br.edu.ufape.plataforma.mentoria.mapper.SessionMapper;
 import br.edu.ufape.plataforma.mentoria.model.Session;
+import br.edu.ufape.plataforma.mentoria.service.AuthService;
+import br.edu.ufape.plataforma.mentoria.service.SessionStreamService;
 import br.edu.ufape.plataforma.mentoria.service.contract.SessionServiceInterface;
+import br.edu.ufape.plataforma.mentoria.util.CursorPagination;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -17,16 +26,60 @@ public class SessionController {
 
     private final SessionServiceInterface sessionService;
     private final SessionMapper sessionMapper;
+    private final SessionStreamService sessionStreamService;
+    private final AuthService authService;
 
-    public SessionController(SessionServiceInterface sessionService, SessionMapper sessionMapper) {
+    public SessionController(SessionServiceInterface sessionService, SessionMapper sessionMapper,
+            SessionStreamService sessionStreamService, AuthService authService) {
         this.sessionService = sessionService;
         this.sessionMapper = sessionMapper;
+        this.sessionStreamService = sessionStreamService;
+        this.authService = authService;
     }
 
     @GetMapping
-    public ResponseEntity<List<SessionDTO>> getAllSessions() {
-        List<SessionDTO> sessions = sessionService.findAll();
-        return ResponseEntity.ok(sessions);
+    public ResponseEntity<List<SessionDTO>> getAllSessions(@RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<SessionDTO> page = sessionService.findPage(CursorPagination.afterId(cursor),
+                CursorPagination.pageSize(size));
+        return CursorPagination.toResponse(page);
+    }
+
+    /**
+     * Stream com as criações, edições e mudanças de status das sessões do
+     * usuário autenticado, no lugar de consultar o histórico periodicamente.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSessionChanges() {
+        return sessionStreamService.subscribe(authService.getCurrentUserId());
+    }
+
+    /**
+     * Sessões do mentor que começam em [from, to), em ordem cronológica,
+     * paginadas por cursor como as demais listagens.
+     */
+    @GetMapping("/timeline/mentor/{mentorId}")
+    public ResponseEntity<List<SessionDTO>> getMentorTimeline(@PathVariable Long mentorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Status status,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<SessionDTO> page = sessionService.findMentorTimeline(mentorId, from, to, status,
+                CursorPagination.afterId(cursor), CursorPagination.pageSize(size));
+        return CursorPagination.toResponse(page);
+    }
+
+    @GetMapping("/timeline/mentored/{mentoredId}")
+    public ResponseEntity<List<SessionDTO>> getMentoredTimeline(@PathVariable Long mentoredId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Status status,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<SessionDTO> page = sessionService.findMentoredTimeline(mentoredId, from, to, status,
+                CursorPagination.afterId(cursor), CursorPagination.pageSize(size));
+        return CursorPagination.toResponse(page);
     }
 
     @GetMapping("/{id}")
@@ -59,6 +112,11 @@ public class SessionController {
         return ResponseEntity.ok(updatedSession);
     }
 
+    @GetMapping("/{id}/status/history")
+    public ResponseEntity<List<SessionStatusChangeDTO>> getStatusHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(sessionService.getStatusHistory(id));
+    }
+
     @GetMapping("/history/mentor/{mentorId}")
     public ResponseEntity<List<SessionDTO>> getSessionHistoryByMentor(@PathVariable Long mentorId) {
         List<SessionDTO> history = sessionService.findSessionHistoryMentor(mentorId);
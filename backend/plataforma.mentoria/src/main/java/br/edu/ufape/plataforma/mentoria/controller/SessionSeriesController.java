@@ -0,0 +1,65 @@
+package br.edu.ufape.plataforma.mentoria.controller;
+
+import br.edu.ufape.plataforma.mentoria.dto.SessionDTO;
+import br.edu.ufape.plataforma.mentoria.dto.SessionOccurrenceDTO;
+import br.edu.ufape.plataforma.mentoria.dto.SessionSeriesDTO;
+import br.edu.ufape.plataforma.mentoria.service.SessionSeriesService;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/sessions/series")
+public class SessionSeriesController {
+
+    private final SessionSeriesService seriesService;
+
+    public SessionSeriesController(SessionSeriesService seriesService) {
+        this.seriesService = seriesService;
+    }
+
+    @PostMapping
+    public ResponseEntity<SessionSeriesDTO> createSeries(@Valid @RequestBody SessionSeriesDTO seriesDTO) {
+        return new ResponseEntity<>(seriesService.createSeries(seriesDTO), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<SessionSeriesDTO> getSeries(@PathVariable Long id) {
+        return ResponseEntity.ok(seriesService.getSeries(id));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> endSeries(@PathVariable Long id) {
+        seriesService.endSeries(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Grava a ocorrência da data informada como sessão, para que possa ser
+     * aceita, remarcada ou avaliada.
+     */
+    @PostMapping("/{id}/occurrences/{date}")
+    public ResponseEntity<SessionDTO> materializeOccurrence(@PathVariable Long id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(seriesService.materialize(id, date));
+    }
+
+    @GetMapping("/mentor/{mentorId}/occurrences")
+    public ResponseEntity<List<SessionOccurrenceDTO>> getMentorOccurrences(@PathVariable Long mentorId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(seriesService.getMentorOccurrences(mentorId, from, to));
+    }
+
+    @GetMapping("/mentored/{mentoredId}/occurrences")
+    public ResponseEntity<List<SessionOccurrenceDTO>> getMentoredOccurrences(@PathVariable Long mentoredId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(seriesService.getMentoredOccurrences(mentoredId, from, to));
+    }
+}
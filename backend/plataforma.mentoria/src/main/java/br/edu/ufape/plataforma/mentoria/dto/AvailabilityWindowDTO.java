@@ -0,0 +1,51 @@
+package br.edu.ufape.plataforma.mentoria.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+public class AvailabilityWindowDTO {
+
+    @NotNull(message = "O dia da semana é obrigatório")
+    private DayOfWeek dayOfWeek;
+
+    @NotNull(message = "O horário de início é obrigatório")
+    private LocalTime startTime;
+
+    @NotNull(message = "O horário de término é obrigatório")
+    private LocalTime endTime;
+
+    public AvailabilityWindowDTO() {
+    }
+
+    public AvailabilityWindowDTO(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        this.dayOfWeek = dayOfWeek;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    public void setDayOfWeek(DayOfWeek dayOfWeek) {
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+}
@@ -0,0 +1,13 @@
+package br.edu.ufape.plataforma.mentoria.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Horário livre na agenda de um mentor, no formato usado para criar a sessão.
+ *
+ * @param date A data da sessão.
+ * @param time O horário de início.
+ */
+public record AvailableSlotDTO(LocalDate date, LocalTime time) {
+}
@@ -0,0 +1,10 @@
+package br.edu.ufape.plataforma.mentoria.dto;
+
+/**
+ * Endereço secreto do feed de calendário do usuário.
+ *
+ * @param token    O token que identifica o feed.
+ * @param feedPath O caminho do feed, para assinar em um aplicativo de calendário.
+ */
+public record CalendarTokenDTO(String token, String feedPath) {
+}
@@ -0,0 +1,97 @@
+package br.edu.ufape.plataforma.mentoria.dto;
+
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.enums.MaterialType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Metadados informados ao iniciar um upload em blocos. O material só é
+ * criado quando todos os bytes do arquivo tiverem sido recebidos.
+ */
+public class ChunkedUploadDTO {
+
+    @NotBlank(message = "O título é obrigatório")
+    @Size(max = 180, message = "O título deve ter no máximo 180 caracteres")
+    private String title;
+
+    @NotNull(message = "O tipo de material é obrigatório")
+    private MaterialType materialType;
+
+    private String url;
+
+    @NotNull(message = "Ao menos uma área de interesse deve ser informada")
+    private Set<InterestArea> interestArea = new HashSet<>();
+
+    @NotBlank(message = "O nome do arquivo é obrigatório")
+    private String filename;
+
+    @NotNull(message = "O tamanho do arquivo é obrigatório")
+    @Positive(message = "O tamanho do arquivo deve ser positivo")
+    private Long size;
+
+    public ChunkedUploadDTO() {
+    }
+
+    public MaterialDTO toMaterialDTO() {
+        MaterialDTO materialDTO = new MaterialDTO();
+        materialDTO.setTitle(title);
+        materialDTO.setMaterialType(materialType);
+        materialDTO.setUrl(url);
+        materialDTO.setInterestArea(interestArea);
+        return materialDTO;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public MaterialType getMaterialType() {
+        return materialType;
+    }
+
+    public void setMaterialType(MaterialType materialType) {
+        this.materialType = materialType;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public Set<InterestArea> getInterestArea() {
+        return interestArea;
+    }
+
+    public void setInterestArea(Set<InterestArea> interestArea) {
+        this.interestArea = interestArea;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public void setFilename(String filename) {
+        this.filename = filename;
+    }
+
+    public Long getSize() {
+        return size;
+    }
+
+    public void setSize(Long size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,69 @@
+package br.edu.ufape.plataforma.mentoria.dto;
+
+import java.util.List;
+
+/**
+ * Progresso de um upload em blocos. {@code receivedRanges} lista os
+ * intervalos [início, fim) já gravados, para que o cliente reenvie apenas
+ * o que falta.
+ */
+public class ChunkedUploadStatusDTO {
+
+    private String uploadId;
+    private long size;
+    private long receivedBytes;
+    private List<long[]> receivedRanges;
+    private boolean complete;
+
+    public ChunkedUploadStatusDTO() {
+    }
+
+    public ChunkedUploadStatusDTO(String uploadId, long size, long receivedBytes, List<long[]> receivedRanges,
+            boolean complete) {
+        this.uploadId = uploadId;
+        this.size = size;
+        this.receivedBytes = receivedBytes;
+        this.receivedRanges = receivedRanges;
+        this.complete = complete;
+    }
+
+    public String getUploadId() {
+        return uploadId;
+    }
+
+    public void setUploadId(String uploadId) {
+        this.uploadId = uploadId;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public long getReceivedBytes() {
+        return receivedBytes;
+    }
+
+    public void setReceivedBytes(long receivedBytes) {
+        this.receivedBytes = receivedBytes;
+    }
+
+    public List<long[]> getReceivedRanges() {
+        return receivedRanges;
+    }
+
+    public void setReceivedRanges(List<long[]> receivedRanges) {
+        this.receivedRanges = receivedRanges;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+}
@@ -0,0 +1,25 @@
+package br.edu.ufape.plataforma.mentoria.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de uma listagem paginada por cursor (keyset).
+ *
+ * @param items      Os itens da página, na ordem da listagem.
+ * @param nextCursor O cursor da próxima página (o ID do último item), ou {@code null} se esta for a última.
+ */
+public record CursorPage<T>(List<T> items, Long nextCursor) {
+
+    /**
+     * Monta a página a partir de uma consulta que buscou {@code size + 1}
+     * itens: o item excedente só indica que existe uma próxima página.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, Long> idOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, size);
+        return new CursorPage<>(items, idOf.apply(items.get(size - 1)));
+    }
+}
@@ -0,0 +1,16 @@
+package br.edu.ufape.plataforma.mentoria.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Página de uma busca por facetas.
+ *
+ * @param items      Os itens da página, em ordem crescente de ID.
+ * @param nextCursor O cursor da próxima página, ou {@code null} se esta for a última.
+ * @param total      Quantos registros atendem aos filtros.
+ * @param facets     A contagem de cada valor, por dimensão, considerando os
+ *                   filtros das demais dimensões.
+ */
+public record FacetedPage<T>(List<T> items, Long nextCursor, int total, Map<String, Map<String, Integer>> facets) {
+}
@@ -0,0 +1,114 @@
+package br.edu.ufape.plataforma.mentoria.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public class GroupSessionDTO {
+
+    public static final int MAX_CAPACITY = 500;
+
+    private Long id;
+
+    @NotNull(message = "O ID do mentor é obrigatório")
+    private Long mentorId;
+
+    @NotNull
+    private LocalDate date;
+
+    @NotNull
+    private LocalTime time;
+
+    @NotNull
+    private String meetingTopic;
+
+    @NotNull
+    private String location;
+
+    @NotNull(message = "A quantidade de vagas é obrigatória")
+    @Positive(message = "A quantidade de vagas deve ser positiva")
+    @Max(value = MAX_CAPACITY, message = "A quantidade de vagas não pode passar de " + MAX_CAPACITY)
+    private Integer capacity;
+
+    private Integer availableSeats;
+
+    public GroupSessionDTO() {
+    }
+
+    public GroupSessionDTO(Long mentorId, LocalDate date, LocalTime time, String meetingTopic, String location,
+            Integer capacity) {
+        this.mentorId = mentorId;
+        this.date = date;
+        this.time = time;
+        this.meetingTopic = meetingTopic;
+        this.location = location;
+        this.capacity = capacity;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getMentorId() {
+        return mentorId;
+    }
+
+    public void setMentorId(Long mentorId) {
+        this.mentorId = mentorId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public LocalTime getTime() {
+        return time;
+    }
+
+    public void setTime(LocalTime time) {
+        this.time = time;
+    }
+
+    public String getMeetingTopic() {
+        return meetingTopic;
+    }
+
+    public void setMeetingTopic(String meetingTopic) {
+        this.meetingTopic = meetingTopic;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public Integer getAvailableSeats() {
+        return availableSeats;
+    }
+
+    public void setAvailableSeats(Integer availableSeats) {
+        this.availableSeats = availableSeats;
+    }
+}
@@ -0,0 +1,42 @@
+package br.edu.ufape.plataforma.mentoria.dto;
+
+public class LeaderboardEntryDTO {
+
+    private int position;
+    // Pontuação já com o decaimento aplicado até o momento da consulta
+    private double score;
+    private MentorDTO mentor;
+
+    public LeaderboardEntryDTO() {
+    }
+
+    public LeaderboardEntryDTO(int position, double score, MentorDTO mentor) {
+        this.position = position;
+        this.score = score;
+        this.mentor = mentor;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public MentorDTO getMentor() {
+        return mentor;
+    }
+
+    public void setMentor(MentorDTO mentor) {
+        this.mentor = mentor;
+    }
+}
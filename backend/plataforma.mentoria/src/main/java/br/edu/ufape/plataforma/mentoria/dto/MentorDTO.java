@@ -41,6 +41,9 @@ public class MentorDTO {
     @NotNull(message = "A área de interesse é obrigatória")
     private List<InterestArea> interestArea;
 
+    // Preenchido nas respostas; ignorado ao criar ou atualizar
+    private RatingSummaryDTO rating;
+
     public MentorDTO() {
         // Default empty constructor required by JPA
     }
@@ -180,4 +183,12 @@ public class MentorDTO {
     public void setInterestArea(List<InterestArea> interestArea) {
         this.interestArea = interestArea;
     }
+
+    public RatingSummaryDTO getRating() {
+        return rating;
+    }
+
+    public void setRating(RatingSummaryDTO rating) {
+        this.rating = rating;
+    }
 }
\ No newline at end of file
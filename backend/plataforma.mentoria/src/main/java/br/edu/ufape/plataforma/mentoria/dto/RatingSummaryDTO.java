@@ -0,0 +1,69 @@
+package br.edu.ufape.plataforma.mentoria.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class RatingSummaryDTO {
+
+    private long count;
+    private long sum;
+    private Double mean;
+    // Quantidade de avaliações por nota; a posição 0 corresponde à nota 1
+    private List<Long> histogram;
+    private LocalDateTime lastReviewAt;
+
+    public RatingSummaryDTO() {
+    }
+
+    public RatingSummaryDTO(long count, long sum, List<Long> histogram, LocalDateTime lastReviewAt) {
+        this.count = count;
+        this.sum = sum;
+        this.mean = count > 0 ? (double) sum / count : null;
+        this.histogram = histogram;
+        this.lastReviewAt = lastReviewAt;
+    }
+
+    public static RatingSummaryDTO empty() {
+        return new RatingSummaryDTO(0, 0, List.of(0L, 0L, 0L, 0L, 0L), null);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public void setSum(long sum) {
+        this.sum = sum;
+    }
+
+    public Double getMean() {
+        return mean;
+    }
+
+    public void setMean(Double mean) {
+        this.mean = mean;
+    }
+
+    public List<Long> getHistogram() {
+        return histogram;
+    }
+
+    public void setHistogram(List<Long> histogram) {
+        this.histogram = histogram;
+    }
+
+    public LocalDateTime getLastReviewAt() {
+        return lastReviewAt;
+    }
+
+    public void setLastReviewAt(LocalDateTime lastReviewAt) {
+        this.lastReviewAt = lastReviewAt;
+    }
+}
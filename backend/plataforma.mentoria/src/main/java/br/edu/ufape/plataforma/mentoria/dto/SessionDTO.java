@@ -34,6 +34,9 @@ public class SessionDTO {
     @NotNull
     private String location;
 
+    // Somente leitura: a sessão aceita já terminou e espera ser concluída ou cancelada
+    private boolean awaitingConfirmation;
+
     public SessionDTO() {
     }
 
@@ -47,6 +50,18 @@ public class SessionDTO {
         this.location = location;
     }
 
+    public SessionDTO(Long id, Long mentorId, Long mentoredId, LocalDate date, LocalTime time, String meetingTopic,
+            Status status, String location) {
+        this.id = id;
+        this.mentorId = mentorId;
+        this.mentoredId = mentoredId;
+        this.date = date;
+        this.time = time;
+        this.meetingTopic = meetingTopic;
+        this.status = status;
+        this.location = location;
+    }
+
     public @NotNull(message = "O ID do mentor é obrigatório") Long getMentorId() {
         return mentorId;
     }
@@ -110,4 +125,12 @@ public class SessionDTO {
     public void setId(Long id) {
         this.id = id;
     }
+
+    public boolean isAwaitingConfirmation() {
+        return awaitingConfirmation;
+    }
+
+    public void setAwaitingConfirmation(boolean awaitingConfirmation) {
+        this.awaitingConfirmation = awaitingConfirmation;
+    }
 }
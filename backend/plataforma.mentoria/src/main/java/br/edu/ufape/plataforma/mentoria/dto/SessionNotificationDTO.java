@@ -0,0 +1,14 @@
+package br.edu.ufape.plataforma.mentoria.dto;
+
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+
+/**
+ * Aviso enviado pelo stream de sessões. Traz só o necessário para o cliente
+ * decidir se precisa buscar a sessão de novo.
+ *
+ * @param sessionId      O ID da sessão.
+ * @param previousStatus O status anterior, ou {@code null} se não mudou.
+ * @param status         O status atual.
+ */
+public record SessionNotificationDTO(Long sessionId, Status previousStatus, Status status) {
+}
@@ -0,0 +1,22 @@
+package br.edu.ufape.plataforma.mentoria.dto;
+
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Uma ocorrência de série recorrente no calendário.
+ *
+ * @param seriesId       O ID da série.
+ * @param occurrenceDate A data original da ocorrência na série.
+ * @param sessionId      O ID da sessão gravada, ou {@code null} se a ocorrência ainda não tem estado próprio.
+ * @param date           A data da sessão, que difere da original se ela foi remarcada.
+ * @param time           O horário da sessão.
+ * @param status         O status da sessão; ocorrências não gravadas estão pendentes.
+ * @param meetingTopic   O assunto da sessão.
+ * @param location       O local da sessão.
+ */
+public record SessionOccurrenceDTO(Long seriesId, LocalDate occurrenceDate, Long sessionId, LocalDate date,
+        LocalTime time, Status status, String meetingTopic, String location) {
+}
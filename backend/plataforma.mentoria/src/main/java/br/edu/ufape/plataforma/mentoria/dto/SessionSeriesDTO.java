@@ -0,0 +1,146 @@
+package br.edu.ufape.plataforma.mentoria.dto;
+
+import br.edu.ufape.plataforma.mentoria.enums.RecurrenceFrequency;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public class SessionSeriesDTO {
+
+    private Long id;
+
+    @NotNull(message = "O ID do mentor é obrigatório")
+    private Long mentorId;
+
+    @NotNull(message = "O ID do mentorado é obrigatório")
+    private Long mentoredId;
+
+    @NotNull(message = "A frequência é obrigatória")
+    private RecurrenceFrequency frequency;
+
+    @NotNull(message = "A data da primeira sessão é obrigatória")
+    private LocalDate firstDate;
+
+    @NotNull
+    private LocalTime time;
+
+    // A série termina na data final ou após a quantidade de ocorrências, o que vier antes
+    private LocalDate untilDate;
+
+    @Positive(message = "A quantidade de ocorrências deve ser positiva")
+    private Integer occurrenceCount;
+
+    private LocalDate lastDate;
+
+    @NotNull
+    private String meetingTopic;
+
+    @NotNull
+    private String location;
+
+    public SessionSeriesDTO() {
+    }
+
+    public SessionSeriesDTO(Long mentorId, Long mentoredId, RecurrenceFrequency frequency, LocalDate firstDate,
+            LocalTime time, LocalDate untilDate, Integer occurrenceCount, String meetingTopic, String location) {
+        this.mentorId = mentorId;
+        this.mentoredId = mentoredId;
+        this.frequency = frequency;
+        this.firstDate = firstDate;
+        this.time = time;
+        this.untilDate = untilDate;
+        this.occurrenceCount = occurrenceCount;
+        this.meetingTopic = meetingTopic;
+        this.location = location;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getMentorId() {
+        return mentorId;
+    }
+
+    public void setMentorId(Long mentorId) {
+        this.mentorId = mentorId;
+    }
+
+    public Long getMentoredId() {
+        return mentoredId;
+    }
+
+    public void setMentoredId(Long mentoredId) {
+        this.mentoredId = mentoredId;
+    }
+
+    public RecurrenceFrequency getFrequency() {
+        return frequency;
+    }
+
+    public void setFrequency(RecurrenceFrequency frequency) {
+        this.frequency = frequency;
+    }
+
+    public LocalDate getFirstDate() {
+        return firstDate;
+    }
+
+    public void setFirstDate(LocalDate firstDate) {
+        this.firstDate = firstDate;
+    }
+
+    public LocalTime getTime() {
+        return time;
+    }
+
+    public void setTime(LocalTime time) {
+        this.time = time;
+    }
+
+    public LocalDate getUntilDate() {
+        return untilDate;
+    }
+
+    public void setUntilDate(LocalDate untilDate) {
+        this.untilDate = untilDate;
+    }
+
+    public Integer getOccurrenceCount() {
+        return occurrenceCount;
+    }
+
+    public void setOccurrenceCount(Integer occurrenceCount) {
+        this.occurrenceCount = occurrenceCount;
+    }
+
+    public LocalDate getLastDate() {
+        return lastDate;
+    }
+
+    public void setLastDate(LocalDate lastDate) {
+        this.lastDate = lastDate;
+    }
+
+    public String getMeetingTopic() {
+        return meetingTopic;
+    }
+
+    public void setMeetingTopic(String meetingTopic) {
+        this.meetingTopic = meetingTopic;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+}
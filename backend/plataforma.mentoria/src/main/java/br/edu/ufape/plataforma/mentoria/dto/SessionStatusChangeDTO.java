@@ -0,0 +1,15 @@
+package br.edu.ufape.plataforma.mentoria.dto;
+
+import java.time.LocalDateTime;
+
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+
+/**
+ * Uma entrada do histórico de status de uma sessão.
+ *
+ * @param fromStatus O status anterior, ou {@code null} na criação da sessão.
+ * @param toStatus   O novo status.
+ * @param changedAt  O momento da mudança.
+ */
+public record SessionStatusChangeDTO(Status fromStatus, Status toStatus, LocalDateTime changedAt) {
+}
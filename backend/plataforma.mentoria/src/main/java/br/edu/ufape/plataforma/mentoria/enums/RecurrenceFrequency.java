@@ -0,0 +1,22 @@
+package br.edu.ufape.plataforma.mentoria.enums;
+
+public enum RecurrenceFrequency {
+    WEEKLY("Semanal", 1),
+    BIWEEKLY("Quinzenal", 2);
+
+    private final String frequency;
+    private final int intervalWeeks;
+
+    RecurrenceFrequency(String frequency, int intervalWeeks) {
+        this.frequency = frequency;
+        this.intervalWeeks = intervalWeeks;
+    }
+
+    public String getFrequency() {
+        return frequency;
+    }
+
+    public int getIntervalWeeks() {
+        return intervalWeeks;
+    }
+}
@@ -0,0 +1,23 @@
+package br.edu.ufape.plataforma.mentoria.event;
+
+import java.util.Set;
+
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+
+/**
+ * Publicado quando um material é criado, atualizado ou removido, para que
+ * os índices em memória sejam atualizados após o commit.
+ *
+ * @param materialId   O ID do material.
+ * @param interestArea As áreas de interesse atuais, ou {@code null} se o material foi removido.
+ */
+public record MaterialChangedEvent(Long materialId, Set<InterestArea> interestArea) {
+
+    public static MaterialChangedEvent deleted(Long materialId) {
+        return new MaterialChangedEvent(materialId, null);
+    }
+
+    public boolean isDeleted() {
+        return interestArea == null;
+    }
+}
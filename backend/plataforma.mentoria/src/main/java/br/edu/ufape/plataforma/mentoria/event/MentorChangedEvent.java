@@ -0,0 +1,31 @@
+package br.edu.ufape.plataforma.mentoria.event;
+
+import java.util.List;
+import java.util.Set;
+
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+
+/**
+ * Publicado quando um mentor é criado, atualizado ou removido, com os campos
+ * usados pelos índices de busca em memória.
+ *
+ * @param mentorId            O ID do mentor.
+ * @param interestArea        As áreas de interesse atuais, ou {@code null} se o mentor foi removido.
+ * @param specializations     As especializações atuais.
+ * @param professionalSummary O resumo profissional atual.
+ * @param course              O curso atual.
+ * @param affiliationType     O vínculo atual com a instituição.
+ */
+public record MentorChangedEvent(Long mentorId, Set<InterestArea> interestArea, List<String> specializations,
+        String professionalSummary, Course course, AffiliationType affiliationType) {
+
+    public static MentorChangedEvent deleted(Long mentorId) {
+        return new MentorChangedEvent(mentorId, null, List.of(), null, null, null);
+    }
+
+    public boolean isDeleted() {
+        return interestArea == null;
+    }
+}
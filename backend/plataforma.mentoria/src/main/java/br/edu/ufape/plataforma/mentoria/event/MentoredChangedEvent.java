@@ -0,0 +1,25 @@
+package br.edu.ufape.plataforma.mentoria.event;
+
+import java.util.Set;
+
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+
+/**
+ * Publicado quando um mentorado é criado, atualizado ou removido, com os
+ * campos usados pelos índices de busca em memória.
+ *
+ * @param mentoredId   O ID do mentorado.
+ * @param interestArea As áreas de interesse atuais, ou {@code null} se o mentorado foi removido.
+ * @param course       O curso atual.
+ */
+public record MentoredChangedEvent(Long mentoredId, Set<InterestArea> interestArea, Course course) {
+
+    public static MentoredChangedEvent deleted(Long mentoredId) {
+        return new MentoredChangedEvent(mentoredId, null, null);
+    }
+
+    public boolean isDeleted() {
+        return interestArea == null;
+    }
+}
@@ -0,0 +1,19 @@
+package br.edu.ufape.plataforma.mentoria.event;
+
+import java.time.LocalDateTime;
+
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+
+/**
+ * Publicado quando uma avaliação é gravada.
+ *
+ * @param reviewId     O ID da avaliação.
+ * @param mentorId     O ID do mentor da sessão avaliada.
+ * @param mentoredId   O ID do mentorado da sessão avaliada.
+ * @param reviewerRole O papel de quem avaliou.
+ * @param score        A nota, de 1 a 5.
+ * @param createdAt    O momento da avaliação.
+ */
+public record ReviewCreatedEvent(Long reviewId, Long mentorId, Long mentoredId, UserRole reviewerRole, int score,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,11 @@
+package br.edu.ufape.plataforma.mentoria.event;
+
+/**
+ * Publicado quando uma sessão é excluída.
+ *
+ * @param sessionId  O ID da sessão.
+ * @param mentorId   O ID do mentor.
+ * @param mentoredId O ID do mentorado.
+ */
+public record SessionDeletedEvent(Long sessionId, Long mentorId, Long mentoredId) {
+}
@@ -0,0 +1,15 @@
+package br.edu.ufape.plataforma.mentoria.event;
+
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+
+/**
+ * Publicado quando uma sessão é criada ou editada.
+ *
+ * @param sessionId  O ID da sessão.
+ * @param mentorId   O ID do mentor.
+ * @param mentoredId O ID do mentorado.
+ * @param status     O status da sessão após a gravação.
+ * @param created    Se a sessão acabou de ser criada.
+ */
+public record SessionSavedEvent(Long sessionId, Long mentorId, Long mentoredId, Status status, boolean created) {
+}
@@ -0,0 +1,12 @@
+package br.edu.ufape.plataforma.mentoria.event;
+
+/**
+ * Publicado quando uma sessão ocupa ou libera horários nas agendas do mentor
+ * e do mentorado.
+ *
+ * @param sessionId  O ID da sessão.
+ * @param mentorId   O ID do mentor.
+ * @param mentoredId O ID do mentorado.
+ */
+public record SessionScheduleChangedEvent(Long sessionId, Long mentorId, Long mentoredId) {
+}
@@ -0,0 +1,16 @@
+package br.edu.ufape.plataforma.mentoria.event;
+
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+
+/**
+ * Publicado quando o status de uma sessão muda.
+ *
+ * @param sessionId      O ID da sessão.
+ * @param mentorId       O ID do mentor.
+ * @param mentoredId     O ID do mentorado.
+ * @param previousStatus O status anterior.
+ * @param status         O novo status.
+ */
+public record SessionStatusChangedEvent(Long sessionId, Long mentorId, Long mentoredId, Status previousStatus,
+        Status status) {
+}
@@ -0,0 +1,14 @@
+package br.edu.ufape.plataforma.mentoria.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT) // HTTP 409
+public class GroupSessionFullException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public GroupSessionFullException(Long groupSessionId) {
+        super("A sessão em grupo " + groupSessionId + " não tem mais vagas.");
+    }
+}
@@ -0,0 +1,14 @@
+package br.edu.ufape.plataforma.mentoria.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT) // HTTP 409
+public class SlotUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public SlotUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -34,6 +34,7 @@ public class SessionMapper {
          sessionDTO.setMeetingTopic(session.getMeetingTopic());
          sessionDTO.setStatus(session.getStatus());
          sessionDTO.setLocation(session.getLocation());
+         sessionDTO.setAwaitingConfirmation(session.isAwaitingConfirmation());
          return sessionDTO;
      }
 }
@@ -0,0 +1,66 @@
+package br.edu.ufape.plataforma.mentoria.model;
+
+import jakarta.persistence.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * Janela semanal em que o mentor atende, dividida em horários do tamanho de
+ * uma sessão a partir do início.
+ */
+@Entity
+@Table(name = "availability_window", indexes = @Index(name = "idx_availability_window_mentor", columnList = "mentor_id"))
+public class AvailabilityWindow {
+
+    @Id
+    @SequenceGenerator(name = "availability_window_id_seq", sequenceName = "availability_window_id_seq", allocationSize = 1)
+    @GeneratedValue(generator = "availability_window_id_seq", strategy = GenerationType.SEQUENCE)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "mentor_id", nullable = false, updatable = false)
+    private Mentor mentor;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", nullable = false)
+    private DayOfWeek dayOfWeek;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+
+    public AvailabilityWindow() {
+        // Construtor padrão exigido pelo JPA
+    }
+
+    public AvailabilityWindow(Mentor mentor, DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        this.mentor = mentor;
+        this.dayOfWeek = dayOfWeek;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Mentor getMentor() {
+        return mentor;
+    }
+
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+}
@@ -0,0 +1,61 @@
+package br.edu.ufape.plataforma.mentoria.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vaga de um mentorado em uma sessão em grupo. A restrição única impede que
+ * o mesmo mentorado ocupe duas vagas da mesma sessão.
+ */
+@Entity
+@Table(name = "group_seat",
+        uniqueConstraints = @UniqueConstraint(columnNames = { "group_session_id", "mentored_id" }),
+        indexes = @Index(name = "idx_group_seat_mentored", columnList = "mentored_id"))
+public class GroupSeat {
+
+    @Id
+    @SequenceGenerator(name = "group_seat_id_seq", sequenceName = "group_seat_id_seq", allocationSize = 1)
+    @GeneratedValue(generator = "group_seat_id_seq", strategy = GenerationType.SEQUENCE)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "group_session_id", nullable = false, updatable = false)
+    private Long groupSessionId;
+
+    @Column(name = "mentored_id", nullable = false, updatable = false)
+    private Long mentoredId;
+
+    @Column(name = "booked_at", nullable = false, updatable = false)
+    private LocalDateTime bookedAt;
+
+    public GroupSeat() {
+        // Construtor padrão exigido pelo JPA
+    }
+
+    public GroupSeat(Long groupSessionId, Long mentoredId) {
+        this.groupSessionId = groupSessionId;
+        this.mentoredId = mentoredId;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        bookedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getGroupSessionId() {
+        return groupSessionId;
+    }
+
+    public Long getMentoredId() {
+        return mentoredId;
+    }
+
+    public LocalDateTime getBookedAt() {
+        return bookedAt;
+    }
+}
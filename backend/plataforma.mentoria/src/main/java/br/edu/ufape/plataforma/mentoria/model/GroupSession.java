@@ -0,0 +1,92 @@
+package br.edu.ufape.plataforma.mentoria.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Sessão em grupo oferecida por um mentor, como uma oficina, com um número
+ * limitado de vagas para mentorados. As vagas livres são mantidas em uma
+ * coluna própria, decrementada por um UPDATE condicional a cada reserva.
+ */
+@Entity
+@Table(name = "group_session", indexes = @Index(name = "idx_group_session_mentor", columnList = "mentor_id, date"))
+public class GroupSession {
+
+    @Id
+    @SequenceGenerator(name = "group_session_id_seq", sequenceName = "group_session_id_seq", allocationSize = 1)
+    @GeneratedValue(generator = "group_session_id_seq", strategy = GenerationType.SEQUENCE)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "mentor_id", nullable = false, updatable = false)
+    private Mentor mentor;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private LocalTime time;
+
+    @Column(nullable = false)
+    private String meetingTopic;
+
+    @Column(nullable = false)
+    private String location;
+
+    @Column(nullable = false, updatable = false)
+    private int capacity;
+
+    // Só alterada pelos UPDATEs condicionais do repositório
+    @Column(name = "available_seats", nullable = false, updatable = false)
+    private int availableSeats;
+
+    public GroupSession() {
+        // Construtor padrão exigido pelo JPA
+    }
+
+    public GroupSession(Mentor mentor, LocalDate date, LocalTime time, String meetingTopic, String location,
+            int capacity) {
+        this.mentor = mentor;
+        this.date = date;
+        this.time = time;
+        this.meetingTopic = meetingTopic;
+        this.location = location;
+        this.capacity = capacity;
+        this.availableSeats = capacity;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Mentor getMentor() {
+        return mentor;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public LocalTime getTime() {
+        return time;
+    }
+
+    public String getMeetingTopic() {
+        return meetingTopic;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getAvailableSeats() {
+        return availableSeats;
+    }
+}
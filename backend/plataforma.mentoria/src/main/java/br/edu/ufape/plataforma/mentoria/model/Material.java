@@ -3,6 +3,9 @@ package br.edu.ufape.plataforma.mentoria.model;
 import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
 import br.edu.ufape.plataforma.mentoria.enums.MaterialType;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.util.HashSet;
@@ -31,11 +34,17 @@ public class Material {
     @Column(name = "file_path", length = 500)
     private String filePath;
 
+    // Nome original (sanitizado) do arquivo enviado, usado no download
+    @Column(name = "file_name", length = 120)
+    private String fileName;
+
     @Column(length = 600)
     private String url;
 
 
+    // SUBSELECT evita uma consulta por material ao carregar listas
     @ElementCollection(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "interest_area_id", joinColumns = @JoinColumn(name = "mentor_id"))
     @Column(name = "material_interest_area")
     private Set<InterestArea> interestArea = new HashSet<>();
@@ -43,6 +52,11 @@ public class Material {
     @ManyToOne
     private User userUploader;
 
+    // Quantidade de downloads completos, usada como sinal de popularidade
+    @ColumnDefault("0")
+    @Column(name = "download_count", nullable = false)
+    private long downloadCount;
+
     public Material() {
         // Construtor padrão exigido pelo JPA
     }
@@ -51,6 +65,7 @@ public class Material {
         private String title;
         private MaterialType materialType;
         private String filePath;
+        private String fileName;
         private String url;
         private Set<InterestArea> interestArea = new HashSet<>();
         private User userUploader;
@@ -70,6 +85,11 @@ public class Material {
             return this;
         }
 
+        public Builder fileName(String fileName) {
+            this.fileName = fileName;
+            return this;
+        }
+
         public Builder url(String url) {
             this.url = url;
             return this;
@@ -90,6 +110,7 @@ public class Material {
             material.setTitle(this.title);
             material.setMaterialType(this.materialType);
             material.setFilePath(this.filePath);
+            material.setFileName(this.fileName);
             material.setUrl(this.url);
             material.setInterestArea(this.interestArea);
             material.setUserUploader(this.userUploader);
@@ -130,6 +151,14 @@ public class Material {
         this.filePath = filePath;
     }
 
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
     public String getUrl() {
         return url;
     }
@@ -154,6 +183,14 @@ public class Material {
         this.userUploader = userUploader;
     }
 
+    public long getDownloadCount() {
+        return downloadCount;
+    }
+
+    public void setDownloadCount(long downloadCount) {
+        this.downloadCount = downloadCount;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
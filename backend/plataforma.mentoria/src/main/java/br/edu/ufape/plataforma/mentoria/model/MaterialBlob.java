@@ -0,0 +1,71 @@
+package br.edu.ufape.plataforma.mentoria.model;
+
+import jakarta.persistence.*;
+import java.util.Objects;
+
+/**
+ * Arquivo armazenado uma única vez no diretório de upload, endereçado pelo
+ * SHA-256 do seu conteúdo. Vários materiais podem apontar para o mesmo blob;
+ * o arquivo só é removido quando a contagem de referências chega a zero.
+ */
+@Entity
+@Table(name = "material_blob")
+public class MaterialBlob {
+
+    // Chave do blob: hash SHA-256 em hexadecimal seguido da extensão do arquivo
+    @Id
+    @Column(name = "storage_key", length = 80, updatable = false)
+    private String storageKey;
+
+    @Column(name = "content_hash", nullable = false, length = 64, updatable = false)
+    private String contentHash;
+
+    @Column(nullable = false, updatable = false)
+    private long size;
+
+    @Column(name = "reference_count", nullable = false)
+    private int referenceCount;
+
+    public MaterialBlob() {
+        // Construtor padrão exigido pelo JPA
+    }
+
+    public MaterialBlob(String storageKey, String contentHash, long size) {
+        this.storageKey = storageKey;
+        this.contentHash = contentHash;
+        this.size = size;
+        this.referenceCount = 1;
+    }
+
+    public String getStorageKey() {
+        return storageKey;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public int getReferenceCount() {
+        return referenceCount;
+    }
+
+    public void setReferenceCount(int referenceCount) {
+        this.referenceCount = referenceCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MaterialBlob that)) return false;
+        return storageKey != null && storageKey.equals(that.storageKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(storageKey);
+    }
+}
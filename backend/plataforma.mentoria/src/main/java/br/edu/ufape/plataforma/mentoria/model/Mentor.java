@@ -7,6 +7,8 @@ import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
 import br.edu.ufape.plataforma.mentoria.enums.Course;
 import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 @Entity
 @AssociationOverride(name = "interestArea", joinTable = @JoinTable(name = "mentor_interest_areas", joinColumns = @JoinColumn(name = "mentor_id")))
@@ -26,7 +28,9 @@ public class Mentor extends Person {
     @Column(nullable = false)
     private AffiliationType affiliationType;
 
+    // SUBSELECT evita uma consulta por mentor ao carregar listas
     @ElementCollection(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "mentor_specializations", joinColumns = @JoinColumn(name = "mentor_id"))
     @Column(name = "specialization")
     private List<String> specializations;
@@ -8,6 +8,8 @@ import jakarta.persistence.ElementCollection;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.MappedSuperclass;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 @MappedSuperclass
 public abstract class Person {
@@ -25,7 +27,9 @@ public abstract class Person {
     @Column(nullable = false)
     private Course course;
 
+    // Em listagens, as áreas de todas as pessoas carregadas vêm em uma única consulta
     @ElementCollection(targetClass = InterestArea.class)
+    @Fetch(FetchMode.SUBSELECT)
     @Enumerated(EnumType.STRING)
     @Column(name = "interest_area")
     private List<InterestArea> interestArea;
@@ -0,0 +1,115 @@
+package br.edu.ufape.plataforma.mentoria.model;
+
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Totais das avaliações recebidas por um mentor ou mentorado, atualizados a
+ * cada nova avaliação para que médias e histogramas não precisem percorrer
+ * a tabela de avaliações.
+ */
+@Entity
+@Table(name = "rating_summary",
+        uniqueConstraints = @UniqueConstraint(columnNames = { "profile_id", "profile_role" }))
+public class RatingSummary {
+
+    @Id
+    @SequenceGenerator(name = "rating_summary_id_seq", sequenceName = "rating_summary_id_seq", allocationSize = 1)
+    @GeneratedValue(generator = "rating_summary_id_seq", strategy = GenerationType.SEQUENCE)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    // ID do mentor ou do mentorado avaliado, conforme o papel
+    @Column(name = "profile_id", nullable = false, updatable = false)
+    private Long profileId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "profile_role", nullable = false, updatable = false)
+    private UserRole profileRole;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private long scoreSum;
+
+    // Histograma: quantidade de avaliações com cada nota
+    @Column(name = "score1_count", nullable = false)
+    private long score1Count;
+
+    @Column(name = "score2_count", nullable = false)
+    private long score2Count;
+
+    @Column(name = "score3_count", nullable = false)
+    private long score3Count;
+
+    @Column(name = "score4_count", nullable = false)
+    private long score4Count;
+
+    @Column(name = "score5_count", nullable = false)
+    private long score5Count;
+
+    @Column(name = "last_review_at")
+    private LocalDateTime lastReviewAt;
+
+    public RatingSummary() {
+        // Construtor padrão exigido pelo JPA
+    }
+
+    public RatingSummary(Long profileId, UserRole profileRole) {
+        this.profileId = profileId;
+        this.profileRole = profileRole;
+    }
+
+    /**
+     * Soma {@code count} avaliações com a mesma nota aos totais.
+     */
+    public void add(int score, long count, LocalDateTime reviewedAt) {
+        reviewCount += count;
+        scoreSum += score * count;
+        switch (score) {
+            case 1 -> score1Count += count;
+            case 2 -> score2Count += count;
+            case 3 -> score3Count += count;
+            case 4 -> score4Count += count;
+            case 5 -> score5Count += count;
+            default -> throw new IllegalArgumentException("Nota fora do intervalo de 1 a 5: " + score);
+        }
+        if (lastReviewAt == null || (reviewedAt != null && reviewedAt.isAfter(lastReviewAt))) {
+            lastReviewAt = reviewedAt;
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getProfileId() {
+        return profileId;
+    }
+
+    public UserRole getProfileRole() {
+        return profileRole;
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public long getScoreSum() {
+        return scoreSum;
+    }
+
+    /**
+     * Quantidade de avaliações por nota; a posição 0 corresponde à nota 1.
+     */
+    public long[] getHistogram() {
+        return new long[] { score1Count, score2Count, score3Count, score4Count, score5Count };
+    }
+
+    public LocalDateTime getLastReviewAt() {
+        return lastReviewAt;
+    }
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -19,7 +20,11 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 @Entity
-@Table(name = "reviews")
+// Um índice para cada lado das avaliações recebidas, na ordem da listagem
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_mentor_received", columnList = "mentor_id, reviewer_role, created_at DESC, id DESC"),
+        @Index(name = "idx_reviews_mentored_received", columnList = "mentored_id, reviewer_role, created_at DESC, id DESC")
+})
 public class Review {
 
     @Id
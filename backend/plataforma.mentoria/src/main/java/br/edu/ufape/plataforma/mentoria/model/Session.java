@@ -4,9 +4,16 @@ import br.edu.ufape.plataforma.mentoria.enums.Status;
 import jakarta.persistence.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_session_mentor_start", columnList = "mentor_id, start_at, id"),
+        @Index(name = "idx_session_mentored_start", columnList = "mentored_id, start_at, id"),
+        @Index(name = "idx_session_status_start", columnList = "status, start_at, id")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_session_series_occurrence",
+        columnNames = { "series_id", "occurrence_date" }))
 public class Session {
 
     @Id
@@ -27,16 +34,39 @@ public class Session {
     @Column(nullable = false)
     private LocalTime time;
 
+    // Data e horário combinados, para as consultas por intervalo. Mantido a
+    // partir de date e time; linhas antigas são preenchidas na inicialização.
+    @Column(name = "start_at")
+    private LocalDateTime startAt;
+
+    // Série recorrente de onde a sessão veio e a data original da ocorrência,
+    // que continua identificando-a mesmo se a sessão for remarcada
+    @Column(name = "series_id")
+    private Long seriesId;
+
+    @Column(name = "occurrence_date")
+    private LocalDate occurrenceDate;
+
     @Column(nullable = false)
     private String meetingTopic;
 
+    // Alterado apenas pelo UPDATE condicionado de SessionRepository.updateStatusIf
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Status status;
 
     @Column(nullable = false)
     private String location;
 
+    // Última alteração da sessão; vazio nas linhas anteriores à coluna
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Quando o job de expiração viu a sessão aceita já encerrada; mentor ou
+    // mentorado precisa confirmar se ela aconteceu (concluir ou cancelar)
+    @Column(name = "awaiting_confirmation_since")
+    private LocalDateTime awaitingConfirmationSince;
+
     public Session() {
     }
 
@@ -51,6 +81,17 @@ public class Session {
         this.location = location;
     }
 
+    @PrePersist
+    @PreUpdate
+    public void onSave() {
+        syncStartAt();
+        updatedAt = LocalDateTime.now();
+    }
+
+    public void syncStartAt() {
+        startAt = date != null && time != null ? date.atTime(time) : null;
+    }
+
     public Long getId() {
         return id;
     }
@@ -99,6 +140,23 @@ public class Session {
         this.time = time;
     }
 
+    public LocalDateTime getStartAt() {
+        return startAt;
+    }
+
+    public Long getSeriesId() {
+        return seriesId;
+    }
+
+    public LocalDate getOccurrenceDate() {
+        return occurrenceDate;
+    }
+
+    public void setSeriesOccurrence(Long seriesId, LocalDate occurrenceDate) {
+        this.seriesId = seriesId;
+        this.occurrenceDate = occurrenceDate;
+    }
+
     public Status getStatus() {
         return status;
     }
@@ -114,4 +172,27 @@ public class Session {
     public void setLocation(String location) {
         this.location = location;
     }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getAwaitingConfirmationSince() {
+        return awaitingConfirmationSince;
+    }
+
+    public void setAwaitingConfirmationSince(LocalDateTime awaitingConfirmationSince) {
+        this.awaitingConfirmationSince = awaitingConfirmationSince;
+    }
+
+    /**
+     * Se a sessão aceita já terminou e ainda espera a confirmação dos participantes.
+     */
+    public boolean isAwaitingConfirmation() {
+        return status == Status.ACCEPTED && awaitingConfirmationSince != null;
+    }
 }
@@ -0,0 +1,129 @@
+package br.edu.ufape.plataforma.mentoria.model;
+
+import br.edu.ufape.plataforma.mentoria.enums.RecurrenceFrequency;
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Série de sessões recorrentes entre um mentor e um mentorado. As ocorrências
+ * não são gravadas: são calculadas para o intervalo consultado, e só viram
+ * uma {@link Session} quando precisam de estado próprio (aceite, edição,
+ * avaliação).
+ */
+@Entity
+@Table(name = "session_series", indexes = {
+        @Index(name = "idx_session_series_mentor", columnList = "mentor_id, first_date"),
+        @Index(name = "idx_session_series_mentored", columnList = "mentored_id, first_date")
+})
+public class SessionSeries {
+
+    @Id
+    @SequenceGenerator(name = "session_series_id_seq", sequenceName = "session_series_id_seq", allocationSize = 1)
+    @GeneratedValue(generator = "session_series_id_seq", strategy = GenerationType.SEQUENCE)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "mentor_id", nullable = false, updatable = false)
+    private Mentor mentor;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "mentored_id", nullable = false, updatable = false)
+    private Mentored mentored;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private RecurrenceFrequency frequency;
+
+    @Column(name = "first_date", nullable = false, updatable = false)
+    private LocalDate firstDate;
+
+    // Data da última ocorrência, já considerando a data final ou a quantidade
+    @Column(name = "last_date", nullable = false)
+    private LocalDate lastDate;
+
+    @Column(nullable = false)
+    private LocalTime time;
+
+    @Column(nullable = false)
+    private String meetingTopic;
+
+    @Column(nullable = false)
+    private String location;
+
+    public SessionSeries() {
+        // Construtor padrão exigido pelo JPA
+    }
+
+    public SessionSeries(Mentor mentor, Mentored mentored, RecurrenceFrequency frequency, LocalDate firstDate,
+            LocalDate lastDate, LocalTime time, String meetingTopic, String location) {
+        this.mentor = mentor;
+        this.mentored = mentored;
+        this.frequency = frequency;
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+        this.time = time;
+        this.meetingTopic = meetingTopic;
+        this.location = location;
+    }
+
+    /**
+     * Se a série tem uma ocorrência na data informada.
+     */
+    public boolean occursOn(LocalDate date) {
+        if (date.isBefore(firstDate) || date.isAfter(lastDate)) {
+            return false;
+        }
+        return ChronoUnit.DAYS.between(firstDate, date) % periodDays() == 0;
+    }
+
+    /**
+     * Intervalo, em dias, entre duas ocorrências.
+     */
+    public long periodDays() {
+        return 7L * frequency.getIntervalWeeks();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Mentor getMentor() {
+        return mentor;
+    }
+
+    public Mentored getMentored() {
+        return mentored;
+    }
+
+    public RecurrenceFrequency getFrequency() {
+        return frequency;
+    }
+
+    public LocalDate getFirstDate() {
+        return firstDate;
+    }
+
+    public LocalDate getLastDate() {
+        return lastDate;
+    }
+
+    public void setLastDate(LocalDate lastDate) {
+        this.lastDate = lastDate;
+    }
+
+    public LocalTime getTime() {
+        return time;
+    }
+
+    public String getMeetingTopic() {
+        return meetingTopic;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+}
@@ -0,0 +1,71 @@
+package br.edu.ufape.plataforma.mentoria.model;
+
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de uma mudança de status de sessão. A criação da sessão é
+ * registrada com {@code fromStatus} nulo.
+ */
+@Entity
+@Table(name = "session_status_history",
+        indexes = @Index(name = "idx_session_status_history_session", columnList = "session_id, changed_at"))
+public class SessionStatusChange {
+
+    @Id
+    @SequenceGenerator(name = "session_status_history_id_seq", sequenceName = "session_status_history_id_seq", allocationSize = 1)
+    @GeneratedValue(generator = "session_status_history_id_seq", strategy = GenerationType.SEQUENCE)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "session_id", nullable = false, updatable = false)
+    private Long sessionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", updatable = false)
+    private Status fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false, updatable = false)
+    private Status toStatus;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    public SessionStatusChange() {
+        // Construtor padrão exigido pelo JPA
+    }
+
+    public SessionStatusChange(Long sessionId, Status fromStatus, Status toStatus) {
+        this.sessionId = sessionId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.changedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getSessionId() {
+        return sessionId;
+    }
+
+    public Status getFromStatus() {
+        return fromStatus;
+    }
+
+    public Status getToStatus() {
+        return toStatus;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+}
@@ -0,0 +1,69 @@
+package br.edu.ufape.plataforma.mentoria.model;
+
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Faixa de meia hora ocupada por uma sessão na agenda do mentor ou do
+ * mentorado. A restrição única impede que duas sessões em aberto ocupem a
+ * mesma faixa da mesma agenda, mesmo com reservas simultâneas.
+ */
+@Entity
+@Table(name = "slot_claim",
+        uniqueConstraints = @UniqueConstraint(columnNames = { "profile_id", "profile_role", "slot_start" }),
+        indexes = @Index(name = "idx_slot_claim_session", columnList = "session_id"))
+public class SlotClaim {
+
+    @Id
+    @SequenceGenerator(name = "slot_claim_id_seq", sequenceName = "slot_claim_id_seq", allocationSize = 1)
+    @GeneratedValue(generator = "slot_claim_id_seq", strategy = GenerationType.SEQUENCE)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    // ID do mentor ou do mentorado, conforme o papel
+    @Column(name = "profile_id", nullable = false, updatable = false)
+    private Long profileId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "profile_role", nullable = false, updatable = false)
+    private UserRole profileRole;
+
+    @Column(name = "slot_start", nullable = false, updatable = false)
+    private LocalDateTime slotStart;
+
+    @Column(name = "session_id", nullable = false, updatable = false)
+    private Long sessionId;
+
+    public SlotClaim() {
+        // Construtor padrão exigido pelo JPA
+    }
+
+    public SlotClaim(Long profileId, UserRole profileRole, LocalDateTime slotStart, Long sessionId) {
+        this.profileId = profileId;
+        this.profileRole = profileRole;
+        this.slotStart = slotStart;
+        this.sessionId = sessionId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getProfileId() {
+        return profileId;
+    }
+
+    public UserRole getProfileRole() {
+        return profileRole;
+    }
+
+    public LocalDateTime getSlotStart() {
+        return slotStart;
+    }
+
+    public Long getSessionId() {
+        return sessionId;
+    }
+}
@@ -38,6 +38,10 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private UserRole role;
 
+    // Segredo do endereço do feed de calendário, gerado na primeira consulta
+    @Column(name = "calendar_token", unique = true)
+    private String calendarToken;
+
     public User() {
     }
 
@@ -81,6 +85,14 @@ public class User implements UserDetails {
         this.role = role;
     }
 
+    public String getCalendarToken() {
+        return calendarToken;
+    }
+
+    public void setCalendarToken(String calendarToken) {
+        this.calendarToken = calendarToken;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         if (this.role == UserRole.MENTOR) {
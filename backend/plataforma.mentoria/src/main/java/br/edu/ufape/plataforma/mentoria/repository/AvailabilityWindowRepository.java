@@ -0,0 +1,20 @@
+package br.edu.ufape.plataforma.mentoria.repository;
+
+import br.edu.ufape.plataforma.mentoria.model.AvailabilityWindow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AvailabilityWindowRepository extends JpaRepository<AvailabilityWindow, Long> {
+
+    List<AvailabilityWindow> findByMentorId(Long mentorId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM AvailabilityWindow w WHERE w.mentor.id = :mentorId")
+    int deleteByMentorId(@Param("mentorId") Long mentorId);
+}
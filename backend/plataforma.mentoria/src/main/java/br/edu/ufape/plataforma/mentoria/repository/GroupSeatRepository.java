@@ -0,0 +1,23 @@
+package br.edu.ufape.plataforma.mentoria.repository;
+
+import br.edu.ufape.plataforma.mentoria.model.GroupSeat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface GroupSeatRepository extends JpaRepository<GroupSeat, Long> {
+
+    long countByGroupSessionId(Long groupSessionId);
+
+    @Query("SELECT s.mentoredId FROM GroupSeat s WHERE s.groupSessionId = :groupSessionId ORDER BY s.id")
+    List<Long> findMentoredIdsByGroupSessionId(@Param("groupSessionId") Long groupSessionId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM GroupSeat s WHERE s.groupSessionId = :groupSessionId AND s.mentoredId = :mentoredId")
+    int deleteSeat(@Param("groupSessionId") Long groupSessionId, @Param("mentoredId") Long mentoredId);
+}
@@ -0,0 +1,31 @@
+package br.edu.ufape.plataforma.mentoria.repository;
+
+import br.edu.ufape.plataforma.mentoria.model.GroupSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface GroupSessionRepository extends JpaRepository<GroupSession, Long> {
+
+    List<GroupSession> findByMentorIdAndDateGreaterThanEqualOrderByDateAscTimeAsc(Long mentorId, LocalDate fromDate);
+
+    /**
+     * Ocupa uma vaga, se houver alguma, em um único UPDATE: reservas
+     * simultâneas nunca deixam o contador negativo nem perdem decrementos.
+     * Retorna 0 se a sessão estiver lotada ou não existir.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE GroupSession g SET g.availableSeats = g.availableSeats - 1 WHERE g.id = :id AND g.availableSeats > 0")
+    int takeSeat(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE GroupSession g SET g.availableSeats = g.availableSeats + 1 "
+            + "WHERE g.id = :id AND g.availableSeats < g.capacity")
+    int releaseSeat(@Param("id") Long id);
+}
@@ -0,0 +1,51 @@
+package br.edu.ufape.plataforma.mentoria.repository;
+
+import br.edu.ufape.plataforma.mentoria.model.MaterialBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MaterialBlobRepository extends JpaRepository<MaterialBlob, String> {
+
+    /**
+     * Incrementa a contagem de referências de um blob já existente.
+     * @param storageKey A chave do blob.
+     * @return A quantidade de linhas atualizadas (0 se o blob ainda não existe).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MaterialBlob b SET b.referenceCount = b.referenceCount + 1 WHERE b.storageKey = :storageKey")
+    int incrementReferences(@Param("storageKey") String storageKey);
+
+    /**
+     * Insere o blob com uma referência se a chave ainda não existir. Dois
+     * primeiros uploads simultâneos do mesmo conteúdo não falham na chave
+     * primária: o segundo não insere nada e deve incrementar as referências.
+     * @return 1 se o blob foi inserido, 0 se ele já existia.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO MaterialBlob (storageKey, contentHash, size, referenceCount) "
+            + "VALUES (:storageKey, :contentHash, :size, 1) ON CONFLICT DO NOTHING")
+    int insertIfAbsent(@Param("storageKey") String storageKey, @Param("contentHash") String contentHash,
+            @Param("size") long size);
+
+    /**
+     * Decrementa a contagem de referências de um blob.
+     * @param storageKey A chave do blob.
+     * @return A quantidade de linhas atualizadas.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MaterialBlob b SET b.referenceCount = b.referenceCount - 1 WHERE b.storageKey = :storageKey AND b.referenceCount > 0")
+    int decrementReferences(@Param("storageKey") String storageKey);
+
+    /**
+     * Remove o blob somente se nenhum material o referencia mais.
+     * @param storageKey A chave do blob.
+     * @return A quantidade de linhas removidas.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM MaterialBlob b WHERE b.storageKey = :storageKey AND b.referenceCount <= 0")
+    int deleteIfUnreferenced(@Param("storageKey") String storageKey);
+}
@@ -1,11 +1,17 @@
 package br.edu.ufape.plataforma.mentoria.repository;
 
+import br.edu.ufape.plataforma.mentoria.enums.Course;
 import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
 import br.edu.ufape.plataforma.mentoria.enums.MaterialType;
 import br.edu.ufape.plataforma.mentoria.model.Material;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,4 +22,63 @@ public interface MaterialRepository extends JpaRepository<Material, Long> {
     List<Material> findByInterestAreaContaining(InterestArea area);
     List<Material> findByMaterialTypeAndInterestAreaContaining(MaterialType tipo, InterestArea area);
     List<Material> findTop10ByOrderByIdDesc();
+
+    /**
+     * Par (material, área) usado para montar o índice de áreas de interesse
+     * sem carregar as entidades.
+     */
+    interface InterestAreaRow {
+        Long getMaterialId();
+        InterestArea getArea();
+    }
+
+    @Query("SELECT m.id AS materialId, a AS area FROM Material m JOIN m.interestArea a")
+    List<InterestAreaRow> findAllInterestAreaRows();
+
+    @Query("SELECT m.id AS materialId, a AS area FROM Material m JOIN m.interestArea a WHERE m.id IN :ids")
+    List<InterestAreaRow> findInterestAreaRows(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT m.id FROM Material m")
+    List<Long> findAllIds();
+
+    /**
+     * Colunas escalares do material usadas na listagem, sem as áreas de interesse.
+     */
+    interface MaterialRow {
+        Long getId();
+        String getTitle();
+        MaterialType getMaterialType();
+        String getUrl();
+        String getFilePath();
+        Long getUserUploaderId();
+    }
+
+    /**
+     * Página da listagem por cursor: os materiais com ID maior que {@code afterId}.
+     */
+    @Query("SELECT m.id AS id, m.title AS title, m.materialType AS materialType, m.url AS url, "
+            + "m.filePath AS filePath, m.userUploader.id AS userUploaderId "
+            + "FROM Material m WHERE m.id > :afterId ORDER BY m.id")
+    List<MaterialRow> findPageAfter(@Param("afterId") long afterId, Limit limit);
+
+    /**
+     * Sinais usados pelo ranking de recomendações: popularidade e curso de
+     * quem enviou o material (mentor ou mentorado).
+     */
+    interface RecommendationRow {
+        Long getMaterialId();
+        long getDownloadCount();
+        Course getUploaderCourse();
+    }
+
+    @Query("SELECT m.id AS materialId, m.downloadCount AS downloadCount, "
+            + "COALESCE(mt.course, md.course) AS uploaderCourse "
+            + "FROM Material m "
+            + "LEFT JOIN Mentor mt ON mt.id = m.userUploader.id "
+            + "LEFT JOIN Mentored md ON md.id = m.userUploader.id")
+    List<RecommendationRow> findAllRecommendationRows();
+
+    @Modifying
+    @Query("UPDATE Material m SET m.downloadCount = m.downloadCount + :delta WHERE m.id = :id")
+    int incrementDownloadCount(@Param("id") Long id, @Param("delta") long delta);
 }
\ No newline at end of file
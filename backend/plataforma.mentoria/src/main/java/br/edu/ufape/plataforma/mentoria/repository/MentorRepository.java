@@ -1,10 +1,17 @@
 package br.edu.ufape.plataforma.mentoria.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
 import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import br.edu.ufape.plataforma.mentoria.model.Mentor;
 
@@ -14,4 +21,71 @@ public interface MentorRepository extends JpaRepository<Mentor, Long> {
     Optional<Mentor> findByUserEmail(String email);
     Mentor findByUserId(Long Id);
     List<Mentor> findByInterestAreaAndSpecializationsContaining(InterestArea interestArea, String specialization);
-}
\ No newline at end of file
+
+    /**
+     * Colunas escalares do mentor usadas na listagem, sem as coleções.
+     */
+    interface MentorRow {
+        Long getId();
+        String getFullName();
+        String getCpf();
+        LocalDate getBirthDate();
+        Course getCourse();
+        String getProfessionalSummary();
+        AffiliationType getAffiliationType();
+    }
+
+    interface SpecializationRow {
+        Long getMentorId();
+        String getSpecialization();
+    }
+
+    interface InterestAreaRow {
+        Long getMentorId();
+        InterestArea getArea();
+    }
+
+    /**
+     * Página da listagem por cursor: os mentores com ID maior que {@code afterId}.
+     */
+    @Query("SELECT m.id AS id, m.fullName AS fullName, m.cpf AS cpf, m.birthDate AS birthDate, "
+            + "m.course AS course, m.professionalSummary AS professionalSummary, "
+            + "m.affiliationType AS affiliationType "
+            + "FROM Mentor m WHERE m.id > :afterId ORDER BY m.id")
+    List<MentorRow> findPageAfter(@Param("afterId") long afterId, Limit limit);
+
+    interface SummaryRow {
+        Long getId();
+        String getProfessionalSummary();
+    }
+
+    @Query("SELECT m.id FROM Mentor m WHERE m.user.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
+
+    /**
+     * Atributos do mentor usados pelo cálculo de compatibilidade.
+     */
+    interface MatchRow {
+        Long getId();
+        Course getCourse();
+        AffiliationType getAffiliationType();
+    }
+
+    @Query("SELECT m.id AS id, m.course AS course, m.affiliationType AS affiliationType FROM Mentor m")
+    List<MatchRow> findAllMatchRows();
+
+    @Query("SELECT m.id AS id, m.professionalSummary AS professionalSummary FROM Mentor m")
+    List<SummaryRow> findAllSummaryRows();
+
+    @Query("SELECT m.id AS mentorId, s AS specialization FROM Mentor m JOIN m.specializations s")
+    List<SpecializationRow> findAllSpecializationRows();
+
+    @Query("SELECT m.id AS mentorId, a AS area FROM Mentor m JOIN m.interestArea a")
+    List<InterestAreaRow> findAllInterestAreaRows();
+
+    @Query("SELECT m.id AS mentorId, s AS specialization FROM Mentor m JOIN m.specializations s WHERE m.id IN :ids")
+    List<SpecializationRow> findSpecializationRows(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT m.id AS mentorId, a AS area FROM Mentor m JOIN m.interestArea a WHERE m.id IN :ids")
+    List<InterestAreaRow> findInterestAreaRows(@Param("ids") Collection<Long> ids);
+}
@@ -1,10 +1,16 @@
 package br.edu.ufape.plataforma.mentoria.repository;
 
+import br.edu.ufape.plataforma.mentoria.enums.Course;
 import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import br.edu.ufape.plataforma.mentoria.model.Mentored;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +21,49 @@ public interface MentoredRepository extends JpaRepository<Mentored, Long> {
     Mentored findByUserId(Long id);
 
     List<Mentored> findByInterestArea(InterestArea interestArea);
+
+    /**
+     * Colunas escalares do mentorado usadas na listagem, sem as coleções.
+     */
+    interface MentoredRow {
+        Long getId();
+        String getFullName();
+        String getCpf();
+        LocalDate getBirthDate();
+        Course getCourse();
+        String getAcademicSummary();
+    }
+
+    interface InterestAreaRow {
+        Long getMentoredId();
+        InterestArea getArea();
+    }
+
+    /**
+     * Página da listagem por cursor: os mentorados com ID maior que {@code afterId}.
+     */
+    @Query("SELECT m.id AS id, m.fullName AS fullName, m.cpf AS cpf, m.birthDate AS birthDate, "
+            + "m.course AS course, m.academicSummary AS academicSummary "
+            + "FROM Mentored m WHERE m.id > :afterId ORDER BY m.id")
+    List<MentoredRow> findPageAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Query("SELECT m.id FROM Mentored m WHERE m.user.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
+
+    /**
+     * Atributos do mentorado usados pelo cálculo de compatibilidade.
+     */
+    interface MatchRow {
+        Long getId();
+        Course getCourse();
+    }
+
+    @Query("SELECT m.id AS id, m.course AS course FROM Mentored m")
+    List<MatchRow> findAllMatchRows();
+
+    @Query("SELECT m.id AS mentoredId, a AS area FROM Mentored m JOIN m.interestArea a")
+    List<InterestAreaRow> findAllInterestAreaRows();
+
+    @Query("SELECT m.id AS mentoredId, a AS area FROM Mentored m JOIN m.interestArea a WHERE m.id IN :ids")
+    List<InterestAreaRow> findInterestAreaRows(@Param("ids") Collection<Long> ids);
 }
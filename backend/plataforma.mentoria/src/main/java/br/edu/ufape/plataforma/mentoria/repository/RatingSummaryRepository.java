@@ -0,0 +1,59 @@
+package br.edu.ufape.plataforma.mentoria.repository;
+
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.model.RatingSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RatingSummaryRepository extends JpaRepository<RatingSummary, Long> {
+
+    Optional<RatingSummary> findByProfileIdAndProfileRole(Long profileId, UserRole profileRole);
+
+    List<RatingSummary> findByProfileRole(UserRole profileRole);
+
+    List<RatingSummary> findByProfileRoleAndProfileIdIn(UserRole profileRole, Collection<Long> profileIds);
+
+    /**
+     * Soma uma avaliação ao resumo já existente em um único UPDATE, sem ler a
+     * linha antes, para que avaliações simultâneas não se sobrescrevam.
+     * @return A quantidade de linhas atualizadas (0 se o resumo ainda não existe).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RatingSummary s SET s.reviewCount = s.reviewCount + 1, s.scoreSum = s.scoreSum + :score, "
+            + "s.score1Count = s.score1Count + CASE WHEN :score = 1 THEN 1 ELSE 0 END, "
+            + "s.score2Count = s.score2Count + CASE WHEN :score = 2 THEN 1 ELSE 0 END, "
+            + "s.score3Count = s.score3Count + CASE WHEN :score = 3 THEN 1 ELSE 0 END, "
+            + "s.score4Count = s.score4Count + CASE WHEN :score = 4 THEN 1 ELSE 0 END, "
+            + "s.score5Count = s.score5Count + CASE WHEN :score = 5 THEN 1 ELSE 0 END, "
+            + "s.lastReviewAt = CASE WHEN s.lastReviewAt IS NULL OR s.lastReviewAt < :reviewedAt "
+            + "THEN :reviewedAt ELSE s.lastReviewAt END "
+            + "WHERE s.profileId = :profileId AND s.profileRole = :profileRole")
+    int addReview(@Param("profileId") Long profileId, @Param("profileRole") UserRole profileRole,
+            @Param("score") int score, @Param("reviewedAt") LocalDateTime reviewedAt);
+
+    /**
+     * Cria o resumo com a primeira avaliação do perfil, sem efeito se outra
+     * transação já o criou.
+     * @return A quantidade de linhas inseridas (0 se o resumo já existe).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO RatingSummary (profileId, profileRole, reviewCount, scoreSum, "
+            + "score1Count, score2Count, score3Count, score4Count, score5Count, lastReviewAt) "
+            + "VALUES (:profileId, :profileRole, 1, :score, "
+            + "CASE WHEN :score = 1 THEN 1 ELSE 0 END, "
+            + "CASE WHEN :score = 2 THEN 1 ELSE 0 END, "
+            + "CASE WHEN :score = 3 THEN 1 ELSE 0 END, "
+            + "CASE WHEN :score = 4 THEN 1 ELSE 0 END, "
+            + "CASE WHEN :score = 5 THEN 1 ELSE 0 END, :reviewedAt) ON CONFLICT DO NOTHING")
+    int insertIfAbsent(@Param("profileId") Long profileId, @Param("profileRole") UserRole profileRole,
+            @Param("score") int score, @Param("reviewedAt") LocalDateTime reviewedAt);
+}
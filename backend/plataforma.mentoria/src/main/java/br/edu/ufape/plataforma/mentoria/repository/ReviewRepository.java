@@ -1,10 +1,14 @@
 package br.edu.ufape.plataforma.mentoria.repository;
 
+import br.edu.ufape.plataforma.mentoria.dto.ReviewResponseDTO;
 import br.edu.ufape.plataforma.mentoria.enums.UserRole;
 import br.edu.ufape.plataforma.mentoria.model.Review;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -24,19 +28,58 @@ public interface ReviewRepository extends JpaRepository<Review, Long>{
 
     
     /**
-     * Encontra todas as avaliações que um determinado usuário (seja ele mentor ou mentorado) recebeu.
+     * Avaliação recebida, com as colunas de {@code ReviewResponseDTO}. O papel
+     * de quem avaliou vem como o ordinal gravado na coluna.
+     */
+    interface ReceivedReviewRow {
+        Long getId();
+        int getScore();
+        String getComment();
+        Long getSessionId();
+        Long getMentorId();
+        Long getMentoredId();
+        Number getReviewerRole();
+        LocalDateTime getCreatedAt();
+    }
+
+    /**
+     * Página das avaliações que um usuário recebeu, da mais recente para a mais
+     * antiga, a partir da posição {@code (beforeCreatedAt, beforeId)}. Cada lado
+     * (avaliado como mentor ou como mentorado) é lido pelo seu próprio índice e
+     * limitado antes da união, evitando o {@code OR} que obrigava a varrer a tabela.
      * @param userId O ID do usuário (que é o mesmo para User, Mentor e Mentored).
-     * @param mentorRole O enum UserRole.MENTOR.
-     * @param mentoredRole O enum UserRole.MENTORADO.
-     * @return Uma lista de avaliações recebidas pelo usuário.
+     * @param mentorRole O ordinal de UserRole.MENTOR.
+     * @param mentoredRole O ordinal de UserRole.MENTORADO.
+     * @param beforeCreatedAt A data da última avaliação já vista.
+     * @param beforeId O ID da última avaliação já vista.
+     * @param limit A quantidade máxima de avaliações.
      */
-    @Query("SELECT r FROM Review r WHERE (r.mentor.id = :userId AND r.reviewerRole = :mentoredRole) OR (r.mentored.id = :userId AND r.reviewerRole = :mentorRole)")
-    List<Review> findReviewsReceivedByUser(
+    @Query(value = "SELECT received.id AS \"id\", received.score AS \"score\", received.comment AS \"comment\", "
+            + "received.session_id AS \"sessionId\", received.mentor_id AS \"mentorId\", "
+            + "received.mentored_id AS \"mentoredId\", received.reviewer_role AS \"reviewerRole\", "
+            + "received.created_at AS \"createdAt\" FROM ("
+            + "(SELECT r.id, r.score, r.comment, r.session_id, r.mentor_id, r.mentored_id, r.reviewer_role, r.created_at "
+            + "FROM reviews r WHERE r.mentor_id = :userId AND r.reviewer_role = :mentoredRole "
+            + "AND (r.created_at, r.id) < (:beforeCreatedAt, :beforeId) "
+            + "ORDER BY r.created_at DESC, r.id DESC LIMIT :limit) "
+            + "UNION ALL "
+            + "(SELECT r.id, r.score, r.comment, r.session_id, r.mentor_id, r.mentored_id, r.reviewer_role, r.created_at "
+            + "FROM reviews r WHERE r.mentored_id = :userId AND r.reviewer_role = :mentorRole "
+            + "AND (r.created_at, r.id) < (:beforeCreatedAt, :beforeId) "
+            + "ORDER BY r.created_at DESC, r.id DESC LIMIT :limit)"
+            + ") received ORDER BY received.created_at DESC, received.id DESC LIMIT :limit", nativeQuery = true)
+    List<ReceivedReviewRow> findReceivedPageBefore(
         @Param("userId") Long userId,
-        @Param("mentorRole") UserRole mentorRole,
-        @Param("mentoredRole") UserRole mentoredRole
+        @Param("mentorRole") int mentorRole,
+        @Param("mentoredRole") int mentoredRole,
+        @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+        @Param("beforeId") long beforeId,
+        @Param("limit") int limit
     );
 
+    @Query("SELECT r.createdAt FROM Review r WHERE r.id = :id")
+    Optional<LocalDateTime> findCreatedAtById(@Param("id") Long id);
+
     /**
      * Encontra todas as avaliações criadas por um determinado usuário com base no seu papel.
      * @param userId O ID do usuário.
@@ -48,5 +91,47 @@ public interface ReviewRepository extends JpaRepository<Review, Long>{
     //     @Param("userId") Long userId,
     //     @Param("reviewerRole") UserRole reviewerRole
     // );
-    
+
+    /**
+     * Quantidade de avaliações por avaliado e nota, usada para montar os
+     * resumos de avaliações de uma vez.
+     */
+    interface ScoreCountRow {
+        Long getProfileId();
+        int getScore();
+        long getReviewCount();
+        LocalDateTime getLastReviewAt();
+    }
+
+    @Query("SELECT r.mentor.id AS profileId, r.score AS score, COUNT(r) AS reviewCount, MAX(r.createdAt) AS lastReviewAt "
+            + "FROM Review r WHERE r.reviewerRole = :reviewerRole GROUP BY r.mentor.id, r.score")
+    List<ScoreCountRow> countMentorScores(@Param("reviewerRole") UserRole reviewerRole);
+
+    @Query("SELECT r.mentored.id AS profileId, r.score AS score, COUNT(r) AS reviewCount, MAX(r.createdAt) AS lastReviewAt "
+            + "FROM Review r WHERE r.reviewerRole = :reviewerRole GROUP BY r.mentored.id, r.score")
+    List<ScoreCountRow> countMentoredScores(@Param("reviewerRole") UserRole reviewerRole);
+
+    /**
+     * Nota e momento de cada avaliação recebida por um mentor, usados para
+     * montar o ranking de mentores.
+     */
+    interface MentorScoreRow {
+        Long getId();
+        Long getMentorId();
+        int getScore();
+        LocalDateTime getCreatedAt();
+    }
+
+    @Query("SELECT r.id AS id, r.mentor.id AS mentorId, r.score AS score, r.createdAt AS createdAt "
+            + "FROM Review r WHERE r.reviewerRole = :reviewerRole")
+    List<MentorScoreRow> findMentorScoreRows(@Param("reviewerRole") UserRole reviewerRole);
+
+    /**
+     * Página da listagem por cursor: as avaliações com ID maior que {@code afterId},
+     * lidas direto para o DTO, sem carregar sessão, mentor e mentorado.
+     */
+    @Query("SELECT new br.edu.ufape.plataforma.mentoria.dto.ReviewResponseDTO(r.id, r.score, r.comment, "
+            + "r.session.id, r.mentor.id, r.mentored.id, r.reviewerRole, r.createdAt) "
+            + "FROM Review r WHERE r.id > :afterId ORDER BY r.id")
+    List<ReviewResponseDTO> findPageAfter(@Param("afterId") long afterId, Limit limit);
 }
@@ -1,13 +1,170 @@
 package br.edu.ufape.plataforma.mentoria.repository;
 
+import br.edu.ufape.plataforma.mentoria.dto.SessionDTO;
+import br.edu.ufape.plataforma.mentoria.enums.Status;
 import br.edu.ufape.plataforma.mentoria.model.Session;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SessionRepository extends JpaRepository<Session, Long>{
     List<Session> findByMentorId(Long userId);
     List<Session> findByMentoredId(Long guestId);
     List<Session> findByMentorIdAndMentoredId(Long userId, Long guestId);
+
+    /**
+     * Troca o status da sessão somente se ele ainda for {@code expectedStatus},
+     * em um único UPDATE. Retorna 0 se outra requisição mudou o status antes.
+     */
+    default int updateStatusIf(Long id, Status expectedStatus, Status newStatus) {
+        return updateStatusIf(id, expectedStatus, newStatus, LocalDateTime.now());
+    }
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Session s SET s.status = :newStatus, s.updatedAt = :updatedAt "
+            + "WHERE s.id = :id AND s.status = :expectedStatus")
+    int updateStatusIf(@Param("id") Long id, @Param("expectedStatus") Status expectedStatus,
+            @Param("newStatus") Status newStatus, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Quantidade de sessões de cada mentor nos status informados.
+     */
+    interface MentorLoadRow {
+        Long getMentorId();
+        long getSessionCount();
+    }
+
+    @Query("SELECT s.mentor.id AS mentorId, COUNT(s) AS sessionCount FROM Session s "
+            + "WHERE s.status IN :statuses GROUP BY s.mentor.id")
+    List<MentorLoadRow> countSessionsByMentor(@Param("statuses") Collection<Status> statuses);
+
+    /**
+     * ID, mentor, data e horário das sessões em um status.
+     */
+    interface MentorSessionRow {
+        Long getId();
+        Long getMentorId();
+        LocalDate getDate();
+        LocalTime getTime();
+    }
+
+    @Query("SELECT s.id AS id, s.mentor.id AS mentorId, s.date AS date, s.time AS time FROM Session s "
+            + "WHERE s.status = :status")
+    List<MentorSessionRow> findMentorSessionRows(@Param("status") Status status);
+
+    /**
+     * ID, data e horário de uma sessão na agenda de um mentor ou mentorado.
+     */
+    interface ScheduleRow {
+        Long getId();
+        LocalDate getDate();
+        LocalTime getTime();
+    }
+
+    @Query("SELECT s.id AS id, s.date AS date, s.time AS time FROM Session s "
+            + "WHERE s.mentor.id = :mentorId AND s.status IN :statuses AND s.startAt >= :from")
+    List<ScheduleRow> findMentorSchedule(@Param("mentorId") Long mentorId,
+            @Param("statuses") Collection<Status> statuses, @Param("from") LocalDateTime from);
+
+    @Query("SELECT s.id AS id, s.date AS date, s.time AS time FROM Session s "
+            + "WHERE s.mentored.id = :mentoredId AND s.status IN :statuses AND s.startAt >= :from")
+    List<ScheduleRow> findMentoredSchedule(@Param("mentoredId") Long mentoredId,
+            @Param("statuses") Collection<Status> statuses, @Param("from") LocalDateTime from);
+
+    /**
+     * Página da linha do tempo de um mentor: as sessões que começam em
+     * [{@code from}, {@code to}) nos status informados, em ordem de início e
+     * depois de ID, a partir da posição ({@code afterStart}, {@code afterId}).
+     * Percorre o índice (mentor_id, start_at, id) sem OFFSET.
+     */
+    @Query("SELECT new br.edu.ufape.plataforma.mentoria.dto.SessionDTO(s.id, s.mentor.id, s.mentored.id, "
+            + "s.date, s.time, s.meetingTopic, s.status, s.location) FROM Session s "
+            + "WHERE s.mentor.id = :mentorId AND s.startAt >= :afterStart AND s.startAt < :to "
+            + "AND (s.startAt > :afterStart OR s.id > :afterId) AND s.status IN :statuses "
+            + "ORDER BY s.startAt, s.id")
+    List<SessionDTO> findMentorTimeline(@Param("mentorId") Long mentorId, @Param("afterStart") LocalDateTime afterStart,
+            @Param("afterId") long afterId, @Param("to") LocalDateTime to,
+            @Param("statuses") Collection<Status> statuses, Limit limit);
+
+    /**
+     * Mesma paginação de {@link #findMentorTimeline}, sobre o índice
+     * (mentored_id, start_at, id).
+     */
+    @Query("SELECT new br.edu.ufape.plataforma.mentoria.dto.SessionDTO(s.id, s.mentor.id, s.mentored.id, "
+            + "s.date, s.time, s.meetingTopic, s.status, s.location) FROM Session s "
+            + "WHERE s.mentored.id = :mentoredId AND s.startAt >= :afterStart AND s.startAt < :to "
+            + "AND (s.startAt > :afterStart OR s.id > :afterId) AND s.status IN :statuses "
+            + "ORDER BY s.startAt, s.id")
+    List<SessionDTO> findMentoredTimeline(@Param("mentoredId") Long mentoredId,
+            @Param("afterStart") LocalDateTime afterStart, @Param("afterId") long afterId,
+            @Param("to") LocalDateTime to, @Param("statuses") Collection<Status> statuses, Limit limit);
+
+    /**
+     * Lote de sessões em um status que começaram antes do instante informado,
+     * das mais antigas para as mais novas, pelo índice (status, start_at, id).
+     */
+    @Query("SELECT s FROM Session s WHERE s.status = :status AND s.startAt < :before ORDER BY s.startAt, s.id")
+    List<Session> findByStatusStartingBefore(@Param("status") Status status, @Param("before") LocalDateTime before,
+            Limit limit);
+
+    /**
+     * Marca como aguardando confirmação, em um único UPDATE, as sessões no
+     * status informado que começaram antes de {@code before} e ainda não foram
+     * marcadas.
+     * @return A quantidade de sessões marcadas agora.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Session s SET s.awaitingConfirmationSince = :markedAt "
+            + "WHERE s.status = :status AND s.startAt < :before AND s.awaitingConfirmationSince IS NULL")
+    int markAwaitingConfirmation(@Param("status") Status status, @Param("before") LocalDateTime before,
+            @Param("markedAt") LocalDateTime markedAt);
+
+    /**
+     * Ocorrências já gravadas das séries informadas, pela data original.
+     */
+    interface SeriesOccurrenceRow {
+        Long getId();
+        Long getSeriesId();
+        LocalDate getOccurrenceDate();
+        LocalDate getDate();
+        LocalTime getTime();
+        Status getStatus();
+        String getMeetingTopic();
+        String getLocation();
+    }
+
+    @Query("SELECT s.id AS id, s.seriesId AS seriesId, s.occurrenceDate AS occurrenceDate, s.date AS date, "
+            + "s.time AS time, s.status AS status, s.meetingTopic AS meetingTopic, s.location AS location "
+            + "FROM Session s WHERE s.seriesId IN :seriesIds AND s.occurrenceDate BETWEEN :from AND :to")
+    List<SeriesOccurrenceRow> findSeriesOccurrences(@Param("seriesIds") Collection<Long> seriesIds,
+            @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    Optional<Session> findBySeriesIdAndOccurrenceDate(Long seriesId, LocalDate occurrenceDate);
+
+    @Query("SELECT s.startAt FROM Session s WHERE s.id = :id")
+    Optional<LocalDateTime> findStartAtById(@Param("id") Long id);
+
+    /**
+     * Sessões gravadas antes da coluna start_at existir.
+     */
+    List<Session> findByStartAtIsNull(Limit limit);
+
+    /**
+     * Página da listagem por cursor: as sessões com ID maior que {@code afterId},
+     * lidas direto para o DTO, sem carregar mentor e mentorado.
+     */
+    @Query("SELECT new br.edu.ufape.plataforma.mentoria.dto.SessionDTO(s.id, s.mentor.id, s.mentored.id, "
+            + "s.date, s.time, s.meetingTopic, s.status, s.location) "
+            + "FROM Session s WHERE s.id > :afterId ORDER BY s.id")
+    List<SessionDTO> findPageAfter(@Param("afterId") long afterId, Limit limit);
 }
@@ -0,0 +1,27 @@
+package br.edu.ufape.plataforma.mentoria.repository;
+
+import br.edu.ufape.plataforma.mentoria.model.SessionSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SessionSeriesRepository extends JpaRepository<SessionSeries, Long> {
+
+    /**
+     * Séries do mentor com alguma data entre {@code from} e {@code to}.
+     */
+    @Query("SELECT s FROM SessionSeries s WHERE s.mentor.id = :mentorId "
+            + "AND s.firstDate <= :to AND s.lastDate >= :from")
+    List<SessionSeries> findMentorSeriesBetween(@Param("mentorId") Long mentorId, @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Query("SELECT s FROM SessionSeries s WHERE s.mentored.id = :mentoredId "
+            + "AND s.firstDate <= :to AND s.lastDate >= :from")
+    List<SessionSeries> findMentoredSeriesBetween(@Param("mentoredId") Long mentoredId,
+            @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,13 @@
+package br.edu.ufape.plataforma.mentoria.repository;
+
+import br.edu.ufape.plataforma.mentoria.model.SessionStatusChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SessionStatusChangeRepository extends JpaRepository<SessionStatusChange, Long> {
+
+    List<SessionStatusChange> findBySessionIdOrderByIdAsc(Long sessionId);
+}
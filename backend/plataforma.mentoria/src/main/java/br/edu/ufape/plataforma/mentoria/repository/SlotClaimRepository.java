@@ -0,0 +1,19 @@
+package br.edu.ufape.plataforma.mentoria.repository;
+
+import br.edu.ufape.plataforma.mentoria.model.SlotClaim;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SlotClaimRepository extends JpaRepository<SlotClaim, Long> {
+
+    /**
+     * Libera as faixas ocupadas por uma sessão.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM SlotClaim c WHERE c.sessionId = :sessionId")
+    int deleteBySessionId(@Param("sessionId") Long sessionId);
+}
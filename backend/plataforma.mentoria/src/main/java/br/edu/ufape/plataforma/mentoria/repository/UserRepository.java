@@ -1,13 +1,44 @@
 package br.edu.ufape.plataforma.mentoria.repository;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
 import br.edu.ufape.plataforma.mentoria.model.User;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long>{
 
     User findByEmail(String email);
-    
-}
 
+    /**
+     * ID e papel do dono de um token de feed de calendário.
+     */
+    interface CalendarOwnerRow {
+        Long getId();
+        UserRole getRole();
+    }
+
+    @Query("SELECT u.id AS id, u.role AS role FROM User u WHERE u.calendarToken = :token")
+    Optional<CalendarOwnerRow> findByCalendarToken(@Param("token") String token);
+
+    @Query("SELECT u.calendarToken FROM User u WHERE u.id = :id")
+    Optional<String> findCalendarTokenById(@Param("id") Long id);
+
+    /**
+     * Grava o token só se o usuário ainda não tem um, para que duas primeiras
+     * consultas simultâneas devolvam o mesmo endereço.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.calendarToken = :token WHERE u.id = :id AND u.calendarToken IS NULL")
+    int setCalendarTokenIfAbsent(@Param("id") Long id, @Param("token") String token);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.calendarToken = :token WHERE u.id = :id")
+    int updateCalendarToken(@Param("id") Long id, @Param("token") String token);
+
+}
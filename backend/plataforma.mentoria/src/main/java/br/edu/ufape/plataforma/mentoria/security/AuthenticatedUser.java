@@ -0,0 +1,63 @@
+package br.edu.ufape.plataforma.mentoria.security;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+
+/**
+ * Principal leve montado a partir das claims de um token JWT já verificado.
+ * Evita carregar a entidade {@link br.edu.ufape.plataforma.mentoria.model.User}
+ * do banco a cada requisição autenticada.
+ */
+public class AuthenticatedUser implements UserDetails {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+    private final String email;
+    private final UserRole role;
+
+    public AuthenticatedUser(Long id, String email, UserRole role) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public String getPassword() {
+        // O token já foi verificado; a senha nunca é necessária aqui
+        return null;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        if (this.role == UserRole.MENTOR) {
+            return List.of(new SimpleGrantedAuthority("ROLE_MENTOR"));
+        } else {
+            return List.of(new SimpleGrantedAuthority("ROLE_MENTORADO"));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser [email=" + email + ", id=" + id + ", role=" + role + "]";
+    }
+}
@@ -18,6 +18,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import br.edu.ufape.plataforma.mentoria.util.CursorPagination;
 import java.util.Arrays;
 
 @Configuration
@@ -53,6 +54,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.PUT, MENTOR_PATH, MENTORED_PATH).authenticated()
                         .requestMatchers(HttpMethod.DELETE, MENTOR_PATH, MENTORED_PATH).authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/avaliacoes").hasRole("ADMIN")
+                        // O feed em si é público, protegido pelo token no endereço
+                        .requestMatchers("/api/calendar/token").authenticated()
                         .anyRequest().permitAll())
                 .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
@@ -81,6 +84,7 @@ public class SecurityConfig {
                 "https://plataforma-de-mentoria-frontend.onrender.com"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList(CursorPagination.NEXT_CURSOR_HEADER));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
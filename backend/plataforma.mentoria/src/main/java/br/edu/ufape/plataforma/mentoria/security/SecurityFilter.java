@@ -4,11 +4,9 @@ import java.io.IOException;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import br.edu.ufape.plataforma.mentoria.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,11 +16,9 @@ import jakarta.servlet.http.HttpServletResponse;
 public class SecurityFilter extends OncePerRequestFilter {
 
     private final TokenService tokenService;
-    private final UserRepository userRepository;
 
-    public SecurityFilter(TokenService tokenService, UserRepository userRepository) {
+    public SecurityFilter(TokenService tokenService) {
         this.tokenService = tokenService;
-        this.userRepository = userRepository;
     }
 
     @SuppressWarnings("null")
@@ -32,14 +28,12 @@ public class SecurityFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         var token = this.recoverToken(request);
         if (token != null) {
-            var login = this.tokenService.validateToken(token);
-            if (login != null && !login.isEmpty()) {
-                UserDetails userDetails = this.userRepository.findByEmail(login);
-                if (userDetails != null) {  
-                    var auth = new UsernamePasswordAuthenticationToken(userDetails, null, 
-                        userDetails.getAuthorities());
-                    SecurityContextHolder.getContext().setAuthentication(auth);
-                }
+            // O principal vem das claims do token verificado: nenhuma consulta ao banco por requisição
+            AuthenticatedUser principal = this.tokenService.recoverPrincipal(token);
+            if (principal != null) {
+                var auth = new UsernamePasswordAuthenticationToken(principal, null,
+                    principal.getAuthorities());
+                SecurityContextHolder.getContext().setAuthentication(auth);
             }
         }
         filterChain.doFilter(request, response);
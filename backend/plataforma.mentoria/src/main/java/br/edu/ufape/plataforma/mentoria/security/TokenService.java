@@ -1,24 +1,59 @@
 package br.edu.ufape.plataforma.mentoria.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
 import br.edu.ufape.plataforma.mentoria.exceptions.TokenCreationException;
 import br.edu.ufape.plataforma.mentoria.model.User;
 
 @Service
-public class TokenService {
+public class TokenService implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenService.class);
 
     @Value("${api.security.token.secret}")
     private String secret;
-    
+
+    // Quantidade máxima de tokens verificados mantidos em memória
+    @Value("${api.security.token.cache-size:10000}")
+    private int cacheSize = 10000;
+
+    // O JWTVerifier é imutável e thread-safe: é construído uma única vez e reutilizado
+    private volatile JWTVerifier verifier;
+
+    // Tokens já verificados, indexados pelo SHA-256 do token e válidos até o "exp"
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    private record VerifiedToken(String subject, AuthenticatedUser principal, long expiresAtMillis) {
+    }
+
     public String generateToken(User user) {
         try {
             Algorithm algorithm = Algorithm.HMAC256(this.secret);
@@ -35,18 +70,152 @@ public class TokenService {
     }
 
     public String validateToken(String token) {
+        VerifiedToken verifiedToken = this.verifyCached(token);
+        return verifiedToken != null ? verifiedToken.subject() : null;
+    }
+
+    /**
+     * Verifica o token e monta o principal diretamente a partir das claims
+     * {@code userId} e {@code role}, sem consultar o banco de dados.
+     *
+     * @param token O token JWT recebido no header Authorization.
+     * @return O principal autenticado, ou {@code null} se o token for inválido
+     *         ou não possuir as claims esperadas.
+     */
+    public AuthenticatedUser recoverPrincipal(String token) {
+        VerifiedToken verifiedToken = this.verifyCached(token);
+        return verifiedToken != null ? verifiedToken.principal() : null;
+    }
+
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    public int getCacheSize() {
+        return verifiedTokens.size();
+    }
+
+    /**
+     * Publica os acertos, as faltas e o tamanho do cache de tokens como
+     * métricas ({@code /actuator/metrics/auth.token.cache.*}).
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.token.cache.requests", cacheHits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Verificações de token atendidas pelo cache")
+                .register(registry);
+        FunctionCounter.builder("auth.token.cache.requests", cacheMisses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Verificações de token que checaram a assinatura")
+                .register(registry);
+        Gauge.builder("auth.token.cache.size", verifiedTokens, Map::size)
+                .description("Tokens verificados mantidos em memória")
+                .register(registry);
+    }
+
+    /**
+     * Consulta o cache de tokens verificados antes de checar a assinatura.
+     * Uma entrada só é reaproveitada enquanto o token não expirou.
+     */
+    private VerifiedToken verifyCached(String token) {
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = verifiedTokens.get(key);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > now) {
+                cacheHits.increment();
+                return cached;
+            }
+            verifiedTokens.remove(key, cached);
+        }
+        cacheMisses.increment();
+
+        DecodedJWT decodedJWT = this.verify(token);
+        if (decodedJWT == null) {
+            return null;
+        }
+
+        Date expiresAt = decodedJWT.getExpiresAt();
+        VerifiedToken verifiedToken = new VerifiedToken(decodedJWT.getSubject(), toPrincipal(decodedJWT),
+                expiresAt != null ? expiresAt.getTime() : now);
+        if (expiresAt != null) {
+            this.store(key, verifiedToken, now);
+        }
+        return verifiedToken;
+    }
+
+    private void store(String key, VerifiedToken verifiedToken, long now) {
+        if (verifiedTokens.size() >= cacheSize) {
+            verifiedTokens.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+        }
+        if (verifiedTokens.size() >= cacheSize) {
+            // Cache cheio apenas de tokens válidos: descarta uma fração arbitrária das entradas
+            int target = cacheSize - Math.max(1, cacheSize / 10);
+            Iterator<String> iterator = verifiedTokens.keySet().iterator();
+            while (verifiedTokens.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+            logger.debug("Cache de tokens cheio. Hits: {}, misses: {}", getCacheHits(), getCacheMisses());
+        }
+        verifiedTokens.put(key, verifiedToken);
+    }
+
+    private AuthenticatedUser toPrincipal(DecodedJWT decodedJWT) {
+        String email = decodedJWT.getSubject();
+        Long userId = decodedJWT.getClaim("userId").asLong();
+        String role = decodedJWT.getClaim("role").asString();
+        if (email == null || email.isEmpty() || userId == null || role == null) {
+            return null;
+        }
+
         try {
-            Algorithm algorithm = Algorithm.HMAC256(this.secret);
-            return JWT.require(algorithm)
-                    .withIssuer("Mentoria")
-                    .build()
-                    .verify(token)
-                    .getSubject();
+            return new AuthenticatedUser(userId, email, UserRole.valueOf(role));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private DecodedJWT verify(String token) {
+        try {
+            return this.getVerifier().verify(token);
         } catch (JWTVerificationException e) {
             return null;
         }
     }
 
+    private JWTVerifier getVerifier() {
+        JWTVerifier current = this.verifier;
+        if (current == null) {
+            synchronized (this) {
+                current = this.verifier;
+                if (current == null) {
+                    current = JWT.require(Algorithm.HMAC256(this.secret))
+                            .withIssuer("Mentoria")
+                            .build();
+                    this.verifier = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não disponível", e);
+        }
+    }
+
     private Instant getExpirationAt() {
         return Instant.now().plusSeconds(7200);
     }
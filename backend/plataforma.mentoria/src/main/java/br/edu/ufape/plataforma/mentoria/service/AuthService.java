@@ -3,7 +3,9 @@ package br.edu.ufape.plataforma.mentoria.service;
 import br.edu.ufape.plataforma.mentoria.model.User;
 import br.edu.ufape.plataforma.mentoria.dto.UserDTO;
 import br.edu.ufape.plataforma.mentoria.repository.UserRepository;
+import br.edu.ufape.plataforma.mentoria.security.AuthenticatedUser;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -42,12 +44,41 @@ public class AuthService implements UserDetailsService {
 
     }
 
+    /**
+     * Carrega a entidade {@link User} do usuário autenticado. Só deve ser usado
+     * quando o chamador realmente precisa de campos além de id, e-mail e papel;
+     * para esses, prefira {@link #getCurrentUserId()}, que não consulta o banco.
+     */
     public User getCurrentUser() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        if (email.isEmpty()) {
+        Authentication authentication = this.getAuthentication();
+        if (authentication.getPrincipal() instanceof User user) {
+            return user;
+        }
+        return this.userRepository.findByEmail(authentication.getName());
+    }
+
+    /**
+     * Retorna o ID do usuário autenticado a partir das claims do token, sem
+     * acessar o banco. Só carrega a entidade quando o principal não as possui.
+     */
+    public Long getCurrentUserId() {
+        Authentication authentication = this.getAuthentication();
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.getId();
+        }
+        User user = this.getCurrentUser();
+        if (user == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Usuário não autenticado");
+        }
+        return user.getId();
+    }
+
+    private Authentication getAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getName().isEmpty()) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Usuário não autenticado");
         }
-        return this.userRepository.findByEmail(email);
+        return authentication;
     }
 
 }
@@ -0,0 +1,294 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.AvailabilityWindowDTO;
+import br.edu.ufape.plataforma.mentoria.dto.AvailableSlotDTO;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.event.SessionScheduleChangedEvent;
+import br.edu.ufape.plataforma.mentoria.exceptions.BusinessException;
+import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
+import br.edu.ufape.plataforma.mentoria.exceptions.SlotUnavailableException;
+import br.edu.ufape.plataforma.mentoria.model.AvailabilityWindow;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.model.Session;
+import br.edu.ufape.plataforma.mentoria.model.SessionSeries;
+import br.edu.ufape.plataforma.mentoria.model.SlotClaim;
+import br.edu.ufape.plataforma.mentoria.repository.AvailabilityWindowRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SessionRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SessionSeriesRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SlotClaimRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Janelas de disponibilidade dos mentores, busca de horários livres e reserva
+ * de horários pelas sessões. Toda sessão dura {@link #SESSION_LENGTH}; uma
+ * sessão em aberto ocupa, nas agendas do mentor e do mentorado, as faixas de
+ * meia hora que o seu intervalo toca. As ocorrências ainda não materializadas
+ * das séries não reservam faixas, mas também ocupam o horário: elas são
+ * expandidas no intervalo verificado.
+ */
+@Service
+public class AvailabilityService {
+
+    public static final Duration SESSION_LENGTH = Duration.ofMinutes(60);
+    public static final int MAX_SEARCH_DAYS = 31;
+    private static final int DEFAULT_SEARCH_DAYS = 14;
+    private static final int CLAIM_MINUTES = 30;
+
+    private static final Comparator<AvailabilityWindow> WINDOW_ORDER = Comparator
+            .comparing(AvailabilityWindow::getDayOfWeek)
+            .thenComparing(AvailabilityWindow::getStartTime);
+
+    private final AvailabilityWindowRepository windowRepository;
+    private final SlotClaimRepository slotClaimRepository;
+    private final MentorRepository mentorRepository;
+    private final SessionSeriesRepository seriesRepository;
+    private final SessionRepository sessionRepository;
+    private final SessionIntervalIndex intervalIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Uma ocorrência de série, identificada pela série e pela data prevista.
+     */
+    public record SeriesOccurrence(Long seriesId, LocalDate occurrenceDate) {
+    }
+
+    public AvailabilityService(AvailabilityWindowRepository windowRepository,
+            SlotClaimRepository slotClaimRepository,
+            MentorRepository mentorRepository,
+            SessionSeriesRepository seriesRepository,
+            SessionRepository sessionRepository,
+            SessionIntervalIndex intervalIndex,
+            ApplicationEventPublisher eventPublisher) {
+        this.windowRepository = windowRepository;
+        this.slotClaimRepository = slotClaimRepository;
+        this.mentorRepository = mentorRepository;
+        this.seriesRepository = seriesRepository;
+        this.sessionRepository = sessionRepository;
+        this.intervalIndex = intervalIndex;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(readOnly = true)
+    public List<AvailabilityWindowDTO> getWindows(Long mentorId) {
+        return windowRepository.findByMentorId(mentorId).stream()
+                .sorted(WINDOW_ORDER)
+                .map(window -> new AvailabilityWindowDTO(window.getDayOfWeek(), window.getStartTime(),
+                        window.getEndTime()))
+                .toList();
+    }
+
+    /**
+     * Substitui as janelas do mentor do usuário. Sessões já marcadas não são
+     * afetadas.
+     */
+    @Transactional
+    public List<AvailabilityWindowDTO> replaceWindows(Long userId, List<AvailabilityWindowDTO> windows) {
+        Long mentorId = mentorRepository.findIdByUserId(userId)
+                .orElseThrow(() -> new EntityNotFoundException(Mentor.class, userId));
+
+        List<AvailabilityWindowDTO> sorted = new ArrayList<>(windows);
+        sorted.sort(Comparator.comparing(AvailabilityWindowDTO::getDayOfWeek)
+                .thenComparing(AvailabilityWindowDTO::getStartTime));
+        for (int i = 0; i < sorted.size(); i++) {
+            AvailabilityWindowDTO window = sorted.get(i);
+            if (Duration.between(window.getStartTime(), window.getEndTime()).compareTo(SESSION_LENGTH) < 0) {
+                throw new BusinessException("A janela de " + window.getDayOfWeek()
+                        + " deve comportar ao menos uma sessão.");
+            }
+            AvailabilityWindowDTO previous = i > 0 ? sorted.get(i - 1) : null;
+            if (previous != null && previous.getDayOfWeek() == window.getDayOfWeek()
+                    && previous.getEndTime().isAfter(window.getStartTime())) {
+                throw new BusinessException("As janelas de " + window.getDayOfWeek() + " se sobrepõem.");
+            }
+        }
+
+        windowRepository.deleteByMentorId(mentorId);
+        Mentor mentor = mentorRepository.getReferenceById(mentorId);
+        windowRepository.saveAll(sorted.stream()
+                .map(window -> new AvailabilityWindow(mentor, window.getDayOfWeek(), window.getStartTime(),
+                        window.getEndTime()))
+                .toList());
+        return sorted;
+    }
+
+    /**
+     * Horários livres do mentor entre as datas informadas, no máximo
+     * {@value #MAX_SEARCH_DAYS} dias a partir de {@code from}. Horários já
+     * passados e os que se sobrepõem a uma sessão em aberto ou a uma ocorrência
+     * de série ficam de fora.
+     */
+    @Transactional(readOnly = true)
+    public List<AvailableSlotDTO> findFreeSlots(Long mentorId, LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        LocalDate first = from != null && from.isAfter(today) ? from : today;
+        LocalDate last = to != null ? to : first.plusDays(DEFAULT_SEARCH_DAYS - 1L);
+        if (last.isAfter(first.plusDays(MAX_SEARCH_DAYS - 1L))) {
+            last = first.plusDays(MAX_SEARCH_DAYS - 1L);
+        }
+
+        List<AvailabilityWindow> windows = new ArrayList<>(windowRepository.findByMentorId(mentorId));
+        windows.sort(WINDOW_ORDER);
+        LocalDateTime now = LocalDateTime.now();
+        NavigableSet<LocalDateTime> occurrences = seriesOccurrenceStarts(mentorId, UserRole.MENTOR,
+                first.minusDays(1), last.plusDays(1), null);
+
+        List<AvailableSlotDTO> slots = new ArrayList<>();
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            for (AvailabilityWindow window : windows) {
+                if (window.getDayOfWeek() != date.getDayOfWeek()) {
+                    continue;
+                }
+                LocalDateTime end = date.atTime(window.getEndTime());
+                for (LocalDateTime start = date.atTime(window.getStartTime());
+                        !start.plus(SESSION_LENGTH).isAfter(end); start = start.plus(SESSION_LENGTH)) {
+                    if (start.isAfter(now) && !overlapsAny(occurrences, start)
+                            && !intervalIndex.overlaps(mentorId, UserRole.MENTOR, start, SESSION_LENGTH, null)) {
+                        slots.add(new AvailableSlotDTO(start.toLocalDate(), start.toLocalTime()));
+                    }
+                }
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Verifica, sem gravar nada, se o horário cabe nas janelas do mentor e não
+     * se sobrepõe a outra sessão em aberto ou ocorrência de série do mentor ou
+     * do mentorado. Deve ser chamado antes de gravar a sessão, para que o
+     * índice não leia a própria sessão ainda não confirmada.
+     *
+     * @throws SlotUnavailableException se o horário estiver fora das janelas
+     *                                  do mentor ou já estiver ocupado.
+     */
+    @Transactional(readOnly = true)
+    public void checkAvailable(Long mentorId, Long mentoredId, LocalDate date, LocalTime time,
+            Long ignoredSessionId) {
+        checkAvailable(mentorId, mentoredId, date, time, ignoredSessionId, null);
+    }
+
+    /**
+     * Como {@link #checkAvailable(Long, Long, LocalDate, LocalTime, Long)},
+     * desconsiderando também a ocorrência de série que está sendo materializada.
+     */
+    @Transactional(readOnly = true)
+    public void checkAvailable(Long mentorId, Long mentoredId, LocalDate date, LocalTime time,
+            Long ignoredSessionId, SeriesOccurrence ignoredOccurrence) {
+        LocalDateTime start = date.atTime(time);
+
+        List<AvailabilityWindow> windows = windowRepository.findByMentorId(mentorId);
+        // Mentores sem janelas publicadas continuam aceitando qualquer horário
+        if (!windows.isEmpty() && windows.stream().noneMatch(window -> fits(window, start))) {
+            throw new SlotUnavailableException("O horário está fora da disponibilidade do mentor.");
+        }
+        if (intervalIndex.overlaps(mentorId, UserRole.MENTOR, start, SESSION_LENGTH, ignoredSessionId)
+                || overlapsAny(seriesOccurrenceStarts(mentorId, UserRole.MENTOR, date.minusDays(1), date.plusDays(1),
+                        ignoredOccurrence), start)) {
+            throw new SlotUnavailableException("O mentor já tem uma sessão nesse horário.");
+        }
+        if (intervalIndex.overlaps(mentoredId, UserRole.MENTORADO, start, SESSION_LENGTH, ignoredSessionId)
+                || overlapsAny(seriesOccurrenceStarts(mentoredId, UserRole.MENTORADO, date.minusDays(1),
+                        date.plusDays(1), ignoredOccurrence), start)) {
+            throw new SlotUnavailableException("O mentorado já tem uma sessão nesse horário.");
+        }
+    }
+
+    /**
+     * Ocupa o horário da sessão nas agendas do mentor e do mentorado. A
+     * restrição única das faixas recusa as reservas simultâneas que passaram
+     * por {@link #checkAvailable}. Deve ser chamado dentro da transação que
+     * grava a sessão.
+     *
+     * @throws SlotUnavailableException se alguma faixa já estiver ocupada.
+     */
+    @Transactional
+    public void claim(Session session) {
+        LocalDateTime start = session.getDate().atTime(session.getTime());
+        Long mentorId = session.getMentor().getId();
+        Long mentoredId = session.getMentored().getId();
+
+        List<SlotClaim> claims = new ArrayList<>();
+        LocalDateTime end = start.plus(SESSION_LENGTH);
+        LocalDateTime slot = start.truncatedTo(ChronoUnit.HOURS)
+                .plusMinutes(start.getMinute() / CLAIM_MINUTES * CLAIM_MINUTES);
+        for (; slot.isBefore(end); slot = slot.plusMinutes(CLAIM_MINUTES)) {
+            claims.add(new SlotClaim(mentorId, UserRole.MENTOR, slot, session.getId()));
+            claims.add(new SlotClaim(mentoredId, UserRole.MENTORADO, slot, session.getId()));
+        }
+        try {
+            slotClaimRepository.saveAllAndFlush(claims);
+        } catch (DataIntegrityViolationException e) {
+            throw new SlotUnavailableException("O horário acabou de ser reservado por outra sessão.");
+        }
+        eventPublisher.publishEvent(new SessionScheduleChangedEvent(session.getId(), mentorId, mentoredId));
+    }
+
+    /**
+     * Libera os horários ocupados pela sessão.
+     */
+    @Transactional
+    public void release(Session session) {
+        if (slotClaimRepository.deleteBySessionId(session.getId()) > 0) {
+            eventPublisher.publishEvent(new SessionScheduleChangedEvent(session.getId(),
+                    session.getMentor().getId(), session.getMentored().getId()));
+        }
+    }
+
+    /**
+     * Inícios das ocorrências das séries da agenda entre as datas que ainda
+     * não foram gravadas como sessão. As já materializadas seguem a sessão,
+     * que pode ter sido remarcada ou cancelada, e aparecem no índice.
+     */
+    private NavigableSet<LocalDateTime> seriesOccurrenceStarts(Long profileId, UserRole profileRole, LocalDate from,
+            LocalDate to, SeriesOccurrence ignoredOccurrence) {
+        List<SessionSeries> seriesList = profileRole == UserRole.MENTOR
+                ? seriesRepository.findMentorSeriesBetween(profileId, from, to)
+                : seriesRepository.findMentoredSeriesBetween(profileId, from, to);
+        NavigableSet<LocalDateTime> starts = new TreeSet<>();
+        if (seriesList.isEmpty()) {
+            return starts;
+        }
+
+        Set<SeriesOccurrence> materialized = new HashSet<>();
+        for (SessionRepository.SeriesOccurrenceRow row : sessionRepository.findSeriesOccurrences(
+                seriesList.stream().map(SessionSeries::getId).toList(), from, to)) {
+            materialized.add(new SeriesOccurrence(row.getSeriesId(), row.getOccurrenceDate()));
+        }
+        for (SessionSeries series : seriesList) {
+            for (LocalDate date : SessionSeriesService.occurrenceDates(series, from, to)) {
+                SeriesOccurrence occurrence = new SeriesOccurrence(series.getId(), date);
+                if (!occurrence.equals(ignoredOccurrence) && !materialized.contains(occurrence)) {
+                    starts.add(date.atTime(series.getTime()));
+                }
+            }
+        }
+        return starts;
+    }
+
+    private static boolean overlapsAny(NavigableSet<LocalDateTime> starts, LocalDateTime start) {
+        return !starts.subSet(start.minus(SESSION_LENGTH), false, start.plus(SESSION_LENGTH), false).isEmpty();
+    }
+
+    private static boolean fits(AvailabilityWindow window, LocalDateTime start) {
+        LocalDate date = start.toLocalDate();
+        return window.getDayOfWeek() == date.getDayOfWeek()
+                && !start.isBefore(date.atTime(window.getStartTime()))
+                && !start.plus(SESSION_LENGTH).isAfter(date.atTime(window.getEndTime()));
+    }
+}
@@ -0,0 +1,302 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.event.SessionDeletedEvent;
+import br.edu.ufape.plataforma.mentoria.event.SessionSavedEvent;
+import br.edu.ufape.plataforma.mentoria.event.SessionStatusChangedEvent;
+import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.model.Session;
+import br.edu.ufape.plataforma.mentoria.model.User;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SessionRepository;
+import br.edu.ufape.plataforma.mentoria.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Feeds iCalendar (ICS) com as sessões de cada mentor e mentorado, para
+ * assinatura em aplicativos de calendário. Cada feed é gerado uma vez e fica
+ * em memória, junto do seu ETag, até que uma sessão do usuário mude; as
+ * consultas repetidas dos clientes não acessam o banco. O conteúdo depende
+ * apenas das sessões, então o mesmo calendário sempre tem o mesmo ETag.
+ */
+@Service
+public class CalendarFeedService {
+
+    private static final DateTimeFormatter UTC_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    // 256 bits aleatórios: o token é a única proteção do feed
+    private static final int TOKEN_BYTES = 32;
+
+    /**
+     * Feed gerado e o seu ETag, já entre aspas.
+     */
+    public record CalendarFeed(String content, String etag) {
+    }
+
+    private record FeedKey(Long profileId, UserRole profileRole) {
+    }
+
+    /**
+     * Feed em cache de um usuário, ou {@code null} se ainda não foi gerado. A
+     * geração muda a cada invalidação, para que um feed consultado antes dela
+     * não seja guardado depois.
+     */
+    private record CachedFeed(long generation, CalendarFeed feed) {
+    }
+
+    private final Map<FeedKey, CachedFeed> feeds = new ConcurrentHashMap<>();
+    private final SessionRepository sessionRepository;
+    private final MentorRepository mentorRepository;
+    private final MentoredRepository mentoredRepository;
+    private final UserRepository userRepository;
+    private final SecureRandom random = new SecureRandom();
+    private final ZoneId zone;
+
+    public CalendarFeedService(SessionRepository sessionRepository, MentorRepository mentorRepository,
+            MentoredRepository mentoredRepository, UserRepository userRepository,
+            @Value("${app.calendar.zone:America/Recife}") String zone) {
+        this.sessionRepository = sessionRepository;
+        this.mentorRepository = mentorRepository;
+        this.mentoredRepository = mentoredRepository;
+        this.userRepository = userRepository;
+        this.zone = ZoneId.of(zone);
+    }
+
+    /**
+     * Feed do perfil do dono do token. Um token desconhecido, inclusive um já
+     * substituído, é tratado como feed inexistente.
+     */
+    public CalendarFeed getFeedByToken(String token) {
+        UserRepository.CalendarOwnerRow owner = userRepository.findByCalendarToken(token)
+                .orElseThrow(() -> new EntityNotFoundException("Feed de calendário não encontrado."));
+        if (owner.getRole() == UserRole.MENTOR) {
+            return getMentorFeed(mentorRepository.findIdByUserId(owner.getId())
+                    .orElseThrow(() -> new EntityNotFoundException(Mentor.class, owner.getId())));
+        }
+        return getMentoredFeed(mentoredRepository.findIdByUserId(owner.getId())
+                .orElseThrow(() -> new EntityNotFoundException(Mentored.class, owner.getId())));
+    }
+
+    /**
+     * Token do feed do usuário, gerado na primeira consulta.
+     */
+    @Transactional
+    public String getToken(Long userId) {
+        Optional<String> token = userRepository.findCalendarTokenById(userId);
+        if (token.isPresent()) {
+            return token.get();
+        }
+        // Se outra consulta gravou primeiro, vale o token dela
+        userRepository.setCalendarTokenIfAbsent(userId, newToken());
+        return userRepository.findCalendarTokenById(userId)
+                .orElseThrow(() -> new EntityNotFoundException(User.class, userId));
+    }
+
+    /**
+     * Substitui o token do feed. O endereço antigo deixa de funcionar na hora.
+     */
+    @Transactional
+    public String rotateToken(Long userId) {
+        String token = newToken();
+        if (userRepository.updateCalendarToken(userId, token) == 0) {
+            throw new EntityNotFoundException(User.class, userId);
+        }
+        return token;
+    }
+
+    public CalendarFeed getMentorFeed(Long mentorId) {
+        FeedKey key = new FeedKey(mentorId, UserRole.MENTOR);
+        CachedFeed cached = feeds.get(key);
+        if (cached != null && cached.feed() != null) {
+            return cached.feed();
+        }
+        if (!mentorRepository.existsById(mentorId)) {
+            throw new EntityNotFoundException(Mentor.class, mentorId);
+        }
+        return store(key, cached, render(sessionRepository.findByMentorId(mentorId)));
+    }
+
+    public CalendarFeed getMentoredFeed(Long mentoredId) {
+        FeedKey key = new FeedKey(mentoredId, UserRole.MENTORADO);
+        CachedFeed cached = feeds.get(key);
+        if (cached != null && cached.feed() != null) {
+            return cached.feed();
+        }
+        if (!mentoredRepository.existsById(mentoredId)) {
+            throw new EntityNotFoundException(Mentored.class, mentoredId);
+        }
+        return store(key, cached, render(sessionRepository.findByMentoredId(mentoredId)));
+    }
+
+    /**
+     * Guarda o feed gerado, a menos que o usuário tenha sido invalidado desde
+     * a leitura de {@code seen}: nesse caso a consulta pode ter visto dados
+     * antigos, e o feed é devolvido sem ir para o cache. A consulta fica fora
+     * do {@code compute}, que só compara a geração.
+     */
+    private CalendarFeed store(FeedKey key, CachedFeed seen, CalendarFeed rendered) {
+        long generation = seen != null ? seen.generation() : 0;
+        feeds.compute(key, (k, current) -> {
+            long currentGeneration = current != null ? current.generation() : 0;
+            if (currentGeneration != generation || (current != null && current.feed() != null)) {
+                return current;
+            }
+            return new CachedFeed(generation, rendered);
+        });
+        return rendered;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionSaved(SessionSavedEvent event) {
+        invalidate(event.mentorId(), event.mentoredId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionStatusChanged(SessionStatusChangedEvent event) {
+        invalidate(event.mentorId(), event.mentoredId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionDeleted(SessionDeletedEvent event) {
+        invalidate(event.mentorId(), event.mentoredId());
+    }
+
+    /**
+     * Descarta os feeds do mentor e do mentorado e avança as suas gerações, de
+     * modo que um feed que esteja sendo gerado agora não seja guardado.
+     */
+    private void invalidate(Long mentorId, Long mentoredId) {
+        invalidate(new FeedKey(mentorId, UserRole.MENTOR));
+        invalidate(new FeedKey(mentoredId, UserRole.MENTORADO));
+    }
+
+    private void invalidate(FeedKey key) {
+        feeds.compute(key, (k, current) -> new CachedFeed(current != null ? current.generation() + 1 : 1, null));
+    }
+
+    private CalendarFeed render(List<Session> sessions) {
+        StringBuilder ics = new StringBuilder();
+        line(ics, "BEGIN:VCALENDAR");
+        line(ics, "VERSION:2.0");
+        line(ics, "PRODID:-//UFAPE//Plataforma de Mentoria//PT");
+        line(ics, "CALSCALE:GREGORIAN");
+        line(ics, "METHOD:PUBLISH");
+        line(ics, "X-WR-CALNAME:Sessões de mentoria");
+
+        sessions.stream()
+                .sorted(Comparator.comparing(Session::getId))
+                .forEach(session -> {
+                    LocalDateTime start = session.getDate().atTime(session.getTime());
+                    line(ics, "BEGIN:VEVENT");
+                    line(ics, "UID:session-" + session.getId() + "@plataforma-mentoria");
+                    line(ics, "DTSTAMP:" + UTC_FORMAT.format(lastModified(session)));
+                    line(ics, "DTSTART:" + UTC_FORMAT.format(start.atZone(zone)));
+                    line(ics, "DTEND:" + UTC_FORMAT.format(start.plus(AvailabilityService.SESSION_LENGTH).atZone(zone)));
+                    line(ics, "SUMMARY:" + escape(session.getMeetingTopic()));
+                    line(ics, "LOCATION:" + escape(session.getLocation()));
+                    line(ics, "STATUS:" + eventStatus(session.getStatus()));
+                    line(ics, "END:VEVENT");
+                });
+
+        line(ics, "END:VCALENDAR");
+        String content = ics.toString();
+        return new CalendarFeed(content, "\"" + digest(content) + "\"");
+    }
+
+    /**
+     * Instante da última alteração da sessão, usado no DTSTAMP. As sessões
+     * gravadas antes da coluna updated_at usam o início da sessão, para que o
+     * conteúdo continue estável entre gerações do feed.
+     */
+    private ZonedDateTime lastModified(Session session) {
+        if (session.getUpdatedAt() != null) {
+            // updated_at é gravado no fuso do servidor
+            return session.getUpdatedAt().atZone(ZoneId.systemDefault());
+        }
+        return session.getDate().atTime(session.getTime()).atZone(zone);
+    }
+
+    private static String eventStatus(Status status) {
+        return switch (status) {
+            case PENDING -> "TENTATIVE";
+            case ACCEPTED, COMPLETED -> "CONFIRMED";
+            case REJECTED, CANCELLED -> "CANCELLED";
+        };
+    }
+
+    /**
+     * Escapa os caracteres especiais de um valor de texto (RFC 5545, 3.3.11).
+     */
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    /**
+     * Acrescenta a linha dobrada em no máximo {@value #MAX_LINE_OCTETS} octetos,
+     * sem partir caracteres multibyte (RFC 5545, 3.1).
+     */
+    static void line(StringBuilder ics, String content) {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8).length;
+            if (octets + size > MAX_LINE_OCTETS) {
+                ics.append(CRLF).append(' ');
+                // O espaço da continuação conta para o limite da nova linha
+                octets = 1;
+            }
+            ics.appendCodePoint(codePoint);
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        ics.append(CRLF);
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String digest(String content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.GroupSessionDTO;
+import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
+import br.edu.ufape.plataforma.mentoria.exceptions.GroupSessionFullException;
+import br.edu.ufape.plataforma.mentoria.exceptions.SlotUnavailableException;
+import br.edu.ufape.plataforma.mentoria.model.GroupSeat;
+import br.edu.ufape.plataforma.mentoria.model.GroupSession;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.repository.GroupSeatRepository;
+import br.edu.ufape.plataforma.mentoria.repository.GroupSessionRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Sessões em grupo e a reserva das suas vagas. A reserva não lê o contador
+ * para depois gravá-lo: um único UPDATE condicional decrementa as vagas
+ * livres, de modo que muitos mentorados reservando ao mesmo tempo nunca
+ * excedem a capacidade.
+ */
+@Service
+public class GroupSessionService {
+
+    private final GroupSessionRepository groupSessionRepository;
+    private final GroupSeatRepository seatRepository;
+    private final MentorRepository mentorRepository;
+    private final MentoredRepository mentoredRepository;
+
+    public GroupSessionService(GroupSessionRepository groupSessionRepository, GroupSeatRepository seatRepository,
+            MentorRepository mentorRepository, MentoredRepository mentoredRepository) {
+        this.groupSessionRepository = groupSessionRepository;
+        this.seatRepository = seatRepository;
+        this.mentorRepository = mentorRepository;
+        this.mentoredRepository = mentoredRepository;
+    }
+
+    @Transactional
+    public GroupSessionDTO createGroupSession(GroupSessionDTO groupSessionDTO) {
+        Mentor mentor = mentorRepository.findById(groupSessionDTO.getMentorId())
+                .orElseThrow(() -> new EntityNotFoundException(Mentor.class, groupSessionDTO.getMentorId()));
+        GroupSession groupSession = new GroupSession(mentor, groupSessionDTO.getDate(), groupSessionDTO.getTime(),
+                groupSessionDTO.getMeetingTopic(), groupSessionDTO.getLocation(), groupSessionDTO.getCapacity());
+        return toDTO(groupSessionRepository.save(groupSession));
+    }
+
+    @Transactional(readOnly = true)
+    public GroupSessionDTO getGroupSession(Long id) {
+        return toDTO(getGroupSessionById(id));
+    }
+
+    /**
+     * Próximas sessões em grupo do mentor, com as vagas livres de cada uma.
+     */
+    @Transactional(readOnly = true)
+    public List<GroupSessionDTO> getUpcomingByMentor(Long mentorId) {
+        return groupSessionRepository
+                .findByMentorIdAndDateGreaterThanEqualOrderByDateAscTimeAsc(mentorId, LocalDate.now()).stream()
+                .map(GroupSessionService::toDTO)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> getParticipants(Long id) {
+        getGroupSessionById(id);
+        return seatRepository.findMentoredIdsByGroupSessionId(id);
+    }
+
+    /**
+     * Reserva uma vaga para o mentorado. A vaga é gravada antes de o contador
+     * ser decrementado, para que a linha da sessão fique bloqueada só entre o
+     * UPDATE e o commit; se não houver vaga, a transação inteira é desfeita.
+     *
+     * @throws GroupSessionFullException se não houver mais vagas.
+     * @throws SlotUnavailableException  se o mentorado já tiver uma vaga.
+     */
+    @Transactional
+    public void bookSeat(Long id, Long mentoredId) {
+        if (!groupSessionRepository.existsById(id)) {
+            throw new EntityNotFoundException(GroupSession.class, id);
+        }
+        if (!mentoredRepository.existsById(mentoredId)) {
+            throw new EntityNotFoundException(Mentored.class, mentoredId);
+        }
+        try {
+            seatRepository.saveAndFlush(new GroupSeat(id, mentoredId));
+        } catch (DataIntegrityViolationException e) {
+            throw new SlotUnavailableException("O mentorado já tem uma vaga nesta sessão em grupo.");
+        }
+        if (groupSessionRepository.takeSeat(id) == 0) {
+            throw new GroupSessionFullException(id);
+        }
+    }
+
+    /**
+     * Libera a vaga do mentorado, se ele tiver uma.
+     */
+    @Transactional
+    public void cancelSeat(Long id, Long mentoredId) {
+        if (seatRepository.deleteSeat(id, mentoredId) > 0) {
+            groupSessionRepository.releaseSeat(id);
+        }
+    }
+
+    private GroupSession getGroupSessionById(Long id) {
+        return groupSessionRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(GroupSession.class, id));
+    }
+
+    private static GroupSessionDTO toDTO(GroupSession groupSession) {
+        GroupSessionDTO dto = new GroupSessionDTO(groupSession.getMentor().getId(), groupSession.getDate(),
+                groupSession.getTime(), groupSession.getMeetingTopic(), groupSession.getLocation(),
+                groupSession.getCapacity());
+        dto.setId(groupSession.getId());
+        dto.setAvailableSeats(groupSession.getAvailableSeats());
+        return dto;
+    }
+}
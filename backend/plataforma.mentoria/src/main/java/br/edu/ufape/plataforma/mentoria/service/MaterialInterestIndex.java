@@ -0,0 +1,276 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.event.MaterialChangedEvent;
+import br.edu.ufape.plataforma.mentoria.repository.MaterialRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Índice em memória das áreas de interesse dos materiais. Cada material é
+ * representado por uma máscara de bits ({@code 1L << ordinal}) e cada área
+ * por um array ordenado de IDs. Os dados ficam em um snapshot imutável,
+ * substituído por inteiro a cada alteração, então as leituras não usam lock.
+ */
+@Component
+public class MaterialInterestIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaterialInterestIndex.class);
+
+    // Ordem do listener de alterações: quem depende do índice escuta depois dele
+    public static final int LISTENER_ORDER = 0;
+
+    private static final InterestArea[] AREAS = InterestArea.values();
+
+    static {
+        if (AREAS.length > Long.SIZE) {
+            throw new IllegalStateException("InterestArea possui mais de 64 valores; a máscara não cabe em um long");
+        }
+    }
+
+    private final MaterialRepository materialRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * @param ids         IDs dos materiais, em ordem crescente.
+     * @param masks       Máscara de áreas de cada material, na mesma posição de {@code ids}.
+     * @param idsByArea   IDs ordenados de cada área, indexados pelo ordinal.
+     */
+    private record Snapshot(long[] ids, long[] masks, long[][] idsByArea) {
+    }
+
+    public MaterialInterestIndex(MaterialRepository materialRepository) {
+        this.materialRepository = materialRepository;
+    }
+
+    public static long toMask(Collection<InterestArea> areas) {
+        long mask = 0L;
+        if (areas != null) {
+            for (InterestArea area : areas) {
+                if (area != null) {
+                    mask |= 1L << area.ordinal();
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * IDs dos materiais que possuem ao menos uma das áreas da máscara, em
+     * ordem crescente.
+     */
+    public long[] findMatching(long queryMask) {
+        Snapshot current = getSnapshot();
+        if (queryMask == 0L) {
+            return new long[0];
+        }
+        if (Long.bitCount(queryMask) == 1) {
+            return current.idsByArea()[Long.numberOfTrailingZeros(queryMask)].clone();
+        }
+
+        long[] ids = current.ids();
+        long[] masks = current.masks();
+        long[] result = new long[ids.length];
+        int count = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if ((masks[i] & queryMask) != 0L) {
+                result[count++] = ids[i];
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Os {@code limit} IDs mais recentes (maiores) que possuem ao menos uma
+     * das áreas da máscara, do mais recente para o mais antigo.
+     */
+    public long[] findMostRecentMatching(long queryMask, int limit) {
+        Snapshot current = getSnapshot();
+        if (queryMask == 0L || limit <= 0) {
+            return new long[0];
+        }
+
+        long[] ids = current.ids();
+        long[] masks = current.masks();
+        long[] result = new long[Math.min(limit, ids.length)];
+        int count = 0;
+        for (int i = ids.length - 1; i >= 0 && count < result.length; i--) {
+            if ((masks[i] & queryMask) != 0L) {
+                result[count++] = ids[i];
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Máscara de áreas do material, ou 0 se ele não estiver no índice.
+     */
+    public long getMask(long materialId) {
+        Snapshot current = getSnapshot();
+        int position = Arrays.binarySearch(current.ids(), materialId);
+        return position >= 0 ? current.masks()[position] : 0L;
+    }
+
+    public int size() {
+        return getSnapshot().ids().length;
+    }
+
+    @Order(LISTENER_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMaterialChanged(MaterialChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.materialId());
+        } else {
+            put(event.materialId(), toMask(event.interestArea()));
+        }
+    }
+
+    public synchronized void put(long materialId, long mask) {
+        Snapshot current = getSnapshot();
+        long[] ids = current.ids();
+        long[] masks = current.masks();
+        int position = Arrays.binarySearch(ids, materialId);
+
+        long[] newIds;
+        long[] newMasks;
+        if (position >= 0) {
+            if (masks[position] == mask) {
+                return;
+            }
+            newIds = ids;
+            newMasks = masks.clone();
+            newMasks[position] = mask;
+        } else {
+            int insertAt = -position - 1;
+            newIds = insert(ids, insertAt, materialId);
+            newMasks = new long[masks.length + 1];
+            System.arraycopy(masks, 0, newMasks, 0, insertAt);
+            newMasks[insertAt] = mask;
+            System.arraycopy(masks, insertAt, newMasks, insertAt + 1, masks.length - insertAt);
+        }
+
+        long previousMask = position >= 0 ? masks[position] : 0L;
+        long[][] idsByArea = current.idsByArea().clone();
+        for (int ordinal = 0; ordinal < AREAS.length; ordinal++) {
+            long bit = 1L << ordinal;
+            boolean had = (previousMask & bit) != 0L;
+            boolean has = (mask & bit) != 0L;
+            if (had != has) {
+                idsByArea[ordinal] = has
+                        ? insertSorted(idsByArea[ordinal], materialId)
+                        : removeSorted(idsByArea[ordinal], materialId);
+            }
+        }
+
+        this.snapshot = new Snapshot(newIds, newMasks, idsByArea);
+    }
+
+    public synchronized void remove(long materialId) {
+        Snapshot current = getSnapshot();
+        int position = Arrays.binarySearch(current.ids(), materialId);
+        if (position < 0) {
+            return;
+        }
+
+        long mask = current.masks()[position];
+        long[][] idsByArea = current.idsByArea().clone();
+        for (int ordinal = 0; ordinal < AREAS.length; ordinal++) {
+            if ((mask & (1L << ordinal)) != 0L) {
+                idsByArea[ordinal] = removeSorted(idsByArea[ordinal], materialId);
+            }
+        }
+
+        this.snapshot = new Snapshot(removeAt(current.ids(), position), removeAt(current.masks(), position),
+                idsByArea);
+    }
+
+    /**
+     * Reconstrói o índice a partir do banco, corrigindo qualquer divergência
+     * causada por alterações feitas fora desta instância.
+     */
+    @Scheduled(fixedDelayString = "${app.materials.index.rebuild-interval-ms:1800000}",
+            initialDelayString = "${app.materials.index.rebuild-interval-ms:1800000}")
+    public synchronized void rebuild() {
+        Map<Long, Long> masksById = new HashMap<>();
+        for (MaterialRepository.InterestAreaRow row : materialRepository.findAllInterestAreaRows()) {
+            masksById.merge(row.getMaterialId(), 1L << row.getArea().ordinal(), (a, b) -> a | b);
+        }
+        for (Long id : materialRepository.findAllIds()) {
+            masksById.putIfAbsent(id, 0L);
+        }
+
+        long[] ids = masksById.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        long[] masks = new long[ids.length];
+        int[] areaCounts = new int[AREAS.length];
+        for (int i = 0; i < ids.length; i++) {
+            masks[i] = masksById.get(ids[i]);
+            for (long bits = masks[i]; bits != 0L; bits &= bits - 1) {
+                areaCounts[Long.numberOfTrailingZeros(bits)]++;
+            }
+        }
+
+        long[][] idsByArea = new long[AREAS.length][];
+        int[] filled = new int[AREAS.length];
+        for (int ordinal = 0; ordinal < AREAS.length; ordinal++) {
+            idsByArea[ordinal] = new long[areaCounts[ordinal]];
+        }
+        for (int i = 0; i < ids.length; i++) {
+            for (long bits = masks[i]; bits != 0L; bits &= bits - 1) {
+                int ordinal = Long.numberOfTrailingZeros(bits);
+                idsByArea[ordinal][filled[ordinal]++] = ids[i];
+            }
+        }
+
+        this.snapshot = new Snapshot(ids, masks, idsByArea);
+        logger.info("Índice de áreas de interesse dos materiais reconstruído com {} materiais", ids.length);
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = this.snapshot;
+                if (current == null) {
+                    rebuild();
+                    current = this.snapshot;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static long[] insertSorted(long[] array, long value) {
+        int position = Arrays.binarySearch(array, value);
+        return position >= 0 ? array : insert(array, -position - 1, value);
+    }
+
+    private static long[] removeSorted(long[] array, long value) {
+        int position = Arrays.binarySearch(array, value);
+        return position < 0 ? array : removeAt(array, position);
+    }
+
+    private static long[] insert(long[] array, int position, long value) {
+        long[] result = new long[array.length + 1];
+        System.arraycopy(array, 0, result, 0, position);
+        result[position] = value;
+        System.arraycopy(array, position, result, position + 1, array.length - position);
+        return result;
+    }
+
+    private static long[] removeAt(long[] array, int position) {
+        long[] result = new long[array.length - 1];
+        System.arraycopy(array, 0, result, 0, position);
+        System.arraycopy(array, position + 1, result, position, array.length - position - 1);
+        return result;
+    }
+}
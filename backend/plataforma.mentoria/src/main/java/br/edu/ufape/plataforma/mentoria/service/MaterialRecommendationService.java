@@ -0,0 +1,317 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.MaterialDTO;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.event.MaterialChangedEvent;
+import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
+import br.edu.ufape.plataforma.mentoria.mapper.MaterialMapper;
+import br.edu.ufape.plataforma.mentoria.model.Material;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.model.User;
+import br.edu.ufape.plataforma.mentoria.repository.MaterialRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
+import br.edu.ufape.plataforma.mentoria.repository.UserRepository;
+import br.edu.ufape.plataforma.mentoria.util.TopK;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranking de materiais sugeridos para um usuário. Cada material recebe uma
+ * nota que combina a sobreposição de áreas de interesse com o perfil, a
+ * recência, a popularidade (downloads) e o curso de quem o enviou. Os
+ * melhores resultados são mantidos em cache por usuário e invalidados
+ * quando algum material muda.
+ */
+@Service
+public class MaterialRecommendationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaterialRecommendationService.class);
+
+    public static final int MAX_RECOMMENDATIONS = 20;
+
+    // Pesos de cada sinal na nota final
+    private static final double OVERLAP_WEIGHT = 0.5;
+    private static final double RECENCY_WEIGHT = 0.2;
+    private static final double POPULARITY_WEIGHT = 0.2;
+    private static final double COURSE_WEIGHT = 0.1;
+
+    private final MaterialRepository materialRepository;
+    private final UserRepository userRepository;
+    private final MentorRepository mentorRepository;
+    private final MentoredRepository mentoredRepository;
+    private final MaterialInterestIndex interestIndex;
+    private final MaterialMapper materialMapper;
+    private final long cacheTtlMillis;
+
+    // Incrementado a cada alteração de material; invalida sinais e recomendações em cache
+    private final AtomicLong materialsVersion = new AtomicLong();
+    private volatile Features features;
+
+    private final Map<Long, CachedRecommendation> cache = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> pendingDownloads = new ConcurrentHashMap<>();
+
+    /**
+     * Sinais de todos os materiais em arrays paralelos, ordenados por ID.
+     * A recência é a posição do ID (materiais não possuem data de criação).
+     */
+    private record Features(long version, long[] ids, long[] masks, byte[] courses, double[] popularity) {
+    }
+
+    private record Profile(long interestMask, Course course) {
+    }
+
+    /**
+     * @param version         Versão dos materiais usada no cálculo.
+     * @param profileLoadedAt Quando o perfil foi lido do banco; define a validade da entrada.
+     */
+    private record CachedRecommendation(long version, long profileLoadedAt, Profile profile,
+            List<MaterialDTO> materials) {
+    }
+
+    public MaterialRecommendationService(MaterialRepository materialRepository,
+            UserRepository userRepository,
+            MentorRepository mentorRepository,
+            MentoredRepository mentoredRepository,
+            MaterialInterestIndex interestIndex,
+            MaterialMapper materialMapper,
+            @Value("${app.materials.recommendations.ttl-ms:600000}") long cacheTtlMillis) {
+        this.materialRepository = materialRepository;
+        this.userRepository = userRepository;
+        this.mentorRepository = mentorRepository;
+        this.mentoredRepository = mentoredRepository;
+        this.interestIndex = interestIndex;
+        this.materialMapper = materialMapper;
+        this.cacheTtlMillis = cacheTtlMillis;
+    }
+
+    /**
+     * Retorna os materiais mais relevantes para o usuário, do mais para o
+     * menos relevante. Enquanto nenhum material mudar e o cache não expirar,
+     * a resposta não consulta o banco.
+     */
+    @Transactional(readOnly = true)
+    public List<MaterialDTO> recommend(Long userId) {
+        long version = materialsVersion.get();
+        CachedRecommendation cached = cache.get(userId);
+        if (cached != null && cached.version() == version
+                && System.currentTimeMillis() - cached.profileLoadedAt() < cacheTtlMillis) {
+            return cached.materials();
+        }
+
+        Profile profile = loadProfile(userId);
+        return computeAndCache(userId, profile, System.currentTimeMillis(), version);
+    }
+
+    /**
+     * Conta um download completo. Os contadores são acumulados em memória e
+     * gravados periodicamente, evitando uma escrita no banco por download.
+     */
+    public void recordDownload(Long materialId) {
+        pendingDownloads.computeIfAbsent(materialId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Grava os downloads acumulados. Como a popularidade entra na nota, as
+     * recomendações em cache são invalidadas após o commit de uma gravação
+     * que alterou algum contador.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.materials.downloads.flush-interval-ms:60000}")
+    public void flushDownloads() {
+        boolean flushed = false;
+        for (Map.Entry<Long, LongAdder> entry : pendingDownloads.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                materialRepository.incrementDownloadCount(entry.getKey(), delta);
+                flushed = true;
+            }
+        }
+        if (flushed) {
+            bumpVersionAfterCommit();
+        }
+    }
+
+    private void bumpVersionAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    materialsVersion.incrementAndGet();
+                }
+            });
+        } else {
+            materialsVersion.incrementAndGet();
+        }
+    }
+
+    /**
+     * Recalcula, com os materiais atuais, as recomendações em cache que
+     * ficaram desatualizadas, para que as próximas requisições encontrem o
+     * resultado pronto. Entradas com perfil expirado são descartadas.
+     */
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${app.materials.recommendations.refresh-interval-ms:60000}")
+    public void refreshCachedRecommendations() {
+        long version = materialsVersion.get();
+        long now = System.currentTimeMillis();
+        int refreshed = 0;
+        for (Map.Entry<Long, CachedRecommendation> entry : cache.entrySet()) {
+            CachedRecommendation cached = entry.getValue();
+            if (now - cached.profileLoadedAt() >= cacheTtlMillis) {
+                cache.remove(entry.getKey(), cached);
+            } else if (cached.version() != version) {
+                computeAndCache(entry.getKey(), cached.profile(), cached.profileLoadedAt(), version);
+                refreshed++;
+            }
+        }
+        if (refreshed > 0) {
+            logger.debug("{} recomendações de materiais recalculadas", refreshed);
+        }
+    }
+
+    // Depois do índice de áreas: uma leitura na nova versão já encontra o índice atualizado
+    @Order(MaterialInterestIndex.LISTENER_ORDER + 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMaterialChanged(MaterialChangedEvent event) {
+        materialsVersion.incrementAndGet();
+    }
+
+    private List<MaterialDTO> computeAndCache(Long userId, Profile profile, long profileLoadedAt, long version) {
+        long[] ids = rank(profile, getFeatures(version), MAX_RECOMMENDATIONS);
+        List<MaterialDTO> materials = List.copyOf(findAllInOrder(ids));
+        cache.put(userId, new CachedRecommendation(version, profileLoadedAt, profile, materials));
+        return materials;
+    }
+
+    /**
+     * Calcula a nota de cada candidato mantendo apenas os {@code limit}
+     * melhores em um min-heap.
+     */
+    private long[] rank(Profile profile, Features features, int limit) {
+        long[] ids = features.ids();
+        int total = ids.length;
+        long userMask = profile.interestMask();
+        int userAreas = Long.bitCount(userMask);
+        int userCourse = profile.course() != null ? profile.course().ordinal() : -1;
+
+        TopK topK = new TopK(limit);
+        for (int i = 0; i < total; i++) {
+            long shared = features.masks()[i] & userMask;
+            // Usuários com áreas só recebem materiais que compartilham alguma delas
+            if (userAreas > 0 && shared == 0L) {
+                continue;
+            }
+
+            double score = RECENCY_WEIGHT * (i + 1) / total
+                    + POPULARITY_WEIGHT * features.popularity()[i];
+            if (userAreas > 0) {
+                score += OVERLAP_WEIGHT * Long.bitCount(shared) / userAreas;
+            }
+            if (userCourse >= 0 && features.courses()[i] == userCourse) {
+                score += COURSE_WEIGHT;
+            }
+            topK.offer(ids[i], score);
+        }
+        return topK.toSortedIds();
+    }
+
+    private Features getFeatures(long version) {
+        Features current = this.features;
+        if (current != null && current.version() == version) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = this.features;
+            if (current != null && current.version() == version) {
+                return current;
+            }
+
+            List<MaterialRepository.RecommendationRow> rows = materialRepository.findAllRecommendationRows();
+            long[] ids = new long[rows.size()];
+            long[] downloads = new long[rows.size()];
+            Course[] courses = new Course[rows.size()];
+
+            List<MaterialRepository.RecommendationRow> sorted = new ArrayList<>(rows);
+            sorted.sort((a, b) -> Long.compare(a.getMaterialId(), b.getMaterialId()));
+            long maxDownloads = 0;
+            for (int i = 0; i < sorted.size(); i++) {
+                ids[i] = sorted.get(i).getMaterialId();
+                downloads[i] = sorted.get(i).getDownloadCount();
+                courses[i] = sorted.get(i).getUploaderCourse();
+                maxDownloads = Math.max(maxDownloads, downloads[i]);
+            }
+
+            long[] masks = new long[ids.length];
+            byte[] courseOrdinals = new byte[ids.length];
+            double[] popularity = new double[ids.length];
+            double maxLog = Math.log1p(maxDownloads);
+            for (int i = 0; i < ids.length; i++) {
+                masks[i] = interestIndex.getMask(ids[i]);
+                courseOrdinals[i] = (byte) (courses[i] != null ? courses[i].ordinal() : -1);
+                popularity[i] = maxLog > 0 ? Math.log1p(downloads[i]) / maxLog : 0.0;
+            }
+
+            current = new Features(version, ids, masks, courseOrdinals, popularity);
+            this.features = current;
+            return current;
+        }
+    }
+
+    private Profile loadProfile(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException(User.class, userId));
+
+        if (user.getRole() == UserRole.MENTOR) {
+            Mentor mentor = mentorRepository.findByUserId(user.getId());
+            if (mentor != null) {
+                return new Profile(MaterialInterestIndex.toMask(mentor.getInterestArea()), mentor.getCourse());
+            }
+        } else {
+            Mentored mentored = mentoredRepository.findByUserId(user.getId());
+            if (mentored != null) {
+                return new Profile(MaterialInterestIndex.toMask(mentored.getInterestArea()), mentored.getCourse());
+            }
+        }
+        return new Profile(0L, null);
+    }
+
+    private List<MaterialDTO> findAllInOrder(long[] ids) {
+        if (ids.length == 0) {
+            return new ArrayList<>();
+        }
+
+        List<Long> idList = Arrays.stream(ids).boxed().toList();
+        Map<Long, Material> materialsById = materialRepository.findAllById(idList)
+                .stream()
+                .collect(Collectors.toMap(Material::getId, Function.identity()));
+
+        return idList.stream()
+                .map(materialsById::get)
+                .filter(Objects::nonNull)
+                .map(materialMapper::toDTO)
+                .collect(Collectors.toList());
+    }
+}
@@ -1,32 +1,32 @@
 package br.edu.ufape.plataforma.mentoria.service;
 
+import br.edu.ufape.plataforma.mentoria.dto.CursorPage;
 import br.edu.ufape.plataforma.mentoria.dto.MaterialDTO;
 import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
 import br.edu.ufape.plataforma.mentoria.enums.MaterialType;
-import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.event.MaterialChangedEvent;
 import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
 import br.edu.ufape.plataforma.mentoria.mapper.MaterialMapper;
 import br.edu.ufape.plataforma.mentoria.model.Material;
-import br.edu.ufape.plataforma.mentoria.model.Mentor;
-import br.edu.ufape.plataforma.mentoria.model.Mentored;
 import br.edu.ufape.plataforma.mentoria.model.User;
 import br.edu.ufape.plataforma.mentoria.repository.MaterialRepository;
-import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
-import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
 import br.edu.ufape.plataforma.mentoria.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.*;
 import java.util.regex.Pattern;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -37,14 +37,18 @@ public class MaterialService {
 
     private final MaterialRepository materialRepository;
     private final UserRepository userRepository;
-    private final MentoredRepository mentoredRepository;
-    private final MentorRepository mentorRepository;
     private final MaterialMapper materialMapper;
-    private final Path uploadDir;
+    private final MaterialStorageService storageService;
+    private final MaterialInterestIndex interestIndex;
+    private final MaterialRecommendationService recommendationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Padrão para caracteres permitidos no nome do arquivo
     private static final Pattern SAFE_FILENAME_PATTERN = Pattern.compile("^[a-zA-Z0-9._-]+$");
 
+    // Tamanho máximo de arquivo aceito (50MB)
+    public static final long MAX_FILE_SIZE = 50L * 1024 * 1024;
+
     // Extensões permitidas
     private static final Set<String> ALLOWED_EXTENSIONS = Set.of(
             ".pdf", ".doc", ".docx", ".txt", ".jpg", ".jpeg", ".png", ".mp4", ".avi", ".mov");
@@ -52,36 +56,24 @@ public class MaterialService {
     public MaterialService(MaterialRepository materialRepository,
             UserRepository userRepository,
             MaterialMapper materialMapper,
-            MentoredRepository mentoredRepository,
-            MentorRepository mentorRepository,
-            @Value("${app.upload.dir:upload}") String uploadDirPath) {
+            MaterialStorageService storageService,
+            MaterialInterestIndex interestIndex,
+            MaterialRecommendationService recommendationService,
+            ApplicationEventPublisher eventPublisher) {
         this.materialRepository = materialRepository;
         this.userRepository = userRepository;
         this.materialMapper = materialMapper;
-        this.mentoredRepository = mentoredRepository;
-        this.mentorRepository = mentorRepository;
-        this.uploadDir = Paths.get(uploadDirPath);
-
-        initializeUploadDirectory();
-    }
-
-    private void initializeUploadDirectory() {
-        try {
-            if (!Files.exists(uploadDir)) {
-                Files.createDirectories(uploadDir);
-                logger.info("Diretório de upload criado: {}", uploadDir.toAbsolutePath());
-            }
-        } catch (IOException e) {
-            logger.error("Erro ao criar diretório de upload: {}", uploadDir.toAbsolutePath(), e);
-            throw new RuntimeException("Não foi possível criar o diretório de upload", e);
-        }
+        this.storageService = storageService;
+        this.interestIndex = interestIndex;
+        this.recommendationService = recommendationService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * Sanitiza o nome do arquivo removendo caracteres perigosos e validando a
      * extensão
      */
-    private String sanitizeFilename(String originalFilename) {
+    String sanitizeFilename(String originalFilename) {
         if (originalFilename == null || originalFilename.trim().isEmpty()) {
             throw new IllegalArgumentException("Nome do arquivo não pode estar vazio");
         }
@@ -115,29 +107,26 @@ public class MaterialService {
     }
 
     /**
-     * Cria um nome de arquivo seguro usando UUID + nome sanitizado
+     * Grava o arquivo no armazenamento endereçado por conteúdo e associa o
+     * blob resultante ao material
      */
-    private String createSecureFilename(String originalFilename) {
-        String sanitizedName = sanitizeFilename(originalFilename);
-        String uuid = UUID.randomUUID().toString();
-        return uuid + "_" + sanitizedName;
+    private void storeFile(Material material, MultipartFile arquivo) throws IOException {
+        storeFile(material, arquivo.getOriginalFilename(), arquivo.getInputStream(), arquivo.getSize());
     }
 
-    /**
-     * Valida se o caminho final está dentro do diretório de upload permitido
-     */
-    private Path validateAndResolvePath(String filename) throws IOException {
-        // Converte o caminho do arquivo para absoluto ANTES da validação
-        Path resolvedPath = this.uploadDir.resolve(filename).toAbsolutePath().normalize();
-        Path normalizedUploadDir = this.uploadDir.toAbsolutePath().normalize();
-
-        if (!resolvedPath.startsWith(normalizedUploadDir)) {
-            logger.error("Tentativa de Path Traversal: {} resolve para fora do diretório de upload {}", filename,
-                    normalizedUploadDir);
-            throw new SecurityException("Tentativa de path traversal detectada");
+    private void storeFile(Material material, String originalFilename, InputStream content, long contentLength)
+            throws IOException {
+        // Rejeita antes de ler qualquer byte quando o tamanho já é conhecido
+        if (contentLength > MAX_FILE_SIZE) {
+            throw new MaxUploadSizeExceededException(MAX_FILE_SIZE);
         }
 
-        return resolvedPath;
+        String nomeArquivoSeguro = sanitizeFilename(originalFilename);
+        String extension = getFileExtension(nomeArquivoSeguro);
+
+        MaterialStorageService.StoredBlob blob = storageService.store(content, extension, MAX_FILE_SIZE);
+        material.setFilePath(blob.storageKey());
+        material.setFileName(nomeArquivoSeguro);
     }
 
     public MaterialDTO createMaterial(MaterialDTO materialDTO, MultipartFile arquivo, Long userID) throws IOException {
@@ -154,23 +143,47 @@ public class MaterialService {
                 material.getMaterialType() == MaterialType.DOCUMENTO) &&
                 arquivo != null && !arquivo.isEmpty()) {
 
-            // Validação de tamanho do arquivo (exemplo: máximo 50MB)
-            if (arquivo.getSize() > 50 * 1024 * 1024) {
-                throw new IllegalArgumentException("Arquivo muito grande. Máximo permitido: 50MB");
-            }
+            storeFile(material, arquivo);
+        }
 
-            String nomeArquivoSeguro = createSecureFilename(arquivo.getOriginalFilename());
-            Path caminhoCompleto = validateAndResolvePath(nomeArquivoSeguro);
+        material.setUserUploader(user);
 
-            Files.copy(arquivo.getInputStream(), caminhoCompleto);
-            // Linha corrigida
-            material.setFilePath(nomeArquivoSeguro);
+        Material materialSalvo = materialRepository.save(material);
+        publishChanged(materialSalvo);
+        logger.info("Material criado com sucesso. ID: {}", materialSalvo.getId());
+
+        return materialMapper.toDTO(materialSalvo);
+    }
+
+    /**
+     * Cria um material a partir de um arquivo temporário já conferido, como o
+     * gravado por um upload em streaming ou montado por um upload em blocos.
+     * O arquivo temporário é consumido sem ser lido de novo.
+     */
+    public MaterialDTO createMaterialFromStagedFile(MaterialDTO materialDTO, String originalFilename,
+            MaterialStorageService.StagedFile stagedFile, Long userID) throws IOException {
+        logger.debug("Criando material a partir de arquivo temporário para usuário ID: {}", userID);
+
+        User user = userRepository.findById(userID)
+                .orElseThrow(() -> new EntityNotFoundException(User.class, userID));
+
+        Material material = materialMapper.toEntity(materialDTO);
+        if (material.getMaterialType() == MaterialType.LINK) {
+            throw new IllegalArgumentException("Materiais do tipo LINK não possuem arquivo");
         }
 
+        String nomeArquivoSeguro = sanitizeFilename(originalFilename);
+        if (!getFileExtension(nomeArquivoSeguro).equals(stagedFile.extension())) {
+            throw new IllegalArgumentException("O arquivo foi conferido para outra extensão: " + stagedFile.extension());
+        }
+        MaterialStorageService.StoredBlob blob = storageService.publish(stagedFile);
+        material.setFilePath(blob.storageKey());
+        material.setFileName(nomeArquivoSeguro);
         material.setUserUploader(user);
 
         Material materialSalvo = materialRepository.save(material);
-        logger.info("Material criado com sucesso. ID: {}", materialSalvo.getId());
+        publishChanged(materialSalvo);
+        logger.info("Material criado com sucesso a partir de arquivo temporário. ID: {}", materialSalvo.getId());
 
         return materialMapper.toDTO(materialSalvo);
     }
@@ -182,12 +195,74 @@ public class MaterialService {
         return materialMapper.toDTO(material);
     }
 
+    /**
+     * Arquivo armazenado de um material, com o nome original a ser
+     * apresentado no download e o hash do conteúdo quando disponível.
+     */
+    public record StoredFile(Path path, String filename, String contentHash) {
+    }
+
     @Transactional(readOnly = true)
-    public List<MaterialDTO> listAll() {
-        return materialRepository.findAll()
-                .stream()
-                .map(materialMapper::toDTO)
-                .collect(Collectors.toList());
+    public StoredFile getMaterialFile(Long id) throws IOException {
+        Material material = materialRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(Material.class, id));
+
+        if (material.getMaterialType() == MaterialType.LINK || material.getFilePath() == null) {
+            throw new EntityNotFoundException("Material com ID " + id + " não possui arquivo.");
+        }
+
+        Path path = storageService.resolve(material.getFilePath());
+        if (!Files.isRegularFile(path)) {
+            logger.warn("Arquivo do material ID {} não encontrado em disco: {}", id, path);
+            throw new EntityNotFoundException("Arquivo do material com ID " + id + " não encontrado.");
+        }
+
+        String filename = material.getFileName() != null
+                ? material.getFileName()
+                : getLegacyFilename(material.getFilePath());
+        return new StoredFile(path, filename, storageService.getContentHash(material.getFilePath()));
+    }
+
+    /**
+     * Remove o prefixo UUID usado pelos arquivos gravados antes do
+     * armazenamento endereçado por conteúdo
+     */
+    private String getLegacyFilename(String storedFilename) {
+        int separator = storedFilename.indexOf('_');
+        return separator == 36 ? storedFilename.substring(separator + 1) : storedFilename;
+    }
+
+    /**
+     * Lista os materiais por cursor. As áreas de interesse da página são
+     * buscadas em uma única consulta.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<MaterialDTO> listPage(long afterId, int size) {
+        List<MaterialRepository.MaterialRow> rows = materialRepository.findPageAfter(afterId, Limit.of(size + 1));
+        CursorPage<MaterialRepository.MaterialRow> page = CursorPage.of(rows, size,
+                MaterialRepository.MaterialRow::getId);
+        if (page.items().isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+
+        List<Long> ids = page.items().stream().map(MaterialRepository.MaterialRow::getId).toList();
+        Map<Long, Set<InterestArea>> interestAreas = new HashMap<>();
+        for (MaterialRepository.InterestAreaRow row : materialRepository.findInterestAreaRows(ids)) {
+            interestAreas.computeIfAbsent(row.getMaterialId(), id -> new HashSet<>()).add(row.getArea());
+        }
+
+        List<MaterialDTO> materials = page.items().stream().map(row -> {
+            MaterialDTO dto = new MaterialDTO();
+            dto.setId(row.getId());
+            dto.setTitle(row.getTitle());
+            dto.setMaterialType(row.getMaterialType());
+            dto.setUrl(row.getUrl());
+            dto.setFilePath(row.getFilePath());
+            dto.setInterestArea(interestAreas.getOrDefault(row.getId(), new HashSet<>()));
+            dto.setUserUploaderId(row.getUserUploaderId());
+            return dto;
+        }).toList();
+        return new CursorPage<>(materials, page.nextCursor());
     }
 
     public MaterialDTO updateById(Long id, MaterialDTO materialDTO, MultipartFile arquivo) throws IOException {
@@ -202,39 +277,21 @@ public class MaterialService {
 
         if (updatedMaterial.getMaterialType() == MaterialType.LINK) {
             updatedMaterial.setFilePath(null);
+            storageService.release(existingMaterial.getFilePath());
         } else if ((updatedMaterial.getMaterialType() == MaterialType.VIDEO ||
                 updatedMaterial.getMaterialType() == MaterialType.DOCUMENTO) &&
                 arquivo != null && !arquivo.isEmpty()) {
 
-            // Validação de tamanho do arquivo
-            if (arquivo.getSize() > 50 * 1024 * 1024) {
-                throw new IllegalArgumentException("Arquivo muito grande. Máximo permitido: 50MB");
-            }
-
-            // Remove arquivo antigo se existir
-            if (existingMaterial.getFilePath() != null) {
-                try {
-                    Path oldPath = Paths.get(existingMaterial.getFilePath());
-                    // Valida se o arquivo antigo está no diretório permitido antes de excluir
-                    if (oldPath.startsWith(uploadDir.toAbsolutePath().normalize())) {
-                        Files.deleteIfExists(oldPath);
-                    }
-                } catch (IOException e) {
-                    System.err.println("Não foi possível excluir o arquivo antigo: " + e.getMessage());
-                }
-            }
-
-            String nomeArquivoSeguro = createSecureFilename(arquivo.getOriginalFilename());
-            Path caminhoCompleto = validateAndResolvePath(nomeArquivoSeguro);
-
-            Files.copy(arquivo.getInputStream(), caminhoCompleto);
-            // Linha corrigida
-            updatedMaterial.setFilePath(nomeArquivoSeguro);
+            // O novo blob é referenciado antes de liberar o antigo, pois podem ser o mesmo
+            storeFile(updatedMaterial, arquivo);
+            storageService.release(existingMaterial.getFilePath());
         } else {
             updatedMaterial.setFilePath(existingMaterial.getFilePath());
+            updatedMaterial.setFileName(existingMaterial.getFileName());
         }
 
         Material materialSalvo = materialRepository.save(updatedMaterial);
+        publishChanged(materialSalvo);
         logger.info("Material atualizado com sucesso. ID: {}", id);
 
         return materialMapper.toDTO(materialSalvo);
@@ -246,93 +303,64 @@ public class MaterialService {
         Material material = materialRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(Material.class, id));
 
-        if (material.getFilePath() != null) {
-            try {
-                Path filePath = Paths.get(material.getFilePath());
-                // Valida se o arquivo está no diretório permitido antes de excluir
-                if (filePath.startsWith(uploadDir.toAbsolutePath().normalize())) {
-                    Files.deleteIfExists(filePath);
-                } else {
-                    System.err.println(
-                            "Tentativa de exclusão de arquivo fora do diretório permitido: " + material.getFilePath());
-                }
-            } catch (IOException e) {
-                System.err.println("Não foi possível excluir o arquivo: " + e.getMessage());
-            }
-        }
         materialRepository.delete(material);
+        storageService.release(material.getFilePath());
+        eventPublisher.publishEvent(MaterialChangedEvent.deleted(id));
 
         logger.info("Material deletado com sucesso. ID: {}", id);
     }
 
-    @Transactional(readOnly = true)
-    public List<MaterialDTO> filterByInterestArea(List<InterestArea> areas) {
-        if (areas == null || areas.isEmpty()) {
-            return listAll();
-        }
+    /**
+     * Notifica os índices em memória; eles só são atualizados após o commit
+     */
+    private void publishChanged(Material material) {
+        Set<InterestArea> areas = material.getInterestArea() != null
+                ? new HashSet<>(material.getInterestArea())
+                : new HashSet<>();
+        eventPublisher.publishEvent(new MaterialChangedEvent(material.getId(), areas));
+    }
 
-        Set<Material> materialsSet = new LinkedHashSet<>();
-        for (InterestArea area : areas) {
-            materialsSet.addAll(materialRepository.findByInterestAreaContaining(area));
+    /**
+     * Busca os materiais em uma única consulta, preservando a ordem dos IDs
+     */
+    private List<MaterialDTO> findAllInOrder(long[] ids) {
+        if (ids.length == 0) {
+            return new ArrayList<>();
         }
 
-        return materialsSet.stream()
+        List<Long> idList = Arrays.stream(ids).boxed().toList();
+        Map<Long, Material> materialsById = materialRepository.findAllById(idList)
+                .stream()
+                .collect(Collectors.toMap(Material::getId, Function.identity()));
+
+        return idList.stream()
+                .map(materialsById::get)
+                .filter(Objects::nonNull)
                 .map(materialMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Filtra os materiais por área de interesse, paginando por cursor sobre os
+     * IDs do índice: só os materiais da página são buscados no banco.
+     */
     @Transactional(readOnly = true)
-    public List<MaterialDTO> suggestMaterials(Long usuarioId) {
-        logger.debug("Buscando sugestões de materiais para usuário ID: {}", usuarioId);
-
-        User usuario = userRepository.findById(usuarioId)
-                .orElseThrow(() -> new EntityNotFoundException(User.class, usuarioId));
-
-        Set<InterestArea> areasDeInteresse = getUserInterestAreas(usuario);
-
-        if (areasDeInteresse.isEmpty()) {
-            logger.debug("Usuário sem áreas de interesse, retornando materiais recentes");
-            return getRecentMaterials();
-        }
-
-        return getSuggestedMaterialsByInterestAreas(areasDeInteresse);
-    }
-
-    private Set<InterestArea> getUserInterestAreas(User usuario) {
-        Set<InterestArea> areasDeInteresse = new HashSet<>();
-
-        if (usuario.getRole() == UserRole.MENTOR) {
-            Mentor mentor = mentorRepository.findByUserId(usuario.getId());
-            if (mentor != null) {
-                areasDeInteresse.addAll(mentor.getInterestArea());
-            }
-        } else {
-            Mentored mentored = mentoredRepository.findByUserId(usuario.getId());
-            if (mentored != null) {
-                areasDeInteresse.addAll(mentored.getInterestArea());
-            }
+    public CursorPage<MaterialDTO> filterByInterestArea(List<InterestArea> areas, long afterId, int size) {
+        if (areas == null || areas.isEmpty()) {
+            return listPage(afterId, size);
         }
 
-        return areasDeInteresse;
-    }
-
-    private List<MaterialDTO> getRecentMaterials() {
-        return materialRepository.findTop10ByOrderByIdDesc()
-                .stream()
-                .map(materialMapper::toDTO)
-                .collect(Collectors.toList());
+        long[] ids = interestIndex.findMatching(MaterialInterestIndex.toMask(areas));
+        int from = Arrays.binarySearch(ids, afterId);
+        from = from >= 0 ? from + 1 : -from - 1;
+        int to = Math.min(ids.length, from + size);
+        Long nextCursor = to < ids.length ? ids[to - 1] : null;
+        return new CursorPage<>(findAllInOrder(Arrays.copyOfRange(ids, from, to)), nextCursor);
     }
 
-    private List<MaterialDTO> getSuggestedMaterialsByInterestAreas(Set<InterestArea> areasDeInteresse) {
-        Set<Material> materiaisSugeridos = new LinkedHashSet<>();
-
-        for (InterestArea area : areasDeInteresse) {
-            materiaisSugeridos.addAll(materialRepository.findByInterestAreaContaining(area));
-        }
-
-        return materiaisSugeridos.stream()
-                .limit(20)
-                .map(materialMapper::toDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<MaterialDTO> suggestMaterials(Long usuarioId) {
+        logger.debug("Buscando sugestões de materiais para usuário ID: {}", usuarioId);
+        return recommendationService.recommend(usuarioId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,420 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.model.MaterialBlob;
+import br.edu.ufape.plataforma.mentoria.repository.MaterialBlobRepository;
+import br.edu.ufape.plataforma.mentoria.util.FileSignatures;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Armazenamento endereçado por conteúdo dos arquivos de materiais.
+ * Cada upload é gravado em um arquivo temporário enquanto o SHA-256 é
+ * calculado; conteúdos idênticos passam a compartilhar um único arquivo
+ * {@code <sha256><extensão>} com contagem de referências em {@link MaterialBlob}.
+ */
+@Service
+@Transactional
+public class MaterialStorageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaterialStorageService.class);
+
+    private static final String TEMP_PREFIX = ".upload-";
+    // Arquivo de um blob liberado, aguardando o fim da transação: .release-<uuid>-<chave>
+    private static final String RELEASE_PREFIX = ".release-";
+    private static final int UUID_LENGTH = 36;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern BLOB_KEY_PATTERN = Pattern.compile("^([0-9a-f]{64})(\\.[a-z0-9]+)?$");
+
+    private final MaterialBlobRepository blobRepository;
+    private final Path uploadDir;
+
+    public record StoredBlob(String storageKey, String contentHash, long size) {
+    }
+
+    /**
+     * Arquivo temporário já conferido: conteúdo compatível com a extensão,
+     * dentro do limite e com o SHA-256 calculado. Publicá-lo não relê os bytes.
+     */
+    public record StagedFile(Path path, String contentHash, long size, String extension) {
+    }
+
+    public MaterialStorageService(MaterialBlobRepository blobRepository,
+            @Value("${app.upload.dir:upload}") String uploadDirPath) {
+        this.blobRepository = blobRepository;
+        this.uploadDir = Paths.get(uploadDirPath).toAbsolutePath().normalize();
+        initializeUploadDirectory();
+    }
+
+    private void initializeUploadDirectory() {
+        try {
+            if (!Files.exists(uploadDir)) {
+                Files.createDirectories(uploadDir);
+                logger.info("Diretório de upload criado: {}", uploadDir);
+            }
+            deleteLeftoverStagingFiles();
+            recoverLeftoverReleasedFiles();
+        } catch (IOException e) {
+            logger.error("Erro ao criar diretório de upload: {}", uploadDir, e);
+            throw new RuntimeException("Não foi possível criar o diretório de upload", e);
+        }
+    }
+
+    // Temporários de uma execução anterior nunca serão concluídos
+    private void deleteLeftoverStagingFiles() throws IOException {
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(uploadDir, TEMP_PREFIX + "*.tmp")) {
+            for (Path leftover : leftovers) {
+                deleteQuietly(leftover);
+            }
+        }
+    }
+
+    /**
+     * Arquivos liberados por uma transação interrompida antes de terminar: se
+     * o blob ainda existe (a remoção não foi confirmada), o arquivo volta ao
+     * lugar; caso contrário é apagado.
+     */
+    private void recoverLeftoverReleasedFiles() throws IOException {
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(uploadDir, RELEASE_PREFIX + "*")) {
+            for (Path leftover : leftovers) {
+                String name = leftover.getFileName().toString();
+                int keyStart = RELEASE_PREFIX.length() + UUID_LENGTH + 1;
+                String storageKey = name.length() > keyStart ? name.substring(keyStart) : null;
+                if (storageKey != null && blobRepository.existsById(storageKey)) {
+                    restore(leftover, resolve(storageKey));
+                } else {
+                    deleteQuietly(leftover);
+                }
+            }
+        }
+    }
+
+    /**
+     * Grava o conteúdo em uma única passada e registra uma referência ao blob
+     * correspondente. Enquanto os bytes chegam, o primeiro bloco é conferido
+     * com a extensão, o limite de tamanho é aplicado e o SHA-256 é calculado.
+     * O arquivo temporário fica no próprio diretório de upload, então a
+     * publicação é apenas um rename. Se o conteúdo já existir, o temporário é
+     * descartado e apenas a contagem de referências é incrementada.
+     *
+     * @param content   O conteúdo do arquivo; o stream é fechado ao final.
+     * @param extension A extensão já validada, em minúsculas (ex.: ".pdf").
+     * @param maxSize   Tamanho máximo aceito, em bytes.
+     * @return O blob referenciado.
+     * @throws MaxUploadSizeExceededException se o conteúdo ultrapassar {@code maxSize}.
+     * @throws IllegalArgumentException se o conteúdo não corresponder à extensão.
+     */
+    public StoredBlob store(InputStream content, String extension, long maxSize) throws IOException {
+        Path tempFile = createStagingFile();
+        try {
+            MessageDigest digest = newDigest();
+            long size;
+            try (InputStream in = content; OutputStream out = Files.newOutputStream(tempFile)) {
+                size = copy(in, out, extension, maxSize, digest);
+            }
+
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+            return register(tempFile, contentHash, size, extension);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Grava o conteúdo em um arquivo temporário em uma única passada,
+     * conferindo a assinatura e o limite de tamanho e calculando o SHA-256
+     * enquanto os bytes chegam, sem abrir uma transação: um cliente lento não
+     * prende uma conexão do banco. O arquivo é publicado depois com
+     * {@link #publish}; se a leitura falhar, ele é removido.
+     *
+     * @throws MaxUploadSizeExceededException se o conteúdo ultrapassar {@code maxSize}.
+     * @throws IllegalArgumentException se o conteúdo não corresponder à extensão.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StagedFile stage(InputStream content, String extension, long maxSize) throws IOException {
+        Path stagedFile = createStagingFile();
+        try (InputStream in = content; OutputStream out = Files.newOutputStream(stagedFile)) {
+            MessageDigest digest = newDigest();
+            long size = copy(in, out, extension, maxSize, digest);
+            return new StagedFile(stagedFile, HexFormat.of().formatHex(digest.digest()), size, extension);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(stagedFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Cria um arquivo temporário no diretório de upload, que pode ser
+     * preenchido aos poucos e depois conferido com {@link #inspect}.
+     */
+    public Path createStagingFile() throws IOException {
+        return Files.createTempFile(uploadDir, TEMP_PREFIX, ".tmp");
+    }
+
+    /**
+     * Confere, fora de transação, um arquivo criado por
+     * {@link #createStagingFile()} e preenchido fora de ordem (upload em
+     * blocos), aplicando as mesmas verificações de {@link #stage}. Se o
+     * conteúdo for rejeitado, o arquivo é removido.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StagedFile inspect(Path stagedFile, String extension, long maxSize) throws IOException {
+        try {
+            Path normalized = checkStagingFile(stagedFile);
+            if (Files.size(normalized) > maxSize) {
+                throw new MaxUploadSizeExceededException(maxSize);
+            }
+
+            MessageDigest digest = newDigest();
+            long size;
+            try (InputStream in = Files.newInputStream(normalized)) {
+                size = copy(in, null, extension, maxSize, digest);
+            }
+            return new StagedFile(normalized, HexFormat.of().formatHex(digest.digest()), size, extension);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(stagedFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Publica um arquivo já conferido: apenas o move para o blob (ou o
+     * descarta, se o conteúdo já existir) e registra a referência. O arquivo
+     * temporário nunca permanece no diretório.
+     */
+    public StoredBlob publish(StagedFile stagedFile) throws IOException {
+        try {
+            return register(checkStagingFile(stagedFile.path()), stagedFile.contentHash(), stagedFile.size(),
+                    stagedFile.extension());
+        } finally {
+            Files.deleteIfExists(stagedFile.path());
+        }
+    }
+
+    private Path checkStagingFile(Path stagedFile) {
+        Path normalized = stagedFile.toAbsolutePath().normalize();
+        if (!uploadDir.equals(normalized.getParent())
+                || !normalized.getFileName().toString().startsWith(TEMP_PREFIX)) {
+            throw new SecurityException("Arquivo temporário fora do diretório de upload");
+        }
+        return normalized;
+    }
+
+    /**
+     * Lê o conteúdo conferindo a assinatura no primeiro bloco e o limite de
+     * tamanho a cada bloco, atualizando o hash e gravando em {@code out} se
+     * informado.
+     */
+    private long copy(InputStream in, OutputStream out, String extension, long maxSize, MessageDigest digest)
+            throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        int headerLength = in.readNBytes(buffer, 0, FileSignatures.HEADER_LENGTH);
+        if (!FileSignatures.matches(extension, buffer, headerLength)) {
+            throw new IllegalArgumentException("Conteúdo do arquivo não corresponde à extensão " + extension);
+        }
+        long size = write(buffer, headerLength, 0, maxSize, digest, out);
+
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            size = write(buffer, read, size, maxSize, digest, out);
+        }
+        return size;
+    }
+
+    private long write(byte[] buffer, int length, long written, long maxSize, MessageDigest digest, OutputStream out)
+            throws IOException {
+        long size = written + length;
+        if (size > maxSize) {
+            throw new MaxUploadSizeExceededException(maxSize);
+        }
+        digest.update(buffer, 0, length);
+        if (out != null) {
+            out.write(buffer, 0, length);
+        }
+        return size;
+    }
+
+    /**
+     * Registra uma referência ao blob. Uma liberação concorrente da mesma
+     * chave mantém a linha do blob travada até o seu commit, então o UPDATE e
+     * o INSERT abaixo esperam por ela no banco, em qualquer instância.
+     */
+    private StoredBlob register(Path tempFile, String contentHash, long size, String extension) throws IOException {
+        String storageKey = contentHash + extension;
+        if (blobRepository.incrementReferences(storageKey) > 0) {
+            logger.debug("Conteúdo já armazenado, reaproveitando blob {}", storageKey);
+            return new StoredBlob(storageKey, contentHash, size);
+        }
+
+        // O conteúdo é o mesmo: sobrescrever garante o arquivo mesmo que uma remoção o tenha apagado
+        moveIntoPlace(tempFile, resolve(storageKey));
+        if (blobRepository.insertIfAbsent(storageKey, contentHash, size) > 0) {
+            logger.info("Novo blob armazenado: {} ({} bytes)", storageKey, size);
+        } else {
+            // Outra instância inseriu o mesmo conteúdo primeiro
+            blobRepository.incrementReferences(storageKey);
+        }
+        return new StoredBlob(storageKey, contentHash, size);
+    }
+
+    private void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Libera uma referência ao arquivo. O arquivo é removido do disco após o
+     * commit quando nenhum material o referencia mais. Caminhos gravados antes
+     * do armazenamento por conteúdo não possuem blob e são removidos diretamente.
+     *
+     * @param storageKey O valor de {@code Material.filePath}.
+     */
+    public void release(String storageKey) {
+        if (storageKey == null) {
+            return;
+        }
+
+        if (blobRepository.existsById(storageKey)) {
+            blobRepository.decrementReferences(storageKey);
+            if (blobRepository.deleteIfUnreferenced(storageKey) > 0) {
+                discard(storageKey);
+            }
+        } else {
+            deleteAfterCommit(storageKey);
+        }
+    }
+
+    /**
+     * Resolve a chave para um caminho, garantindo que ele esteja dentro do
+     * diretório de upload.
+     */
+    public Path resolve(String storageKey) {
+        Path resolvedPath = uploadDir.resolve(storageKey).normalize();
+
+        if (!resolvedPath.startsWith(uploadDir)) {
+            logger.error("Tentativa de Path Traversal: {} resolve para fora do diretório de upload {}", storageKey,
+                    uploadDir);
+            throw new SecurityException("Tentativa de path traversal detectada");
+        }
+
+        return resolvedPath;
+    }
+
+    /**
+     * Retorna o hash do conteúdo se a chave for de um blob endereçado por
+     * conteúdo, ou {@code null} para arquivos antigos.
+     */
+    public String getContentHash(String storageKey) {
+        if (storageKey == null) {
+            return null;
+        }
+        var matcher = BLOB_KEY_PATTERN.matcher(storageKey);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    /**
+     * Tira do lugar o arquivo do blob cuja linha acabou de ser removida. A
+     * linha fica travada até o commit, então um upload do mesmo conteúdo
+     * espera e grava um arquivo novo no caminho do blob; o antigo fica com um
+     * nome próprio, apagado após o commit ou devolvido se a transação for
+     * desfeita. Nada depende de travas em memória nem do estado lido após o commit.
+     */
+    private void discard(String storageKey) {
+        Path path = resolve(storageKey);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteQuietly(path);
+            return;
+        }
+
+        Path released = uploadDir.resolve(RELEASE_PREFIX + UUID.randomUUID() + "-" + storageKey);
+        try {
+            moveIntoPlace(path, released);
+        } catch (NoSuchFileException e) {
+            return;
+        } catch (IOException e) {
+            logger.warn("Não foi possível liberar o arquivo {}: {}", path, e.getMessage());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    deleteQuietly(released);
+                } else {
+                    restore(released, path);
+                }
+            }
+        });
+    }
+
+    /**
+     * Devolve o arquivo liberado ao caminho do blob, a menos que um upload já
+     * tenha gravado ali o mesmo conteúdo.
+     */
+    private void restore(Path released, Path path) {
+        try {
+            Files.move(released, path);
+        } catch (FileAlreadyExistsException e) {
+            deleteQuietly(released);
+        } catch (IOException e) {
+            logger.warn("Não foi possível restaurar o arquivo {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void deleteAfterCommit(String storageKey) {
+        Path path = resolve(storageKey);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteQuietly(path);
+                }
+            });
+        } else {
+            deleteQuietly(path);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Não foi possível excluir o arquivo {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não disponível", e);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.ChunkedUploadDTO;
+import br.edu.ufape.plataforma.mentoria.dto.ChunkedUploadStatusDTO;
+import br.edu.ufape.plataforma.mentoria.dto.MaterialDTO;
+import br.edu.ufape.plataforma.mentoria.enums.MaterialType;
+import br.edu.ufape.plataforma.mentoria.exceptions.BusinessException;
+import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Uploads retomáveis em blocos. Cada upload reserva um arquivo temporário
+ * com o tamanho final, e cada bloco é gravado diretamente na sua posição.
+ * Os intervalos recebidos ficam em memória; quando cobrem o arquivo inteiro,
+ * o upload é finalizado em um material pelo {@link MaterialService}.
+ */
+@Service
+public class MaterialUploadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaterialUploadService.class);
+
+    // Cada upload reserva o tamanho final em disco, então a quantidade por usuário é limitada
+    private static final int MAX_UPLOADS_PER_USER = 5;
+
+    private final MaterialService materialService;
+    private final MaterialStorageService storageService;
+    private final long sessionTtlMillis;
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    public MaterialUploadService(MaterialService materialService,
+            MaterialStorageService storageService,
+            @Value("${app.upload.chunked.ttl-minutes:1440}") long sessionTtlMinutes) {
+        this.materialService = materialService;
+        this.storageService = storageService;
+        this.sessionTtlMillis = sessionTtlMinutes * 60_000;
+    }
+
+    /**
+     * Cria um material lendo o arquivo diretamente do corpo da requisição,
+     * sem passar pelo resolvedor multipart. Os bytes são gravados em um
+     * arquivo temporário fora de qualquer transação; só o registro do blob e
+     * do material, com o arquivo já completo, usa uma conexão do banco.
+     *
+     * @param contentLength O Content-Length informado, ou -1 se desconhecido.
+     */
+    public MaterialDTO createMaterialFromStream(MaterialDTO materialDTO, String filename, InputStream content,
+            long contentLength, Long userId) throws IOException {
+        if (materialDTO.getMaterialType() == MaterialType.LINK) {
+            throw new IllegalArgumentException("Materiais do tipo LINK não possuem arquivo");
+        }
+        // Rejeita antes de ler qualquer byte quando o tamanho já é conhecido
+        if (contentLength > MaterialService.MAX_FILE_SIZE) {
+            throw new MaxUploadSizeExceededException(MaterialService.MAX_FILE_SIZE);
+        }
+        String safeFilename = materialService.sanitizeFilename(filename);
+        String extension = safeFilename.substring(safeFilename.lastIndexOf('.'));
+
+        MaterialStorageService.StagedFile stagedFile = storageService.stage(content, extension,
+                MaterialService.MAX_FILE_SIZE);
+        try {
+            MaterialDTO material = materialService.createMaterialFromStagedFile(materialDTO, filename, stagedFile,
+                    userId);
+            logger.info("Material criado com sucesso via streaming. ID: {}", material.getId());
+            return material;
+        } finally {
+            Files.deleteIfExists(stagedFile.path());
+        }
+    }
+
+    public ChunkedUploadStatusDTO createUpload(ChunkedUploadDTO uploadDTO, Long userId) throws IOException {
+        if (uploadDTO.getMaterialType() == MaterialType.LINK) {
+            throw new IllegalArgumentException("Materiais do tipo LINK não possuem arquivo");
+        }
+        if (uploadDTO.getSize() == null || uploadDTO.getSize() <= 0) {
+            throw new IllegalArgumentException("O tamanho do arquivo deve ser positivo");
+        }
+        if (uploadDTO.getSize() > MaterialService.MAX_FILE_SIZE) {
+            throw new MaxUploadSizeExceededException(MaterialService.MAX_FILE_SIZE);
+        }
+        // Falha logo na criação se o nome ou a extensão forem inválidos
+        materialService.sanitizeFilename(uploadDTO.getFilename());
+
+        long userUploads = sessions.values().stream().filter(s -> s.userId.equals(userId)).count();
+        if (userUploads >= MAX_UPLOADS_PER_USER) {
+            throw new BusinessException("Limite de " + MAX_UPLOADS_PER_USER + " uploads simultâneos atingido.");
+        }
+
+        Path file = storageService.createStagingFile();
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file.toFile(), "rw")) {
+            randomAccessFile.setLength(uploadDTO.getSize());
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        UploadSession session = new UploadSession(UUID.randomUUID().toString(), userId, uploadDTO.toMaterialDTO(),
+                uploadDTO.getFilename(), uploadDTO.getSize(), file);
+        sessions.put(session.id, session);
+        logger.info("Upload em blocos {} iniciado pelo usuário ID {} ({} bytes)", session.id, userId, session.size);
+
+        return toStatus(session);
+    }
+
+    /**
+     * Grava um bloco a partir de {@code offset}. Bytes já gravados podem ser
+     * reenviados; o que foi recebido antes de uma falha de conexão continua
+     * registrado.
+     *
+     * @param contentLength O Content-Length do bloco, ou -1 se desconhecido.
+     */
+    public ChunkedUploadStatusDTO writeChunk(String uploadId, Long userId, long offset, InputStream content,
+            long contentLength) throws IOException {
+        UploadSession session = getSession(uploadId, userId);
+
+        if (offset < 0 || offset >= session.size) {
+            throw new IllegalArgumentException("Offset fora dos limites do arquivo: " + offset);
+        }
+        long maxLength = session.size - offset;
+        if (contentLength > maxLength) {
+            throw new IllegalArgumentException("O bloco ultrapassa o tamanho declarado do arquivo");
+        }
+        if (!session.beginWrite()) {
+            throw new BusinessException("O upload " + uploadId + " já está sendo finalizado.");
+        }
+
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(session.file, StandardOpenOption.WRITE);
+                ReadableByteChannel source = Channels.newChannel(content)) {
+            while (written < maxLength) {
+                long transferred = channel.transferFrom(source, offset + written, maxLength - written);
+                if (transferred <= 0) {
+                    break;
+                }
+                written += transferred;
+            }
+            if (written == maxLength && content.read() != -1) {
+                throw new IllegalArgumentException("O bloco ultrapassa o tamanho declarado do arquivo");
+            }
+        } finally {
+            session.endWrite(offset, offset + written);
+        }
+
+        return toStatus(session);
+    }
+
+    public ChunkedUploadStatusDTO getStatus(String uploadId, Long userId) {
+        return toStatus(getSession(uploadId, userId));
+    }
+
+    /**
+     * Finaliza o upload criando o material. O arquivo temporário é consumido
+     * mesmo se o conteúdo for rejeitado, pois não há como corrigi-lo.
+     */
+    public MaterialDTO completeUpload(String uploadId, Long userId) throws IOException {
+        UploadSession session = getSession(uploadId, userId);
+
+        long receivedBytes = session.close();
+        if (receivedBytes < 0) {
+            throw new BusinessException("O upload " + uploadId + " possui blocos em andamento.");
+        }
+        if (receivedBytes < session.size) {
+            session.reopen();
+            throw new BusinessException("Upload incompleto: " + receivedBytes + " de " + session.size
+                    + " bytes recebidos.");
+        }
+
+        sessions.remove(uploadId);
+        try {
+            // Os blocos chegam fora de ordem: a assinatura e o hash só podem ser conferidos agora
+            String safeFilename = materialService.sanitizeFilename(session.filename);
+            MaterialStorageService.StagedFile stagedFile = storageService.inspect(session.file,
+                    safeFilename.substring(safeFilename.lastIndexOf('.')), MaterialService.MAX_FILE_SIZE);
+            MaterialDTO material = materialService.createMaterialFromStagedFile(session.metadata, session.filename,
+                    stagedFile, userId);
+            logger.info("Upload em blocos {} finalizado no material ID {}", uploadId, material.getId());
+            return material;
+        } finally {
+            Files.deleteIfExists(session.file);
+        }
+    }
+
+    public void abortUpload(String uploadId, Long userId) throws IOException {
+        UploadSession session = getSession(uploadId, userId);
+        if (sessions.remove(uploadId, session)) {
+            Files.deleteIfExists(session.file);
+            logger.info("Upload em blocos {} cancelado", uploadId);
+        }
+    }
+
+    /**
+     * Remove uploads sem atividade dentro do prazo configurado.
+     */
+    @Scheduled(fixedDelayString = "${app.upload.chunked.cleanup-interval-ms:600000}")
+    public void removeExpiredUploads() {
+        long expiredBefore = System.currentTimeMillis() - sessionTtlMillis;
+        for (UploadSession session : sessions.values()) {
+            if (session.isIdleSince(expiredBefore) && sessions.remove(session.id, session)) {
+                try {
+                    Files.deleteIfExists(session.file);
+                } catch (IOException e) {
+                    logger.warn("Não foi possível excluir o arquivo do upload {}: {}", session.id, e.getMessage());
+                }
+                logger.info("Upload em blocos {} expirado por inatividade", session.id);
+            }
+        }
+    }
+
+    private UploadSession getSession(String uploadId, Long userId) {
+        UploadSession session = sessions.get(uploadId);
+        // Uploads de outros usuários são tratados como inexistentes
+        if (session == null || !session.userId.equals(userId)) {
+            throw new EntityNotFoundException("Upload " + uploadId + " não encontrado.");
+        }
+        return session;
+    }
+
+    private ChunkedUploadStatusDTO toStatus(UploadSession session) {
+        List<long[]> ranges = session.receivedRanges();
+        long receivedBytes = ranges.stream().mapToLong(range -> range[1] - range[0]).sum();
+        return new ChunkedUploadStatusDTO(session.id, session.size, receivedBytes, ranges,
+                receivedBytes == session.size);
+    }
+
+    /**
+     * Estado de um upload em andamento. Os intervalos recebidos são mantidos
+     * mesclados, indexados pelo início.
+     */
+    private static final class UploadSession {
+
+        private final String id;
+        private final Long userId;
+        private final MaterialDTO metadata;
+        private final String filename;
+        private final long size;
+        private final Path file;
+
+        private final TreeMap<Long, Long> ranges = new TreeMap<>();
+        private int activeWrites;
+        private boolean closed;
+        private long lastActivity = System.currentTimeMillis();
+
+        private UploadSession(String id, Long userId, MaterialDTO metadata, String filename, long size, Path file) {
+            this.id = id;
+            this.userId = userId;
+            this.metadata = metadata;
+            this.filename = filename;
+            this.size = size;
+            this.file = file;
+        }
+
+        synchronized boolean beginWrite() {
+            if (closed) {
+                return false;
+            }
+            activeWrites++;
+            lastActivity = System.currentTimeMillis();
+            return true;
+        }
+
+        synchronized void endWrite(long start, long end) {
+            activeWrites--;
+            lastActivity = System.currentTimeMillis();
+            if (end <= start) {
+                return;
+            }
+
+            // Mescla com intervalos adjacentes ou sobrepostos
+            Map.Entry<Long, Long> previous = ranges.floorEntry(start);
+            if (previous != null && previous.getValue() >= start) {
+                start = previous.getKey();
+                end = Math.max(end, previous.getValue());
+            }
+            Map.Entry<Long, Long> next = ranges.ceilingEntry(start);
+            while (next != null && next.getKey() <= end) {
+                end = Math.max(end, next.getValue());
+                ranges.remove(next.getKey());
+                next = ranges.ceilingEntry(start);
+            }
+            ranges.put(start, end);
+        }
+
+        /**
+         * Impede novos blocos e retorna o total recebido, ou -1 se ainda
+         * houver blocos sendo gravados.
+         */
+        synchronized long close() {
+            if (closed || activeWrites > 0) {
+                return -1;
+            }
+            closed = true;
+            return ranges.entrySet().stream().mapToLong(range -> range.getValue() - range.getKey()).sum();
+        }
+
+        synchronized void reopen() {
+            closed = false;
+        }
+
+        synchronized boolean isIdleSince(long timestamp) {
+            return activeWrites == 0 && lastActivity < timestamp;
+        }
+
+        synchronized List<long[]> receivedRanges() {
+            List<long[]> result = new ArrayList<>(ranges.size());
+            ranges.forEach((start, end) -> result.add(new long[] { start, end }));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,433 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.LeaderboardEntryDTO;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.event.MentorChangedEvent;
+import br.edu.ufape.plataforma.mentoria.event.ReviewCreatedEvent;
+import br.edu.ufape.plataforma.mentoria.event.SessionStatusChangedEvent;
+import br.edu.ufape.plataforma.mentoria.mapper.MentorMapper;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.ReviewRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SessionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranking dos mentores por área de interesse e por curso. Cada avaliação
+ * recebida e cada sessão concluída soma pontos ao mentor, e esses pontos
+ * perdem metade do valor a cada meia-vida. O ranking é mantido em memória a
+ * partir dos eventos de avaliação e de sessão, sem consultas de agregação na
+ * leitura.
+ */
+@Service
+public class MentorLeaderboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MentorLeaderboardService.class);
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    // Uma avaliação 5 soma REVIEW_WEIGHT, uma avaliação 1 subtrai o mesmo valor
+    private static final double REVIEW_WEIGHT = 1.0;
+    private static final double SESSION_WEIGHT = 0.5;
+    // Pontuações abaixo disso são descartadas no decaimento
+    private static final double MIN_SCORE = 1e-3;
+
+    private final MentorRepository mentorRepository;
+    private final ReviewRepository reviewRepository;
+    private final SessionRepository sessionRepository;
+    private final MentorMapper mentorMapper;
+    private final double halfLifeMillis;
+
+    private final Object rebuildLock = new Object();
+
+    private volatile Board board;
+    // Eventos recebidos durante uma reconstrução, protegidos pelo monitor da instância
+    private List<Object> pendingDuringRebuild;
+
+    public MentorLeaderboardService(MentorRepository mentorRepository,
+            ReviewRepository reviewRepository,
+            SessionRepository sessionRepository,
+            MentorMapper mentorMapper,
+            @Value("${app.leaderboard.half-life-days:30}") long halfLifeDays) {
+        this.mentorRepository = mentorRepository;
+        this.reviewRepository = reviewRepository;
+        this.sessionRepository = sessionRepository;
+        this.mentorMapper = mentorMapper;
+        this.halfLifeMillis = halfLifeDays * 86_400_000.0;
+    }
+
+    /**
+     * Os mentores mais bem colocados, opcionalmente restritos a uma área de
+     * interesse e a um curso.
+     */
+    @Transactional(readOnly = true)
+    public List<LeaderboardEntryDTO> getLeaderboard(InterestArea interestArea, Course course, Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : Math.clamp(limit, 1, MAX_LIMIT);
+        List<Ranked> top = getBoard().top(interestArea, course, size, System.currentTimeMillis());
+        if (top.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Mentor> mentorsById = mentorRepository.findAllById(top.stream().map(Ranked::mentorId).toList())
+                .stream()
+                .collect(Collectors.toMap(Mentor::getId, Function.identity()));
+
+        List<LeaderboardEntryDTO> entries = new ArrayList<>();
+        for (Ranked ranked : top) {
+            Mentor mentor = mentorsById.get(ranked.mentorId());
+            if (mentor != null) {
+                entries.add(new LeaderboardEntryDTO(entries.size() + 1, ranked.score(), mentorMapper.toDTO(mentor)));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Só as avaliações feitas pelo mentorado pontuam o mentor. Enquanto o
+     * ranking não foi carregado, e nenhuma carga está em andamento, os eventos
+     * são ignorados, já que a carga lê do banco o que eles trariam.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        if (event.reviewerRole() == UserRole.MENTORADO) {
+            apply(event);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionStatusChanged(SessionStatusChangedEvent event) {
+        if (event.status() == Status.COMPLETED) {
+            apply(new CompletedSession(event.sessionId(), event.mentorId(), System.currentTimeMillis()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMentorChanged(MentorChangedEvent event) {
+        apply(event);
+    }
+
+    /**
+     * Aplica o decaimento acumulado desde a última execução e descarta os
+     * mentores cuja pontuação ficou desprezível. A ordem do ranking não muda,
+     * já que todas as pontuações são multiplicadas pelo mesmo fator.
+     */
+    @Scheduled(fixedDelayString = "${app.leaderboard.decay-interval-ms:3600000}",
+            initialDelayString = "${app.leaderboard.decay-interval-ms:3600000}")
+    public void decay() {
+        Board current = this.board;
+        if (current != null) {
+            current.decay(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Recalcula o ranking a partir das avaliações e das sessões concluídas.
+     * Sessões concluídas antes da carga contam a partir da data agendada, já
+     * que o momento da conclusão não é gravado. Os eventos que chegam enquanto
+     * o banco é lido são reaplicados sobre o novo ranking antes da troca.
+     */
+    @Scheduled(fixedDelayString = "${app.leaderboard.rebuild-interval-ms:86400000}",
+            initialDelayString = "${app.leaderboard.rebuild-interval-ms:86400000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pendingDuringRebuild = new ArrayList<>();
+            }
+            try {
+                Board rebuilt = new Board(halfLifeMillis, System.currentTimeMillis());
+
+                Map<Long, Set<InterestArea>> areas = new HashMap<>();
+                for (MentorRepository.InterestAreaRow row : mentorRepository.findAllInterestAreaRows()) {
+                    areas.computeIfAbsent(row.getMentorId(), id -> EnumSet.noneOf(InterestArea.class))
+                            .add(row.getArea());
+                }
+                for (MentorRepository.MatchRow row : mentorRepository.findAllMatchRows()) {
+                    rebuilt.setProfile(row.getId(), areas.getOrDefault(row.getId(), Set.of()), row.getCourse());
+                }
+
+                Set<Long> loadedReviews = new HashSet<>();
+                for (ReviewRepository.MentorScoreRow row : reviewRepository.findMentorScoreRows(UserRole.MENTORADO)) {
+                    rebuilt.add(row.getMentorId(), reviewPoints(row.getScore()), toMillis(row.getCreatedAt()));
+                    loadedReviews.add(row.getId());
+                }
+                Set<Long> loadedSessions = new HashSet<>();
+                for (SessionRepository.MentorSessionRow row : sessionRepository.findMentorSessionRows(Status.COMPLETED)) {
+                    rebuilt.add(row.getMentorId(), SESSION_WEIGHT, toMillis(row.getDate().atTime(row.getTime())));
+                    loadedSessions.add(row.getId());
+                }
+
+                synchronized (this) {
+                    // Os pontos se somam, então avaliações e sessões que a leitura
+                    // já viu não são reaplicadas
+                    for (Object event : pendingDuringRebuild) {
+                        if (event instanceof ReviewCreatedEvent review && loadedReviews.contains(review.reviewId())) {
+                            continue;
+                        }
+                        if (event instanceof CompletedSession session && loadedSessions.contains(session.sessionId())) {
+                            continue;
+                        }
+                        applyTo(rebuilt, event);
+                    }
+                    this.board = rebuilt;
+                }
+                logger.info("Ranking de mentores reconstruído com {} mentores pontuados", rebuilt.size());
+            } finally {
+                synchronized (this) {
+                    pendingDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    private synchronized void apply(Object event) {
+        if (board != null) {
+            applyTo(board, event);
+        }
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(event);
+        }
+    }
+
+    private void applyTo(Board target, Object event) {
+        if (event instanceof ReviewCreatedEvent review) {
+            target.add(review.mentorId(), reviewPoints(review.score()), toMillis(review.createdAt()));
+        } else if (event instanceof CompletedSession session) {
+            target.add(session.mentorId(), SESSION_WEIGHT, session.completedAtMillis());
+        } else if (event instanceof MentorChangedEvent mentor) {
+            if (mentor.isDeleted()) {
+                target.remove(mentor.mentorId());
+            } else {
+                target.setProfile(mentor.mentorId(), mentor.interestArea(), mentor.course());
+            }
+        }
+    }
+
+    private Board getBoard() {
+        if (board == null) {
+            ensureLoaded();
+        }
+        return board;
+    }
+
+    private void ensureLoaded() {
+        synchronized (rebuildLock) {
+            if (board == null) {
+                rebuild();
+            }
+        }
+    }
+
+    private static double reviewPoints(int score) {
+        return REVIEW_WEIGHT * (score - 3) / 2.0;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record Ranked(long mentorId, double score) {
+    }
+
+    // A conclusão guarda o instante em que o evento chegou, para que a
+    // reaplicação pontue como a aplicação original
+    private record CompletedSession(Long sessionId, Long mentorId, long completedAtMillis) {
+    }
+
+    private record Profile(Set<InterestArea> interestArea, Course course) {
+    }
+
+    private static final Comparator<Ranked> BEST_FIRST = Comparator.comparingDouble(Ranked::score).reversed()
+            .thenComparingLong(Ranked::mentorId);
+
+    /**
+     * Pontuações guardadas em relação a um instante de referência: um ponto
+     * ganho em {@code t} vale {@code 2^((t - referencia) / meiaVida)}. Assim o
+     * decaimento não altera a ordem e só precisa ser aplicado periodicamente,
+     * para trazer a referência para perto do presente.
+     */
+    private static final class Board {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final double halfLifeMillis;
+        private long referenceMillis;
+
+        private final Map<Long, Double> scores = new HashMap<>();
+        private final Map<Long, Profile> profiles = new HashMap<>();
+        private final NavigableSet<Ranked> overall = new TreeSet<>(BEST_FIRST);
+        private final Map<InterestArea, NavigableSet<Ranked>> byArea = new EnumMap<>(InterestArea.class);
+        private final Map<Course, NavigableSet<Ranked>> byCourse = new EnumMap<>(Course.class);
+
+        Board(double halfLifeMillis, long referenceMillis) {
+            this.halfLifeMillis = halfLifeMillis;
+            this.referenceMillis = referenceMillis;
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return scores.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void add(long mentorId, double points, long atMillis) {
+            lock.writeLock().lock();
+            try {
+                Double previous = scores.get(mentorId);
+                if (previous != null) {
+                    unlink(new Ranked(mentorId, previous));
+                }
+                double score = (previous != null ? previous : 0.0)
+                        + points * Math.pow(2.0, (atMillis - referenceMillis) / halfLifeMillis);
+                scores.put(mentorId, score);
+                link(new Ranked(mentorId, score));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void setProfile(long mentorId, Set<InterestArea> interestArea, Course course) {
+            lock.writeLock().lock();
+            try {
+                Double score = scores.get(mentorId);
+                if (score != null) {
+                    unlink(new Ranked(mentorId, score));
+                }
+                profiles.put(mentorId, new Profile(Set.copyOf(interestArea), course));
+                if (score != null) {
+                    link(new Ranked(mentorId, score));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(long mentorId) {
+            lock.writeLock().lock();
+            try {
+                Double score = scores.remove(mentorId);
+                if (score != null) {
+                    unlink(new Ranked(mentorId, score));
+                }
+                profiles.remove(mentorId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * Com área e curso, percorre o ranking da área e filtra pelo curso.
+         */
+        List<Ranked> top(InterestArea interestArea, Course course, int limit, long nowMillis) {
+            lock.readLock().lock();
+            try {
+                NavigableSet<Ranked> candidates;
+                if (interestArea != null) {
+                    candidates = byArea.get(interestArea);
+                } else if (course != null) {
+                    candidates = byCourse.get(course);
+                } else {
+                    candidates = overall;
+                }
+                if (candidates == null) {
+                    return List.of();
+                }
+
+                double factor = Math.pow(2.0, -(nowMillis - referenceMillis) / halfLifeMillis);
+                List<Ranked> top = new ArrayList<>(limit);
+                for (Ranked ranked : candidates) {
+                    if (top.size() == limit) {
+                        break;
+                    }
+                    if (interestArea != null && course != null
+                            && !Objects.equals(course, profileOf(ranked.mentorId()).course())) {
+                        continue;
+                    }
+                    top.add(new Ranked(ranked.mentorId(), ranked.score() * factor));
+                }
+                return top;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void decay(long nowMillis) {
+            lock.writeLock().lock();
+            try {
+                double factor = Math.pow(2.0, -(nowMillis - referenceMillis) / halfLifeMillis);
+                referenceMillis = nowMillis;
+
+                overall.clear();
+                byArea.clear();
+                byCourse.clear();
+                scores.replaceAll((id, score) -> score * factor);
+                scores.values().removeIf(score -> Math.abs(score) < MIN_SCORE);
+                scores.forEach((id, score) -> link(new Ranked(id, score)));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private Profile profileOf(long mentorId) {
+            return profiles.getOrDefault(mentorId, new Profile(Set.of(), null));
+        }
+
+        private void link(Ranked ranked) {
+            Profile profile = profileOf(ranked.mentorId());
+            overall.add(ranked);
+            for (InterestArea area : profile.interestArea()) {
+                byArea.computeIfAbsent(area, a -> new TreeSet<>(BEST_FIRST)).add(ranked);
+            }
+            if (profile.course() != null) {
+                byCourse.computeIfAbsent(profile.course(), c -> new TreeSet<>(BEST_FIRST)).add(ranked);
+            }
+        }
+
+        private void unlink(Ranked ranked) {
+            Profile profile = profileOf(ranked.mentorId());
+            overall.remove(ranked);
+            for (InterestArea area : profile.interestArea()) {
+                NavigableSet<Ranked> set = byArea.get(area);
+                if (set != null) {
+                    set.remove(ranked);
+                }
+            }
+            if (profile.course() != null) {
+                NavigableSet<Ranked> set = byCourse.get(profile.course());
+                if (set != null) {
+                    set.remove(ranked);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.MentorDTO;
+import br.edu.ufape.plataforma.mentoria.dto.MentoredDTO;
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
+import br.edu.ufape.plataforma.mentoria.mapper.MentorMapper;
+import br.edu.ufape.plataforma.mentoria.mapper.MentoredMapper;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.model.RatingSummary;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
+import br.edu.ufape.plataforma.mentoria.repository.RatingSummaryRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SessionRepository;
+import br.edu.ufape.plataforma.mentoria.util.TopK;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Sugestão de pares mentor–mentorado. Cada par recebe uma nota que combina a
+ * sobreposição de áreas de interesse, o curso, o vínculo do mentor, a sua
+ * avaliação média e a quantidade de sessões em aberto. Os melhores mentores de
+ * todos os mentorados são calculados em lote, em paralelo, e servidos de
+ * memória até o próximo recálculo.
+ */
+@Service
+public class MentorMatchingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MentorMatchingService.class);
+
+    public static final int MAX_MATCHES = 10;
+
+    // Pesos de cada sinal na nota final
+    private static final double OVERLAP_WEIGHT = 0.4;
+    private static final double COURSE_WEIGHT = 0.15;
+    private static final double AFFILIATION_WEIGHT = 0.1;
+    private static final double RATING_WEIGHT = 0.2;
+    private static final double LOAD_WEIGHT = 0.15;
+
+    // Média bayesiana: mentores com poucas avaliações ficam próximos da nota neutra
+    private static final double PRIOR_SCORE = 3.0;
+    private static final double PRIOR_REVIEWS = 2.0;
+
+    private static final List<Status> OPEN_STATUSES = List.of(Status.PENDING, Status.ACCEPTED);
+
+    private static final Map<AffiliationType, Double> AFFILIATION_SCORES = new EnumMap<>(Map.of(
+            AffiliationType.DOCENTE, 1.0,
+            AffiliationType.PESQUISADOR, 1.0,
+            AffiliationType.ALUNO_POS_GRADUACAO, 0.8,
+            AffiliationType.TECNICO_ADMINISTRATIVO, 0.6,
+            AffiliationType.GESTOR, 0.6,
+            AffiliationType.TERCEIRIZADO, 0.4));
+
+    private final MentorRepository mentorRepository;
+    private final MentoredRepository mentoredRepository;
+    private final RatingSummaryRepository ratingSummaryRepository;
+    private final SessionRepository sessionRepository;
+    private final MentorMapper mentorMapper;
+    private final MentoredMapper mentoredMapper;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Perfis de mentores e mentorados em arrays paralelos. A parte da nota que
+     * depende só do mentor (vínculo, avaliação e carga) já vem somada em
+     * {@code mentorBase}. Os caches pertencem ao snapshot e são descartados
+     * junto com ele.
+     */
+    private record Snapshot(long[] mentorIds, long[] mentorMasks, byte[] mentorCourses, double[] mentorBase,
+            long[] mentoredIds, long[] mentoredMasks, byte[] mentoredCourses,
+            Map<Long, long[]> mentorsByMentored, Map<Long, long[]> mentoredsByMentor) {
+    }
+
+    public MentorMatchingService(MentorRepository mentorRepository,
+            MentoredRepository mentoredRepository,
+            RatingSummaryRepository ratingSummaryRepository,
+            SessionRepository sessionRepository,
+            MentorMapper mentorMapper,
+            MentoredMapper mentoredMapper) {
+        this.mentorRepository = mentorRepository;
+        this.mentoredRepository = mentoredRepository;
+        this.ratingSummaryRepository = ratingSummaryRepository;
+        this.sessionRepository = sessionRepository;
+        this.mentorMapper = mentorMapper;
+        this.mentoredMapper = mentoredMapper;
+    }
+
+    /**
+     * Os mentores mais compatíveis com o mentorado do usuário, do melhor para o pior.
+     */
+    @Transactional(readOnly = true)
+    public List<MentorDTO> matchMentors(Long userId) {
+        Long mentoredId = mentoredRepository.findIdByUserId(userId)
+                .orElseThrow(() -> new EntityNotFoundException(Mentored.class, userId));
+
+        Snapshot current = getSnapshot();
+        long[] ids = current.mentorsByMentored().get(mentoredId);
+        if (ids == null) {
+            // Mentorado cadastrado depois do último cálculo
+            Mentored mentored = mentoredRepository.findById(mentoredId)
+                    .orElseThrow(() -> new EntityNotFoundException(Mentored.class, mentoredId));
+            ids = rankMentors(current, MaterialInterestIndex.toMask(mentored.getInterestArea()),
+                    ordinal(mentored.getCourse()), MAX_MATCHES);
+            current.mentorsByMentored().put(mentoredId, ids);
+        }
+        return findAllInOrder(ids, mentorRepository::findAllById, Mentor::getId, mentorMapper::toDTO);
+    }
+
+    /**
+     * Os mentorados mais compatíveis com o mentor do usuário, considerando só
+     * áreas de interesse e curso. Calculado sob demanda e guardado até o
+     * próximo recálculo.
+     */
+    @Transactional(readOnly = true)
+    public List<MentoredDTO> matchMentoreds(Long userId) {
+        Long mentorId = mentorRepository.findIdByUserId(userId)
+                .orElseThrow(() -> new EntityNotFoundException(Mentor.class, userId));
+
+        Snapshot current = getSnapshot();
+        long[] ids = current.mentoredsByMentor().get(mentorId);
+        if (ids == null) {
+            Mentor mentor = mentorRepository.findById(mentorId)
+                    .orElseThrow(() -> new EntityNotFoundException(Mentor.class, mentorId));
+            ids = rankMentoreds(current, MaterialInterestIndex.toMask(mentor.getInterestArea()),
+                    ordinal(mentor.getCourse()), MAX_MATCHES);
+            current.mentoredsByMentor().put(mentorId, ids);
+        }
+        return findAllInOrder(ids, mentoredRepository::findAllById, Mentored::getId, mentoredMapper::toDTO);
+    }
+
+    /**
+     * Relê os perfis, avaliações e sessões do banco e recalcula os melhores
+     * mentores de todos os mentorados, distribuindo o cálculo entre os núcleos.
+     */
+    @Scheduled(fixedDelayString = "${app.matching.refresh-interval-ms:900000}",
+            initialDelayString = "${app.matching.refresh-interval-ms:900000}")
+    public void refreshMatches() {
+        Snapshot profiles = loadProfiles();
+
+        long[][] results = new long[profiles.mentoredIds().length][];
+        IntStream.range(0, results.length).parallel().forEach(i -> results[i] = rankMentors(profiles,
+                profiles.mentoredMasks()[i], profiles.mentoredCourses()[i], MAX_MATCHES));
+
+        for (int i = 0; i < results.length; i++) {
+            profiles.mentorsByMentored().put(profiles.mentoredIds()[i], results[i]);
+        }
+        this.snapshot = profiles;
+        logger.info("Sugestões de mentores recalculadas para {} mentorados", results.length);
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = this.snapshot;
+                if (current == null) {
+                    refreshMatches();
+                    current = this.snapshot;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Mentorados com áreas de interesse só recebem mentores que compartilham
+     * alguma delas.
+     */
+    private static long[] rankMentors(Snapshot snapshot, long mentoredMask, int mentoredCourse, int limit) {
+        int mentoredAreas = Long.bitCount(mentoredMask);
+        TopK topK = new TopK(limit);
+        for (int i = 0; i < snapshot.mentorIds().length; i++) {
+            long shared = snapshot.mentorMasks()[i] & mentoredMask;
+            if (mentoredAreas > 0 && shared == 0L) {
+                continue;
+            }
+
+            double score = snapshot.mentorBase()[i];
+            if (mentoredAreas > 0) {
+                score += OVERLAP_WEIGHT * Long.bitCount(shared) / mentoredAreas;
+            }
+            if (mentoredCourse >= 0 && snapshot.mentorCourses()[i] == mentoredCourse) {
+                score += COURSE_WEIGHT;
+            }
+            topK.offer(snapshot.mentorIds()[i], score);
+        }
+        return topK.toSortedIds();
+    }
+
+    private static long[] rankMentoreds(Snapshot snapshot, long mentorMask, int mentorCourse, int limit) {
+        TopK topK = new TopK(limit);
+        for (int i = 0; i < snapshot.mentoredIds().length; i++) {
+            long mentoredMask = snapshot.mentoredMasks()[i];
+            long shared = mentoredMask & mentorMask;
+            if (shared == 0L) {
+                continue;
+            }
+
+            double score = OVERLAP_WEIGHT * Long.bitCount(shared) / Long.bitCount(mentoredMask);
+            if (mentorCourse >= 0 && snapshot.mentoredCourses()[i] == mentorCourse) {
+                score += COURSE_WEIGHT;
+            }
+            topK.offer(snapshot.mentoredIds()[i], score);
+        }
+        return topK.toSortedIds();
+    }
+
+    private Snapshot loadProfiles() {
+        Map<Long, Long> mentorMasks = new HashMap<>();
+        for (MentorRepository.InterestAreaRow row : mentorRepository.findAllInterestAreaRows()) {
+            mentorMasks.merge(row.getMentorId(), mask(row.getArea()), (a, b) -> a | b);
+        }
+        Map<Long, Double> ratings = new HashMap<>();
+        for (RatingSummary summary : ratingSummaryRepository.findByProfileRole(UserRole.MENTOR)) {
+            double average = (summary.getScoreSum() + PRIOR_SCORE * PRIOR_REVIEWS)
+                    / (summary.getReviewCount() + PRIOR_REVIEWS);
+            ratings.put(summary.getProfileId(), (average - 1.0) / 4.0);
+        }
+        Map<Long, Long> openSessions = new HashMap<>();
+        for (SessionRepository.MentorLoadRow row : sessionRepository.countSessionsByMentor(OPEN_STATUSES)) {
+            openSessions.put(row.getMentorId(), row.getSessionCount());
+        }
+
+        List<MentorRepository.MatchRow> mentors = mentorRepository.findAllMatchRows();
+        long[] mentorIds = new long[mentors.size()];
+        long[] mentorMaskArray = new long[mentors.size()];
+        byte[] mentorCourses = new byte[mentors.size()];
+        double[] mentorBase = new double[mentors.size()];
+        double neutralRating = (PRIOR_SCORE - 1.0) / 4.0;
+        for (int i = 0; i < mentors.size(); i++) {
+            MentorRepository.MatchRow row = mentors.get(i);
+            mentorIds[i] = row.getId();
+            mentorMaskArray[i] = mentorMasks.getOrDefault(row.getId(), 0L);
+            mentorCourses[i] = (byte) ordinal(row.getCourse());
+            mentorBase[i] = AFFILIATION_WEIGHT * AFFILIATION_SCORES.getOrDefault(row.getAffiliationType(), 0.0)
+                    + RATING_WEIGHT * ratings.getOrDefault(row.getId(), neutralRating)
+                    + LOAD_WEIGHT / (1.0 + openSessions.getOrDefault(row.getId(), 0L));
+        }
+
+        Map<Long, Long> mentoredMasks = new HashMap<>();
+        for (MentoredRepository.InterestAreaRow row : mentoredRepository.findAllInterestAreaRows()) {
+            mentoredMasks.merge(row.getMentoredId(), mask(row.getArea()), (a, b) -> a | b);
+        }
+        List<MentoredRepository.MatchRow> mentoreds = mentoredRepository.findAllMatchRows();
+        long[] mentoredIds = new long[mentoreds.size()];
+        long[] mentoredMaskArray = new long[mentoreds.size()];
+        byte[] mentoredCourses = new byte[mentoreds.size()];
+        for (int i = 0; i < mentoreds.size(); i++) {
+            MentoredRepository.MatchRow row = mentoreds.get(i);
+            mentoredIds[i] = row.getId();
+            mentoredMaskArray[i] = mentoredMasks.getOrDefault(row.getId(), 0L);
+            mentoredCourses[i] = (byte) ordinal(row.getCourse());
+        }
+
+        return new Snapshot(mentorIds, mentorMaskArray, mentorCourses, mentorBase,
+                mentoredIds, mentoredMaskArray, mentoredCourses,
+                new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+    }
+
+    private static long mask(InterestArea area) {
+        return area != null ? 1L << area.ordinal() : 0L;
+    }
+
+    private static int ordinal(Course course) {
+        return course != null ? course.ordinal() : -1;
+    }
+
+    private static <E, D> List<D> findAllInOrder(long[] ids, Function<List<Long>, List<E>> findAllById,
+            Function<E, Long> idOf, Function<E, D> toDTO) {
+        if (ids.length == 0) {
+            return new ArrayList<>();
+        }
+
+        List<Long> idList = Arrays.stream(ids).boxed().toList();
+        Map<Long, E> entitiesById = findAllById.apply(idList)
+                .stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+
+        return idList.stream()
+                .map(entitiesById::get)
+                .filter(Objects::nonNull)
+                .map(toDTO)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,254 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.event.MentorChangedEvent;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.util.SearchText;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice em memória para a busca de mentores. As áreas de interesse de cada
+ * mentor ficam em uma máscara de bits e as especializações e o resumo
+ * profissional em índices invertidos de trigramas, sem acentos e em
+ * minúsculas, o que tolera palavras incompletas e pequenos erros de digitação.
+ */
+@Component
+public class MentorSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(MentorSearchIndex.class);
+
+    // Fração mínima dos trigramas de uma palavra que precisa ser encontrada
+    private static final double MIN_SIMILARITY = 0.5;
+
+    // Ocorrências no resumo profissional valem menos que nas especializações
+    private static final double SUMMARY_WEIGHT = 0.5;
+
+    private final MentorRepository mentorRepository;
+
+    private volatile State state;
+
+    /**
+     * Estado do índice. Os mapas são concorrentes: as escritas são
+     * serializadas e as leituras não usam lock.
+     */
+    private record State(Map<Long, Entry> entries, Map<String, Set<Long>> specializationPostings,
+            Map<String, Set<Long>> summaryPostings) {
+
+        static State empty() {
+            return new State(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+
+    private record Entry(long mask, Set<String> specializationGrams, Set<String> summaryGrams) {
+    }
+
+    public MentorSearchIndex(MentorRepository mentorRepository) {
+        this.mentorRepository = mentorRepository;
+    }
+
+    /**
+     * IDs dos mentores que atendem à busca, do mais relevante para o menos.
+     * Sem texto, retorna os mentores da área em ordem de ID.
+     *
+     * @param interestArea A área de interesse exigida, ou {@code null} para qualquer área.
+     * @param text         O texto digitado, comparado com especializações e resumo.
+     * @param limit        A quantidade máxima de resultados.
+     */
+    public List<Long> search(InterestArea interestArea, String text, int limit) {
+        State current = getState();
+        long areaMask = interestArea != null ? 1L << interestArea.ordinal() : 0L;
+        List<String> terms = SearchText.tokens(text).stream().filter(term -> term.length() >= 2).toList();
+
+        if (terms.isEmpty()) {
+            if (interestArea == null) {
+                return List.of();
+            }
+            return current.entries().entrySet().stream()
+                    .filter(entry -> matchesArea(entry.getValue(), areaMask))
+                    .map(Map.Entry::getKey)
+                    .sorted()
+                    .limit(limit)
+                    .toList();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : terms) {
+            Set<String> grams = SearchText.queryGrams(term);
+            Map<Long, Integer> specializationHits = countHits(current.specializationPostings(), grams);
+            Map<Long, Integer> summaryHits = countHits(current.summaryPostings(), grams);
+
+            Set<Long> candidates = new HashSet<>(specializationHits.keySet());
+            candidates.addAll(summaryHits.keySet());
+            for (Long id : candidates) {
+                double specializationScore = specializationHits.getOrDefault(id, 0) / (double) grams.size();
+                double summaryScore = summaryHits.getOrDefault(id, 0) / (double) grams.size();
+                double termScore = Math.max(
+                        specializationScore >= MIN_SIMILARITY ? specializationScore : 0.0,
+                        summaryScore >= MIN_SIMILARITY ? summaryScore * SUMMARY_WEIGHT : 0.0);
+                if (termScore > 0.0) {
+                    scores.merge(id, termScore, Double::sum);
+                }
+            }
+        }
+
+        return scores.entrySet().stream()
+                .filter(score -> {
+                    Entry entry = current.entries().get(score.getKey());
+                    return entry != null && matchesArea(entry, areaMask);
+                })
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public int size() {
+        return getState().entries().size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMentorChanged(MentorChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.mentorId());
+        } else {
+            put(event.mentorId(), event.interestArea(), event.specializations(), event.professionalSummary());
+        }
+    }
+
+    public synchronized void put(long mentorId, Collection<InterestArea> interestArea,
+            Collection<String> specializations, String professionalSummary) {
+        State current = getState();
+        remove(current, mentorId);
+        add(current, mentorId, interestArea, specializations, professionalSummary);
+    }
+
+    public synchronized void remove(long mentorId) {
+        remove(getState(), mentorId);
+    }
+
+    /**
+     * Reconstrói o índice a partir do banco, corrigindo qualquer divergência
+     * causada por alterações feitas fora desta instância.
+     */
+    @Scheduled(fixedDelayString = "${app.mentors.index.rebuild-interval-ms:1800000}",
+            initialDelayString = "${app.mentors.index.rebuild-interval-ms:1800000}")
+    public synchronized void rebuild() {
+        Map<Long, Set<InterestArea>> areas = new HashMap<>();
+        for (MentorRepository.InterestAreaRow row : mentorRepository.findAllInterestAreaRows()) {
+            areas.computeIfAbsent(row.getMentorId(), id -> new HashSet<>()).add(row.getArea());
+        }
+        Map<Long, List<String>> specializations = new HashMap<>();
+        for (MentorRepository.SpecializationRow row : mentorRepository.findAllSpecializationRows()) {
+            specializations.computeIfAbsent(row.getMentorId(), id -> new ArrayList<>()).add(row.getSpecialization());
+        }
+
+        State rebuilt = State.empty();
+        List<MentorRepository.SummaryRow> rows = mentorRepository.findAllSummaryRows();
+        for (MentorRepository.SummaryRow row : rows) {
+            add(rebuilt, row.getId(), areas.getOrDefault(row.getId(), Set.of()),
+                    specializations.getOrDefault(row.getId(), List.of()), row.getProfessionalSummary());
+        }
+
+        this.state = rebuilt;
+        logger.info("Índice de busca de mentores reconstruído com {} mentores", rows.size());
+    }
+
+    private State getState() {
+        State current = this.state;
+        if (current == null) {
+            synchronized (this) {
+                current = this.state;
+                if (current == null) {
+                    rebuild();
+                    current = this.state;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static void add(State state, long mentorId, Collection<InterestArea> interestArea,
+            Collection<String> specializations, String professionalSummary) {
+        long mask = 0L;
+        if (interestArea != null) {
+            for (InterestArea area : interestArea) {
+                if (area != null) {
+                    mask |= 1L << area.ordinal();
+                }
+            }
+        }
+
+        Set<String> specializationGrams = new HashSet<>();
+        if (specializations != null) {
+            for (String specialization : specializations) {
+                specializationGrams.addAll(grams(specialization));
+            }
+        }
+        Set<String> summaryGrams = grams(professionalSummary);
+
+        state.entries().put(mentorId, new Entry(mask, specializationGrams, summaryGrams));
+        addPostings(state.specializationPostings(), specializationGrams, mentorId);
+        addPostings(state.summaryPostings(), summaryGrams, mentorId);
+    }
+
+    private static void remove(State state, long mentorId) {
+        Entry entry = state.entries().remove(mentorId);
+        if (entry != null) {
+            removePostings(state.specializationPostings(), entry.specializationGrams(), mentorId);
+            removePostings(state.summaryPostings(), entry.summaryGrams(), mentorId);
+        }
+    }
+
+    private static boolean matchesArea(Entry entry, long areaMask) {
+        return areaMask == 0L || (entry.mask() & areaMask) != 0L;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (String token : SearchText.tokens(text)) {
+            grams.addAll(SearchText.indexGrams(token));
+        }
+        return grams;
+    }
+
+    private static void addPostings(Map<String, Set<Long>> postings, Set<String> grams, long mentorId) {
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(mentorId);
+        }
+    }
+
+    private static void removePostings(Map<String, Set<Long>> postings, Set<String> grams, long mentorId) {
+        for (String gram : grams) {
+            postings.computeIfPresent(gram, (key, ids) -> {
+                ids.remove(mentorId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static Map<Long, Integer> countHits(Map<String, Set<Long>> postings, Set<String> grams) {
+        Map<Long, Integer> hits = new HashMap<>();
+        for (String gram : grams) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                for (Long id : ids) {
+                    hits.merge(id, 1, Integer::sum);
+                }
+            }
+        }
+        return hits;
+    }
+}
@@ -1,27 +1,44 @@
 package br.edu.ufape.plataforma.mentoria.service;
 
+import br.edu.ufape.plataforma.mentoria.dto.CursorPage;
 import br.edu.ufape.plataforma.mentoria.dto.MentorDTO;
+import br.edu.ufape.plataforma.mentoria.dto.RatingSummaryDTO;
 import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
 import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
 import br.edu.ufape.plataforma.mentoria.mapper.MentorMapper;
 import br.edu.ufape.plataforma.mentoria.model.Mentor;
 import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
 import br.edu.ufape.plataforma.mentoria.service.contract.MentorSearchServiceInterface;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 public class MentorSearchService implements MentorSearchServiceInterface {
 
+    // Quantidade máxima de mentores retornados pela busca
+    static final int MAX_SEARCH_RESULTS = 50;
+
     private final MentorRepository mentorRepository;
     private final MentorMapper mentorMapper;
+    private final MentorSearchIndex searchIndex;
+    private final RatingSummaryService ratingSummaryService;
 
-    public MentorSearchService(MentorRepository mentorRepository, MentorMapper mentorMapper) {
+    public MentorSearchService(MentorRepository mentorRepository, MentorMapper mentorMapper,
+            MentorSearchIndex searchIndex, RatingSummaryService ratingSummaryService) {
         this.mentorRepository = mentorRepository;
         this.mentorMapper = mentorMapper;
+        this.searchIndex = searchIndex;
+        this.ratingSummaryService = ratingSummaryService;
     }
 
     @Override
@@ -34,7 +51,9 @@ public class MentorSearchService implements MentorSearchServiceInterface {
     public MentorDTO getMentorDetailsDTO(Long id) {
         Mentor mentor = mentorRepository.findById(id)
             .orElseThrow(() -> new EntityNotFoundException("Mentor not found with ID: " + id));
-        return mentorMapper.toDTO(mentor);
+        MentorDTO dto = mentorMapper.toDTO(mentor);
+        dto.setRating(ratingSummaryService.getSummary(id, UserRole.MENTOR));
+        return dto;
     }
 
     @Override
@@ -42,22 +61,88 @@ public class MentorSearchService implements MentorSearchServiceInterface {
         return mentorRepository.findAll();
     }
 
+    /**
+     * Lista os mentores por cursor. As colunas escalares vêm de uma consulta
+     * por projeção e as coleções de uma consulta cada, só para os IDs da página.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<MentorDTO> getMentorsPage(long afterId, int size) {
+        List<MentorRepository.MentorRow> rows = mentorRepository.findPageAfter(afterId, Limit.of(size + 1));
+        CursorPage<MentorRepository.MentorRow> page = CursorPage.of(rows, size, MentorRepository.MentorRow::getId);
+        if (page.items().isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+
+        List<Long> ids = page.items().stream().map(MentorRepository.MentorRow::getId).toList();
+        Map<Long, List<String>> specializations = new HashMap<>();
+        for (MentorRepository.SpecializationRow row : mentorRepository.findSpecializationRows(ids)) {
+            specializations.computeIfAbsent(row.getMentorId(), id -> new ArrayList<>()).add(row.getSpecialization());
+        }
+        Map<Long, List<InterestArea>> interestAreas = new HashMap<>();
+        for (MentorRepository.InterestAreaRow row : mentorRepository.findInterestAreaRows(ids)) {
+            interestAreas.computeIfAbsent(row.getMentorId(), id -> new ArrayList<>()).add(row.getArea());
+        }
+
+        List<MentorDTO> mentors = page.items().stream().map(row -> {
+            MentorDTO dto = new MentorDTO();
+            dto.setId(row.getId());
+            dto.setFullName(row.getFullName());
+            dto.setCpf(row.getCpf());
+            dto.setBirthDate(row.getBirthDate());
+            dto.setCourse(row.getCourse());
+            dto.setProfessionalSummary(row.getProfessionalSummary());
+            dto.setAffiliationType(row.getAffiliationType());
+            dto.setSpecializations(specializations.getOrDefault(row.getId(), new ArrayList<>()));
+            dto.setInterestArea(interestAreas.getOrDefault(row.getId(), new ArrayList<>()));
+            return dto;
+        }).toList();
+        return new CursorPage<>(withRatings(mentors), page.nextCursor());
+    }
+
     @Override
     public MentorDTO getCurrentMentor() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         String email = auth.getName();
 
-        return mentorRepository.findByUserEmail(email)
+        MentorDTO dto = mentorRepository.findByUserEmail(email)
                 .map(mentorMapper::toDTO)
                 .orElseThrow(() -> new EntityNotFoundException(Mentor.class, email));
+        dto.setRating(ratingSummaryService.getSummary(dto.getId(), UserRole.MENTOR));
+        return dto;
     }
 
+    /**
+     * Busca mentores pelo índice em memória, ordenados por relevância. A área
+     * é opcional e o texto pode ser parte de uma especialização ou do resumo
+     * profissional, sem diferenciar acentos e maiúsculas.
+     */
     @Override
+    @Transactional(readOnly = true)
     public List<MentorDTO> findByInterestAreaAndSpecializations(InterestArea interestArea, String specialization) {
-        List<Mentor> mentors = mentorRepository.findByInterestAreaAndSpecializationsContaining(interestArea,
-                specialization);
-        return mentors.stream()
+        List<Long> ids = searchIndex.search(interestArea, specialization, MAX_SEARCH_RESULTS);
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Mentor> mentorsById = new HashMap<>();
+        for (Mentor mentor : mentorRepository.findAllById(ids)) {
+            mentorsById.put(mentor.getId(), mentor);
+        }
+        return withRatings(ids.stream()
+                .map(mentorsById::get)
+                .filter(Objects::nonNull)
                 .map(mentorMapper::toDTO)
-                .toList();
+                .toList());
+    }
+
+    /**
+     * Preenche o resumo de avaliações dos mentores com uma única consulta.
+     */
+    private List<MentorDTO> withRatings(List<MentorDTO> mentors) {
+        Map<Long, RatingSummaryDTO> ratings = ratingSummaryService.getSummaries(
+                mentors.stream().map(MentorDTO::getId).toList(), UserRole.MENTOR);
+        mentors.forEach(mentor -> mentor.setRating(ratings.get(mentor.getId())));
+        return mentors;
     }
 }
@@ -1,11 +1,14 @@
 package br.edu.ufape.plataforma.mentoria.service;
 
 import br.edu.ufape.plataforma.mentoria.service.contract.MentorServiceInterface;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import br.edu.ufape.plataforma.mentoria.dto.MentorDTO;
 import br.edu.ufape.plataforma.mentoria.dto.UpdateMentorDTO;
+import br.edu.ufape.plataforma.mentoria.event.MentorChangedEvent;
 import br.edu.ufape.plataforma.mentoria.exceptions.AttributeAlreadyInUseException;
 import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
 import br.edu.ufape.plataforma.mentoria.mapper.MentorMapper;
@@ -14,21 +17,29 @@ import br.edu.ufape.plataforma.mentoria.model.User;
 import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
 import br.edu.ufape.plataforma.mentoria.repository.UserRepository;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
 @Service
+@Transactional
 public class MentorService implements MentorServiceInterface {
     private final MentorRepository mentorRepository;
     private final MentorMapper mentorMapper;
     private final UserRepository userRepository;
     private final MentorSearchService mentorSearchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MentorService(MentorRepository mentorRepository,
                         MentorMapper mentorMapper,
                         UserRepository userRepository,
-                        MentorSearchService mentorSearchService) {
+                        MentorSearchService mentorSearchService,
+                        ApplicationEventPublisher eventPublisher) {
         this.mentorRepository = mentorRepository;
         this.mentorMapper = mentorMapper;
         this.userRepository = userRepository;
         this.mentorSearchService = mentorSearchService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -47,13 +58,16 @@ public class MentorService implements MentorServiceInterface {
 
         mentor.setUser(user);
         Mentor savedMentor = mentorRepository.save(mentor);
+        publishChanged(savedMentor);
         return mentorMapper.toDTO(savedMentor);
     }
     @Override
     public Mentor updateMentor(Long id, Mentor mentor) {
         if (mentorRepository.existsById(id)) {
             mentor.setId(id);
-            return mentorRepository.save(mentor);
+            Mentor savedMentor = mentorRepository.save(mentor);
+            publishChanged(savedMentor);
+            return savedMentor;
         }
         throw new EntityNotFoundException(Mentor.class, id);
     }
@@ -68,6 +82,7 @@ public class MentorService implements MentorServiceInterface {
         mentorToUpdate.setUser(existingMentor.getUser());
         
         Mentor updatedMentor = mentorRepository.save(mentorToUpdate);
+        publishChanged(updatedMentor);
         
         return mentorMapper.toDTO(updatedMentor);
     }
@@ -103,7 +118,9 @@ public class MentorService implements MentorServiceInterface {
             mentor.setSpecializations(dto.getSpecializations());
         }
 
-        return mentorRepository.save(mentor);
+        Mentor savedMentor = mentorRepository.save(mentor);
+        publishChanged(savedMentor);
+        return savedMentor;
     }
     @Override
     public void deleteById(Long id){
@@ -111,6 +128,20 @@ public class MentorService implements MentorServiceInterface {
             throw new EntityNotFoundException(Mentor.class, id);
         }
         mentorRepository.deleteById(id);
+        eventPublisher.publishEvent(MentorChangedEvent.deleted(id));
+    }
+
+    /**
+     * Notifica os índices de busca; eles só são atualizados após o commit
+     */
+    private void publishChanged(Mentor mentor) {
+        if (mentor == null) {
+            return;
+        }
+        eventPublisher.publishEvent(new MentorChangedEvent(mentor.getId(),
+                mentor.getInterestArea() != null ? new HashSet<>(mentor.getInterestArea()) : new HashSet<>(),
+                mentor.getSpecializations() != null ? new ArrayList<>(mentor.getSpecializations()) : List.of(),
+                mentor.getProfessionalSummary(), mentor.getCourse(), mentor.getAffiliationType()));
     }
 
 
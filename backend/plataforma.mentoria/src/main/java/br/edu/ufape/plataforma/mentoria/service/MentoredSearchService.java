@@ -10,6 +10,7 @@ import br.edu.ufape.plataforma.mentoria.service.contract.MentoredSearchServiceIn
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -45,6 +46,7 @@ public class MentoredSearchService implements MentoredSearchServiceInterface {
                 .orElseThrow(() -> new EntityNotFoundException(Mentored.class, email));
     }
     @Override
+    @Transactional(readOnly = true)
     public List<MentoredDTO> findByInterestArea(InterestArea interestArea) {
         List<Mentored> mentoreds = mentoredRepository.findByInterestArea(interestArea);
         return mentoreds.stream()
@@ -1,37 +1,52 @@
 package br.edu.ufape.plataforma.mentoria.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+
+import br.edu.ufape.plataforma.mentoria.dto.CursorPage;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
 
 import br.edu.ufape.plataforma.mentoria.model.User;
 import br.edu.ufape.plataforma.mentoria.repository.UserRepository;
 import br.edu.ufape.plataforma.mentoria.service.contract.MentoredServiceInterface;
 import br.edu.ufape.plataforma.mentoria.dto.MentoredDTO;
 import br.edu.ufape.plataforma.mentoria.dto.UpdateMentoredDTO;
+import br.edu.ufape.plataforma.mentoria.event.MentoredChangedEvent;
 import br.edu.ufape.plataforma.mentoria.exceptions.AttributeAlreadyInUseException;
 import br.edu.ufape.plataforma.mentoria.mapper.MentoredMapper;
 import br.edu.ufape.plataforma.mentoria.model.Mentored;
 import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
 import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Transactional
 public class MentoredService implements MentoredServiceInterface {
 
     private final MentoredRepository mentoredRepository;
     private final MentoredSearchService mentoredSearchService;
     private final MentoredMapper mentoredMapper;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MentoredService(MentoredRepository mentoredRepository,
                            MentoredSearchService mentoredSearchService,
                            MentoredMapper mentoredMapper,
-                           UserRepository userRepository) {
+                           UserRepository userRepository,
+                           ApplicationEventPublisher eventPublisher) {
         this.mentoredRepository = mentoredRepository;
         this.mentoredSearchService = mentoredSearchService;
         this.mentoredMapper = mentoredMapper;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -39,6 +54,40 @@ public class MentoredService implements MentoredServiceInterface {
         return mentoredRepository.findAll();
     }
 
+    /**
+     * Lista os mentorados por cursor. As áreas de interesse da página são
+     * buscadas em uma única consulta.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<MentoredDTO> getMentoredPage(long afterId, int size) {
+        List<MentoredRepository.MentoredRow> rows = mentoredRepository.findPageAfter(afterId, Limit.of(size + 1));
+        CursorPage<MentoredRepository.MentoredRow> page = CursorPage.of(rows, size,
+                MentoredRepository.MentoredRow::getId);
+        if (page.items().isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+
+        List<Long> ids = page.items().stream().map(MentoredRepository.MentoredRow::getId).toList();
+        Map<Long, List<InterestArea>> interestAreas = new HashMap<>();
+        for (MentoredRepository.InterestAreaRow row : mentoredRepository.findInterestAreaRows(ids)) {
+            interestAreas.computeIfAbsent(row.getMentoredId(), id -> new ArrayList<>()).add(row.getArea());
+        }
+
+        List<MentoredDTO> mentoreds = page.items().stream().map(row -> {
+            MentoredDTO dto = new MentoredDTO();
+            dto.setId(row.getId());
+            dto.setFullName(row.getFullName());
+            dto.setCpf(row.getCpf());
+            dto.setBirthDate(row.getBirthDate());
+            dto.setCourse(row.getCourse());
+            dto.setAcademicSummary(row.getAcademicSummary());
+            dto.setInterestArea(interestAreas.getOrDefault(row.getId(), new ArrayList<>()));
+            return dto;
+        }).toList();
+        return new CursorPage<>(mentoreds, page.nextCursor());
+    }
+
     @Override
     public MentoredDTO createMentored(MentoredDTO mentoredDTO) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -52,13 +101,16 @@ public class MentoredService implements MentoredServiceInterface {
 
         mentored.setUser(user);
         Mentored savedMentored = mentoredRepository.save(mentored); // Salva o objeto já configurado
+        publishChanged(savedMentored);
         return mentoredMapper.toDTO(savedMentored);
     }
     @Override
     public Mentored updateMentored(Long id, Mentored mentored) {
         if (mentoredRepository.existsById(id)) {
             mentored.setId(id);
-            return mentoredRepository.save(mentored);
+            Mentored savedMentored = mentoredRepository.save(mentored);
+            publishChanged(savedMentored);
+            return savedMentored;
         }
         throw new EntityNotFoundException(Mentored.class, id);
     }
@@ -72,6 +124,7 @@ public class MentoredService implements MentoredServiceInterface {
         mentoredToUpdate.setUser(existingMentored.getUser());
         
         Mentored updatedMentored = mentoredRepository.save(mentoredToUpdate);
+        publishChanged(updatedMentored);
         
         return mentoredMapper.toDTO(updatedMentored);
     }
@@ -99,7 +152,9 @@ public class MentoredService implements MentoredServiceInterface {
             mentored.setInterestArea(dto.getInterestArea());
         }
 
-        return mentoredRepository.save(mentored);
+        Mentored savedMentored = mentoredRepository.save(mentored);
+        publishChanged(savedMentored);
+        return savedMentored;
     }
     @Override
     public void deleteById(Long id) {
@@ -107,7 +162,18 @@ public class MentoredService implements MentoredServiceInterface {
             throw new EntityNotFoundException(Mentored.class, id);
         }
         mentoredRepository.deleteById(id);
+        eventPublisher.publishEvent(MentoredChangedEvent.deleted(id));
     }
 
-
+    /**
+     * Avisa os índices em memória; os ouvintes só aplicam a alteração depois do commit.
+     */
+    private void publishChanged(Mentored mentored) {
+        if (mentored == null) {
+            return;
+        }
+        eventPublisher.publishEvent(new MentoredChangedEvent(mentored.getId(),
+                mentored.getInterestArea() != null ? new HashSet<>(mentored.getInterestArea()) : new HashSet<>(),
+                mentored.getCourse()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,228 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.event.MentorChangedEvent;
+import br.edu.ufape.plataforma.mentoria.event.MentoredChangedEvent;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
+import br.edu.ufape.plataforma.mentoria.util.FacetIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Índices de facetas de mentores (curso, vínculo e áreas de interesse) e de
+ * mentorados (curso e áreas de interesse), mantidos a partir dos eventos de
+ * alteração e reconstruídos periodicamente a partir do banco.
+ */
+@Component
+public class ProfileFacetIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfileFacetIndex.class);
+
+    public static final String COURSE = "course";
+    public static final String AFFILIATION_TYPE = "affiliationType";
+    public static final String INTEREST_AREA = "interestArea";
+
+    private final MentorRepository mentorRepository;
+    private final MentoredRepository mentoredRepository;
+
+    private final Object rebuildLock = new Object();
+
+    private volatile FacetIndex mentors;
+    private volatile FacetIndex mentoreds;
+    // Eventos recebidos durante uma reconstrução, protegidos pelo monitor da instância
+    private List<Object> pendingDuringRebuild;
+
+    public ProfileFacetIndex(MentorRepository mentorRepository, MentoredRepository mentoredRepository) {
+        this.mentorRepository = mentorRepository;
+        this.mentoredRepository = mentoredRepository;
+    }
+
+    public FacetIndex.Result searchMentors(Set<Course> courses, Set<AffiliationType> affiliationTypes,
+            Set<InterestArea> interestAreas) {
+        Map<String, Collection<? extends Enum<?>>> filters = new HashMap<>();
+        filters.put(COURSE, courses);
+        filters.put(AFFILIATION_TYPE, affiliationTypes);
+        filters.put(INTEREST_AREA, interestAreas);
+        return getMentors().search(filters);
+    }
+
+    public FacetIndex.Result searchMentoreds(Set<Course> courses, Set<InterestArea> interestAreas) {
+        Map<String, Collection<? extends Enum<?>>> filters = new HashMap<>();
+        filters.put(COURSE, courses);
+        filters.put(INTEREST_AREA, interestAreas);
+        return getMentoreds().search(filters);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMentorChanged(MentorChangedEvent event) {
+        getMentors();
+        synchronized (this) {
+            applyMentor(mentors, event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMentoredChanged(MentoredChangedEvent event) {
+        getMentoreds();
+        synchronized (this) {
+            applyMentored(mentoreds, event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        }
+    }
+
+    /**
+     * Reconstrói os dois índices a partir do banco, corrigindo qualquer
+     * divergência causada por alterações feitas fora desta instância. Os
+     * eventos que chegam enquanto o banco é lido são reaplicados sobre os
+     * novos índices antes da troca.
+     */
+    @Scheduled(fixedDelayString = "${app.mentors.index.rebuild-interval-ms:1800000}",
+            initialDelayString = "${app.mentors.index.rebuild-interval-ms:1800000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pendingDuringRebuild = new ArrayList<>();
+            }
+            try {
+                FacetIndex rebuiltMentors = loadMentors();
+                FacetIndex rebuiltMentoreds = loadMentoreds();
+
+                synchronized (this) {
+                    // Cada evento traz o perfil completo, então reaplicar um que a
+                    // leitura já viu não altera o resultado
+                    for (Object event : pendingDuringRebuild) {
+                        if (event instanceof MentorChangedEvent mentorEvent) {
+                            applyMentor(rebuiltMentors, mentorEvent);
+                        } else if (event instanceof MentoredChangedEvent mentoredEvent) {
+                            applyMentored(rebuiltMentoreds, mentoredEvent);
+                        }
+                    }
+                    this.mentors = rebuiltMentors;
+                    this.mentoreds = rebuiltMentoreds;
+                }
+                logger.info("Índices de facetas reconstruídos com {} mentores e {} mentorados",
+                        rebuiltMentors.size(), rebuiltMentoreds.size());
+            } finally {
+                synchronized (this) {
+                    pendingDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    private FacetIndex loadMentors() {
+        Map<Long, Set<InterestArea>> mentorAreas = new HashMap<>();
+        for (MentorRepository.InterestAreaRow row : mentorRepository.findAllInterestAreaRows()) {
+            mentorAreas.computeIfAbsent(row.getMentorId(), id -> new HashSet<>()).add(row.getArea());
+        }
+        FacetIndex rebuiltMentors = new FacetIndex(mentorDimensions());
+        for (MentorRepository.MatchRow row : mentorRepository.findAllMatchRows()) {
+            rebuiltMentors.put(row.getId(), mentorValues(row.getCourse(), row.getAffiliationType(),
+                    mentorAreas.getOrDefault(row.getId(), Set.of())));
+        }
+        return rebuiltMentors;
+    }
+
+    private FacetIndex loadMentoreds() {
+        Map<Long, Set<InterestArea>> mentoredAreas = new HashMap<>();
+        for (MentoredRepository.InterestAreaRow row : mentoredRepository.findAllInterestAreaRows()) {
+            mentoredAreas.computeIfAbsent(row.getMentoredId(), id -> new HashSet<>()).add(row.getArea());
+        }
+        FacetIndex rebuiltMentoreds = new FacetIndex(mentoredDimensions());
+        for (MentoredRepository.MatchRow row : mentoredRepository.findAllMatchRows()) {
+            rebuiltMentoreds.put(row.getId(), mentoredValues(row.getCourse(),
+                    mentoredAreas.getOrDefault(row.getId(), Set.of())));
+        }
+        return rebuiltMentoreds;
+    }
+
+    private static void applyMentor(FacetIndex index, MentorChangedEvent event) {
+        if (event.isDeleted()) {
+            index.remove(event.mentorId());
+        } else {
+            index.put(event.mentorId(), mentorValues(event.course(), event.affiliationType(), event.interestArea()));
+        }
+    }
+
+    private static void applyMentored(FacetIndex index, MentoredChangedEvent event) {
+        if (event.isDeleted()) {
+            index.remove(event.mentoredId());
+        } else {
+            index.put(event.mentoredId(), mentoredValues(event.course(), event.interestArea()));
+        }
+    }
+
+    private FacetIndex getMentors() {
+        if (mentors == null) {
+            ensureLoaded();
+        }
+        return mentors;
+    }
+
+    private FacetIndex getMentoreds() {
+        if (mentoreds == null) {
+            ensureLoaded();
+        }
+        return mentoreds;
+    }
+
+    private void ensureLoaded() {
+        synchronized (rebuildLock) {
+            if (mentors == null || mentoreds == null) {
+                rebuild();
+            }
+        }
+    }
+
+    private static Map<String, Class<? extends Enum<?>>> mentorDimensions() {
+        Map<String, Class<? extends Enum<?>>> dimensions = new LinkedHashMap<>();
+        dimensions.put(COURSE, Course.class);
+        dimensions.put(AFFILIATION_TYPE, AffiliationType.class);
+        dimensions.put(INTEREST_AREA, InterestArea.class);
+        return dimensions;
+    }
+
+    private static Map<String, Class<? extends Enum<?>>> mentoredDimensions() {
+        Map<String, Class<? extends Enum<?>>> dimensions = new LinkedHashMap<>();
+        dimensions.put(COURSE, Course.class);
+        dimensions.put(INTEREST_AREA, InterestArea.class);
+        return dimensions;
+    }
+
+    private static Map<String, Collection<? extends Enum<?>>> mentorValues(Course course,
+            AffiliationType affiliationType, Collection<InterestArea> interestArea) {
+        Map<String, Collection<? extends Enum<?>>> values = new HashMap<>();
+        values.put(COURSE, course != null ? Set.of(course) : Set.of());
+        values.put(AFFILIATION_TYPE, affiliationType != null ? Set.of(affiliationType) : Set.of());
+        values.put(INTEREST_AREA, interestArea);
+        return values;
+    }
+
+    private static Map<String, Collection<? extends Enum<?>>> mentoredValues(Course course,
+            Collection<InterestArea> interestArea) {
+        Map<String, Collection<? extends Enum<?>>> values = new HashMap<>();
+        values.put(COURSE, course != null ? Set.of(course) : Set.of());
+        values.put(INTEREST_AREA, interestArea);
+        return values;
+    }
+}
@@ -0,0 +1,91 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.FacetedPage;
+import br.edu.ufape.plataforma.mentoria.dto.MentorDTO;
+import br.edu.ufape.plataforma.mentoria.dto.MentoredDTO;
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.mapper.MentorMapper;
+import br.edu.ufape.plataforma.mentoria.mapper.MentoredMapper;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
+import br.edu.ufape.plataforma.mentoria.util.FacetIndex;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Busca de mentores e mentorados por curso, vínculo e áreas de interesse,
+ * com a contagem de cada valor de filtro calculada no índice de facetas.
+ * Só os registros da página são lidos do banco.
+ */
+@Service
+public class ProfileFacetSearchService {
+
+    private final ProfileFacetIndex facetIndex;
+    private final MentorRepository mentorRepository;
+    private final MentoredRepository mentoredRepository;
+    private final MentorMapper mentorMapper;
+    private final MentoredMapper mentoredMapper;
+
+    public ProfileFacetSearchService(ProfileFacetIndex facetIndex,
+            MentorRepository mentorRepository,
+            MentoredRepository mentoredRepository,
+            MentorMapper mentorMapper,
+            MentoredMapper mentoredMapper) {
+        this.facetIndex = facetIndex;
+        this.mentorRepository = mentorRepository;
+        this.mentoredRepository = mentoredRepository;
+        this.mentorMapper = mentorMapper;
+        this.mentoredMapper = mentoredMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public FacetedPage<MentorDTO> searchMentors(Set<Course> courses, Set<AffiliationType> affiliationTypes,
+            Set<InterestArea> interestAreas, long afterId, int size) {
+        FacetIndex.Result result = facetIndex.searchMentors(courses, affiliationTypes, interestAreas);
+        return toPage(result, afterId, size, mentorRepository::findAllById, Mentor::getId, mentorMapper::toDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public FacetedPage<MentoredDTO> searchMentoreds(Set<Course> courses, Set<InterestArea> interestAreas,
+            long afterId, int size) {
+        FacetIndex.Result result = facetIndex.searchMentoreds(courses, interestAreas);
+        return toPage(result, afterId, size, mentoredRepository::findAllById, Mentored::getId,
+                mentoredMapper::toDTO);
+    }
+
+    private static <E, D> FacetedPage<D> toPage(FacetIndex.Result result, long afterId, int size,
+            Function<List<Long>, List<E>> findAllById, Function<E, Long> idOf, Function<E, D> toDTO) {
+        long[] ids = result.ids();
+        int from = Arrays.binarySearch(ids, afterId);
+        from = from >= 0 ? from + 1 : -from - 1;
+        int to = Math.min(ids.length, from + size);
+        Long nextCursor = to < ids.length ? ids[to - 1] : null;
+
+        List<Long> pageIds = Arrays.stream(ids, from, to).boxed().toList();
+        List<D> items = List.of();
+        if (!pageIds.isEmpty()) {
+            Map<Long, E> entitiesById = new HashMap<>();
+            for (E entity : findAllById.apply(pageIds)) {
+                entitiesById.put(idOf.apply(entity), entity);
+            }
+            items = pageIds.stream()
+                    .map(entitiesById::get)
+                    .filter(Objects::nonNull)
+                    .map(toDTO)
+                    .toList();
+        }
+        return new FacetedPage<>(items, nextCursor, ids.length, result.facets());
+    }
+}
@@ -0,0 +1,120 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.RatingSummaryDTO;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.model.RatingSummary;
+import br.edu.ufape.plataforma.mentoria.model.Review;
+import br.edu.ufape.plataforma.mentoria.repository.RatingSummaryRepository;
+import br.edu.ufape.plataforma.mentoria.repository.ReviewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resumos das avaliações recebidas por mentores e mentorados. Cada avaliação
+ * nova é somada ao resumo do avaliado na mesma transação em que é gravada.
+ */
+@Service
+public class RatingSummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RatingSummaryService.class);
+
+    private final RatingSummaryRepository ratingSummaryRepository;
+    private final ReviewRepository reviewRepository;
+
+    public RatingSummaryService(RatingSummaryRepository ratingSummaryRepository, ReviewRepository reviewRepository) {
+        this.ratingSummaryRepository = ratingSummaryRepository;
+        this.reviewRepository = reviewRepository;
+    }
+
+    /**
+     * Soma a avaliação ao resumo do avaliado: o mentor, quando quem avaliou
+     * foi o mentorado, e o mentorado caso contrário. Deve ser chamado dentro
+     * da transação que grava a avaliação.
+     */
+    @Transactional
+    public void addReview(Review review) {
+        boolean mentorReviewed = review.getReviewerRole() == UserRole.MENTORADO;
+        Long profileId = mentorReviewed ? review.getMentor().getId() : review.getMentored().getId();
+        UserRole profileRole = mentorReviewed ? UserRole.MENTOR : UserRole.MENTORADO;
+
+        if (ratingSummaryRepository.addReview(profileId, profileRole, review.getScore(), review.getCreatedAt()) > 0) {
+            return;
+        }
+        // Primeira avaliação do perfil; se outra transação criou o resumo nesse
+        // meio-tempo, a inserção é ignorada e a avaliação é somada a ele
+        if (ratingSummaryRepository.insertIfAbsent(profileId, profileRole, review.getScore(),
+                review.getCreatedAt()) == 0) {
+            ratingSummaryRepository.addReview(profileId, profileRole, review.getScore(), review.getCreatedAt());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public RatingSummaryDTO getSummary(Long profileId, UserRole profileRole) {
+        return ratingSummaryRepository.findByProfileIdAndProfileRole(profileId, profileRole)
+                .map(RatingSummaryService::toDTO)
+                .orElseGet(RatingSummaryDTO::empty);
+    }
+
+    /**
+     * Resumos de vários perfis em uma única consulta; perfis sem avaliações
+     * recebem um resumo vazio.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, RatingSummaryDTO> getSummaries(Collection<Long> profileIds, UserRole profileRole) {
+        Map<Long, RatingSummaryDTO> summaries = new HashMap<>();
+        if (profileIds.isEmpty()) {
+            return summaries;
+        }
+        for (RatingSummary summary : ratingSummaryRepository.findByProfileRoleAndProfileIdIn(profileRole, profileIds)) {
+            summaries.put(summary.getProfileId(), toDTO(summary));
+        }
+        for (Long profileId : profileIds) {
+            summaries.putIfAbsent(profileId, RatingSummaryDTO.empty());
+        }
+        return summaries;
+    }
+
+    /**
+     * Monta os resumos a partir das avaliações já gravadas quando a tabela de
+     * resumos ainda está vazia, como na primeira execução após a sua criação.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (ratingSummaryRepository.count() > 0 || reviewRepository.count() == 0) {
+            return;
+        }
+
+        Map<Long, RatingSummary> mentors = new HashMap<>();
+        for (ReviewRepository.ScoreCountRow row : reviewRepository.countMentorScores(UserRole.MENTORADO)) {
+            mentors.computeIfAbsent(row.getProfileId(), id -> new RatingSummary(id, UserRole.MENTOR))
+                    .add(row.getScore(), row.getReviewCount(), row.getLastReviewAt());
+        }
+        Map<Long, RatingSummary> mentoreds = new HashMap<>();
+        for (ReviewRepository.ScoreCountRow row : reviewRepository.countMentoredScores(UserRole.MENTOR)) {
+            mentoreds.computeIfAbsent(row.getProfileId(), id -> new RatingSummary(id, UserRole.MENTORADO))
+                    .add(row.getScore(), row.getReviewCount(), row.getLastReviewAt());
+        }
+
+        ratingSummaryRepository.saveAll(mentors.values());
+        ratingSummaryRepository.saveAll(mentoreds.values());
+        logger.info("Resumos de avaliações montados para {} mentores e {} mentorados", mentors.size(),
+                mentoreds.size());
+    }
+
+    private static RatingSummaryDTO toDTO(RatingSummary summary) {
+        List<Long> histogram = Arrays.stream(summary.getHistogram()).boxed().toList();
+        return new RatingSummaryDTO(summary.getReviewCount(), summary.getScoreSum(), histogram,
+                summary.getLastReviewAt());
+    }
+}
@@ -1,11 +1,16 @@
 package br.edu.ufape.plataforma.mentoria.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import br.edu.ufape.plataforma.mentoria.dto.CursorPage;
 import br.edu.ufape.plataforma.mentoria.dto.ReviewDTO;
 import br.edu.ufape.plataforma.mentoria.dto.ReviewResponseDTO;
+import br.edu.ufape.plataforma.mentoria.event.ReviewCreatedEvent;
 import br.edu.ufape.plataforma.mentoria.exceptions.BusinessException;
 import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
 import br.edu.ufape.plataforma.mentoria.model.Review;
@@ -18,12 +23,20 @@ import br.edu.ufape.plataforma.mentoria.mapper.ReviewMapper;
 
 @Service
 public class ReviewService {
+    // Posição anterior a qualquer avaliação, usada na primeira página
+    private static final LocalDateTime FIRST_PAGE_CREATED_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final ReviewRepository reviewRepository;
     private final SessionRepository sessionRepository;
+    private final RatingSummaryService ratingSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ReviewService(ReviewRepository reviewRepository, SessionRepository sessionRepository) {
+    public ReviewService(ReviewRepository reviewRepository, SessionRepository sessionRepository,
+            RatingSummaryService ratingSummaryService, ApplicationEventPublisher eventPublisher) {
         this.reviewRepository = reviewRepository;
         this.sessionRepository = sessionRepository;
+        this.ratingSummaryService = ratingSummaryService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -44,19 +57,33 @@ public class ReviewService {
 
         Review review = new Review(dto.getScore(), dto.getComment(), session.getMentor(), session.getMentored(), session, dto.getReviewerRole());
         Review savedReview = reviewRepository.save(review);
+        ratingSummaryService.addReview(savedReview);
+        eventPublisher.publishEvent(new ReviewCreatedEvent(savedReview.getId(), session.getMentor().getId(),
+                session.getMentored().getId(), savedReview.getReviewerRole(), savedReview.getScore(),
+                savedReview.getCreatedAt()));
         return ReviewMapper.mapToResponseReviewDTO(savedReview);
     }
 
-    public List<ReviewResponseDTO> getReceivedReviewsForUser(Long userId) {
-        List<Review> reviews = reviewRepository.findReviewsReceivedByUser(
-            userId, 
-            UserRole.MENTOR, 
-            UserRole.MENTORADO
-        );
+    /**
+     * Página das avaliações recebidas pelo usuário, da mais recente para a
+     * mais antiga. O cursor é o ID da última avaliação da página anterior.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ReviewResponseDTO> getReceivedReviewsPage(Long userId, long afterId, int size) {
+        LocalDateTime beforeCreatedAt = FIRST_PAGE_CREATED_AT;
+        long beforeId = Long.MAX_VALUE;
+        if (afterId > 0) {
+            beforeCreatedAt = reviewRepository.findCreatedAtById(afterId)
+                    .orElseThrow(() -> new EntityNotFoundException(Review.class, afterId));
+            beforeId = afterId;
+        }
 
-        return reviews.stream()
-                .map(ReviewMapper::mapToResponseReviewDTO)
+        List<ReviewResponseDTO> reviews = reviewRepository.findReceivedPageBefore(userId,
+                UserRole.MENTOR.ordinal(), UserRole.MENTORADO.ordinal(), beforeCreatedAt, beforeId, size + 1)
+                .stream()
+                .map(ReviewService::toResponseDTO)
                 .collect(Collectors.toList());
+        return CursorPage.of(reviews, size, ReviewResponseDTO::getId);
     }
 
     // public List<ReviewResponseDTO> getCreatedReviewsByUser(Long userId, UserRole userRole) {
@@ -72,5 +99,15 @@ public class ReviewService {
             .map(ReviewMapper::mapToResponseReviewDTO)
             .collect(Collectors.toList());
     }
-    
+
+    public CursorPage<ReviewResponseDTO> getReviewsPage(long afterId, int size) {
+        List<ReviewResponseDTO> reviews = reviewRepository.findPageAfter(afterId, Limit.of(size + 1));
+        return CursorPage.of(reviews, size, ReviewResponseDTO::getId);
+    }
+
+    private static ReviewResponseDTO toResponseDTO(ReviewRepository.ReceivedReviewRow row) {
+        return new ReviewResponseDTO(row.getId(), row.getScore(), row.getComment(), row.getSessionId(),
+                row.getMentorId(), row.getMentoredId(), UserRole.values()[row.getReviewerRole().intValue()],
+                row.getCreatedAt());
+    }
 }
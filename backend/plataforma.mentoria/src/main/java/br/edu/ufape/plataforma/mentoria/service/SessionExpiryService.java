@@ -0,0 +1,90 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+import br.edu.ufape.plataforma.mentoria.model.Session;
+import br.edu.ufape.plataforma.mentoria.repository.SessionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Trata as sessões cujo horário já passou: as pendentes são canceladas e as
+ * aceitas, ao terminar, ficam aguardando a confirmação do mentor ou do
+ * mentorado, que as conclui (liberando a avaliação) ou cancela. Cada lote
+ * roda em uma transação própria e cada sessão passa pela mesma transição
+ * condicional de {@link SessionService#applyStatusTransition}, de modo que
+ * vários nós podem executar o job ao mesmo tempo: a sessão que outro nó já
+ * alterou é apenas ignorada.
+ */
+@Service
+public class SessionExpiryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionExpiryService.class);
+
+    private final SessionRepository sessionRepository;
+    private final SessionService sessionService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public SessionExpiryService(SessionRepository sessionRepository, SessionService sessionService,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.sessions.expiry.batch-size:200}") int batchSize) {
+        this.sessionRepository = sessionRepository;
+        this.sessionService = sessionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.sessions.expiry.interval-ms:900000}",
+            initialDelayString = "${app.sessions.expiry.initial-delay-ms:60000}")
+    public void expireStaleSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        int cancelled = expire(Status.PENDING, now, Status.CANCELLED);
+        // Concluir sem confirmação contaria sessões que não aconteceram nas avaliações e no ranking
+        Integer awaiting = transactionTemplate.execute(tx -> sessionRepository.markAwaitingConfirmation(
+                Status.ACCEPTED, now.minus(AvailabilityService.SESSION_LENGTH), now));
+        if (cancelled > 0 || (awaiting != null && awaiting > 0)) {
+            logger.info("Sessões vencidas: {} pendentes canceladas, {} aceitas aguardando confirmação", cancelled,
+                    awaiting);
+        }
+    }
+
+    /**
+     * Passa para {@code newStatus}, em lotes, as sessões em {@code status}
+     * que começaram antes de {@code before}.
+     *
+     * @return quantas sessões este nó alterou.
+     */
+    int expire(Status status, LocalDateTime before, Status newStatus) {
+        int changed = 0;
+        while (true) {
+            Integer batchChanged = transactionTemplate.execute(tx -> {
+                List<Session> batch = sessionRepository.findByStatusStartingBefore(status, before,
+                        Limit.of(batchSize));
+                if (batch.isEmpty()) {
+                    return null;
+                }
+                int count = 0;
+                for (Session session : batch) {
+                    if (sessionService.applyStatusTransition(session, newStatus)) {
+                        count++;
+                    }
+                }
+                return count;
+            });
+            // Sessões alteradas por outro nó também saem da consulta, então o laço sempre avança
+            if (batchChanged == null) {
+                return changed;
+            }
+            changed += batchChanged;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.event.SessionScheduleChangedEvent;
+import br.edu.ufape.plataforma.mentoria.repository.SessionRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Início das sessões em aberto de cada agenda (mentor ou mentorado), ordenado
+ * para encontrar sobreposições sem consultar o banco. As agendas são lidas sob
+ * demanda e descartadas quando uma sessão ocupa ou libera horários nelas. A
+ * restrição única de {@code SlotClaim} continua sendo a garantia final contra
+ * reservas simultâneas.
+ */
+@Component
+public class SessionIntervalIndex {
+
+    static final List<Status> OPEN_STATUSES = List.of(Status.PENDING, Status.ACCEPTED);
+
+    private record Agenda(Long profileId, UserRole profileRole) {
+    }
+
+    private final SessionRepository sessionRepository;
+    private final Map<Agenda, NavigableMap<LocalDateTime, Long>> agendas = new ConcurrentHashMap<>();
+
+    public SessionIntervalIndex(SessionRepository sessionRepository) {
+        this.sessionRepository = sessionRepository;
+    }
+
+    /**
+     * Indica se alguma sessão em aberto da agenda, além de {@code ignoredSessionId},
+     * se sobrepõe ao intervalo {@code [start, start + length)}. Todas as sessões
+     * têm a mesma duração.
+     */
+    public boolean overlaps(Long profileId, UserRole profileRole, LocalDateTime start, Duration length,
+            Long ignoredSessionId) {
+        NavigableMap<LocalDateTime, Long> starts = agenda(profileId, profileRole)
+                .subMap(start.minus(length), false, start.plus(length), false);
+        for (Long sessionId : starts.values()) {
+            if (!sessionId.equals(ignoredSessionId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(SessionScheduleChangedEvent event) {
+        agendas.remove(new Agenda(event.mentorId(), UserRole.MENTOR));
+        agendas.remove(new Agenda(event.mentoredId(), UserRole.MENTORADO));
+    }
+
+    /**
+     * Descarta todas as agendas carregadas, limitando a memória às agendas
+     * consultadas recentemente e corrigindo alterações feitas por outras
+     * instâncias.
+     */
+    @Scheduled(fixedDelayString = "${app.sessions.interval-index.ttl-ms:3600000}",
+            initialDelayString = "${app.sessions.interval-index.ttl-ms:3600000}")
+    public void clear() {
+        agendas.clear();
+    }
+
+    private NavigableMap<LocalDateTime, Long> agenda(Long profileId, UserRole profileRole) {
+        Agenda key = new Agenda(profileId, profileRole);
+        NavigableMap<LocalDateTime, Long> starts = agendas.get(key);
+        if (starts == null) {
+            starts = load(profileId, profileRole);
+            NavigableMap<LocalDateTime, Long> previous = agendas.putIfAbsent(key, starts);
+            if (previous != null) {
+                starts = previous;
+            }
+        }
+        return starts;
+    }
+
+    private NavigableMap<LocalDateTime, Long> load(Long profileId, UserRole profileRole) {
+        // Sessões de ontem ainda podem avançar sobre a madrugada de hoje
+        LocalDateTime from = LocalDate.now().minusDays(1).atStartOfDay();
+        List<SessionRepository.ScheduleRow> rows = profileRole == UserRole.MENTOR
+                ? sessionRepository.findMentorSchedule(profileId, OPEN_STATUSES, from)
+                : sessionRepository.findMentoredSchedule(profileId, OPEN_STATUSES, from);
+
+        NavigableMap<LocalDateTime, Long> starts = new TreeMap<>();
+        for (SessionRepository.ScheduleRow row : rows) {
+            starts.put(row.getDate().atTime(row.getTime()), row.getId());
+        }
+        return Collections.unmodifiableNavigableMap(starts);
+    }
+}
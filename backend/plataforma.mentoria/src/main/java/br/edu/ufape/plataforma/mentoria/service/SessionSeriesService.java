@@ -0,0 +1,243 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.SessionDTO;
+import br.edu.ufape.plataforma.mentoria.dto.SessionOccurrenceDTO;
+import br.edu.ufape.plataforma.mentoria.dto.SessionSeriesDTO;
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
+import br.edu.ufape.plataforma.mentoria.exceptions.SlotUnavailableException;
+import br.edu.ufape.plataforma.mentoria.mapper.SessionMapper;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.model.Session;
+import br.edu.ufape.plataforma.mentoria.model.SessionSeries;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SessionRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SessionSeriesRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Séries de sessões recorrentes. As ocorrências são expandidas sob demanda
+ * para o intervalo consultado, e uma ocorrência só é gravada como
+ * {@link Session} quando é materializada — para ser aceita, editada ou
+ * avaliada —, passando a seguir o fluxo normal das sessões. Antes disso a
+ * ocorrência já ocupa o horário na verificação de disponibilidade.
+ */
+@Service
+public class SessionSeriesService {
+
+    public static final int MAX_WINDOW_DAYS = 366;
+
+    private static final Comparator<SessionOccurrenceDTO> OCCURRENCE_ORDER = Comparator
+            .comparing(SessionOccurrenceDTO::date)
+            .thenComparing(SessionOccurrenceDTO::time)
+            .thenComparing(SessionOccurrenceDTO::seriesId);
+
+    private final SessionSeriesRepository seriesRepository;
+    private final SessionRepository sessionRepository;
+    private final MentorRepository mentorRepository;
+    private final MentoredRepository mentoredRepository;
+    private final SessionService sessionService;
+    private final SessionMapper sessionMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public SessionSeriesService(SessionSeriesRepository seriesRepository, SessionRepository sessionRepository,
+            MentorRepository mentorRepository, MentoredRepository mentoredRepository, SessionService sessionService,
+            SessionMapper sessionMapper, PlatformTransactionManager transactionManager) {
+        this.seriesRepository = seriesRepository;
+        this.sessionRepository = sessionRepository;
+        this.mentorRepository = mentorRepository;
+        this.mentoredRepository = mentoredRepository;
+        this.sessionService = sessionService;
+        this.sessionMapper = sessionMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional
+    public SessionSeriesDTO createSeries(SessionSeriesDTO seriesDTO) {
+        Mentor mentor = mentorRepository.findById(seriesDTO.getMentorId())
+                .orElseThrow(() -> new EntityNotFoundException(Mentor.class, seriesDTO.getMentorId()));
+        Mentored mentored = mentoredRepository.findById(seriesDTO.getMentoredId())
+                .orElseThrow(() -> new EntityNotFoundException(Mentored.class, seriesDTO.getMentoredId()));
+        if (mentor.getId().equals(mentored.getId())) {
+            throw new IllegalArgumentException("Mentor e Mentorado não podem ser a mesma pessoa.");
+        }
+
+        SessionSeries series = new SessionSeries(mentor, mentored, seriesDTO.getFrequency(),
+                seriesDTO.getFirstDate(), null, seriesDTO.getTime(), seriesDTO.getMeetingTopic(),
+                seriesDTO.getLocation());
+        series.setLastDate(lastDate(series, seriesDTO.getUntilDate(), seriesDTO.getOccurrenceCount()));
+        return toDTO(seriesRepository.save(series));
+    }
+
+    @Transactional(readOnly = true)
+    public SessionSeriesDTO getSeries(Long id) {
+        return toDTO(getSeriesById(id));
+    }
+
+    /**
+     * Encerra a série: ocorrências a partir de hoje deixam de existir. As
+     * ocorrências já materializadas continuam como sessões comuns.
+     */
+    @Transactional
+    public void endSeries(Long id) {
+        SessionSeries series = getSeriesById(id);
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        if (series.getLastDate().isAfter(yesterday)) {
+            series.setLastDate(yesterday);
+        }
+    }
+
+    /**
+     * Grava a ocorrência como sessão pendente, se ainda não foi gravada, e
+     * retorna a sessão. A partir daí ela é aceita, remarcada ou cancelada
+     * pelos endpoints de sessão. Se outra requisição gravar a mesma ocorrência
+     * ao mesmo tempo, a gravação desta é desfeita e a sessão da outra é
+     * relida em uma nova transação.
+     */
+    public SessionDTO materialize(Long seriesId, LocalDate occurrenceDate) {
+        try {
+            return transactionTemplate.execute(status -> materializeOnce(seriesId, occurrenceDate));
+        } catch (DataIntegrityViolationException | SlotUnavailableException e) {
+            // A ocorrência gravada pela outra requisição pode ter ocupado o horário antes da restrição única
+            Optional<SessionDTO> concurrent = transactionTemplate.execute(status -> sessionRepository
+                    .findBySeriesIdAndOccurrenceDate(seriesId, occurrenceDate)
+                    .map(sessionMapper::toDTO));
+            return concurrent.orElseThrow(() -> e);
+        }
+    }
+
+    private SessionDTO materializeOnce(Long seriesId, LocalDate occurrenceDate) {
+        SessionSeries series = getSeriesById(seriesId);
+        if (!series.occursOn(occurrenceDate)) {
+            throw new EntityNotFoundException("A série " + seriesId + " não tem ocorrência em " + occurrenceDate);
+        }
+        Optional<Session> existing = sessionRepository.findBySeriesIdAndOccurrenceDate(seriesId, occurrenceDate);
+        if (existing.isPresent()) {
+            return sessionMapper.toDTO(existing.get());
+        }
+
+        Session session = sessionService.createSeriesSession(new SessionDTO(series.getMentor().getId(),
+                series.getMentored().getId(), occurrenceDate, series.getTime(), series.getMeetingTopic(),
+                series.getLocation()), new AvailabilityService.SeriesOccurrence(seriesId, occurrenceDate));
+        return sessionMapper.toDTO(session);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SessionOccurrenceDTO> getMentorOccurrences(Long mentorId, LocalDate from, LocalDate to) {
+        checkWindow(from, to);
+        return occurrences(seriesRepository.findMentorSeriesBetween(mentorId, from, to), from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SessionOccurrenceDTO> getMentoredOccurrences(Long mentoredId, LocalDate from, LocalDate to) {
+        checkWindow(from, to);
+        return occurrences(seriesRepository.findMentoredSeriesBetween(mentoredId, from, to), from, to);
+    }
+
+    /**
+     * Expande as séries no intervalo e substitui as ocorrências já gravadas
+     * pela sessão correspondente, com seu status e eventual remarcação.
+     */
+    private List<SessionOccurrenceDTO> occurrences(List<SessionSeries> seriesList, LocalDate from, LocalDate to) {
+        if (seriesList.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Map<LocalDate, SessionRepository.SeriesOccurrenceRow>> materialized = new HashMap<>();
+        for (SessionRepository.SeriesOccurrenceRow row : sessionRepository.findSeriesOccurrences(
+                seriesList.stream().map(SessionSeries::getId).toList(), from, to)) {
+            materialized.computeIfAbsent(row.getSeriesId(), id -> new HashMap<>()).put(row.getOccurrenceDate(), row);
+        }
+
+        List<SessionOccurrenceDTO> occurrences = new ArrayList<>();
+        for (SessionSeries series : seriesList) {
+            Map<LocalDate, SessionRepository.SeriesOccurrenceRow> rows = materialized.getOrDefault(series.getId(),
+                    Map.of());
+            for (LocalDate date : occurrenceDates(series, from, to)) {
+                SessionRepository.SeriesOccurrenceRow row = rows.get(date);
+                occurrences.add(row != null
+                        ? new SessionOccurrenceDTO(series.getId(), date, row.getId(), row.getDate(), row.getTime(),
+                                row.getStatus(), row.getMeetingTopic(), row.getLocation())
+                        : new SessionOccurrenceDTO(series.getId(), date, null, date, series.getTime(),
+                                Status.PENDING, series.getMeetingTopic(), series.getLocation()));
+            }
+        }
+        occurrences.sort(OCCURRENCE_ORDER);
+        return occurrences;
+    }
+
+    /**
+     * Datas das ocorrências da série entre {@code from} e {@code to}, sem
+     * percorrer as anteriores ao intervalo.
+     */
+    static List<LocalDate> occurrenceDates(SessionSeries series, LocalDate from, LocalDate to) {
+        LocalDate first = from.isAfter(series.getFirstDate()) ? from : series.getFirstDate();
+        LocalDate last = to.isBefore(series.getLastDate()) ? to : series.getLastDate();
+        long period = series.periodDays();
+        long offset = ChronoUnit.DAYS.between(series.getFirstDate(), first);
+
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate date = series.getFirstDate().plusDays((offset + period - 1) / period * period);
+        for (; !date.isAfter(last); date = date.plusDays(period)) {
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    private static LocalDate lastDate(SessionSeries series, LocalDate untilDate, Integer occurrenceCount) {
+        if (untilDate == null && occurrenceCount == null) {
+            throw new IllegalArgumentException("Informe a data final ou a quantidade de ocorrências da série.");
+        }
+        if (untilDate != null && untilDate.isBefore(series.getFirstDate())) {
+            throw new IllegalArgumentException("A data final não pode ser anterior à primeira sessão.");
+        }
+        long period = series.periodDays();
+        LocalDate last = LocalDate.MAX;
+        if (untilDate != null) {
+            long days = ChronoUnit.DAYS.between(series.getFirstDate(), untilDate);
+            last = series.getFirstDate().plusDays(days / period * period);
+        }
+        if (occurrenceCount != null) {
+            LocalDate byCount = series.getFirstDate().plusDays((occurrenceCount - 1L) * period);
+            last = byCount.isBefore(last) ? byCount : last;
+        }
+        return last;
+    }
+
+    private static void checkWindow(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("O início do intervalo deve ser anterior ao fim.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_WINDOW_DAYS) {
+            throw new IllegalArgumentException("O intervalo pode ter no máximo " + MAX_WINDOW_DAYS + " dias.");
+        }
+    }
+
+    private SessionSeries getSeriesById(Long id) {
+        return seriesRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(SessionSeries.class, id));
+    }
+
+    private static SessionSeriesDTO toDTO(SessionSeries series) {
+        SessionSeriesDTO dto = new SessionSeriesDTO(series.getMentor().getId(), series.getMentored().getId(),
+                series.getFrequency(), series.getFirstDate(), series.getTime(), null, null,
+                series.getMeetingTopic(), series.getLocation());
+        dto.setId(series.getId());
+        dto.setLastDate(series.getLastDate());
+        return dto;
+    }
+}
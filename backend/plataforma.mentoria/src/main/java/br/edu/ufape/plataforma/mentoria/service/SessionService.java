@@ -1,36 +1,78 @@
 package br.edu.ufape.plataforma.mentoria.service;
 
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.edu.ufape.plataforma.mentoria.dto.CursorPage;
 import br.edu.ufape.plataforma.mentoria.dto.SessionDTO;
+import br.edu.ufape.plataforma.mentoria.dto.SessionStatusChangeDTO;
 import br.edu.ufape.plataforma.mentoria.enums.Status;
+import br.edu.ufape.plataforma.mentoria.event.SessionDeletedEvent;
+import br.edu.ufape.plataforma.mentoria.event.SessionSavedEvent;
+import br.edu.ufape.plataforma.mentoria.event.SessionStatusChangedEvent;
 import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
+import br.edu.ufape.plataforma.mentoria.exceptions.SessionStatusConflictException;
 import br.edu.ufape.plataforma.mentoria.mapper.SessionMapper;
 import br.edu.ufape.plataforma.mentoria.model.Mentor;
 import br.edu.ufape.plataforma.mentoria.model.Mentored;
 import br.edu.ufape.plataforma.mentoria.model.Session;
+import br.edu.ufape.plataforma.mentoria.model.SessionStatusChange;
 import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
 import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
 import br.edu.ufape.plataforma.mentoria.repository.SessionRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SessionStatusChangeRepository;
 import br.edu.ufape.plataforma.mentoria.service.contract.SessionServiceInterface;
 
 @Service
 public class SessionService implements SessionServiceInterface {
+    private static final Logger logger = LoggerFactory.getLogger(SessionService.class);
+
+    // Limites da linha do tempo quando o intervalo não é informado
+    private static final LocalDateTime TIMELINE_MIN = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime TIMELINE_MAX = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final int BACKFILL_BATCH = 500;
+
+    // Status de destino permitidos a partir de cada status; os ausentes são finais
+    private static final Map<Status, Set<Status>> TRANSITIONS = new EnumMap<>(Map.of(
+            Status.PENDING, EnumSet.of(Status.ACCEPTED, Status.REJECTED, Status.CANCELLED),
+            Status.ACCEPTED, EnumSet.of(Status.COMPLETED, Status.CANCELLED)));
+
     private final SessionRepository sessionRepository;
     private final SessionMapper sessionMapper;
     private final MentorRepository mentorRepository;
     private final MentoredRepository mentoredRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AvailabilityService availabilityService;
+    private final SessionStatusChangeRepository statusChangeRepository;
 
     public SessionService(SessionRepository sessionRepository,
                          SessionMapper sessionMapper,
                          MentorRepository mentorRepository,
-                         MentoredRepository mentoredRepository) {
+                         MentoredRepository mentoredRepository,
+                         ApplicationEventPublisher eventPublisher,
+                         AvailabilityService availabilityService,
+                         SessionStatusChangeRepository statusChangeRepository) {
         this.sessionRepository = sessionRepository;
         this.sessionMapper = sessionMapper;
         this.mentorRepository = mentorRepository;
         this.mentoredRepository = mentoredRepository;
+        this.eventPublisher = eventPublisher;
+        this.availabilityService = availabilityService;
+        this.statusChangeRepository = statusChangeRepository;
     }
 
     @Override
@@ -40,7 +82,21 @@ public class SessionService implements SessionServiceInterface {
     }
 
     @Override
+    @Transactional
     public Session createSession(SessionDTO sessionDTO) {
+        return create(sessionDTO, null);
+    }
+
+    /**
+     * Grava uma ocorrência de série como sessão pendente. A restrição única
+     * (série, data) recusa uma segunda gravação da mesma ocorrência.
+     */
+    @Transactional
+    public Session createSeriesSession(SessionDTO sessionDTO, AvailabilityService.SeriesOccurrence occurrence) {
+        return create(sessionDTO, occurrence);
+    }
+
+    private Session create(SessionDTO sessionDTO, AvailabilityService.SeriesOccurrence occurrence) {
         sessionDTO.setStatus(Status.PENDING);
 
         Mentor mentor = mentorRepository.findById(sessionDTO.getMentorId())
@@ -52,30 +108,68 @@ public class SessionService implements SessionServiceInterface {
         if (mentor.getId().equals(mentored.getId())) {
             throw new IllegalArgumentException("Mentor e Mentorado não podem ser a mesma pessoa.");
         }
+        // A ocorrência que está sendo gravada não conflita com ela mesma
+        availabilityService.checkAvailable(mentor.getId(), mentored.getId(), sessionDTO.getDate(),
+                sessionDTO.getTime(), null, occurrence);
         Session session = sessionMapper.toEntity(sessionDTO);
         session.setMentor(mentor);
         session.setMentored(mentored);
+        if (occurrence != null) {
+            session.setSeriesOccurrence(occurrence.seriesId(), occurrence.occurrenceDate());
+        }
 
-        return sessionRepository.save(session);
+        Session saved = sessionRepository.save(session);
+        statusChangeRepository.save(new SessionStatusChange(saved.getId(), null, saved.getStatus()));
+        availabilityService.claim(saved);
+        eventPublisher.publishEvent(new SessionSavedEvent(saved.getId(), mentor.getId(), mentored.getId(),
+                saved.getStatus(), true));
+        return saved;
     }
 
     @Override
+    @Transactional
     public SessionDTO updateSession(Long id, SessionDTO sessionDTO) {
         Session existingSession = getSessionById(id);
+        Status newStatus = sessionDTO.getStatus() != null ? sessionDTO.getStatus() : existingSession.getStatus();
+        if (isOpen(newStatus)) {
+            availabilityService.checkAvailable(existingSession.getMentor().getId(),
+                    existingSession.getMentored().getId(), sessionDTO.getDate(), sessionDTO.getTime(), id);
+        }
 
+        if (!Objects.equals(sessionDTO.getDate(), existingSession.getDate())
+                || !Objects.equals(sessionDTO.getTime(), existingSession.getTime())) {
+            // Remarcada: o job volta a marcá-la se o novo horário também já passou
+            existingSession.setAwaitingConfirmationSince(null);
+        }
         existingSession.setDate(sessionDTO.getDate());
         existingSession.setTime(sessionDTO.getTime());
         existingSession.setMeetingTopic(sessionDTO.getMeetingTopic());
         existingSession.setLocation(sessionDTO.getLocation());
-        existingSession.setStatus(sessionDTO.getStatus()); // Corrige atualização do status
 
-        return sessionMapper.toDTO(sessionRepository.save(existingSession));
+        Session saved = sessionRepository.save(existingSession);
+        // O status só muda pela transição condicionada, que valida a mudança e
+        // não sobrescreve uma transição concorrente
+        if (newStatus != saved.getStatus() && !applyStatusTransition(saved, newStatus)) {
+            throw new SessionStatusConflictException(id);
+        }
+        // Data, horário ou status podem ter mudado: a reserva é refeita do zero
+        availabilityService.release(saved);
+        if (isOpen(saved.getStatus())) {
+            availabilityService.claim(saved);
+        }
+        eventPublisher.publishEvent(new SessionSavedEvent(id, saved.getMentor().getId(),
+                saved.getMentored().getId(), saved.getStatus(), false));
+        return sessionMapper.toDTO(saved);
     }
 
     @Override
+    @Transactional
     public void deleteSession(Long id) {
         Session session = getSessionById(id);
+        availabilityService.release(session);
         sessionRepository.delete(session);
+        eventPublisher.publishEvent(new SessionDeletedEvent(id, session.getMentor().getId(),
+                session.getMentored().getId()));
     }
 
     @Override
@@ -85,31 +179,62 @@ public class SessionService implements SessionServiceInterface {
     }
 
     @Override
+    @Transactional
     public SessionDTO updateSessionStatus(Long id, Status newStatus) {
         Session session = getSessionById(id);
+        if (!applyStatusTransition(session, newStatus)) {
+            throw new SessionStatusConflictException(id);
+        }
+        return sessionMapper.toDTO(session);
+    }
+
+    /**
+     * Aplica a transição com um UPDATE condicionado ao status lido: se duas
+     * requisições concorrentes partirem do mesmo status, só a primeira vence.
+     * Registra o histórico, libera os horários quando a sessão deixa de estar
+     * em aberto e publica o evento de mudança de status.
+     *
+     * @return {@code false}, sem alterar nada, se o status da sessão mudou
+     *         desde que ela foi lida.
+     * @throws IllegalArgumentException se a transição não for permitida.
+     */
+    @Transactional
+    public boolean applyStatusTransition(Session session, Status newStatus) {
+        Long id = session.getId();
         Status currentStatus = session.getStatus();
 
-        if (currentStatus == Status.PENDING) {
-            if (newStatus != Status.ACCEPTED && newStatus != Status.REJECTED && newStatus != Status.CANCELLED) {
-                throw new IllegalArgumentException("Sessão pendente só pode ser Aceita, Rejeitada ou Cancelada.");
-            }
-        } else if (currentStatus == Status.ACCEPTED) {
-            if (newStatus != Status.COMPLETED && newStatus != Status.CANCELLED) {
-                throw new IllegalArgumentException("Sessão aceita só pode ser Concluída ou Cancelada.");
-            }
-        } else if (currentStatus == Status.REJECTED) {
-            throw new IllegalArgumentException(
-                    "A sessão já está em um estado final (" + currentStatus + ") e não pode ser alterada.");
-        } else if (currentStatus == Status.CANCELLED) {
-            throw new IllegalArgumentException(
-                    "A sessão já está em um estado final (" + currentStatus + ") e não pode ser alterada.");
-        } else if (currentStatus == Status.COMPLETED) {
-            throw new IllegalArgumentException(
-                    "A sessão já está em um estado final (" + currentStatus + ") e não pode ser alterada.");
+        if (!TRANSITIONS.getOrDefault(currentStatus, EnumSet.noneOf(Status.class)).contains(newStatus)) {
+            throw new IllegalArgumentException(transitionError(currentStatus));
+        }
+        if (sessionRepository.updateStatusIf(id, currentStatus, newStatus) == 0) {
+            return false;
         }
-
         session.setStatus(newStatus);
-        return sessionMapper.toDTO(sessionRepository.save(session));
+        statusChangeRepository.save(new SessionStatusChange(id, currentStatus, newStatus));
+
+        if (!isOpen(newStatus)) {
+            availabilityService.release(session);
+        }
+        eventPublisher.publishEvent(new SessionStatusChangedEvent(id, session.getMentor().getId(),
+                session.getMentored().getId(), currentStatus, newStatus));
+        return true;
+    }
+
+    @Override
+    public List<SessionStatusChangeDTO> getStatusHistory(Long id) {
+        getSessionById(id);
+        return statusChangeRepository.findBySessionIdOrderByIdAsc(id).stream()
+                .map(change -> new SessionStatusChangeDTO(change.getFromStatus(), change.getToStatus(),
+                        change.getChangedAt()))
+                .toList();
+    }
+
+    private static String transitionError(Status currentStatus) {
+        return switch (currentStatus) {
+            case PENDING -> "Sessão pendente só pode ser Aceita, Rejeitada ou Cancelada.";
+            case ACCEPTED -> "Sessão aceita só pode ser Concluída ou Cancelada.";
+            default -> "A sessão já está em um estado final (" + currentStatus + ") e não pode ser alterada.";
+        };
     }
 
     @Override
@@ -151,4 +276,84 @@ public class SessionService implements SessionServiceInterface {
                 .map(sessionMapper::toDTO)
                 .toList();
     }
+
+    @Override
+    public CursorPage<SessionDTO> findPage(long afterId, int size) {
+        List<SessionDTO> sessions = sessionRepository.findPageAfter(afterId, Limit.of(size + 1));
+        return CursorPage.of(sessions, size, SessionDTO::getId);
+    }
+
+    @Override
+    public CursorPage<SessionDTO> findMentorTimeline(Long mentorId, LocalDateTime from, LocalDateTime to,
+            Status status, long afterId, int size) {
+        if (!mentorRepository.existsById(mentorId)) {
+            throw new EntityNotFoundException(Mentor.class, mentorId);
+        }
+        TimelinePosition position = timelinePosition(from, to, afterId);
+        List<SessionDTO> sessions = sessionRepository.findMentorTimeline(mentorId, position.afterStart(),
+                position.afterId(), position.to(), timelineStatuses(status), Limit.of(size + 1));
+        return CursorPage.of(sessions, size, SessionDTO::getId);
+    }
+
+    @Override
+    public CursorPage<SessionDTO> findMentoredTimeline(Long mentoredId, LocalDateTime from, LocalDateTime to,
+            Status status, long afterId, int size) {
+        if (!mentoredRepository.existsById(mentoredId)) {
+            throw new EntityNotFoundException(Mentored.class, mentoredId);
+        }
+        TimelinePosition position = timelinePosition(from, to, afterId);
+        List<SessionDTO> sessions = sessionRepository.findMentoredTimeline(mentoredId, position.afterStart(),
+                position.afterId(), position.to(), timelineStatuses(status), Limit.of(size + 1));
+        return CursorPage.of(sessions, size, SessionDTO::getId);
+    }
+
+    /**
+     * Preenche o início das sessões gravadas antes da coluna start_at existir.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillStartAt() {
+        int filled = 0;
+        List<Session> sessions;
+        while (!(sessions = sessionRepository.findByStartAtIsNull(Limit.of(BACKFILL_BATCH))).isEmpty()) {
+            sessions.forEach(Session::syncStartAt);
+            sessionRepository.saveAllAndFlush(sessions);
+            filled += sessions.size();
+        }
+        if (filled > 0) {
+            logger.info("Início preenchido para {} sessões antigas", filled);
+        }
+    }
+
+    // Posição de onde a página da linha do tempo continua
+    private record TimelinePosition(LocalDateTime afterStart, long afterId, LocalDateTime to) {
+    }
+
+    /**
+     * Converte o intervalo e o cursor (o ID da última sessão vista) na posição
+     * da próxima página. Sem limites, a linha do tempo cobre todo o histórico.
+     */
+    private TimelinePosition timelinePosition(LocalDateTime from, LocalDateTime to, long afterId) {
+        LocalDateTime start = from != null ? from : TIMELINE_MIN;
+        LocalDateTime end = to != null ? to : TIMELINE_MAX;
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("O início do intervalo deve ser anterior ao fim.");
+        }
+        if (afterId > 0) {
+            LocalDateTime cursorStart = sessionRepository.findStartAtById(afterId)
+                    .orElseThrow(() -> new EntityNotFoundException(Session.class, afterId));
+            if (!cursorStart.isBefore(start)) {
+                return new TimelinePosition(cursorStart, afterId, end);
+            }
+        }
+        return new TimelinePosition(start, 0L, end);
+    }
+
+    private static Set<Status> timelineStatuses(Status status) {
+        return status != null ? EnumSet.of(status) : EnumSet.allOf(Status.class);
+    }
+
+    private static boolean isOpen(Status status) {
+        return SessionIntervalIndex.OPEN_STATUSES.contains(status);
+    }
 }
@@ -0,0 +1,177 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.SessionNotificationDTO;
+import br.edu.ufape.plataforma.mentoria.event.SessionSavedEvent;
+import br.edu.ufape.plataforma.mentoria.event.SessionStatusChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Stream (Server-Sent Events) com as mudanças nas sessões de cada usuário,
+ * no lugar de consultar o histórico repetidamente. Os avisos são enviados
+ * depois do commit, para o mentor e o mentorado da sessão.
+ * <p>
+ * Cada conexão tem um buffer limitado, esvaziado fora da thread que publicou
+ * o evento; uma conexão que deixa o buffer encher é encerrada, e o cliente,
+ * ao reconectar, relê a linha do tempo.
+ */
+@Service
+public class SessionStreamService {
+
+    static final String CREATED_EVENT = "session-created";
+    static final String UPDATED_EVENT = "session-updated";
+    static final String STATUS_EVENT = "session-status";
+
+    private final Map<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final long timeoutMs;
+    private final int bufferSize;
+
+    public SessionStreamService(@Value("${app.sessions.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${app.sessions.stream.buffer-size:32}") int bufferSize) {
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Abre um stream para o usuário. Um usuário pode ter várias conexões,
+     * uma por aba ou dispositivo.
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Connection connection = new Connection(userId, emitter);
+        connections.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(connection);
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove(connection));
+        // Envia os headers de imediato, para o cliente saber que o stream está aberto
+        connection.enqueue(SseEmitter.event().comment("conectado"));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionSaved(SessionSavedEvent event) {
+        SessionNotificationDTO notification = new SessionNotificationDTO(event.sessionId(), null, event.status());
+        notify(event.mentorId(), event.mentoredId(), event.created() ? CREATED_EVENT : UPDATED_EVENT, notification);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionStatusChanged(SessionStatusChangedEvent event) {
+        SessionNotificationDTO notification = new SessionNotificationDTO(event.sessionId(), event.previousStatus(),
+                event.status());
+        notify(event.mentorId(), event.mentoredId(), STATUS_EVENT, notification);
+    }
+
+    /**
+     * Mantém as conexões ociosas abertas através de proxies que encerram
+     * conexões sem tráfego.
+     */
+    @Scheduled(fixedDelayString = "${app.sessions.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        connections.values().forEach(userConnections -> userConnections
+                .forEach(connection -> connection.enqueue(SseEmitter.event().comment("ping"))));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdownNow();
+        connections.values().forEach(userConnections -> userConnections
+                .forEach(connection -> connection.emitter.complete()));
+        connections.clear();
+    }
+
+    int connectionCount(Long userId) {
+        Set<Connection> userConnections = connections.get(userId);
+        return userConnections != null ? userConnections.size() : 0;
+    }
+
+    private void notify(Long mentorId, Long mentoredId, String name, SessionNotificationDTO notification) {
+        // Mentor e mentorado compartilham o ID do usuário
+        Stream.of(mentorId, mentoredId).distinct()
+                .map(connections::get)
+                .filter(Objects::nonNull)
+                .flatMap(Set::stream)
+                .forEach(connection -> connection.enqueue(SseEmitter.event()
+                        .name(name)
+                        .id(String.valueOf(notification.sessionId()))
+                        .data(notification, MediaType.APPLICATION_JSON)));
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.userId, (userId, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    /**
+     * Uma conexão aberta. No máximo uma tarefa por vez esvazia o buffer, de
+     * modo que os eventos saem na ordem em que foram enfileirados.
+     */
+    private final class Connection {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (!buffer.offer(event)) {
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = buffer.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectou ou o emitter já foi encerrado
+                remove(this);
+                buffer.clear();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // Um evento pode ter chegado entre o último poll e a liberação
+            if (!buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.event.MentorChangedEvent;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.util.SearchText;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trie das especializações dos mentores, usada no autocompletar da busca.
+ * As chaves ficam sem acentos e em minúsculas; cada termo guarda quantos
+ * mentores o possuem e cada nó guarda a maior contagem da sua subárvore,
+ * então os termos mais comuns de um prefixo são encontrados sem percorrer
+ * a subárvore inteira.
+ */
+@Component
+public class SpecializationTrie {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpecializationTrie.class);
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final MentorRepository mentorRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Node root = new Node();
+    // Termos atuais de cada mentor, para descontar os antigos em uma atualização
+    private Map<Long, Map<String, String>> termsByMentor = new HashMap<>();
+    // Eventos recebidos durante uma reconstrução, reaplicados antes da troca
+    private List<MentorChangedEvent> pendingDuringRebuild;
+    private volatile boolean loaded;
+
+    /**
+     * Nó da trie. Os filhos ficam em arrays ordenados pelo caractere, o que
+     * ocupa bem menos memória que um mapa por nó.
+     */
+    private static final class Node {
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int count;
+        private String label;
+        private int maxCount;
+
+        private Node child(char key) {
+            int position = Arrays.binarySearch(keys, key);
+            return position >= 0 ? children[position] : null;
+        }
+
+        private Node getOrAddChild(char key) {
+            int position = Arrays.binarySearch(keys, key);
+            if (position >= 0) {
+                return children[position];
+            }
+            int insertAt = -position - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = key;
+            newChildren[insertAt] = new Node();
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[insertAt];
+        }
+
+        private void removeChild(char key) {
+            int position = Arrays.binarySearch(keys, key);
+            if (position < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, position);
+            System.arraycopy(children, 0, newChildren, 0, position);
+            System.arraycopy(keys, position + 1, newKeys, position, keys.length - position - 1);
+            System.arraycopy(children, position + 1, newChildren, position, children.length - position - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        private void updateMaxCount() {
+            int max = count;
+            for (Node child : children) {
+                max = Math.max(max, child.maxCount);
+            }
+            maxCount = max;
+        }
+    }
+
+    /**
+     * Item da fila de prioridade da busca: um nó a expandir ou um termo pronto.
+     */
+    private record Candidate(Node node, boolean term) {
+
+        int priority() {
+            return term ? node.count : node.maxCount;
+        }
+    }
+
+    public SpecializationTrie(MentorRepository mentorRepository) {
+        this.mentorRepository = mentorRepository;
+    }
+
+    /**
+     * As {@code limit} especializações mais comuns que começam com o prefixo,
+     * da mais comum para a menos comum.
+     */
+    public List<String> suggest(String prefix, int limit) {
+        ensureLoaded();
+        String key = SearchText.fold(prefix);
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null || node.maxCount == 0) {
+                return List.of();
+            }
+
+            PriorityQueue<Candidate> queue = new PriorityQueue<>(Comparator
+                    .comparingInt(Candidate::priority).reversed()
+                    .thenComparing(Candidate::term, Comparator.reverseOrder()));
+            queue.add(new Candidate(node, false));
+
+            List<String> result = new ArrayList<>(limit);
+            while (!queue.isEmpty() && result.size() < limit) {
+                Candidate candidate = queue.poll();
+                if (candidate.term()) {
+                    result.add(candidate.node().label);
+                    continue;
+                }
+                Node current = candidate.node();
+                if (current.count > 0) {
+                    queue.add(new Candidate(current, true));
+                }
+                for (Node child : current.children) {
+                    queue.add(new Candidate(child, false));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Quantos mentores possuem a especialização, sem diferenciar acentos e maiúsculas.
+     */
+    public int count(String specialization) {
+        ensureLoaded();
+        String key = SearchText.fold(specialization);
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            return node != null ? node.count : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMentorChanged(MentorChangedEvent event) {
+        ensureLoaded();
+        lock.writeLock().lock();
+        try {
+            apply(root, termsByMentor, event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reconstrói a trie a partir do banco, corrigindo qualquer divergência
+     * causada por alterações feitas fora desta instância. Os eventos que
+     * chegam enquanto o banco é lido são reaplicados sobre a nova trie.
+     */
+    @Scheduled(fixedDelayString = "${app.mentors.index.rebuild-interval-ms:1800000}",
+            initialDelayString = "${app.mentors.index.rebuild-interval-ms:1800000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Node rebuiltRoot = new Node();
+        Map<Long, Map<String, String>> rebuiltTerms = new HashMap<>();
+        try {
+            Map<Long, List<String>> specializations = new HashMap<>();
+            for (MentorRepository.SpecializationRow row : mentorRepository.findAllSpecializationRows()) {
+                specializations.computeIfAbsent(row.getMentorId(), id -> new ArrayList<>())
+                        .add(row.getSpecialization());
+            }
+            specializations.forEach((mentorId, terms) -> {
+                Map<String, String> distinct = distinctTerms(terms);
+                distinct.forEach((key, label) -> add(rebuiltRoot, key, label, 1));
+                if (!distinct.isEmpty()) {
+                    rebuiltTerms.put(mentorId, distinct);
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // Cada evento traz as especializações completas do mentor, então
+            // reaplicar um que a leitura já viu não altera o resultado
+            for (MentorChangedEvent event : pendingDuringRebuild) {
+                apply(rebuiltRoot, rebuiltTerms, event);
+            }
+            pendingDuringRebuild = null;
+            root = rebuiltRoot;
+            termsByMentor = rebuiltTerms;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Trie de especializações reconstruída com {} mentores", rebuiltTerms.size());
+    }
+
+    /**
+     * Substitui os termos do mentor pelos do evento, ajustando as contagens.
+     */
+    private static void apply(Node root, Map<Long, Map<String, String>> termsByMentor, MentorChangedEvent event) {
+        Map<String, String> previous = termsByMentor.remove(event.mentorId());
+        Map<String, String> current = event.isDeleted() ? Map.of() : distinctTerms(event.specializations());
+
+        if (previous != null) {
+            previous.forEach((key, label) -> {
+                if (!current.containsKey(key)) {
+                    add(root, key, label, -1);
+                }
+            });
+        }
+        current.forEach((key, label) -> {
+            if (previous == null || !previous.containsKey(key)) {
+                add(root, key, label, 1);
+            }
+        });
+        if (!current.isEmpty()) {
+            termsByMentor.put(event.mentorId(), current);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    /**
+     * Chave normalizada de cada especialização, mantendo a primeira grafia
+     * original para exibição.
+     */
+    private static Map<String, String> distinctTerms(Collection<String> specializations) {
+        Map<String, String> terms = new LinkedHashMap<>();
+        if (specializations != null) {
+            for (String specialization : specializations) {
+                String key = SearchText.fold(specialization);
+                if (!key.isEmpty()) {
+                    terms.putIfAbsent(key, specialization.trim().replaceAll("\\s+", " "));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Soma {@code delta} à contagem do termo e atualiza as contagens máximas
+     * no caminho até a raiz, removendo nós que ficaram vazios.
+     */
+    private static void add(Node root, String key, String label, int delta) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = delta > 0 ? node.getOrAddChild(key.charAt(i)) : node.child(key.charAt(i));
+            if (node == null) {
+                return;
+            }
+            path[i + 1] = node;
+        }
+
+        node.count = Math.max(0, node.count + delta);
+        if (node.count == 0) {
+            node.label = null;
+        } else if (node.label == null) {
+            node.label = label;
+        }
+
+        for (int i = key.length(); i >= 0; i--) {
+            Node current = path[i];
+            current.updateMaxCount();
+            if (i > 0 && current.count == 0 && current.children.length == 0) {
+                path[i - 1].removeChild(key.charAt(i - 1));
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package br.edu.ufape.plataforma.mentoria.service.contract;
 
+import br.edu.ufape.plataforma.mentoria.dto.CursorPage;
 import br.edu.ufape.plataforma.mentoria.dto.MentorDTO;
 import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
 import br.edu.ufape.plataforma.mentoria.model.Mentor;
@@ -11,6 +12,7 @@ public interface MentorSearchServiceInterface {
     public Mentor getMentorById(Long id);
     public MentorDTO getMentorDetailsDTO(Long id);
     public List<Mentor> getAllMentors();
+    public CursorPage<MentorDTO> getMentorsPage(long afterId, int size);
     public MentorDTO getCurrentMentor();
     public List<MentorDTO> findByInterestAreaAndSpecializations(InterestArea interestArea, String specialization);
 }
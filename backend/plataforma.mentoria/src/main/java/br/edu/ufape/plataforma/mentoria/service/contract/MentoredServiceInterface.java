@@ -1,5 +1,6 @@
 package br.edu.ufape.plataforma.mentoria.service.contract;
 
+import br.edu.ufape.plataforma.mentoria.dto.CursorPage;
 import br.edu.ufape.plataforma.mentoria.dto.MentoredDTO;
 import br.edu.ufape.plataforma.mentoria.dto.UpdateMentoredDTO;
 import br.edu.ufape.plataforma.mentoria.model.Mentored;
@@ -9,6 +10,7 @@ import java.util.List;
 public interface MentoredServiceInterface {
 
     public List<Mentored> getAllMentored();
+    public CursorPage<MentoredDTO> getMentoredPage(long afterId, int size);
     public MentoredDTO createMentored(MentoredDTO mentoredDTO);
     public Mentored updateMentored(Long id, Mentored mentored);
     public MentoredDTO updateMentored(Long id, MentoredDTO mentoredDTO);
@@ -1,9 +1,12 @@
 package br.edu.ufape.plataforma.mentoria.service.contract;
 
+import br.edu.ufape.plataforma.mentoria.dto.CursorPage;
 import br.edu.ufape.plataforma.mentoria.dto.SessionDTO;
+import br.edu.ufape.plataforma.mentoria.dto.SessionStatusChangeDTO;
 import br.edu.ufape.plataforma.mentoria.enums.Status;
 import br.edu.ufape.plataforma.mentoria.model.Session;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface SessionServiceInterface {
@@ -15,8 +18,14 @@ public interface SessionServiceInterface {
     public void deleteSession(Long id);
     public SessionDTO getSessionDTOById(Long id);
     public SessionDTO updateSessionStatus(Long id, Status newStatus);
+    public List<SessionStatusChangeDTO> getStatusHistory(Long id);
     public List<SessionDTO> findSessionHistoryBetweenUsers(Long mentorId, Long mentoredId);
     public List<SessionDTO> findSessionHistoryMentor(Long mentorId);
     public List<SessionDTO> findSessionHistoryMentored(Long mentoredId);
     public List<SessionDTO> findAll();
+    public CursorPage<SessionDTO> findPage(long afterId, int size);
+    public CursorPage<SessionDTO> findMentorTimeline(Long mentorId, LocalDateTime from, LocalDateTime to,
+            Status status, long afterId, int size);
+    public CursorPage<SessionDTO> findMentoredTimeline(Long mentoredId, LocalDateTime from, LocalDateTime to,
+            Status status, long afterId, int size);
 }
@@ -16,6 +16,7 @@ public class CorsConfig {
                         .allowedOrigins("http://localhost:4200", "http://localhost:3000", "https://plataforma-de-mentoria-frontend.onrender.com") // Permite Angular acessar
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                         .allowedHeaders("*")
+                        .exposedHeaders(CursorPagination.NEXT_CURSOR_HEADER)
                         .allowCredentials(true);
             }
         };
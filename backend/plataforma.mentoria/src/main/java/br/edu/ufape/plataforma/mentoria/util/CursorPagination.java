@@ -0,0 +1,48 @@
+package br.edu.ufape.plataforma.mentoria.util;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+
+import br.edu.ufape.plataforma.mentoria.dto.CursorPage;
+
+/**
+ * Parâmetros e resposta comuns das listagens paginadas por cursor. O corpo
+ * continua sendo um array JSON; o cursor da próxima página vai no header
+ * {@value #NEXT_CURSOR_HEADER}, ausente na última página.
+ */
+public final class CursorPagination {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private CursorPagination() {
+    }
+
+    /**
+     * Limita o tamanho da página ao intervalo [1, {@value #MAX_PAGE_SIZE}].
+     */
+    public static int pageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Converte o cursor recebido no último ID já visto; sem cursor, a
+     * listagem começa do início.
+     */
+    public static long afterId(Long cursor) {
+        return cursor != null ? cursor : 0L;
+    }
+
+    public static <T> ResponseEntity<List<T>> toResponse(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, page.nextCursor().toString());
+        }
+        return builder.body(page.items());
+    }
+}
@@ -0,0 +1,181 @@
+package br.edu.ufape.plataforma.mentoria.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de facetas em memória. Cada registro ocupa uma posição densa e cada
+ * valor de cada dimensão guarda um {@link BitSet} com as posições que o
+ * possuem, então filtros e contagens são operações de bits em vez de
+ * consultas ao banco.
+ * <p>
+ * Dentro de uma dimensão os valores filtrados são combinados com OU, e entre
+ * dimensões com E. As contagens de uma dimensão ignoram o filtro dela mesma,
+ * mostrando quantos resultados cada alternativa traria.
+ */
+public final class FacetIndex {
+
+    /**
+     * @param ids    Os IDs que atendem aos filtros, em ordem crescente.
+     * @param facets A contagem de cada valor, por dimensão, na ordem das constantes.
+     */
+    public record Result(long[] ids, Map<String, Map<String, Integer>> facets) {
+    }
+
+    private final Map<String, Enum<?>[]> dimensions = new LinkedHashMap<>();
+    private final Map<String, BitSet[]> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private long[] idBySlot = new long[64];
+
+    public FacetIndex(Map<String, Class<? extends Enum<?>>> dimensions) {
+        dimensions.forEach((name, type) -> {
+            Enum<?>[] values = type.getEnumConstants();
+            BitSet[] bitsets = new BitSet[values.length];
+            for (int i = 0; i < bitsets.length; i++) {
+                bitsets[i] = new BitSet();
+            }
+            this.dimensions.put(name, values);
+            this.postings.put(name, bitsets);
+        });
+    }
+
+    /**
+     * Insere ou substitui os valores de um registro. Dimensões ausentes ou
+     * com valores nulos ficam sem valor.
+     */
+    public void put(long id, Map<String, ? extends Collection<? extends Enum<?>>> values) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = slotById.get(id);
+            int slot;
+            if (existing != null) {
+                slot = existing;
+                clearSlot(slot);
+            } else {
+                // Reaproveita posições liberadas por remoções
+                slot = live.nextClearBit(0);
+                if (slot >= idBySlot.length) {
+                    idBySlot = Arrays.copyOf(idBySlot, Math.max(slot + 1, idBySlot.length * 2));
+                }
+                idBySlot[slot] = id;
+                slotById.put(id, slot);
+                live.set(slot);
+            }
+
+            values.forEach((dimension, dimensionValues) -> {
+                BitSet[] bitsets = postings.get(dimension);
+                if (bitsets == null || dimensionValues == null) {
+                    return;
+                }
+                for (Enum<?> value : dimensionValues) {
+                    if (value != null) {
+                        bitsets[value.ordinal()].set(slot);
+                    }
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.remove(id);
+            if (slot != null) {
+                clearSlot(slot);
+                live.clear(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Aplica os filtros e conta os valores de todas as dimensões.
+     *
+     * @param filters Os valores aceitos por dimensão; dimensões ausentes ou vazias não filtram.
+     */
+    public Result search(Map<String, ? extends Collection<? extends Enum<?>>> filters) {
+        lock.readLock().lock();
+        try {
+            Map<String, BitSet> matches = new HashMap<>();
+            filters.forEach((dimension, values) -> {
+                BitSet[] bitsets = postings.get(dimension);
+                if (bitsets == null || values == null || values.isEmpty()) {
+                    return;
+                }
+                BitSet match = new BitSet();
+                for (Enum<?> value : values) {
+                    if (value != null) {
+                        match.or(bitsets[value.ordinal()]);
+                    }
+                }
+                matches.put(dimension, match);
+            });
+
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            dimensions.forEach((dimension, values) -> {
+                BitSet base = filter(matches, dimension);
+                BitSet[] bitsets = postings.get(dimension);
+                Map<String, Integer> counts = new LinkedHashMap<>();
+                for (int i = 0; i < values.length; i++) {
+                    BitSet intersection = (BitSet) bitsets[i].clone();
+                    intersection.and(base);
+                    counts.put(values[i].name(), intersection.cardinality());
+                }
+                facets.put(dimension, counts);
+            });
+
+            BitSet result = filter(matches, null);
+            long[] ids = new long[result.cardinality()];
+            int position = 0;
+            for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+                ids[position++] = idBySlot[slot];
+            }
+            Arrays.sort(ids);
+            return new Result(ids, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Registros que atendem aos filtros de todas as dimensões, exceto {@code skip}.
+     */
+    private BitSet filter(Map<String, BitSet> matches, String skip) {
+        BitSet result = (BitSet) live.clone();
+        matches.forEach((dimension, match) -> {
+            if (!dimension.equals(skip)) {
+                result.and(match);
+            }
+        });
+        return result;
+    }
+
+    private void clearSlot(int slot) {
+        for (BitSet[] bitsets : postings.values()) {
+            for (BitSet bitset : bitsets) {
+                bitset.clear(slot);
+            }
+        }
+    }
+}
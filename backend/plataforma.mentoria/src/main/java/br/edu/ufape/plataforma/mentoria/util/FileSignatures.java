@@ -0,0 +1,70 @@
+package br.edu.ufape.plataforma.mentoria.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Confere os primeiros bytes de um arquivo ("magic bytes") com a extensão
+ * informada, para que um arquivo não seja aceito apenas pelo nome.
+ */
+public final class FileSignatures {
+
+    // Quantidade de bytes iniciais necessária para reconhecer todos os formatos
+    public static final int HEADER_LENGTH = 16;
+
+    private static final byte[] PDF = ascii("%PDF-");
+    private static final byte[] PNG = { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A };
+    private static final byte[] JPEG = { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF };
+    private static final byte[] ZIP = { 'P', 'K', 0x03, 0x04 };
+    private static final byte[] OLE2 = { (byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A,
+            (byte) 0xE1 };
+    private static final byte[] RIFF = ascii("RIFF");
+    private static final byte[] AVI = ascii("AVI ");
+    private static final byte[] FTYP = ascii("ftyp");
+    private static final byte[][] QUICKTIME_ATOMS = { FTYP, ascii("moov"), ascii("mdat"), ascii("wide"),
+            ascii("free"), ascii("skip") };
+
+    private FileSignatures() {
+    }
+
+    /**
+     * @param extension A extensão em minúsculas, com o ponto (ex.: ".pdf").
+     * @param header    Os primeiros bytes do arquivo.
+     * @param length    Quantidade de bytes válidos em {@code header}.
+     * @return {@code true} se o conteúdo for compatível com a extensão.
+     */
+    public static boolean matches(String extension, byte[] header, int length) {
+        return switch (extension) {
+            case ".pdf" -> startsWith(header, length, 0, PDF);
+            case ".png" -> startsWith(header, length, 0, PNG);
+            case ".jpg", ".jpeg" -> startsWith(header, length, 0, JPEG);
+            case ".docx" -> startsWith(header, length, 0, ZIP);
+            case ".doc" -> startsWith(header, length, 0, OLE2);
+            case ".avi" -> startsWith(header, length, 0, RIFF) && startsWith(header, length, 8, AVI);
+            case ".mp4" -> startsWith(header, length, 4, FTYP);
+            case ".mov" -> Arrays.stream(QUICKTIME_ATOMS).anyMatch(atom -> startsWith(header, length, 4, atom));
+            case ".txt" -> isText(header, length);
+            default -> false;
+        };
+    }
+
+    private static boolean startsWith(byte[] header, int length, int offset, byte[] signature) {
+        if (length < offset + signature.length) {
+            return false;
+        }
+        return Arrays.equals(header, offset, offset + signature.length, signature, 0, signature.length);
+    }
+
+    private static boolean isText(byte[] header, int length) {
+        for (int i = 0; i < length; i++) {
+            if (header[i] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
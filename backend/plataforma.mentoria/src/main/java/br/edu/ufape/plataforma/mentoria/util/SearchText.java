@@ -0,0 +1,71 @@
+package br.edu.ufape.plataforma.mentoria.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização de texto para as buscas em memória: remove acentos, converte
+ * para minúsculas e separa em palavras, para que "Programação" e
+ * "programacao" sejam equivalentes.
+ */
+public final class SearchText {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final int GRAM_LENGTH = 3;
+
+    private SearchText() {
+    }
+
+    /**
+     * Remove acentos, converte para minúsculas e junta espaços repetidos.
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String folded = DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+        return folded.trim().replaceAll("\\s+", " ");
+    }
+
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(fold(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Trigramas de uma palavra indexada, com espaço nas duas pontas para que
+     * início e fim da palavra também sejam representados.
+     */
+    public static Set<String> indexGrams(String token) {
+        return grams(" " + token + " ");
+    }
+
+    /**
+     * Trigramas de uma palavra da consulta. Só o início recebe espaço, assim
+     * uma palavra incompleta ainda casa com o prefixo da palavra indexada.
+     */
+    public static Set<String> queryGrams(String token) {
+        return grams(" " + token);
+    }
+
+    private static Set<String> grams(String padded) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,91 @@
+package br.edu.ufape.plataforma.mentoria.util;
+
+/**
+ * Min-heap de tamanho fixo sobre arrays primitivos: a raiz é o pior dos
+ * melhores candidatos vistos até agora. Em caso de empate, vence o maior
+ * ID (o registro mais recente).
+ */
+public final class TopK {
+
+    private final long[] ids;
+    private final double[] scores;
+    private int size;
+
+    public TopK(int capacity) {
+        this.ids = new long[capacity];
+        this.scores = new double[capacity];
+    }
+
+    public void offer(long id, double score) {
+        if (ids.length == 0) {
+            return;
+        }
+        if (size < ids.length) {
+            ids[size] = id;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (better(id, score, ids[0], scores[0])) {
+            ids[0] = id;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * IDs do melhor para o pior candidato. Esvazia o heap.
+     */
+    public long[] toSortedIds() {
+        long[] result = new long[size];
+        while (size > 0) {
+            result[size - 1] = ids[0];
+            size--;
+            ids[0] = ids[size];
+            scores[0] = scores[size];
+            siftDown(0);
+        }
+        return result;
+    }
+
+    private static boolean better(long id, double score, long otherId, double otherScore) {
+        return score > otherScore || (score == otherScore && id > otherId);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!better(ids[parent], scores[parent], ids[index], scores[index])) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            int right = left + 1;
+            int smallest = index;
+            if (left < size && better(ids[smallest], scores[smallest], ids[left], scores[left])) {
+                smallest = left;
+            }
+            if (right < size && better(ids[smallest], scores[smallest], ids[right], scores[right])) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
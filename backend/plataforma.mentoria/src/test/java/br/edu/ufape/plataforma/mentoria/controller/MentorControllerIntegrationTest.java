@@ -86,6 +86,34 @@ class MentorControllerIntegrationTest {
                                 .andExpect(jsonPath("$", not(empty())));
         }
 
+        @Test
+        void shouldCountCreatedMentorInFacets() throws Exception {
+                String email = createUniqueUser();
+                MentorDTO mentorDTO = buildValidMentorDTO(generateUniqueCpf("67890"));
+                mentorDTO.setAffiliationType(AffiliationType.PESQUISADOR);
+
+                org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.UserRequestPostProcessor userAuth = org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors
+                                .user(email).roles("MENTOR");
+
+                mockMvc.perform(post("/api/mentor")
+                                .with(userAuth)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(mentorDTO)))
+                                .andExpect(status().isCreated());
+
+                mockMvc.perform(get("/api/mentored/mentors/facets")
+                                .param("affiliationType", "PESQUISADOR")
+                                .param("interestArea", "TECNOLOGIA_DA_INFORMACAO")
+                                .param("size", "100"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items[*].cpf", hasItem(mentorDTO.getCpf())))
+                                .andExpect(jsonPath("$.facets.affiliationType.PESQUISADOR", greaterThanOrEqualTo(1)))
+                                .andExpect(jsonPath("$.facets.course.CIENCIA_DA_COMPUTACAO", greaterThanOrEqualTo(1)));
+
+                mockMvc.perform(get("/api/mentored/mentors/facets").param("course", "INEXISTENTE"))
+                                .andExpect(status().isBadRequest());
+        }
+
         @Test
         void shouldReturnNotFoundForNonexistentMentor() throws Exception {
                 String email = createUniqueUser();
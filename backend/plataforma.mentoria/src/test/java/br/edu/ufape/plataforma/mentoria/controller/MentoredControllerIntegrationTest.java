@@ -1,6 +1,8 @@
 package br.edu.ufape.plataforma.mentoria.controller;
 
+import br.edu.ufape.plataforma.mentoria.dto.MentorDTO;
 import br.edu.ufape.plataforma.mentoria.dto.MentoredDTO;
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
 import br.edu.ufape.plataforma.mentoria.enums.Course;
 import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,6 +16,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import br.edu.ufape.plataforma.mentoria.model.User;
 import br.edu.ufape.plataforma.mentoria.enums.UserRole;
 import br.edu.ufape.plataforma.mentoria.repository.UserRepository;
+import java.util.Arrays;
 import java.util.Collections;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -192,4 +195,40 @@ class MentoredControllerIntegrationTest {
                 .content(objectMapper.writeValueAsString(mentoredDTO)))
                 .andExpect(status().isUnauthorized());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldFindCreatedMentorInSearchAndAutocomplete() throws Exception {
+        String email = "mentor" + System.currentTimeMillis() + "@test.com";
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword(TEST_PASSWORD);
+        user.setRole(UserRole.MENTOR);
+        userRepository.save(user);
+
+        MentorDTO mentorDTO = new MentorDTO();
+        mentorDTO.setFullName("Test Mentor");
+        mentorDTO.setCpf(generateUniqueCpf("54321"));
+        mentorDTO.setBirthDate(java.time.LocalDate.of(1990, 1, 1));
+        mentorDTO.setCourse(Course.CIENCIA_DA_COMPUTACAO);
+        mentorDTO.setProfessionalSummary("Resumo profissional de teste");
+        mentorDTO.setAffiliationType(AffiliationType.DOCENTE);
+        mentorDTO.setSpecializations(Arrays.asList("Programação Funcional", "Spring"));
+        mentorDTO.setInterestArea(Collections.singletonList(InterestArea.TECNOLOGIA_DA_INFORMACAO));
+        var mentorAuth = org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user(email).roles("MENTOR");
+
+        mockMvc.perform(post("/api/mentor")
+                .with(mentorAuth)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(mentorDTO)))
+                .andExpect(status().isCreated());
+
+        // Os índices em memória são atualizados pelo evento, sem esperar a reconstrução
+        mockMvc.perform(get("/api/mentored/mentors/search").param("specializations", "programacao func"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].cpf", hasItem(mentorDTO.getCpf())));
+
+        mockMvc.perform(get("/api/mentored/mentors/specializations/autocomplete").param("prefix", "progr"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasItem("Programação Funcional")));
+    }
+}
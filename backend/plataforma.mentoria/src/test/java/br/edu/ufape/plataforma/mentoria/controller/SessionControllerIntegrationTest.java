@@ -123,14 +123,14 @@ class SessionControllerIntegrationTest {
         SessionDTO sessionDTO = buildValidSessionDTO();
         Session newSession = sessionService.createSession(sessionDTO);
         SessionDTO updatedDTO = sessionMapper.toDTO(newSession);
-        updatedDTO.setStatus(Status.COMPLETED);
+        updatedDTO.setStatus(Status.ACCEPTED);
     
         updatedDTO.setMentoredId(newSession.getMentored().getId());
         mockMvc.perform(put("/api/sessions/{id}", newSession.getId()) 
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updatedDTO)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.status", is(Status.COMPLETED.toString())));
+                .andExpect(jsonPath("$.status", is(Status.ACCEPTED.toString())));
     }
 
     @Test
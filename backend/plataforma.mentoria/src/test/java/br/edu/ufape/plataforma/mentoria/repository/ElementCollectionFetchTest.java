@@ -0,0 +1,177 @@
+package br.edu.ufape.plataforma.mentoria.repository;
+
+import br.edu.ufape.plataforma.mentoria.dto.MaterialDTO;
+import br.edu.ufape.plataforma.mentoria.dto.MentorDTO;
+import br.edu.ufape.plataforma.mentoria.dto.MentoredDTO;
+import br.edu.ufape.plataforma.mentoria.enums.*;
+import br.edu.ufape.plataforma.mentoria.mapper.MaterialMapper;
+import br.edu.ufape.plataforma.mentoria.mapper.MentorMapper;
+import br.edu.ufape.plataforma.mentoria.mapper.MentoredMapper;
+import br.edu.ufape.plataforma.mentoria.model.Material;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.model.User;
+import br.edu.ufape.plataforma.mentoria.service.MentorSearchIndex;
+import br.edu.ufape.plataforma.mentoria.service.MentorSearchService;
+import br.edu.ufape.plataforma.mentoria.service.MentoredSearchService;
+import br.edu.ufape.plataforma.mentoria.service.RatingSummaryService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Garante que as coleções de áreas de interesse e especializações são
+ * carregadas com um número fixo de consultas, independente do tamanho da lista.
+ */
+@DataJpaTest
+@Import({ MentorSearchService.class, MentorSearchIndex.class, MentoredSearchService.class, RatingSummaryService.class,
+        MentorMapper.class, MentoredMapper.class, MaterialMapper.class })
+class ElementCollectionFetchTest {
+
+    private static final int ROWS = 5;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private MentoredRepository mentoredRepository;
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Autowired
+    private MentorSearchService mentorSearchService;
+
+    @Autowired
+    private MentorSearchIndex mentorSearchIndex;
+
+    @Autowired
+    private MentoredSearchService mentoredSearchService;
+
+    @Autowired
+    private MaterialMapper materialMapper;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    private User newUser(String email, UserRole role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("senhaSegura123");
+        user.setRole(role);
+        return user;
+    }
+
+    /**
+     * Descarta o contexto de persistência para que as entidades sejam lidas
+     * do banco, e zera o contador de consultas.
+     */
+    private void resetPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void testListarMentoresComConsultasFixas() {
+        for (int i = 0; i < ROWS; i++) {
+            mentorRepository.save(new Mentor.Builder()
+                    .fullName("Mentor " + i)
+                    .cpf("1234567890" + i)
+                    .specializations(List.of("Java", "Spring"))
+                    .affiliationType(AffiliationType.DOCENTE)
+                    .birthDate(LocalDate.of(1990, 1, 1))
+                    .professionalSummary("Professional")
+                    .user(newUser("mentor" + i + "@teste.com", UserRole.MENTOR))
+                    .interestArea(List.of(InterestArea.CIBERSEGURANCA))
+                    .course(Course.ADMINISTRACAO)
+                    .build());
+        }
+        entityManager.flush();
+        mentorSearchIndex.rebuild();
+        resetPersistenceContext();
+
+        List<MentorDTO> mentors = mentorSearchService.findByInterestAreaAndSpecializations(
+                InterestArea.CIBERSEGURANCA, "Java");
+
+        assertEquals(ROWS, mentors.size());
+        assertTrue(mentors.stream().allMatch(m -> m.getSpecializations().size() == 2
+                && List.copyOf(m.getInterestArea()).equals(List.of(InterestArea.CIBERSEGURANCA))));
+        // Mentores + especializações + áreas de interesse + resumos de avaliações
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testListarMentoradosComConsultasFixas() {
+        for (int i = 0; i < ROWS; i++) {
+            Mentored mentored = new Mentored();
+            mentored.setFullName("Mentorado " + i);
+            mentored.setCpf("1234567890" + i);
+            mentored.setBirthDate(LocalDate.of(2000, 1, 1));
+            mentored.setUser(newUser("mentorado" + i + "@teste.com", UserRole.MENTORADO));
+            mentored.setInterestArea(List.of(InterestArea.CIBERSEGURANCA, InterestArea.ARTES_E_DESIGN));
+            mentored.setCourse(Course.ADMINISTRACAO);
+            mentored.setAcademicSummary("Academic");
+            mentoredRepository.save(mentored);
+        }
+        resetPersistenceContext();
+
+        List<MentoredDTO> mentoreds = mentoredSearchService.findByInterestArea(InterestArea.CIBERSEGURANCA);
+
+        assertEquals(ROWS, mentoreds.size());
+        assertTrue(mentoreds.stream().allMatch(m -> m.getInterestArea().size() == 2));
+        // Mentorados + áreas de interesse
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testListarMateriaisComConsultasFixas() {
+        User user = newUser("autor@teste.com", UserRole.MENTOR);
+        mentorRepository.save(new Mentor.Builder()
+                .fullName("Autor")
+                .cpf("98765432100")
+                .specializations(List.of("Dados"))
+                .affiliationType(AffiliationType.DOCENTE)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .professionalSummary("Professional")
+                .user(user)
+                .interestArea(List.of(InterestArea.CIBERSEGURANCA))
+                .course(Course.ADMINISTRACAO)
+                .build());
+        for (int i = 0; i < ROWS; i++) {
+            materialRepository.save(new Material.Builder()
+                    .title("Material " + i)
+                    .materialType(MaterialType.LINK)
+                    .interestArea(Set.of(InterestArea.CIBERSEGURANCA))
+                    .userUploader(user)
+                    .build());
+        }
+        resetPersistenceContext();
+
+        List<MaterialDTO> materials = materialRepository.findAll().stream().map(materialMapper::toDTO).toList();
+
+        assertEquals(ROWS, materials.size());
+        assertTrue(materials.stream().allMatch(m -> m.getInterestArea().contains(InterestArea.CIBERSEGURANCA)));
+        // Materiais + áreas de interesse + o único autor
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,28 @@
+package br.edu.ufape.plataforma.mentoria.repository;
+
+import br.edu.ufape.plataforma.mentoria.model.MaterialBlob;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class MaterialBlobRepositoryTest {
+
+    private static final String KEY = "ec0a44b5b37cf06e5ea6c2e7b5e1d8ae8c2fbac14a2bc5bb4eb4d2d0a47a43dd.pdf";
+
+    @Autowired
+    private MaterialBlobRepository blobRepository;
+
+    @Test
+    void testInsercaoDuplicadaNaoFalha() {
+        assertEquals(1, blobRepository.insertIfAbsent(KEY, KEY.substring(0, 64), 13));
+        assertEquals(0, blobRepository.insertIfAbsent(KEY, KEY.substring(0, 64), 13));
+        assertEquals(1, blobRepository.incrementReferences(KEY));
+
+        MaterialBlob blob = blobRepository.findById(KEY).orElseThrow();
+        assertEquals(2, blob.getReferenceCount());
+        assertEquals(13, blob.getSize());
+    }
+}
@@ -7,6 +7,7 @@ import br.edu.ufape.plataforma.mentoria.model.User;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -164,4 +165,138 @@ class MaterialRepositoryTest {
         List<Material> encontrados = materialRepository.findByInterestArea(InterestArea.ARTES_E_DESIGN);
         assertEquals(3, encontrados.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findAllInterestAreaRows() {
+        User user = new User();
+        user.setEmail("mentor4@teste.com");
+        user.setPassword("senhaSegura123");
+        user.setRole(UserRole.MENTOR);
+
+        Mentor mentor = new Mentor.Builder()
+                .fullName("Carlos Mendes")
+                .cpf("45678912300")
+                .specializations(List.of("Análise de Dados"))
+                .affiliationType(AffiliationType.DOCENTE)
+                .birthDate(LocalDate.of(1988, 3, 10))
+                .professionalSummary("Especialista em dados")
+                .user(user)
+                .interestArea(List.of(InterestArea.CIBERSEGURANCA))
+                .course(Course.ADMINISTRACAO)
+                .build();
+        mentorRepository.save(mentor);
+
+        Material material1 = materialRepository.save(new Material.Builder()
+                .title("Tutorial sobre Dados")
+                .materialType(MaterialType.DOCUMENTO)
+                .interestArea(Set.of(InterestArea.FINANCAS_E_CONTABILIDADE, InterestArea.ARTES_E_DESIGN))
+                .userUploader(user)
+                .build());
+        Material material2 = materialRepository.save(new Material.Builder()
+                .title("Material sem área")
+                .materialType(MaterialType.LINK)
+                .userUploader(user)
+                .build());
+
+        // Apenas os pares (material, área) são retornados, sem carregar as entidades
+        List<MaterialRepository.InterestAreaRow> rows = materialRepository.findAllInterestAreaRows();
+        assertEquals(2, rows.size());
+        assertTrue(rows.stream().allMatch(row -> row.getMaterialId().equals(material1.getId())));
+        assertEquals(Set.of(InterestArea.FINANCAS_E_CONTABILIDADE, InterestArea.ARTES_E_DESIGN),
+                Set.copyOf(rows.stream().map(MaterialRepository.InterestAreaRow::getArea).toList()));
+
+        assertEquals(Set.of(material1.getId(), material2.getId()), Set.copyOf(materialRepository.findAllIds()));
+    }
+
+    @Test
+    void findAllRecommendationRows() {
+        User user = new User();
+        user.setEmail("mentor5@teste.com");
+        user.setPassword("senhaSegura123");
+        user.setRole(UserRole.MENTOR);
+
+        Mentor mentor = new Mentor.Builder()
+                .fullName("Carlos Mendes")
+                .cpf("45678912300")
+                .specializations(List.of("Análise de Dados"))
+                .affiliationType(AffiliationType.DOCENTE)
+                .birthDate(LocalDate.of(1988, 3, 10))
+                .professionalSummary("Especialista em dados")
+                .user(user)
+                .interestArea(List.of(InterestArea.CIBERSEGURANCA))
+                .course(Course.ADMINISTRACAO)
+                .build();
+        mentorRepository.save(mentor);
+
+        Material material = materialRepository.save(new Material.Builder()
+                .title("Tutorial sobre Dados")
+                .materialType(MaterialType.DOCUMENTO)
+                .interestArea(Set.of(InterestArea.CIBERSEGURANCA))
+                .userUploader(user)
+                .build());
+        materialRepository.incrementDownloadCount(material.getId(), 3);
+
+        List<MaterialRepository.RecommendationRow> rows = materialRepository.findAllRecommendationRows();
+
+        assertEquals(1, rows.size());
+        assertEquals(material.getId(), rows.getFirst().getMaterialId());
+        assertEquals(3, rows.getFirst().getDownloadCount());
+        assertEquals(Course.ADMINISTRACAO, rows.getFirst().getUploaderCourse());
+    }
+
+    @Test
+    void findPageAfter() {
+        User user = new User();
+        user.setEmail("mentor6@teste.com");
+        user.setPassword("senhaSegura123");
+        user.setRole(UserRole.MENTOR);
+
+        Mentor mentor = new Mentor.Builder()
+                .fullName("Carlos Mendes")
+                .cpf("45678912300")
+                .specializations(List.of("Análise de Dados"))
+                .affiliationType(AffiliationType.DOCENTE)
+                .birthDate(LocalDate.of(1988, 3, 10))
+                .professionalSummary("Especialista em dados")
+                .user(user)
+                .interestArea(List.of(InterestArea.CIBERSEGURANCA))
+                .course(Course.ADMINISTRACAO)
+                .build();
+        mentorRepository.save(mentor);
+
+        Material material1 = materialRepository.save(new Material.Builder()
+                .title("Primeiro")
+                .materialType(MaterialType.DOCUMENTO)
+                .interestArea(Set.of(InterestArea.CIBERSEGURANCA))
+                .userUploader(user)
+                .build());
+        Material material2 = materialRepository.save(new Material.Builder()
+                .title("Segundo, sem autor")
+                .materialType(MaterialType.LINK)
+                .url("https://exemplo.com")
+                .build());
+        Material material3 = materialRepository.save(new Material.Builder()
+                .title("Terceiro")
+                .materialType(MaterialType.LINK)
+                .userUploader(user)
+                .build());
+
+        List<MaterialRepository.MaterialRow> firstPage = materialRepository.findPageAfter(0, Limit.of(2));
+        assertEquals(List.of(material1.getId(), material2.getId()),
+                firstPage.stream().map(MaterialRepository.MaterialRow::getId).toList());
+        assertEquals(user.getId(), firstPage.get(0).getUserUploaderId());
+        // Material sem autor continua na listagem
+        assertNull(firstPage.get(1).getUserUploaderId());
+        assertEquals("https://exemplo.com", firstPage.get(1).getUrl());
+
+        List<MaterialRepository.MaterialRow> secondPage = materialRepository.findPageAfter(material2.getId(),
+                Limit.of(2));
+        assertEquals(List.of(material3.getId()),
+                secondPage.stream().map(MaterialRepository.MaterialRow::getId).toList());
+
+        List<MaterialRepository.InterestAreaRow> areas = materialRepository
+                .findInterestAreaRows(List.of(material1.getId(), material2.getId()));
+        assertEquals(1, areas.size());
+        assertEquals(InterestArea.CIBERSEGURANCA, areas.getFirst().getArea());
+    }
+}
@@ -8,6 +8,7 @@ import br.edu.ufape.plataforma.mentoria.model.User;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -73,4 +74,43 @@ class MentorRepositoryTest {
         assertFalse(encontrados.isEmpty());
         assertEquals(2, encontrados.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFindPageAfterComColecoes() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User user = new User();
+            user.setEmail("pagina" + i + "@teste.com");
+            user.setPassword("senhaSegura123");
+            user.setRole(UserRole.MENTOR);
+
+            Mentor mentor = new Mentor.Builder()
+                .fullName("Mentor " + i)
+                .cpf("1234567890" + i)
+                .specializations(List.of("Java", "Spring"))
+                .affiliationType(AffiliationType.DOCENTE)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .professionalSummary("Professional")
+                .user(user)
+                .interestArea(List.of(InterestArea.CIBERSEGURANCA))
+                .course(Course.ADMINISTRACAO)
+                .build();
+            ids.add(mentorRepository.save(mentor).getId());
+        }
+
+        List<MentorRepository.MentorRow> page = mentorRepository.findPageAfter(ids.get(0), Limit.of(5));
+
+        // Ordenado por ID e sempre após o cursor
+        assertEquals(ids.subList(1, 3), page.stream().map(MentorRepository.MentorRow::getId).toList());
+        assertEquals("Mentor 1", page.get(0).getFullName());
+        assertEquals(AffiliationType.DOCENTE, page.get(0).getAffiliationType());
+
+        List<MentorRepository.SpecializationRow> specializations = mentorRepository
+            .findSpecializationRows(List.of(ids.get(1)));
+        assertEquals(List.of("Java", "Spring"),
+            specializations.stream().map(MentorRepository.SpecializationRow::getSpecialization).sorted().toList());
+
+        List<MentorRepository.InterestAreaRow> areas = mentorRepository.findInterestAreaRows(ids);
+        assertEquals(3, areas.size());
+    }
+}
@@ -0,0 +1,112 @@
+package br.edu.ufape.plataforma.mentoria.repository;
+
+import br.edu.ufape.plataforma.mentoria.dto.SessionDTO;
+import br.edu.ufape.plataforma.mentoria.enums.*;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.model.Session;
+import br.edu.ufape.plataforma.mentoria.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class SessionRepositoryTest {
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private MentoredRepository mentoredRepository;
+
+    private Mentor mentor;
+    private Mentored mentored;
+
+    private User newUser(String email, UserRole role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("senhaSegura123");
+        user.setRole(role);
+        return user;
+    }
+
+    @BeforeEach
+    void setUp() {
+        mentor = mentorRepository.save(new Mentor.Builder()
+                .fullName("Mentor")
+                .cpf("12345678900")
+                .specializations(List.of("Java"))
+                .affiliationType(AffiliationType.DOCENTE)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .professionalSummary("Professional")
+                .user(newUser("mentor@teste.com", UserRole.MENTOR))
+                .interestArea(List.of(InterestArea.CIBERSEGURANCA))
+                .course(Course.ADMINISTRACAO)
+                .build());
+
+        mentored = new Mentored();
+        mentored.setFullName("Mentorado");
+        mentored.setCpf("12345678901");
+        mentored.setBirthDate(LocalDate.of(2000, 1, 1));
+        mentored.setUser(newUser("mentorado@teste.com", UserRole.MENTORADO));
+        mentored.setInterestArea(List.of(InterestArea.CIBERSEGURANCA));
+        mentored.setCourse(Course.ADMINISTRACAO);
+        mentored = mentoredRepository.save(mentored);
+    }
+
+    private Session saveSession(LocalDate date, LocalTime time, Status status) {
+        Session session = new Session(mentor, mentored, date, time, "Carreira", "Online");
+        session.setStatus(status);
+        return sessionRepository.save(session);
+    }
+
+    @Test
+    void updateStatusIfSoAplicaAPartirDoStatusEsperado() {
+        Long id = sessionRepository.save(new Session(mentor, mentored, LocalDate.of(2025, 1, 1), LocalTime.NOON,
+                "Carreira", "Online")).getId();
+
+        assertEquals(1, sessionRepository.updateStatusIf(id, Status.PENDING, Status.ACCEPTED));
+        // Uma segunda requisição que também leu PENDING não deve sobrescrever a primeira
+        assertEquals(0, sessionRepository.updateStatusIf(id, Status.PENDING, Status.REJECTED));
+        assertEquals(Status.ACCEPTED, sessionRepository.findById(id).orElseThrow().getStatus());
+    }
+
+    @Test
+    void linhaDoTempoPaginaPorInicioDentroDoIntervalo() {
+        saveSession(LocalDate.of(2024, 12, 31), LocalTime.NOON, Status.COMPLETED);
+        Session first = saveSession(LocalDate.of(2025, 1, 2), LocalTime.of(9, 0), Status.COMPLETED);
+        Session second = saveSession(LocalDate.of(2025, 1, 2), LocalTime.of(9, 0), Status.COMPLETED);
+        saveSession(LocalDate.of(2025, 1, 3), LocalTime.NOON, Status.CANCELLED);
+        Session third = saveSession(LocalDate.of(2025, 1, 1), LocalTime.of(14, 0), Status.COMPLETED);
+        saveSession(LocalDate.of(2025, 2, 1), LocalTime.NOON, Status.COMPLETED);
+
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+        Set<Status> completed = EnumSet.of(Status.COMPLETED);
+
+        List<SessionDTO> page = sessionRepository.findMentorTimeline(mentor.getId(), from, 0L, to, completed,
+                Limit.of(2));
+        assertEquals(List.of(third.getId(), first.getId()), page.stream().map(SessionDTO::getId).toList());
+
+        // Continua do mesmo início, desempatando pelo ID
+        LocalDateTime cursorStart = sessionRepository.findStartAtById(first.getId()).orElseThrow();
+        assertEquals(LocalDateTime.of(2025, 1, 2, 9, 0), cursorStart);
+        page = sessionRepository.findMentoredTimeline(mentored.getId(), cursorStart, first.getId(), to, completed,
+                Limit.of(2));
+        assertEquals(List.of(second.getId()), page.stream().map(SessionDTO::getId).toList());
+    }
+}
@@ -11,8 +11,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import br.edu.ufape.plataforma.mentoria.model.User;
-import br.edu.ufape.plataforma.mentoria.repository.UserRepository;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -23,9 +22,6 @@ class SecurityFilterTest {
     @Mock
     private TokenService tokenService;
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private HttpServletRequest request;
 
@@ -46,24 +42,25 @@ class SecurityFilterTest {
     @Test
     void testTokenValidoAutenticaUsuario() throws Exception {
         String token = "valid-token";
-        String email = "user@email.com";
-        User mockUser = mock(User.class);
+        AuthenticatedUser principal = new AuthenticatedUser(1L, "user@email.com", UserRole.MENTOR);
 
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(tokenService.validateToken(token)).thenReturn(email);
-        when(userRepository.findByEmail(email)).thenReturn(mockUser);
+        when(tokenService.recoverPrincipal(token)).thenReturn(principal);
 
         securityFilter.doFilterInternal(request, response, filterChain);
 
         verify(filterChain, times(1)).doFilter(request, response);
         assertNotNull(SecurityContextHolder.getContext().getAuthentication());
-        assertEquals(mockUser, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        assertEquals(principal, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        assertEquals("user@email.com", SecurityContextHolder.getContext().getAuthentication().getName());
+        assertTrue(SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_MENTOR")));
     }
 
     @Test
     void testTokenInvalidoNaoAutentica() throws Exception {
         when(request.getHeader("Authorization")).thenReturn("Bearer invalid-token");
-        when(tokenService.validateToken("invalid-token")).thenReturn(null);
+        when(tokenService.recoverPrincipal("invalid-token")).thenReturn(null);
 
         securityFilter.doFilterInternal(request, response, filterChain);
 
@@ -92,26 +89,15 @@ class SecurityFilterTest {
     }
 
     @Test
-    void testUsuarioNaoEncontrado() throws Exception {
-        when(request.getHeader("Authorization")).thenReturn("Bearer valid-token");
-        when(tokenService.validateToken("valid-token")).thenReturn("user@email.com");
-        when(userRepository.findByEmail("user@email.com")).thenReturn(null);
-
-        securityFilter.doFilterInternal(request, response, filterChain);
-
-        assertNull(SecurityContextHolder.getContext().getAuthentication());
-        verify(filterChain).doFilter(request, response);
-    }
-
-    @Test
-    void testTokenValidoLoginVazio() throws Exception {
+    void testTokenValidoNaoConsultaValidateToken() throws Exception {
         String token = "valid-token";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(tokenService.validateToken(token)).thenReturn("");
+        when(tokenService.recoverPrincipal(token))
+                .thenReturn(new AuthenticatedUser(1L, "user@email.com", UserRole.MENTORADO));
 
         securityFilter.doFilterInternal(request, response, filterChain);
 
-        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(tokenService, never()).validateToken(anyString());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -3,10 +3,16 @@ package br.edu.ufape.plataforma.mentoria.security;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.lang.reflect.Field;
+import java.time.Instant;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+
 import br.edu.ufape.plataforma.mentoria.model.User;
 import br.edu.ufape.plataforma.mentoria.enums.UserRole;
 
@@ -47,6 +53,27 @@ class TokenServiceTest {
         assertEquals("user@email.com", subject);
     }
 
+    @Test
+    void testRecuperarPrincipalDasClaims() {
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("user@email.com");
+        user.setRole(UserRole.MENTORADO);
+
+        String token = tokenService.generateToken(user);
+        AuthenticatedUser principal = tokenService.recoverPrincipal(token);
+
+        assertNotNull(principal);
+        assertEquals(7L, principal.getId());
+        assertEquals("user@email.com", principal.getUsername());
+        assertEquals(UserRole.MENTORADO, principal.getRole());
+    }
+
+    @Test
+    void testRecuperarPrincipalTokenInvalido() {
+        assertNull(tokenService.recoverPrincipal("token.invalido"));
+    }
+
     @Test
     void testValidarTokenInvalido() {
         String invalidToken = "token.invalido";
@@ -76,4 +103,81 @@ class TokenServiceTest {
 
         assertThrows(RuntimeException.class, () -> tokenService.generateToken(user));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testTokenRepetidoUsaCache() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("user@email.com");
+        user.setRole(UserRole.MENTOR);
+        String token = tokenService.generateToken(user);
+
+        tokenService.recoverPrincipal(token);
+        tokenService.recoverPrincipal(token);
+        String subject = tokenService.validateToken(token);
+
+        assertEquals("user@email.com", subject);
+        assertEquals(1, tokenService.getCacheMisses());
+        assertEquals(2, tokenService.getCacheHits());
+        assertEquals(1, tokenService.getCacheSize());
+    }
+
+    @Test
+    void testMetricasDoCache() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        tokenService.bindTo(registry);
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("user@email.com");
+        user.setRole(UserRole.MENTOR);
+        String token = tokenService.generateToken(user);
+
+        tokenService.validateToken(token);
+        tokenService.validateToken(token);
+
+        assertEquals(1.0, registry.get("auth.token.cache.requests").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("auth.token.cache.requests").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("auth.token.cache.size").gauge().value());
+    }
+
+    @Test
+    void testTokenInvalidoNaoEntraNoCache() {
+        tokenService.validateToken("token.invalido");
+        tokenService.validateToken("token.invalido");
+
+        assertEquals(0, tokenService.getCacheHits());
+        assertEquals(2, tokenService.getCacheMisses());
+        assertEquals(0, tokenService.getCacheSize());
+    }
+
+    @Test
+    void testTokenExpiradoNaoEValidado() {
+        String expiredToken = JWT.create()
+                .withIssuer("Mentoria")
+                .withSubject("user@email.com")
+                .withClaim("role", UserRole.MENTOR.name())
+                .withClaim("userId", 1L)
+                .withExpiresAt(Instant.now().minusSeconds(60))
+                .sign(Algorithm.HMAC256(secret));
+
+        assertNull(tokenService.recoverPrincipal(expiredToken));
+        assertEquals(0, tokenService.getCacheSize());
+    }
+
+    @Test
+    void testCacheLimitado() throws Exception {
+        Field cacheSizeField = TokenService.class.getDeclaredField("cacheSize");
+        cacheSizeField.setAccessible(true);
+        cacheSizeField.set(tokenService, 3);
+
+        for (long id = 1; id <= 10; id++) {
+            User user = new User();
+            user.setId(id);
+            user.setEmail("user" + id + "@email.com");
+            user.setRole(UserRole.MENTORADO);
+            assertNotNull(tokenService.recoverPrincipal(tokenService.generateToken(user)));
+        }
+
+        assertTrue(tokenService.getCacheSize() <= 3);
+    }
+}
@@ -4,6 +4,7 @@ import br.edu.ufape.plataforma.mentoria.dto.UserDTO;
 import br.edu.ufape.plataforma.mentoria.enums.UserRole;
 import br.edu.ufape.plataforma.mentoria.model.User;
 import br.edu.ufape.plataforma.mentoria.repository.UserRepository;
+import br.edu.ufape.plataforma.mentoria.security.AuthenticatedUser;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -124,4 +126,39 @@ class AuthServiceTest {
 
         assertEquals(HttpStatus.UNAUTHORIZED, ex.getStatusCode());
     }
-}
\ No newline at end of file
+
+    // --- getCurrentUserId ---
+    @Test
+    void getCurrentUserId_ShouldUseTokenClaims_WithoutQueryingDatabase() {
+        AuthenticatedUser principal = new AuthenticatedUser(42L, "test@example.com", UserRole.MENTOR);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        Long result = authService.getCurrentUserId();
+
+        assertEquals(42L, result);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getCurrentUserId_ShouldLoadUser_WhenPrincipalHasNoClaims() {
+        user.setId(5L);
+        SecurityContextHolder.getContext()
+                .setAuthentication(new TestingAuthenticationToken("test@example.com", null));
+
+        when(userRepository.findByEmail("test@example.com")).thenReturn(user);
+
+        assertEquals(5L, authService.getCurrentUserId());
+    }
+
+    @Test
+    void getCurrentUser_ShouldLoadEntityLazily_WhenPrincipalIsStateless() {
+        AuthenticatedUser principal = new AuthenticatedUser(1L, "test@example.com", UserRole.MENTOR);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        when(userRepository.findByEmail("test@example.com")).thenReturn(user);
+
+        assertSame(user, authService.getCurrentUser());
+    }
+}
@@ -0,0 +1,173 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.AvailabilityWindowDTO;
+import br.edu.ufape.plataforma.mentoria.dto.AvailableSlotDTO;
+import br.edu.ufape.plataforma.mentoria.dto.SessionDTO;
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.exceptions.BusinessException;
+import br.edu.ufape.plataforma.mentoria.exceptions.SlotUnavailableException;
+import br.edu.ufape.plataforma.mentoria.mapper.SessionMapper;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.model.Session;
+import br.edu.ufape.plataforma.mentoria.model.User;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SlotClaimRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({ AvailabilityService.class, SessionIntervalIndex.class, SessionService.class, SessionMapper.class })
+class AvailabilityServiceTest {
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private SessionIntervalIndex intervalIndex;
+
+    @Autowired
+    private SlotClaimRepository slotClaimRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private MentoredRepository mentoredRepository;
+
+    private Mentor mentor;
+    private Mentored mentored;
+    private Mentored otherMentored;
+    private LocalDate monday;
+
+    @BeforeEach
+    void setUp() {
+        mentor = newMentor("mentor@teste.com", "12345678900");
+        mentored = newMentored("mentorado@teste.com", "12345678901");
+        otherMentored = newMentored("outro@teste.com", "12345678902");
+        monday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+        availabilityService.replaceWindows(mentor.getId(), List.of(
+                new AvailabilityWindowDTO(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(11, 0))));
+    }
+
+    private Mentor newMentor(String email, String cpf) {
+        return mentorRepository.save(new Mentor.Builder()
+                .fullName("Mentor")
+                .cpf(cpf)
+                .specializations(List.of("Java"))
+                .affiliationType(AffiliationType.DOCENTE)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .professionalSummary("Professional")
+                .user(newUser(email, UserRole.MENTOR))
+                .interestArea(List.of(InterestArea.CIBERSEGURANCA))
+                .course(Course.ADMINISTRACAO)
+                .build());
+    }
+
+    private Mentored newMentored(String email, String cpf) {
+        Mentored newMentored = new Mentored();
+        newMentored.setFullName("Mentorado");
+        newMentored.setCpf(cpf);
+        newMentored.setBirthDate(LocalDate.of(2000, 1, 1));
+        newMentored.setUser(newUser(email, UserRole.MENTORADO));
+        newMentored.setInterestArea(List.of(InterestArea.CIBERSEGURANCA));
+        newMentored.setCourse(Course.ADMINISTRACAO);
+        return mentoredRepository.save(newMentored);
+    }
+
+    private User newUser(String email, UserRole role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("senhaSegura123");
+        user.setRole(role);
+        return user;
+    }
+
+    private Session book(Mentor sessionMentor, Mentored sessionMentored, LocalDate date, LocalTime time) {
+        return sessionService.createSession(new SessionDTO(sessionMentor.getId(), sessionMentored.getId(), date, time,
+                "Carreira", "Online"));
+    }
+
+    @Test
+    void testHorariosLivresSeguemAsJanelas() {
+        assertEquals(1, availabilityService.getWindows(mentor.getId()).size());
+
+        List<AvailableSlotDTO> slots = availabilityService.findFreeSlots(mentor.getId(), monday, monday);
+
+        assertEquals(List.of(new AvailableSlotDTO(monday, LocalTime.of(9, 0)),
+                new AvailableSlotDTO(monday, LocalTime.of(10, 0))), slots);
+    }
+
+    @Test
+    void testReservaOcupaOHorario() {
+        book(mentor, mentored, monday, LocalTime.of(9, 0));
+
+        // Sem transação confirmada nos testes, o índice é descartado manualmente
+        intervalIndex.clear();
+        assertEquals(List.of(new AvailableSlotDTO(monday, LocalTime.of(10, 0))),
+                availabilityService.findFreeSlots(mentor.getId(), monday, monday));
+        assertEquals(4, slotClaimRepository.count());
+
+        assertThrows(SlotUnavailableException.class,
+                () -> book(mentor, otherMentored, monday, LocalTime.of(9, 30)));
+    }
+
+    @Test
+    void testMentoradoNaoPodeTerDuasSessoesAoMesmoTempo() {
+        Mentor otherMentor = newMentor("outro.mentor@teste.com", "12345678903");
+        book(mentor, mentored, monday, LocalTime.of(10, 0));
+        intervalIndex.clear();
+
+        assertThrows(SlotUnavailableException.class,
+                () -> book(otherMentor, mentored, monday, LocalTime.of(10, 30)));
+        // Mentor sem janelas publicadas aceita qualquer horário livre
+        assertNotNull(book(otherMentor, mentored, monday, LocalTime.of(11, 0)).getId());
+    }
+
+    @Test
+    void testHorarioForaDaJanelaERecusado() {
+        assertThrows(SlotUnavailableException.class,
+                () -> book(mentor, mentored, monday, LocalTime.of(10, 30)));
+        assertThrows(SlotUnavailableException.class,
+                () -> book(mentor, mentored, monday.plusDays(1), LocalTime.of(9, 0)));
+    }
+
+    @Test
+    void testCancelamentoLiberaOHorario() {
+        Session session = book(mentor, mentored, monday, LocalTime.of(9, 0));
+        sessionService.updateSessionStatus(session.getId(), Status.CANCELLED);
+        intervalIndex.clear();
+
+        assertEquals(0, slotClaimRepository.count());
+        assertNotNull(book(mentor, otherMentored, monday, LocalTime.of(9, 0)).getId());
+    }
+
+    @Test
+    void testJanelasInvalidasSaoRecusadas() {
+        assertThrows(BusinessException.class, () -> availabilityService.replaceWindows(mentor.getId(), List.of(
+                new AvailabilityWindowDTO(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(9, 30)))));
+        assertThrows(BusinessException.class, () -> availabilityService.replaceWindows(mentor.getId(), List.of(
+                new AvailabilityWindowDTO(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(11, 0)),
+                new AvailabilityWindowDTO(DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(12, 0)))));
+    }
+}
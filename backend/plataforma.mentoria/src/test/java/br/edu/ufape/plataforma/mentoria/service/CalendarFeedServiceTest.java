@@ -0,0 +1,211 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.SessionDTO;
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.event.SessionSavedEvent;
+import br.edu.ufape.plataforma.mentoria.event.SessionStatusChangedEvent;
+import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
+import br.edu.ufape.plataforma.mentoria.mapper.SessionMapper;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.model.Session;
+import br.edu.ufape.plataforma.mentoria.model.User;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SessionRepository;
+import br.edu.ufape.plataforma.mentoria.service.CalendarFeedService.CalendarFeed;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// Os eventos só chegam ao feed após o commit; aqui o teste os entrega diretamente
+@DataJpaTest
+@Import({ CalendarFeedService.class, SessionService.class, SessionMapper.class, AvailabilityService.class,
+        SessionIntervalIndex.class })
+class CalendarFeedServiceTest {
+
+    @Autowired
+    private CalendarFeedService calendarFeedService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @MockitoSpyBean
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private MentoredRepository mentoredRepository;
+
+    private Mentor mentor;
+    private Mentored mentored;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        mentor = mentorRepository.save(new Mentor.Builder()
+                .fullName("Mentor")
+                .cpf("12345678900")
+                .specializations(List.of("Java"))
+                .affiliationType(AffiliationType.DOCENTE)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .professionalSummary("Professional")
+                .user(newUser("mentor@teste.com", UserRole.MENTOR))
+                .interestArea(List.of(InterestArea.CIBERSEGURANCA))
+                .course(Course.ADMINISTRACAO)
+                .build());
+
+        mentored = new Mentored();
+        mentored.setFullName("Mentorado");
+        mentored.setCpf("12345678901");
+        mentored.setBirthDate(LocalDate.of(2000, 1, 1));
+        mentored.setUser(newUser("mentorado@teste.com", UserRole.MENTORADO));
+        mentored.setInterestArea(List.of(InterestArea.CIBERSEGURANCA));
+        mentored.setCourse(Course.ADMINISTRACAO);
+        mentored = mentoredRepository.save(mentored);
+
+        date = LocalDate.now().plusDays(7);
+    }
+
+    private User newUser(String email, UserRole role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("senhaSegura123");
+        user.setRole(role);
+        return user;
+    }
+
+    @Test
+    void testFeedTemUmEventoPorSessaoEmUtc() {
+        Session session = sessionService.createSession(new SessionDTO(mentor.getId(), mentored.getId(), date,
+                LocalTime.of(10, 0), "Carreira, estágio; e TCC", "Online"));
+
+        String content = calendarFeedService.getMentoredFeed(mentored.getId()).content();
+
+        String day = date.toString().replace("-", "");
+        assertTrue(content.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(content.endsWith("END:VCALENDAR\r\n"));
+        assertTrue(content.contains("UID:session-" + session.getId() + "@plataforma-mentoria\r\n"));
+        // America/Recife é UTC-3, sem horário de verão
+        assertTrue(content.contains("DTSTART:" + day + "T130000Z\r\n"));
+        assertTrue(content.contains("SUMMARY:Carreira\\, estágio\\; e TCC\r\n"));
+        assertTrue(content.contains("STATUS:TENTATIVE\r\n"));
+    }
+
+    @Test
+    void testFeedEmCacheSoMudaAposEventoDoUsuario() {
+        Session session = sessionService.createSession(new SessionDTO(mentor.getId(), mentored.getId(), date,
+                LocalTime.of(10, 0), "Carreira", "Online"));
+        CalendarFeed first = calendarFeedService.getMentorFeed(mentor.getId());
+
+        sessionService.updateSessionStatus(session.getId(), Status.ACCEPTED);
+        assertSame(first, calendarFeedService.getMentorFeed(mentor.getId()));
+
+        calendarFeedService.onSessionStatusChanged(new SessionStatusChangedEvent(session.getId(), 999L,
+                mentored.getId(), Status.PENDING, Status.ACCEPTED));
+        assertSame(first, calendarFeedService.getMentorFeed(mentor.getId()));
+
+        calendarFeedService.onSessionStatusChanged(new SessionStatusChangedEvent(session.getId(), mentor.getId(),
+                mentored.getId(), Status.PENDING, Status.ACCEPTED));
+        CalendarFeed second = calendarFeedService.getMentorFeed(mentor.getId());
+        assertNotEquals(first.etag(), second.etag());
+        assertTrue(second.content().contains("STATUS:CONFIRMED\r\n"));
+    }
+
+    @Test
+    void testMesmoConteudoGeraMesmoEtag() {
+        Session session = sessionService.createSession(new SessionDTO(mentor.getId(), mentored.getId(), date,
+                LocalTime.of(10, 0), "Carreira", "Online"));
+        CalendarFeed first = calendarFeedService.getMentorFeed(mentor.getId());
+
+        // Invalidação sem mudança nas sessões: o feed é gerado de novo, igual
+        calendarFeedService.onSessionSaved(new SessionSavedEvent(session.getId(), mentor.getId(),
+                mentored.getId(), Status.PENDING, false));
+        CalendarFeed second = calendarFeedService.getMentorFeed(mentor.getId());
+
+        assertNotSame(first, second);
+        assertEquals(first.etag(), second.etag());
+        assertEquals(first.content(), second.content());
+    }
+
+    @Test
+    void testFeedInvalidadoDuranteConsultaNaoVaiParaOCache() {
+        Session session = sessionService.createSession(new SessionDTO(mentor.getId(), mentored.getId(), date,
+                LocalTime.of(10, 0), "Carreira", "Online"));
+        List<Session> sessions = sessionRepository.findByMentorId(mentor.getId());
+        // A sessão muda enquanto o feed do mentor é consultado
+        doAnswer(invocation -> {
+            calendarFeedService.onSessionSaved(new SessionSavedEvent(session.getId(), mentor.getId(),
+                    mentored.getId(), Status.PENDING, false));
+            return sessions;
+        }).when(sessionRepository).findByMentorId(mentor.getId());
+
+        calendarFeedService.getMentorFeed(mentor.getId());
+        reset(sessionRepository);
+        CalendarFeed fresh = calendarFeedService.getMentorFeed(mentor.getId());
+
+        verify(sessionRepository).findByMentorId(mentor.getId());
+        assertSame(fresh, calendarFeedService.getMentorFeed(mentor.getId()));
+    }
+
+    @Test
+    void testLinhasLongasSaoDobradasSemPartirCaracteres() {
+        StringBuilder ics = new StringBuilder();
+        CalendarFeedService.line(ics, "SUMMARY:" + "ç".repeat(100));
+
+        for (String line : ics.toString().split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75);
+        }
+        assertEquals("SUMMARY:" + "ç".repeat(100), ics.toString().replace("\r\n ", "").replace("\r\n", ""));
+    }
+
+    @Test
+    void testFeedDeUsuarioInexistenteLancaExcecao() {
+        assertThrows(EntityNotFoundException.class, () -> calendarFeedService.getMentorFeed(999L));
+    }
+
+    @Test
+    void testFeedEEncontradoPeloTokenDoUsuario() {
+        sessionService.createSession(new SessionDTO(mentor.getId(), mentored.getId(), date, LocalTime.of(10, 0),
+                "Carreira", "Online"));
+
+        String token = calendarFeedService.getToken(mentored.getUser().getId());
+        assertEquals(token, calendarFeedService.getToken(mentored.getUser().getId()));
+        assertEquals(43, token.length());
+        assertNotEquals(token, calendarFeedService.getToken(mentor.getUser().getId()));
+
+        assertSame(calendarFeedService.getMentoredFeed(mentored.getId()), calendarFeedService.getFeedByToken(token));
+        assertSame(calendarFeedService.getMentorFeed(mentor.getId()),
+                calendarFeedService.getFeedByToken(calendarFeedService.getToken(mentor.getUser().getId())));
+    }
+
+    @Test
+    void testTokenTrocadoDeixaDeFuncionar() {
+        String old = calendarFeedService.getToken(mentor.getUser().getId());
+
+        String rotated = calendarFeedService.rotateToken(mentor.getUser().getId());
+
+        assertNotEquals(old, rotated);
+        assertEquals(rotated, calendarFeedService.getToken(mentor.getUser().getId()));
+        assertThrows(EntityNotFoundException.class, () -> calendarFeedService.getFeedByToken(old));
+        assertNotNull(calendarFeedService.getFeedByToken(rotated));
+        assertThrows(EntityNotFoundException.class, () -> calendarFeedService.rotateToken(999L));
+    }
+}
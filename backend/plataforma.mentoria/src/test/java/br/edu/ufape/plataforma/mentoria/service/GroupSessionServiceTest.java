@@ -0,0 +1,165 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.GroupSessionDTO;
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.exceptions.GroupSessionFullException;
+import br.edu.ufape.plataforma.mentoria.exceptions.SlotUnavailableException;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.model.User;
+import br.edu.ufape.plataforma.mentoria.repository.GroupSeatRepository;
+import br.edu.ufape.plataforma.mentoria.repository.GroupSessionRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Sem a transação do teste: cada reserva precisa da sua própria transação, como em produção
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(GroupSessionService.class)
+class GroupSessionServiceTest {
+
+    private static final int CAPACITY = 50;
+    private static final int MENTOREDS = 200;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private GroupSessionService groupSessionService;
+
+    @Autowired
+    private GroupSessionRepository groupSessionRepository;
+
+    @Autowired
+    private GroupSeatRepository seatRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private MentoredRepository mentoredRepository;
+
+    private Long groupSessionId;
+    private final List<Long> mentoredIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Mentor mentor = mentorRepository.save(new Mentor.Builder()
+                .fullName("Mentor")
+                .cpf("99999999999")
+                .specializations(List.of("Java"))
+                .affiliationType(AffiliationType.DOCENTE)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .professionalSummary("Professional")
+                .user(newUser("mentor@teste.com", UserRole.MENTOR))
+                .interestArea(List.of(InterestArea.CIBERSEGURANCA))
+                .course(Course.ADMINISTRACAO)
+                .build());
+
+        List<Mentored> mentoreds = new ArrayList<>();
+        for (int i = 0; i < MENTOREDS; i++) {
+            Mentored mentored = new Mentored();
+            mentored.setFullName("Mentorado " + i);
+            mentored.setCpf(String.format("%011d", i));
+            mentored.setBirthDate(LocalDate.of(2000, 1, 1));
+            mentored.setUser(newUser("mentorado" + i + "@teste.com", UserRole.MENTORADO));
+            mentored.setInterestArea(List.of(InterestArea.CIBERSEGURANCA));
+            mentored.setCourse(Course.ADMINISTRACAO);
+            mentoreds.add(mentored);
+        }
+        mentoredRepository.saveAll(mentoreds).forEach(mentored -> mentoredIds.add(mentored.getId()));
+
+        groupSessionId = groupSessionService.createGroupSession(new GroupSessionDTO(mentor.getId(),
+                LocalDate.now().plusDays(7), LocalTime.of(14, 0), "Oficina de Carreira", "Auditório", CAPACITY))
+                .getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatRepository.deleteAll();
+        groupSessionRepository.deleteAll();
+        mentoredRepository.deleteAll();
+        mentorRepository.deleteAll();
+    }
+
+    private User newUser(String email, UserRole role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("senhaSegura123");
+        user.setRole(role);
+        return user;
+    }
+
+    @Test
+    void testReservasSimultaneasNaoExcedemACapacidade() throws InterruptedException {
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        List<Throwable> unexpected = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (Long mentoredId : mentoredIds) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    groupSessionService.bookSeat(groupSessionId, mentoredId);
+                    booked.incrementAndGet();
+                } catch (GroupSessionFullException e) {
+                    full.incrementAndGet();
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                }
+            });
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        assertEquals(List.of(), unexpected);
+        assertEquals(CAPACITY, booked.get());
+        assertEquals(MENTOREDS - CAPACITY, full.get());
+        assertEquals(0, groupSessionService.getGroupSession(groupSessionId).getAvailableSeats());
+        assertEquals(CAPACITY, seatRepository.countByGroupSessionId(groupSessionId));
+        assertTrue(elapsed.compareTo(Duration.ofSeconds(30)) < 0,
+                MENTOREDS + " reservas levaram " + elapsed.toMillis() + " ms");
+    }
+
+    @Test
+    void testMentoradoNaoReservaDuasVagasEPodeCancelar() {
+        Long mentoredId = mentoredIds.get(0);
+        groupSessionService.bookSeat(groupSessionId, mentoredId);
+
+        assertThrows(SlotUnavailableException.class, () -> groupSessionService.bookSeat(groupSessionId, mentoredId));
+        assertEquals(CAPACITY - 1, groupSessionService.getGroupSession(groupSessionId).getAvailableSeats());
+
+        groupSessionService.cancelSeat(groupSessionId, mentoredId);
+        groupSessionService.cancelSeat(groupSessionId, mentoredId);
+        assertEquals(CAPACITY, groupSessionService.getGroupSession(groupSessionId).getAvailableSeats());
+        assertEquals(List.of(), groupSessionService.getParticipants(groupSessionId));
+    }
+}
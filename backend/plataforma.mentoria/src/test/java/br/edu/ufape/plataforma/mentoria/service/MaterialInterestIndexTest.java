@@ -0,0 +1,113 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.event.MaterialChangedEvent;
+import br.edu.ufape.plataforma.mentoria.repository.MaterialRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MaterialInterestIndexTest {
+
+    @InjectMocks
+    private MaterialInterestIndex index;
+
+    @Mock
+    private MaterialRepository materialRepository;
+
+    private static MaterialRepository.InterestAreaRow row(long materialId, InterestArea area) {
+        return new MaterialRepository.InterestAreaRow() {
+            @Override
+            public Long getMaterialId() {
+                return materialId;
+            }
+
+            @Override
+            public InterestArea getArea() {
+                return area;
+            }
+        };
+    }
+
+    private static long mask(InterestArea... areas) {
+        return MaterialInterestIndex.toMask(List.of(areas));
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(materialRepository.findAllInterestAreaRows()).thenReturn(List.of(
+                row(3L, InterestArea.CIBERSEGURANCA),
+                row(1L, InterestArea.CIBERSEGURANCA),
+                row(1L, InterestArea.MEDICINA),
+                row(2L, InterestArea.MEDICINA),
+                row(5L, InterestArea.FISICA)));
+        when(materialRepository.findAllIds()).thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+    }
+
+    @Test
+    void testCarregaIndiceDoBancoNoPrimeiroUso() {
+        assertEquals(5, index.size());
+        assertEquals(mask(InterestArea.CIBERSEGURANCA, InterestArea.MEDICINA), index.getMask(1L));
+        assertEquals(0L, index.getMask(4L));
+        verify(materialRepository, times(1)).findAllInterestAreaRows();
+
+        index.size();
+        verify(materialRepository, times(1)).findAllInterestAreaRows();
+    }
+
+    @Test
+    void testFiltraPorUmaArea() {
+        assertArrayEquals(new long[] { 1L, 3L }, index.findMatching(mask(InterestArea.CIBERSEGURANCA)));
+    }
+
+    @Test
+    void testFiltraPorVariasAreasSemDuplicar() {
+        assertArrayEquals(new long[] { 1L, 2L, 3L },
+                index.findMatching(mask(InterestArea.CIBERSEGURANCA, InterestArea.MEDICINA)));
+        assertArrayEquals(new long[0], index.findMatching(mask(InterestArea.JORNALISMO)));
+        assertArrayEquals(new long[0], index.findMatching(0L));
+    }
+
+    @Test
+    void testMaisRecentesPrimeiroComLimite() {
+        assertArrayEquals(new long[] { 5L, 3L },
+                index.findMostRecentMatching(mask(InterestArea.CIBERSEGURANCA, InterestArea.FISICA), 2));
+    }
+
+    @Test
+    void testAtualizaComEventos() {
+        index.onMaterialChanged(new MaterialChangedEvent(6L, Set.of(InterestArea.CIBERSEGURANCA)));
+        index.onMaterialChanged(new MaterialChangedEvent(1L, Set.of(InterestArea.FISICA)));
+        index.onMaterialChanged(MaterialChangedEvent.deleted(3L));
+
+        assertArrayEquals(new long[] { 6L }, index.findMatching(mask(InterestArea.CIBERSEGURANCA)));
+        assertArrayEquals(new long[] { 2L }, index.findMatching(mask(InterestArea.MEDICINA)));
+        assertArrayEquals(new long[] { 1L, 5L }, index.findMatching(mask(InterestArea.FISICA)));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void testRemoverMaterialInexistenteNaoAlteraIndice() {
+        index.remove(99L);
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void testReconstrucaoCorrigeDivergencias() {
+        index.put(42L, mask(InterestArea.MEDICINA));
+        assertEquals(6, index.size());
+
+        index.rebuild();
+
+        assertEquals(5, index.size());
+        assertArrayEquals(new long[] { 1L, 2L }, index.findMatching(mask(InterestArea.MEDICINA)));
+    }
+}
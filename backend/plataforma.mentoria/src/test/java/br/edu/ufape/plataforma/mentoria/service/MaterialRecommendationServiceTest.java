@@ -0,0 +1,236 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.MaterialDTO;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.event.MaterialChangedEvent;
+import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
+import br.edu.ufape.plataforma.mentoria.mapper.MaterialMapper;
+import br.edu.ufape.plataforma.mentoria.model.Material;
+import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.model.User;
+import br.edu.ufape.plataforma.mentoria.repository.MaterialRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
+import br.edu.ufape.plataforma.mentoria.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MaterialRecommendationServiceTest {
+
+    @Mock
+    private MaterialRepository materialRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MentorRepository mentorRepository;
+
+    @Mock
+    private MentoredRepository mentoredRepository;
+
+    @Mock
+    private MaterialInterestIndex interestIndex;
+
+    private MaterialRecommendationService recommendationService;
+
+    private final Map<Long, Set<InterestArea>> areasById = new HashMap<>();
+    private final List<MaterialRepository.RecommendationRow> rows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        recommendationService = new MaterialRecommendationService(materialRepository, userRepository,
+                mentorRepository, mentoredRepository, interestIndex, new MaterialMapper(), 600_000);
+    }
+
+    private static Mentored mentored() {
+        Mentored mentored = new Mentored();
+        mentored.setCourse(Course.MEDICINA);
+        mentored.setInterestArea(List.of(InterestArea.CIBERSEGURANCA, InterestArea.MEDICINA));
+        return mentored;
+    }
+
+    /**
+     * Prepara o usuário 100 com o perfil informado e as consultas de
+     * materiais feitas ao calcular as recomendações.
+     */
+    private void stubRecommendationQueries(Mentored mentored) {
+        User user = new User();
+        user.setId(100L);
+        user.setRole(UserRole.MENTORADO);
+        when(userRepository.findById(100L)).thenReturn(Optional.of(user));
+        when(mentoredRepository.findByUserId(100L)).thenReturn(mentored);
+
+        when(materialRepository.findAllRecommendationRows()).thenReturn(rows);
+        when(interestIndex.getMask(anyLong())).thenAnswer(invocation ->
+                MaterialInterestIndex.toMask(areasById.get(invocation.<Long>getArgument(0))));
+        when(materialRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Material> materials = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                Material material = new Material();
+                material.setId(id);
+                materials.add(material);
+            }
+            // A ordem do banco não é garantida
+            Collections.reverse(materials);
+            return materials;
+        });
+    }
+
+    private void addMaterial(long id, long downloads, Course uploaderCourse, InterestArea... areas) {
+        areasById.put(id, Set.of(areas));
+        rows.add(new MaterialRepository.RecommendationRow() {
+            @Override
+            public Long getMaterialId() {
+                return id;
+            }
+
+            @Override
+            public long getDownloadCount() {
+                return downloads;
+            }
+
+            @Override
+            public Course getUploaderCourse() {
+                return uploaderCourse;
+            }
+        });
+    }
+
+    private static List<Long> ids(Collection<MaterialDTO> materials) {
+        return materials.stream().map(MaterialDTO::getId).toList();
+    }
+
+    @Test
+    void testOrdenaPorSobreposicaoDeAreas() {
+        stubRecommendationQueries(mentored());
+        addMaterial(1L, 0, null, InterestArea.CIBERSEGURANCA, InterestArea.MEDICINA);
+        addMaterial(2L, 0, null, InterestArea.MEDICINA);
+        addMaterial(3L, 0, null, InterestArea.JORNALISMO);
+
+        List<MaterialDTO> result = recommendationService.recommend(100L);
+
+        assertEquals(List.of(1L, 2L), ids(result));
+    }
+
+    @Test
+    void testPopularidadeECursoDesempatam() {
+        stubRecommendationQueries(mentored());
+        addMaterial(1L, 500, null, InterestArea.MEDICINA);
+        addMaterial(2L, 0, Course.MEDICINA, InterestArea.MEDICINA);
+        addMaterial(3L, 0, null, InterestArea.MEDICINA);
+
+        List<MaterialDTO> result = recommendationService.recommend(100L);
+
+        assertEquals(List.of(1L, 2L, 3L), ids(result));
+    }
+
+    @Test
+    void testMantemApenasOsMelhores() {
+        stubRecommendationQueries(mentored());
+        for (long id = 1; id <= 50; id++) {
+            addMaterial(id, id, null, InterestArea.CIBERSEGURANCA);
+        }
+
+        List<MaterialDTO> result = recommendationService.recommend(100L);
+
+        assertEquals(MaterialRecommendationService.MAX_RECOMMENDATIONS, result.size());
+        assertEquals(50L, result.get(0).getId());
+        assertEquals(31L, result.get(result.size() - 1).getId());
+    }
+
+    @Test
+    void testUsuarioSemAreasRecebeMateriaisRecentesEPopulares() {
+        stubRecommendationQueries(null);
+        addMaterial(1L, 0, null, InterestArea.JORNALISMO);
+        addMaterial(2L, 0, null, InterestArea.FISICA);
+
+        assertEquals(List.of(2L, 1L), ids(recommendationService.recommend(100L)));
+    }
+
+    @Test
+    void testUsuarioInexistente() {
+        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+        assertThrows(EntityNotFoundException.class, () -> recommendationService.recommend(999L));
+    }
+
+    @Test
+    void testCacheEvitaConsultasAteMaterialMudar() {
+        stubRecommendationQueries(mentored());
+        addMaterial(1L, 0, null, InterestArea.MEDICINA);
+
+        recommendationService.recommend(100L);
+        recommendationService.recommend(100L);
+
+        verify(userRepository, times(1)).findById(100L);
+        verify(materialRepository, times(1)).findAllRecommendationRows();
+        verify(materialRepository, times(1)).findAllById(anyIterable());
+
+        addMaterial(2L, 0, null, InterestArea.MEDICINA, InterestArea.CIBERSEGURANCA);
+        recommendationService.onMaterialChanged(new MaterialChangedEvent(2L, Set.of(InterestArea.MEDICINA)));
+
+        assertEquals(List.of(2L, 1L), ids(recommendationService.recommend(100L)));
+        verify(materialRepository, times(2)).findAllRecommendationRows();
+    }
+
+    @Test
+    void testRecalculaCacheDesatualizadoSemConsultarPerfil() {
+        stubRecommendationQueries(mentored());
+        addMaterial(1L, 0, null, InterestArea.MEDICINA);
+        recommendationService.recommend(100L);
+
+        addMaterial(2L, 0, null, InterestArea.MEDICINA, InterestArea.CIBERSEGURANCA);
+        recommendationService.onMaterialChanged(new MaterialChangedEvent(2L, Set.of(InterestArea.MEDICINA)));
+        recommendationService.refreshCachedRecommendations();
+
+        assertEquals(List.of(2L, 1L), ids(recommendationService.recommend(100L)));
+        verify(userRepository, times(1)).findById(100L);
+    }
+
+    @Test
+    void testDownloadsSaoAcumuladosEGravadosEmLote() {
+        recommendationService.recordDownload(1L);
+        recommendationService.recordDownload(1L);
+        recommendationService.recordDownload(2L);
+
+        recommendationService.flushDownloads();
+        recommendationService.flushDownloads();
+
+        verify(materialRepository).incrementDownloadCount(1L, 2L);
+        verify(materialRepository).incrementDownloadCount(2L, 1L);
+        verifyNoMoreInteractions(ignoreStubs(materialRepository));
+    }
+
+    @Test
+    void testGravarDownloadsInvalidaAsRecomendacoesEmCache() {
+        stubRecommendationQueries(mentored());
+        addMaterial(1L, 0, null, InterestArea.MEDICINA);
+        recommendationService.recommend(100L);
+
+        recommendationService.flushDownloads();
+        recommendationService.recommend(100L);
+        verify(materialRepository, times(1)).findAllRecommendationRows();
+
+        recommendationService.recordDownload(1L);
+        recommendationService.flushDownloads();
+        recommendationService.recommend(100L);
+        verify(materialRepository, times(2)).findAllRecommendationRows();
+    }
+}
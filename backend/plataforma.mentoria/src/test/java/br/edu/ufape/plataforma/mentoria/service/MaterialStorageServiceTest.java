@@ -0,0 +1,257 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.repository.MaterialBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MaterialStorageServiceTest {
+
+    // Um hash SHA-256 qualquer em hexadecimal
+    private static final String HASH = "ec0a44b5b37cf06e5ea6c2e7b5e1d8ae8c2fbac14a2bc5bb4eb4d2d0a47a43dd";
+
+    private static final long MAX_SIZE = 1024;
+
+    @Mock
+    private MaterialBlobRepository blobRepository;
+
+    @TempDir
+    Path uploadDir;
+
+    private MaterialStorageService storageService;
+
+    @BeforeEach
+    void setUp() {
+        storageService = new MaterialStorageService(blobRepository, uploadDir.toString());
+    }
+
+    private ByteArrayInputStream content(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long filesInUploadDir() throws Exception {
+        try (Stream<Path> files = Files.list(uploadDir)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void testArmazenaNovoBlobPeloHash() throws Exception {
+        when(blobRepository.incrementReferences(anyString())).thenReturn(0);
+        when(blobRepository.insertIfAbsent(anyString(), anyString(), anyLong())).thenReturn(1);
+
+        MaterialStorageService.StoredBlob blob = storageService.store(content("%PDF-apostila"), ".pdf", MAX_SIZE);
+
+        assertEquals(64, blob.contentHash().length());
+        assertEquals(blob.contentHash() + ".pdf", blob.storageKey());
+        assertEquals(13, blob.size());
+        assertEquals("%PDF-apostila", Files.readString(uploadDir.resolve(blob.storageKey())));
+        assertEquals(1, filesInUploadDir());
+
+        verify(blobRepository).insertIfAbsent(blob.storageKey(), blob.contentHash(), 13);
+    }
+
+    @Test
+    void testInsercaoConcorrenteDoMesmoConteudoIncrementaReferencias() throws Exception {
+        when(blobRepository.incrementReferences(anyString())).thenReturn(0, 1);
+        when(blobRepository.insertIfAbsent(anyString(), anyString(), anyLong())).thenReturn(0);
+
+        MaterialStorageService.StoredBlob blob = storageService.store(content("%PDF-apostila"), ".pdf", MAX_SIZE);
+
+        verify(blobRepository, times(2)).incrementReferences(blob.storageKey());
+        assertTrue(Files.exists(uploadDir.resolve(blob.storageKey())));
+    }
+
+    @Test
+    void testArquivoAusenteERegravadoAoRecriarOBlob() throws Exception {
+        when(blobRepository.incrementReferences(anyString())).thenReturn(0);
+        MaterialStorageService.StoredBlob blob = storageService.store(content("%PDF-apostila"), ".pdf", MAX_SIZE);
+        Files.writeString(uploadDir.resolve(blob.storageKey()), "resto de uma remoção");
+
+        storageService.store(content("%PDF-apostila"), ".pdf", MAX_SIZE);
+
+        assertEquals("%PDF-apostila", Files.readString(uploadDir.resolve(blob.storageKey())));
+    }
+
+    @Test
+    void testConteudoRepetidoApenasIncrementaReferencias() throws Exception {
+        when(blobRepository.incrementReferences(anyString())).thenReturn(0, 1);
+
+        MaterialStorageService.StoredBlob first = storageService.store(content("%PDF-apostila"), ".pdf", MAX_SIZE);
+        MaterialStorageService.StoredBlob second = storageService.store(content("%PDF-apostila"), ".pdf", MAX_SIZE);
+
+        assertEquals(first.storageKey(), second.storageKey());
+        assertEquals(1, filesInUploadDir());
+        verify(blobRepository, times(1)).insertIfAbsent(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    void testConteudosDiferentesGeramBlobsDiferentes() throws Exception {
+        when(blobRepository.incrementReferences(anyString())).thenReturn(0);
+
+        MaterialStorageService.StoredBlob first = storageService.store(content("%PDF-apostila"), ".pdf", MAX_SIZE);
+        MaterialStorageService.StoredBlob second = storageService.store(content("%PDF-outra apostila"), ".pdf", MAX_SIZE);
+
+        assertNotEquals(first.storageKey(), second.storageKey());
+        assertEquals(2, filesInUploadDir());
+    }
+
+    @Test
+    void testPublicarArquivoPreparadoUsaOHashCalculadoNaGravacao() throws Exception {
+        when(blobRepository.incrementReferences(anyString())).thenReturn(0);
+        when(blobRepository.insertIfAbsent(anyString(), anyString(), anyLong())).thenReturn(1);
+        MaterialStorageService.StagedFile staged = storageService.stage(content("%PDF-apostila"), ".pdf", MAX_SIZE);
+
+        MaterialStorageService.StoredBlob blob = storageService.publish(staged);
+
+        assertEquals(staged.contentHash() + ".pdf", blob.storageKey());
+        assertEquals(13, staged.size());
+        assertFalse(Files.exists(staged.path()));
+        assertEquals("%PDF-apostila", Files.readString(uploadDir.resolve(blob.storageKey())));
+        // Mesmo conteúdo pelo caminho de uma passada só: mesmo hash
+        assertEquals(storageService.store(content("%PDF-apostila"), ".pdf", MAX_SIZE).contentHash(),
+                staged.contentHash());
+    }
+
+    @Test
+    void testRejeitaConteudoQueNaoCorrespondeAExtensao() throws Exception {
+        assertThrows(IllegalArgumentException.class,
+                () -> storageService.store(content("não sou um pdf"), ".pdf", MAX_SIZE));
+
+        assertEquals(0, filesInUploadDir());
+        verify(blobRepository, never()).insertIfAbsent(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    void testRejeitaConteudoAcimaDoLimiteDuranteALeitura() throws Exception {
+        byte[] bytes = new byte[(int) MAX_SIZE + 1];
+        System.arraycopy("%PDF-".getBytes(StandardCharsets.US_ASCII), 0, bytes, 0, 5);
+
+        assertThrows(MaxUploadSizeExceededException.class,
+                () -> storageService.store(new ByteArrayInputStream(bytes), ".pdf", MAX_SIZE));
+
+        assertEquals(0, filesInUploadDir());
+        verify(blobRepository, never()).insertIfAbsent(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    void testLiberarUltimaReferenciaRemoveArquivo() throws Exception {
+        when(blobRepository.incrementReferences(anyString())).thenReturn(0);
+        MaterialStorageService.StoredBlob blob = storageService.store(content("%PDF-apostila"), ".pdf", MAX_SIZE);
+
+        when(blobRepository.existsById(blob.storageKey())).thenReturn(true);
+        when(blobRepository.deleteIfUnreferenced(blob.storageKey())).thenReturn(1);
+
+        storageService.release(blob.storageKey());
+
+        verify(blobRepository).decrementReferences(blob.storageKey());
+        assertFalse(Files.exists(uploadDir.resolve(blob.storageKey())));
+    }
+
+    @Test
+    void testLiberacaoNaTransacaoApagaArquivoSoAposCommit() throws Exception {
+        when(blobRepository.incrementReferences(anyString())).thenReturn(0);
+        MaterialStorageService.StoredBlob blob = storageService.store(content("%PDF-apostila"), ".pdf", MAX_SIZE);
+        when(blobRepository.existsById(blob.storageKey())).thenReturn(true);
+        when(blobRepository.deleteIfUnreferenced(blob.storageKey())).thenReturn(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            storageService.release(blob.storageKey());
+            // O caminho do blob fica livre para um upload que espere a linha
+            assertFalse(Files.exists(uploadDir.resolve(blob.storageKey())));
+            assertEquals(1, filesInUploadDir());
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(0, filesInUploadDir());
+    }
+
+    @Test
+    void testLiberacaoDesfeitaDevolveArquivo() throws Exception {
+        when(blobRepository.incrementReferences(anyString())).thenReturn(0);
+        MaterialStorageService.StoredBlob blob = storageService.store(content("%PDF-apostila"), ".pdf", MAX_SIZE);
+        when(blobRepository.existsById(blob.storageKey())).thenReturn(true);
+        when(blobRepository.deleteIfUnreferenced(blob.storageKey())).thenReturn(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            storageService.release(blob.storageKey());
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals("%PDF-apostila", Files.readString(uploadDir.resolve(blob.storageKey())));
+        assertEquals(1, filesInUploadDir());
+    }
+
+    @Test
+    void testArquivoLiberadoPorTransacaoInterrompidaERecuperado() throws Exception {
+        String storageKey = HASH + ".pdf";
+        Files.writeString(uploadDir.resolve(".release-0b6f7c1e-1111-2222-3333-444455556666-" + storageKey), "%PDF");
+        Files.writeString(uploadDir.resolve(".release-1b6f7c1e-1111-2222-3333-444455556666-" + "a".repeat(64) + ".pdf"),
+                "%PDF");
+        when(blobRepository.existsById(anyString())).thenAnswer(invocation -> storageKey.equals(invocation.getArgument(0)));
+
+        new MaterialStorageService(blobRepository, uploadDir.toString());
+
+        assertTrue(Files.exists(uploadDir.resolve(storageKey)));
+        assertEquals(1, filesInUploadDir());
+    }
+
+    @Test
+    void testLiberarReferenciaCompartilhadaMantemArquivo() throws Exception {
+        when(blobRepository.incrementReferences(anyString())).thenReturn(0);
+        MaterialStorageService.StoredBlob blob = storageService.store(content("%PDF-apostila"), ".pdf", MAX_SIZE);
+
+        when(blobRepository.existsById(blob.storageKey())).thenReturn(true);
+        when(blobRepository.deleteIfUnreferenced(blob.storageKey())).thenReturn(0);
+
+        storageService.release(blob.storageKey());
+
+        assertTrue(Files.exists(uploadDir.resolve(blob.storageKey())));
+    }
+
+    @Test
+    void testLiberarArquivoAntigoSemBlob() throws Exception {
+        Path legacy = uploadDir.resolve("0b6f7c1e-1111-2222-3333-444455556666_apostila.pdf");
+        Files.writeString(legacy, "apostila");
+        when(blobRepository.existsById(legacy.getFileName().toString())).thenReturn(false);
+
+        storageService.release(legacy.getFileName().toString());
+
+        assertFalse(Files.exists(legacy));
+    }
+
+    @Test
+    void testResolveRejeitaPathTraversal() {
+        assertThrows(SecurityException.class, () -> storageService.resolve("../fora.pdf"));
+    }
+
+    @Test
+    void testGetContentHash() {
+        assertEquals(HASH, storageService.getContentHash(HASH + ".pdf"));
+        assertNull(storageService.getContentHash("0b6f7c1e-1111-2222-3333-444455556666_apostila.pdf"));
+        assertNull(storageService.getContentHash(null));
+    }
+}
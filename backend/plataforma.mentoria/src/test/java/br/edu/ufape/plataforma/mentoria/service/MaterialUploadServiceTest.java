@@ -0,0 +1,235 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.ChunkedUploadDTO;
+import br.edu.ufape.plataforma.mentoria.dto.ChunkedUploadStatusDTO;
+import br.edu.ufape.plataforma.mentoria.dto.MaterialDTO;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.enums.MaterialType;
+import br.edu.ufape.plataforma.mentoria.exceptions.BusinessException;
+import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
+import br.edu.ufape.plataforma.mentoria.repository.MaterialBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MaterialUploadServiceTest {
+
+    private static final byte[] CONTENT = "%PDF-conteudo-do-video".getBytes(StandardCharsets.US_ASCII);
+
+    @Mock
+    private MaterialService materialService;
+
+    @Mock
+    private MaterialBlobRepository blobRepository;
+
+    @TempDir
+    Path uploadDir;
+
+    private MaterialUploadService uploadService;
+    private ChunkedUploadDTO uploadDTO;
+
+    @BeforeEach
+    void setUp() {
+        MaterialStorageService storageService = new MaterialStorageService(blobRepository, uploadDir.toString());
+        uploadService = new MaterialUploadService(materialService, storageService, 60);
+
+        uploadDTO = new ChunkedUploadDTO();
+        uploadDTO.setTitle("Aula de Prolog");
+        uploadDTO.setMaterialType(MaterialType.DOCUMENTO);
+        uploadDTO.setInterestArea(Set.of(InterestArea.TECNOLOGIA_DA_INFORMACAO));
+        uploadDTO.setFilename("aula.pdf");
+        uploadDTO.setSize((long) CONTENT.length);
+    }
+
+    private ChunkedUploadStatusDTO send(String uploadId, Long userId, int from, int to) throws Exception {
+        return uploadService.writeChunk(uploadId, userId, from,
+                new ByteArrayInputStream(CONTENT, from, to - from), to - from);
+    }
+
+    @Test
+    void testCriarUploadPreAlocaArquivo() throws Exception {
+        ChunkedUploadStatusDTO status = uploadService.createUpload(uploadDTO, 1L);
+
+        assertNotNull(status.getUploadId());
+        assertEquals(CONTENT.length, status.getSize());
+        assertEquals(0, status.getReceivedBytes());
+        assertFalse(status.isComplete());
+        try (var files = Files.list(uploadDir)) {
+            Path staged = files.findFirst().orElseThrow();
+            assertEquals(CONTENT.length, Files.size(staged));
+        }
+    }
+
+    @Test
+    void testCriarUploadAcimaDoLimite() {
+        uploadDTO.setSize(MaterialService.MAX_FILE_SIZE + 1);
+        assertThrows(MaxUploadSizeExceededException.class, () -> uploadService.createUpload(uploadDTO, 1L));
+    }
+
+    @Test
+    void testCriarUploadDeLink() {
+        uploadDTO.setMaterialType(MaterialType.LINK);
+        assertThrows(IllegalArgumentException.class, () -> uploadService.createUpload(uploadDTO, 1L));
+    }
+
+    @Test
+    void testBlocosForaDeOrdemSaoMesclados() throws Exception {
+        String uploadId = uploadService.createUpload(uploadDTO, 1L).getUploadId();
+
+        send(uploadId, 1L, 10, CONTENT.length);
+        ChunkedUploadStatusDTO status = send(uploadId, 1L, 0, 5);
+        assertEquals(2, status.getReceivedRanges().size());
+        assertFalse(status.isComplete());
+
+        status = send(uploadId, 1L, 3, 12);
+        assertEquals(1, status.getReceivedRanges().size());
+        assertArrayEquals(new long[] { 0, CONTENT.length }, status.getReceivedRanges().get(0));
+        assertEquals(CONTENT.length, status.getReceivedBytes());
+        assertTrue(status.isComplete());
+    }
+
+    @Test
+    void testBlocoQueUltrapassaOTamanho() throws Exception {
+        String uploadId = uploadService.createUpload(uploadDTO, 1L).getUploadId();
+
+        assertThrows(IllegalArgumentException.class, () -> uploadService.writeChunk(uploadId, 1L, 5,
+                new ByteArrayInputStream(CONTENT), CONTENT.length));
+        assertThrows(IllegalArgumentException.class, () -> uploadService.writeChunk(uploadId, 1L, CONTENT.length,
+                new ByteArrayInputStream(CONTENT), 1));
+    }
+
+    @Test
+    void testUploadDeOutroUsuarioNaoEncontrado() throws Exception {
+        String uploadId = uploadService.createUpload(uploadDTO, 1L).getUploadId();
+
+        assertThrows(EntityNotFoundException.class, () -> uploadService.getStatus(uploadId, 2L));
+        assertThrows(EntityNotFoundException.class, () -> send(uploadId, 2L, 0, 5));
+    }
+
+    @Test
+    void testFinalizarUploadIncompleto() throws Exception {
+        String uploadId = uploadService.createUpload(uploadDTO, 1L).getUploadId();
+        send(uploadId, 1L, 0, 5);
+
+        assertThrows(BusinessException.class, () -> uploadService.completeUpload(uploadId, 1L));
+
+        // O upload continua aceitando blocos após a tentativa
+        assertTrue(send(uploadId, 1L, 5, CONTENT.length).isComplete());
+    }
+
+    @Test
+    void testFinalizarUploadCriaMaterial() throws Exception {
+        String uploadId = uploadService.createUpload(uploadDTO, 1L).getUploadId();
+        send(uploadId, 1L, 8, CONTENT.length);
+        send(uploadId, 1L, 0, 8);
+        when(materialService.sanitizeFilename("aula.pdf")).thenReturn("aula.pdf");
+
+        MaterialDTO created = new MaterialDTO();
+        created.setId(10L);
+        ArgumentCaptor<MaterialStorageService.StagedFile> fileCaptor =
+                ArgumentCaptor.forClass(MaterialStorageService.StagedFile.class);
+        when(materialService.createMaterialFromStagedFile(any(MaterialDTO.class), eq("aula.pdf"), fileCaptor.capture(),
+                eq(1L))).thenAnswer(invocation -> {
+                    MaterialStorageService.StagedFile staged = invocation.getArgument(2);
+                    assertArrayEquals(CONTENT, Files.readAllBytes(staged.path()));
+                    assertEquals(CONTENT.length, staged.size());
+                    assertEquals(".pdf", staged.extension());
+                    return created;
+                });
+
+        MaterialDTO result = uploadService.completeUpload(uploadId, 1L);
+
+        assertEquals(10L, result.getId());
+        assertFalse(Files.exists(fileCaptor.getValue().path()));
+        assertThrows(EntityNotFoundException.class, () -> uploadService.getStatus(uploadId, 1L));
+    }
+
+    @Test
+    void testUploadEmStreamingGravaOArquivoAntesDeCriarOMaterial() throws Exception {
+        when(materialService.sanitizeFilename("aula.pdf")).thenReturn("aula.pdf");
+        MaterialDTO created = new MaterialDTO();
+        created.setId(11L);
+        ArgumentCaptor<MaterialStorageService.StagedFile> fileCaptor =
+                ArgumentCaptor.forClass(MaterialStorageService.StagedFile.class);
+        when(materialService.createMaterialFromStagedFile(any(MaterialDTO.class), eq("aula.pdf"), fileCaptor.capture(),
+                eq(1L))).thenAnswer(invocation -> {
+                    MaterialStorageService.StagedFile staged = invocation.getArgument(2);
+                    assertArrayEquals(CONTENT, Files.readAllBytes(staged.path()));
+                    assertEquals(CONTENT.length, staged.size());
+                    assertEquals(".pdf", staged.extension());
+                    return created;
+                });
+
+        MaterialDTO result = uploadService.createMaterialFromStream(uploadDTO.toMaterialDTO(), "aula.pdf",
+                new ByteArrayInputStream(CONTENT), -1, 1L);
+
+        assertEquals(11L, result.getId());
+        assertFalse(Files.exists(fileCaptor.getValue().path()));
+    }
+
+    @Test
+    void testUploadEmStreamingRejeitaConteudoInvalidoSemCriarMaterial() throws Exception {
+        when(materialService.sanitizeFilename("aula.pdf")).thenReturn("aula.pdf");
+        MaterialDTO materialDTO = uploadDTO.toMaterialDTO();
+        ByteArrayInputStream content = new ByteArrayInputStream("não sou um pdf".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> uploadService.createMaterialFromStream(materialDTO, "aula.pdf", content, -1, 1L));
+
+        verify(materialService, never()).createMaterialFromStagedFile(any(), any(), any(), any());
+        try (var files = Files.list(uploadDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void testCancelarUploadRemoveArquivo() throws Exception {
+        String uploadId = uploadService.createUpload(uploadDTO, 1L).getUploadId();
+
+        uploadService.abortUpload(uploadId, 1L);
+
+        try (var files = Files.list(uploadDir)) {
+            assertEquals(0, files.count());
+        }
+        assertThrows(EntityNotFoundException.class, () -> uploadService.getStatus(uploadId, 1L));
+    }
+
+    @Test
+    void testUploadsExpiradosSaoRemovidos() throws Exception {
+        MaterialStorageService storageService = new MaterialStorageService(blobRepository, uploadDir.toString());
+        MaterialUploadService expiringService = new MaterialUploadService(materialService, storageService, 0);
+        String uploadId = expiringService.createUpload(uploadDTO, 1L).getUploadId();
+
+        Thread.sleep(5);
+        expiringService.removeExpiredUploads();
+
+        assertThrows(EntityNotFoundException.class, () -> expiringService.getStatus(uploadId, 1L));
+        try (var files = Files.list(uploadDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void testLimiteDeUploadsPorUsuario() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            uploadService.createUpload(uploadDTO, 1L);
+        }
+
+        assertThrows(BusinessException.class, () -> uploadService.createUpload(uploadDTO, 1L));
+        assertNotNull(uploadService.createUpload(uploadDTO, 2L).getUploadId());
+    }
+}
@@ -0,0 +1,262 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.LeaderboardEntryDTO;
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.event.MentorChangedEvent;
+import br.edu.ufape.plataforma.mentoria.event.ReviewCreatedEvent;
+import br.edu.ufape.plataforma.mentoria.event.SessionStatusChangedEvent;
+import br.edu.ufape.plataforma.mentoria.mapper.MentorMapper;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.ReviewRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MentorLeaderboardServiceTest {
+
+    @Mock
+    private MentorRepository mentorRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    private MentorLeaderboardService leaderboardService;
+
+    private final List<MentorRepository.MatchRow> mentorRows = new ArrayList<>();
+    private final List<MentorRepository.InterestAreaRow> mentorAreaRows = new ArrayList<>();
+    private final List<ReviewRepository.MentorScoreRow> scoreRows = new ArrayList<>();
+    private final List<SessionRepository.MentorSessionRow> sessionRows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        leaderboardService = new MentorLeaderboardService(mentorRepository, reviewRepository, sessionRepository,
+                new MentorMapper(), 30);
+
+        when(mentorRepository.findAllMatchRows()).thenReturn(mentorRows);
+        when(mentorRepository.findAllInterestAreaRows()).thenReturn(mentorAreaRows);
+        when(reviewRepository.findMentorScoreRows(UserRole.MENTORADO)).thenReturn(scoreRows);
+        when(sessionRepository.findMentorSessionRows(Status.COMPLETED)).thenReturn(sessionRows);
+
+        when(mentorRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            List<Mentor> mentors = new ArrayList<>();
+            for (Long id : ids) {
+                Mentor mentor = new Mentor();
+                mentor.setId(id);
+                mentors.add(mentor);
+            }
+            Collections.reverse(mentors);
+            return mentors;
+        });
+
+        addMentor(1L, Course.MEDICINA, InterestArea.MEDICINA);
+        addMentor(2L, Course.MEDICINA, InterestArea.MEDICINA, InterestArea.FISICA);
+        addMentor(3L, Course.ZOOTECNIA, InterestArea.FISICA);
+    }
+
+    private void addMentor(long id, Course course, InterestArea... areas) {
+        mentorRows.add(new MentorRepository.MatchRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Course getCourse() {
+                return course;
+            }
+
+            @Override
+            public AffiliationType getAffiliationType() {
+                return AffiliationType.DOCENTE;
+            }
+        });
+        for (InterestArea area : areas) {
+            mentorAreaRows.add(new MentorRepository.InterestAreaRow() {
+                @Override
+                public Long getMentorId() {
+                    return id;
+                }
+
+                @Override
+                public InterestArea getArea() {
+                    return area;
+                }
+            });
+        }
+    }
+
+    private void addReview(long mentorId, int score, LocalDateTime createdAt) {
+        addReview((long) scoreRows.size() + 1, mentorId, score, createdAt);
+    }
+
+    private void addReview(long id, long mentorId, int score, LocalDateTime createdAt) {
+        scoreRows.add(new ReviewRepository.MentorScoreRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getMentorId() {
+                return mentorId;
+            }
+
+            @Override
+            public int getScore() {
+                return score;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+        });
+    }
+
+    private void addCompletedSession(long mentorId, LocalDateTime at) {
+        long id = sessionRows.size() + 1;
+        sessionRows.add(new SessionRepository.MentorSessionRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getMentorId() {
+                return mentorId;
+            }
+
+            @Override
+            public LocalDate getDate() {
+                return at.toLocalDate();
+            }
+
+            @Override
+            public LocalTime getTime() {
+                return at.toLocalTime();
+            }
+        });
+    }
+
+    private static List<Long> ids(List<LeaderboardEntryDTO> entries) {
+        return entries.stream().map(entry -> entry.getMentor().getId()).toList();
+    }
+
+    @Test
+    void testOrdenaPelaPontuacaoDeAvaliacoesESessoes() {
+        LocalDateTime now = LocalDateTime.now();
+        addReview(1L, 5, now);
+        addCompletedSession(2L, now);
+        addReview(3L, 4, now);
+        addCompletedSession(3L, now);
+
+        List<LeaderboardEntryDTO> entries = leaderboardService.getLeaderboard(null, null, null);
+
+        assertEquals(List.of(1L, 3L, 2L), ids(entries));
+        assertEquals(1, entries.get(0).getPosition());
+        assertEquals(1.0, entries.get(1).getScore(), 0.01);
+        verify(reviewRepository, times(1)).findMentorScoreRows(UserRole.MENTORADO);
+    }
+
+    @Test
+    void testFiltraPorAreaECurso() {
+        LocalDateTime now = LocalDateTime.now();
+        addReview(1L, 5, now);
+        addReview(2L, 4, now);
+        addReview(3L, 5, now);
+
+        assertEquals(List.of(3L, 2L), ids(leaderboardService.getLeaderboard(InterestArea.FISICA, null, null)));
+        assertEquals(List.of(1L, 2L), ids(leaderboardService.getLeaderboard(null, Course.MEDICINA, null)));
+        assertEquals(List.of(2L),
+                ids(leaderboardService.getLeaderboard(InterestArea.FISICA, Course.MEDICINA, null)));
+        assertEquals(List.of(1L), ids(leaderboardService.getLeaderboard(null, Course.MEDICINA, 1)));
+        assertTrue(leaderboardService.getLeaderboard(InterestArea.CIBERSEGURANCA, null, null).isEmpty());
+    }
+
+    @Test
+    void testPontosPerdemMetadeDoValorACadaMeiaVida() {
+        LocalDateTime now = LocalDateTime.now();
+        addReview(1L, 5, now.minusDays(60));
+        addReview(2L, 4, now);
+
+        List<LeaderboardEntryDTO> entries = leaderboardService.getLeaderboard(null, null, null);
+
+        assertEquals(List.of(2L, 1L), ids(entries));
+        assertEquals(0.25, entries.get(1).getScore(), 0.01);
+    }
+
+    @Test
+    void testEventosAtualizamORankingCarregado() {
+        LocalDateTime now = LocalDateTime.now();
+        addReview(1L, 5, now);
+        leaderboardService.getLeaderboard(null, null, null);
+
+        leaderboardService.onReviewCreated(new ReviewCreatedEvent(10L, 2L, 5L, UserRole.MENTORADO, 5, now));
+        leaderboardService.onSessionStatusChanged(
+                new SessionStatusChangedEvent(11L, 2L, 5L, Status.ACCEPTED, Status.COMPLETED));
+        // Avaliações feitas pelo mentor e outras transições não pontuam
+        leaderboardService.onReviewCreated(new ReviewCreatedEvent(12L, 3L, 5L, UserRole.MENTOR, 5, now));
+        leaderboardService.onSessionStatusChanged(
+                new SessionStatusChangedEvent(13L, 3L, 5L, Status.PENDING, Status.ACCEPTED));
+
+        assertEquals(List.of(2L, 1L), ids(leaderboardService.getLeaderboard(null, null, null)));
+
+        leaderboardService.onMentorChanged(new MentorChangedEvent(2L, Set.of(InterestArea.CIBERSEGURANCA), List.of(),
+                null, Course.DIREITO, AffiliationType.DOCENTE));
+        assertEquals(List.of(1L), ids(leaderboardService.getLeaderboard(InterestArea.MEDICINA, null, null)));
+        assertEquals(List.of(2L), ids(leaderboardService.getLeaderboard(null, Course.DIREITO, null)));
+
+        leaderboardService.onMentorChanged(MentorChangedEvent.deleted(2L));
+        leaderboardService.decay();
+        assertEquals(List.of(1L), ids(leaderboardService.getLeaderboard(null, null, null)));
+        verify(reviewRepository, times(1)).findMentorScoreRows(UserRole.MENTORADO);
+    }
+
+    @Test
+    void testEventosDuranteAReconstrucaoSaoReaplicados() {
+        LocalDateTime now = LocalDateTime.now();
+        addReview(20L, 1L, 4, now);
+        leaderboardService.getLeaderboard(null, null, null);
+
+        // Os eventos chegam depois que as avaliações foram lidas, mas antes da troca
+        when(sessionRepository.findMentorSessionRows(Status.COMPLETED)).thenAnswer(invocation -> {
+            leaderboardService.onReviewCreated(new ReviewCreatedEvent(21L, 2L, 5L, UserRole.MENTORADO, 5, now));
+            leaderboardService.onSessionStatusChanged(
+                    new SessionStatusChangedEvent(22L, 3L, 5L, Status.ACCEPTED, Status.COMPLETED));
+            // Já lida pela reconstrução: não pode contar de novo
+            leaderboardService.onReviewCreated(new ReviewCreatedEvent(20L, 1L, 5L, UserRole.MENTORADO, 4, now));
+            return sessionRows;
+        });
+        leaderboardService.rebuild();
+
+        List<LeaderboardEntryDTO> entries = leaderboardService.getLeaderboard(null, null, null);
+        assertEquals(List.of(2L, 3L, 1L), ids(entries));
+        assertEquals(0.5, entries.get(2).getScore(), 0.01);
+    }
+}
@@ -0,0 +1,277 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.MentorDTO;
+import br.edu.ufape.plataforma.mentoria.dto.MentoredDTO;
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
+import br.edu.ufape.plataforma.mentoria.mapper.MentorMapper;
+import br.edu.ufape.plataforma.mentoria.mapper.MentoredMapper;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.model.RatingSummary;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
+import br.edu.ufape.plataforma.mentoria.repository.RatingSummaryRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MentorMatchingServiceTest {
+
+    @Mock
+    private MentorRepository mentorRepository;
+
+    @Mock
+    private MentoredRepository mentoredRepository;
+
+    @Mock
+    private RatingSummaryRepository ratingSummaryRepository;
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    private MentorMatchingService matchingService;
+
+    private final List<MentorRepository.MatchRow> mentorRows = new ArrayList<>();
+    private final List<MentorRepository.InterestAreaRow> mentorAreaRows = new ArrayList<>();
+    private final List<MentoredRepository.MatchRow> mentoredRows = new ArrayList<>();
+    private final List<MentoredRepository.InterestAreaRow> mentoredAreaRows = new ArrayList<>();
+    private final List<RatingSummary> ratingSummaries = new ArrayList<>();
+    private final List<SessionRepository.MentorLoadRow> loadRows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        matchingService = new MentorMatchingService(mentorRepository, mentoredRepository, ratingSummaryRepository,
+                sessionRepository, new MentorMapper(), new MentoredMapper());
+
+        when(mentorRepository.findAllMatchRows()).thenReturn(mentorRows);
+        when(mentorRepository.findAllInterestAreaRows()).thenReturn(mentorAreaRows);
+        when(mentoredRepository.findAllMatchRows()).thenReturn(mentoredRows);
+        when(mentoredRepository.findAllInterestAreaRows()).thenReturn(mentoredAreaRows);
+        when(ratingSummaryRepository.findByProfileRole(UserRole.MENTOR)).thenReturn(ratingSummaries);
+        when(sessionRepository.countSessionsByMentor(anyCollection())).thenReturn(loadRows);
+
+        when(mentorRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Mentor> mentors = new ArrayList<>();
+            for (Long id : (Iterable<Long>) invocation.getArgument(0)) {
+                Mentor mentor = new Mentor();
+                mentor.setId(id);
+                mentors.add(mentor);
+            }
+            // A ordem do banco não é garantida
+            Collections.reverse(mentors);
+            return mentors;
+        });
+        when(mentoredRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Mentored> mentoreds = new ArrayList<>();
+            for (Long id : (Iterable<Long>) invocation.getArgument(0)) {
+                Mentored mentored = new Mentored();
+                mentored.setId(id);
+                mentoreds.add(mentored);
+            }
+            return mentoreds;
+        });
+    }
+
+    private void addMentor(long id, Course course, AffiliationType affiliationType, InterestArea... areas) {
+        mentorRows.add(new MentorRepository.MatchRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Course getCourse() {
+                return course;
+            }
+
+            @Override
+            public AffiliationType getAffiliationType() {
+                return affiliationType;
+            }
+        });
+        for (InterestArea area : areas) {
+            mentorAreaRows.add(new MentorRepository.InterestAreaRow() {
+                @Override
+                public Long getMentorId() {
+                    return id;
+                }
+
+                @Override
+                public InterestArea getArea() {
+                    return area;
+                }
+            });
+        }
+    }
+
+    private void addMentored(long id, Course course, InterestArea... areas) {
+        mentoredRows.add(new MentoredRepository.MatchRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Course getCourse() {
+                return course;
+            }
+        });
+        for (InterestArea area : areas) {
+            mentoredAreaRows.add(new MentoredRepository.InterestAreaRow() {
+                @Override
+                public Long getMentoredId() {
+                    return id;
+                }
+
+                @Override
+                public InterestArea getArea() {
+                    return area;
+                }
+            });
+        }
+    }
+
+    private void addRating(long mentorId, int score, long reviewCount) {
+        RatingSummary summary = new RatingSummary(mentorId, UserRole.MENTOR);
+        summary.add(score, reviewCount, null);
+        ratingSummaries.add(summary);
+    }
+
+    private void addOpenSessions(long mentorId, long sessionCount) {
+        loadRows.add(new SessionRepository.MentorLoadRow() {
+            @Override
+            public Long getMentorId() {
+                return mentorId;
+            }
+
+            @Override
+            public long getSessionCount() {
+                return sessionCount;
+            }
+        });
+    }
+
+    private void loginAsMentored(long userId, long mentoredId) {
+        when(mentoredRepository.findIdByUserId(userId)).thenReturn(Optional.of(mentoredId));
+    }
+
+    private static List<Long> mentorIds(List<MentorDTO> mentors) {
+        return mentors.stream().map(MentorDTO::getId).toList();
+    }
+
+    @Test
+    void testOrdenaMentoresPorSobreposicaoDeAreas() {
+        addMentor(1L, null, AffiliationType.DOCENTE, InterestArea.MEDICINA);
+        addMentor(2L, null, AffiliationType.DOCENTE, InterestArea.MEDICINA, InterestArea.CIBERSEGURANCA);
+        addMentor(3L, null, AffiliationType.DOCENTE, InterestArea.JORNALISMO);
+        addMentored(10L, null, InterestArea.MEDICINA, InterestArea.CIBERSEGURANCA);
+        loginAsMentored(100L, 10L);
+
+        List<MentorDTO> result = matchingService.matchMentors(100L);
+
+        // O mentor 3 não compartilha nenhuma área e fica de fora
+        assertEquals(List.of(2L, 1L), mentorIds(result));
+    }
+
+    @Test
+    void testConsideraCursoVinculoAvaliacaoECarga() {
+        addMentor(1L, null, AffiliationType.TERCEIRIZADO, InterestArea.MEDICINA);
+        addMentor(2L, Course.MEDICINA, AffiliationType.TERCEIRIZADO, InterestArea.MEDICINA);
+        addMentor(3L, null, AffiliationType.DOCENTE, InterestArea.MEDICINA);
+        addMentored(10L, Course.MEDICINA, InterestArea.MEDICINA);
+        loginAsMentored(100L, 10L);
+        addRating(1L, 5, 10);
+        addOpenSessions(3L, 9);
+
+        List<MentorDTO> result = matchingService.matchMentors(100L);
+
+        // O curso em comum pesa mais que a avaliação alta, e o vínculo melhor não compensa a carga
+        assertEquals(List.of(2L, 1L, 3L), mentorIds(result));
+    }
+
+    @Test
+    void testLimitaQuantidadeDeMentores() {
+        for (long id = 1; id <= MentorMatchingService.MAX_MATCHES + 5; id++) {
+            addMentor(id, null, AffiliationType.DOCENTE, InterestArea.MEDICINA);
+        }
+        addMentored(10L, null, InterestArea.MEDICINA);
+        loginAsMentored(100L, 10L);
+
+        assertEquals(MentorMatchingService.MAX_MATCHES, matchingService.matchMentors(100L).size());
+    }
+
+    @Test
+    void testServeDoCacheAteORecalculo() {
+        addMentor(1L, null, AffiliationType.DOCENTE, InterestArea.MEDICINA);
+        addMentored(10L, null, InterestArea.MEDICINA);
+        loginAsMentored(100L, 10L);
+
+        matchingService.matchMentors(100L);
+        addMentor(2L, Course.MEDICINA, AffiliationType.DOCENTE, InterestArea.MEDICINA);
+        assertEquals(List.of(1L), mentorIds(matchingService.matchMentors(100L)));
+        verify(mentorRepository, times(1)).findAllMatchRows();
+
+        matchingService.refreshMatches();
+        assertEquals(2, matchingService.matchMentors(100L).size());
+    }
+
+    @Test
+    void testCalculaMentoradoCadastradoAposORecalculo() {
+        addMentor(1L, null, AffiliationType.DOCENTE, InterestArea.MEDICINA);
+        addMentor(2L, null, AffiliationType.DOCENTE, InterestArea.JORNALISMO);
+        matchingService.refreshMatches();
+
+        Mentored mentored = new Mentored();
+        mentored.setId(20L);
+        mentored.setInterestArea(List.of(InterestArea.JORNALISMO));
+        loginAsMentored(200L, 20L);
+        when(mentoredRepository.findById(20L)).thenReturn(Optional.of(mentored));
+
+        assertEquals(List.of(2L), mentorIds(matchingService.matchMentors(200L)));
+    }
+
+    @Test
+    void testOrdenaMentoradosParaOMentor() {
+        addMentor(1L, Course.MEDICINA, AffiliationType.DOCENTE, InterestArea.MEDICINA, InterestArea.CIBERSEGURANCA);
+        addMentored(10L, null, InterestArea.MEDICINA, InterestArea.JORNALISMO);
+        addMentored(11L, null, InterestArea.MEDICINA);
+        addMentored(12L, Course.MEDICINA, InterestArea.MEDICINA);
+        addMentored(13L, null, InterestArea.JORNALISMO);
+
+        Mentor mentor = new Mentor();
+        mentor.setId(1L);
+        mentor.setCourse(Course.MEDICINA);
+        mentor.setInterestArea(List.of(InterestArea.MEDICINA, InterestArea.CIBERSEGURANCA));
+        when(mentorRepository.findIdByUserId(300L)).thenReturn(Optional.of(1L));
+        when(mentorRepository.findById(1L)).thenReturn(Optional.of(mentor));
+
+        List<MentoredDTO> result = matchingService.matchMentoreds(300L);
+
+        assertEquals(List.of(12L, 11L, 10L), result.stream().map(MentoredDTO::getId).toList());
+    }
+
+    @Test
+    void testUsuarioSemPerfilDeMentorado() {
+        when(mentoredRepository.findIdByUserId(999L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> matchingService.matchMentors(999L));
+    }
+}
@@ -0,0 +1,92 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.event.MentorChangedEvent;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MentorSearchIndexTest {
+
+    @Mock
+    private MentorRepository mentorRepository;
+
+    @InjectMocks
+    private MentorSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(mentorRepository.findAllInterestAreaRows()).thenReturn(List.of());
+        when(mentorRepository.findAllSpecializationRows()).thenReturn(List.of());
+        when(mentorRepository.findAllSummaryRows()).thenReturn(List.of());
+
+        index.put(1L, Set.of(InterestArea.DESENVOLVIMENTO_DE_SOFTWARE), List.of("Programação Java", "Spring Boot"),
+                "Desenvolvedor backend");
+        index.put(2L, Set.of(InterestArea.CIENCIA_DE_DADOS_E_IA), List.of("Python", "Aprendizado de Máquina"),
+                "Trabalho com Java em pipelines de dados");
+        index.put(3L, Set.of(InterestArea.DESENVOLVIMENTO_DE_SOFTWARE), List.of("JavaScript"), null);
+    }
+
+    @Test
+    void testBuscaIgnoraAcentosEMaiusculas() {
+        assertEquals(List.of(1L), index.search(null, "PROGRAMACAO", 10));
+        assertEquals(List.of(2L), index.search(null, "maquina", 10));
+    }
+
+    @Test
+    void testEspecializacaoPesaMaisQueResumo() {
+        // O mentor 2 só cita Java no resumo
+        List<Long> result = index.search(null, "java", 10);
+
+        assertEquals(1L, result.get(0));
+        assertTrue(result.contains(2L));
+    }
+
+    @Test
+    void testPrefixoEErroDeDigitacao() {
+        assertTrue(index.search(null, "pyt", 10).contains(2L));
+        assertTrue(index.search(null, "pyton", 10).contains(2L));
+        assertTrue(index.search(null, "spirng boot", 10).contains(1L));
+    }
+
+    @Test
+    void testFiltroPorArea() {
+        assertEquals(List.of(1L, 3L), index.search(InterestArea.DESENVOLVIMENTO_DE_SOFTWARE, null, 10));
+        assertEquals(List.of(2L), index.search(InterestArea.CIENCIA_DE_DADOS_E_IA, "java", 10));
+        assertTrue(index.search(InterestArea.FISICA, "java", 10).isEmpty());
+    }
+
+    @Test
+    void testSemAreaESemTextoNaoRetornaNada() {
+        assertTrue(index.search(null, " ", 10).isEmpty());
+    }
+
+    @Test
+    void testAtualizacaoERemocao() {
+        index.onMentorChanged(new MentorChangedEvent(3L, Set.of(InterestArea.FISICA), List.of("Óptica"), null, null, null));
+
+        assertFalse(index.search(null, "javascript", 10).contains(3L));
+        assertEquals(List.of(3L), index.search(null, "optica", 10));
+
+        index.onMentorChanged(MentorChangedEvent.deleted(3L));
+
+        assertTrue(index.search(null, "optica", 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testLimiteDeResultados() {
+        assertEquals(1, index.search(null, "java", 1).size());
+    }
+}
@@ -32,6 +32,12 @@ class MentorSearchServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private MentorSearchIndex searchIndex;
+
+    @Mock
+    private RatingSummaryService ratingSummaryService;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -99,20 +105,30 @@ class MentorSearchServiceTest {
     @Test
     void testFindByInterestAreaAndSpecializations() {
         Mentor mentor1 = new Mentor.Builder().build();
+        mentor1.setId(1L);
         Mentor mentor2 = new Mentor.Builder().build();
+        mentor2.setId(2L);
         MentorDTO dto1 = new MentorDTO.Builder().build();
         MentorDTO dto2 = new MentorDTO.Builder().build();
         List<Mentor> mentors = Arrays.asList(mentor1, mentor2);
 
-        when(mentorRepository.findByInterestAreaAndSpecializationsContaining(InterestArea.CIBERSEGURANCA, "Java"))
-                .thenReturn(mentors);
+        // O índice define a ordem por relevância
+        when(searchIndex.search(InterestArea.CIBERSEGURANCA, "Java", MentorSearchService.MAX_SEARCH_RESULTS))
+                .thenReturn(List.of(2L, 1L));
+        when(mentorRepository.findAllById(List.of(2L, 1L))).thenReturn(mentors);
         when(mentorMapper.toDTO(mentor1)).thenReturn(dto1);
         when(mentorMapper.toDTO(mentor2)).thenReturn(dto2);
 
         List<MentorDTO> result = mentorSearchService.findByInterestAreaAndSpecializations(InterestArea.CIBERSEGURANCA,
                 "Java");
-        assertEquals(2, result.size());
-        assertTrue(result.contains(dto1));
-        assertTrue(result.contains(dto2));
+        assertEquals(List.of(dto2, dto1), result);
+    }
+
+    @Test
+    void testFindByInterestAreaAndSpecializationsSemResultados() {
+        when(searchIndex.search(null, "xyz", MentorSearchService.MAX_SEARCH_RESULTS)).thenReturn(List.of());
+
+        assertTrue(mentorSearchService.findByInterestAreaAndSpecializations(null, "xyz").isEmpty());
+        verify(mentorRepository, never()).findAllById(any());
     }
 }
\ No newline at end of file
@@ -13,6 +13,7 @@ import org.mockito.Mock;
 import static org.mockito.Mockito.*;
 
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 
 import br.edu.ufape.plataforma.mentoria.dto.MentorDTO;
@@ -22,6 +23,7 @@ import br.edu.ufape.plataforma.mentoria.enums.Course;
 import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
 import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
 import br.edu.ufape.plataforma.mentoria.mapper.MentorMapper;
+import br.edu.ufape.plataforma.mentoria.event.MentorChangedEvent;
 import br.edu.ufape.plataforma.mentoria.model.Mentor;
 import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
 import br.edu.ufape.plataforma.mentoria.repository.UserRepository;
@@ -44,6 +46,9 @@ class MentorServiceTest {
     @Mock
     private MentorSearchService mentorSearchService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private Authentication authentication;
 
@@ -106,6 +111,7 @@ class MentorServiceTest {
 
         assertEquals(mentor, result);
         verify(mentorRepository).save(mentor);
+        verify(eventPublisher).publishEvent(any(MentorChangedEvent.class));
     }
 
     @Test
@@ -116,6 +122,7 @@ class MentorServiceTest {
         mentorService.deleteById(id);
 
         verify(mentorRepository).deleteById(id);
+        verify(eventPublisher).publishEvent(MentorChangedEvent.deleted(id));
     }
 
     @Test
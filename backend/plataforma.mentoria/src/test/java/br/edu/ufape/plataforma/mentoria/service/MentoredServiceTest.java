@@ -17,6 +17,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -52,13 +53,17 @@ class MentoredServiceTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         SecurityContextHolder.clearContext();
         
         // Initialize service manually to ensure all dependencies are properly injected
-        mentoredService = new MentoredService(mentoredRepository, mentoredSearchService, mentoredMapper, userRepository);
+        mentoredService = new MentoredService(mentoredRepository, mentoredSearchService, mentoredMapper, userRepository,
+                eventPublisher);
     }
 
     @Test
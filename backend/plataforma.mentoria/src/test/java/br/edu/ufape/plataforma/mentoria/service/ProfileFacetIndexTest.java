@@ -0,0 +1,82 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.event.MentorChangedEvent;
+import br.edu.ufape.plataforma.mentoria.event.MentoredChangedEvent;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileFacetIndexTest {
+
+    @Mock
+    private MentorRepository mentorRepository;
+
+    @Mock
+    private MentoredRepository mentoredRepository;
+
+    @InjectMocks
+    private ProfileFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(mentorRepository.findAllInterestAreaRows()).thenReturn(List.of());
+        when(mentoredRepository.findAllInterestAreaRows()).thenReturn(List.of());
+        when(mentoredRepository.findAllMatchRows()).thenReturn(List.of());
+    }
+
+    private static MentorChangedEvent mentor(long mentorId, Course course) {
+        return new MentorChangedEvent(mentorId, Set.of(InterestArea.CIBERSEGURANCA), List.of(), null, course,
+                AffiliationType.DOCENTE);
+    }
+
+    @Test
+    void testEventoAtualizaIndiceSemReconstruir() {
+        when(mentorRepository.findAllMatchRows()).thenReturn(List.of());
+
+        index.onMentorChanged(mentor(1L, Course.ADMINISTRACAO));
+        index.onMentoredChanged(new MentoredChangedEvent(2L, Set.of(), Course.ADMINISTRACAO));
+
+        assertArrayEquals(new long[] { 1L }, index.searchMentors(Set.of(Course.ADMINISTRACAO), Set.of(), Set.of()).ids());
+        assertArrayEquals(new long[] { 2L }, index.searchMentoreds(Set.of(Course.ADMINISTRACAO), Set.of()).ids());
+        verify(mentorRepository, times(1)).findAllMatchRows();
+    }
+
+    @Test
+    void testEventosDuranteReconstrucaoNaoSePerdem() {
+        when(mentorRepository.findAllMatchRows()).thenReturn(List.of());
+        index.onMentorChanged(mentor(1L, Course.ADMINISTRACAO));
+
+        MentorRepository.MatchRow row = mock(MentorRepository.MatchRow.class);
+        when(row.getId()).thenReturn(1L);
+        when(row.getCourse()).thenReturn(Course.ADMINISTRACAO);
+        when(row.getAffiliationType()).thenReturn(AffiliationType.DOCENTE);
+        // A leitura do banco termina antes do commit das alterações
+        when(mentorRepository.findAllMatchRows()).thenAnswer(invocation -> {
+            index.onMentorChanged(mentor(1L, Course.CIENCIA_DA_COMPUTACAO));
+            index.onMentoredChanged(new MentoredChangedEvent(2L, Set.of(), Course.ADMINISTRACAO));
+            return List.of(row);
+        });
+
+        index.rebuild();
+
+        assertEquals(0, index.searchMentors(Set.of(Course.ADMINISTRACAO), Set.of(), Set.of()).ids().length);
+        assertArrayEquals(new long[] { 1L },
+                index.searchMentors(Set.of(Course.CIENCIA_DA_COMPUTACAO), Set.of(), Set.of()).ids());
+        assertArrayEquals(new long[] { 2L }, index.searchMentoreds(Set.of(Course.ADMINISTRACAO), Set.of()).ids());
+    }
+}
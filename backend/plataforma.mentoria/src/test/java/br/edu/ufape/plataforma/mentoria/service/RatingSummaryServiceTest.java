@@ -0,0 +1,166 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.RatingSummaryDTO;
+import br.edu.ufape.plataforma.mentoria.dto.ReviewDTO;
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.model.Review;
+import br.edu.ufape.plataforma.mentoria.model.Session;
+import br.edu.ufape.plataforma.mentoria.model.User;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
+import br.edu.ufape.plataforma.mentoria.repository.RatingSummaryRepository;
+import br.edu.ufape.plataforma.mentoria.repository.ReviewRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SessionRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({ ReviewService.class, RatingSummaryService.class })
+class RatingSummaryServiceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private RatingSummaryService ratingSummaryService;
+
+    @Autowired
+    private RatingSummaryRepository ratingSummaryRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private MentoredRepository mentoredRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    private Mentor mentor;
+    private Mentored mentored;
+
+    @BeforeEach
+    void setUp() {
+        mentor = mentorRepository.save(new Mentor.Builder()
+                .fullName("Mentor")
+                .cpf("12345678900")
+                .specializations(List.of("Java"))
+                .affiliationType(AffiliationType.DOCENTE)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .professionalSummary("Professional")
+                .user(newUser("mentor@teste.com", UserRole.MENTOR))
+                .interestArea(List.of(InterestArea.CIBERSEGURANCA))
+                .course(Course.ADMINISTRACAO)
+                .build());
+
+        mentored = new Mentored();
+        mentored.setFullName("Mentorado");
+        mentored.setCpf("12345678901");
+        mentored.setBirthDate(LocalDate.of(2000, 1, 1));
+        mentored.setUser(newUser("mentorado@teste.com", UserRole.MENTORADO));
+        mentored.setInterestArea(List.of(InterestArea.CIBERSEGURANCA));
+        mentored.setCourse(Course.ADMINISTRACAO);
+        mentored = mentoredRepository.save(mentored);
+    }
+
+    private User newUser(String email, UserRole role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("senhaSegura123");
+        user.setRole(role);
+        return user;
+    }
+
+    private Long completedSession() {
+        Session session = new Session(mentor, mentored, LocalDate.of(2025, 1, 1), LocalTime.NOON, "Carreira", "Online");
+        session.setStatus(Status.COMPLETED);
+        return sessionRepository.save(session).getId();
+    }
+
+    @Test
+    void testAvaliacoesAtualizamResumoDoAvaliado() {
+        reviewService.createReview(new ReviewDTO(5, "Ótimo", completedSession(), UserRole.MENTORADO));
+        reviewService.createReview(new ReviewDTO(3, "Bom", completedSession(), UserRole.MENTORADO));
+        reviewService.createReview(new ReviewDTO(4, "Dedicado", completedSession(), UserRole.MENTOR));
+        entityManager.flush();
+        entityManager.clear();
+
+        RatingSummaryDTO mentorSummary = ratingSummaryService.getSummary(mentor.getId(), UserRole.MENTOR);
+        assertEquals(2, mentorSummary.getCount());
+        assertEquals(8, mentorSummary.getSum());
+        assertEquals(4.0, mentorSummary.getMean());
+        assertEquals(List.of(0L, 0L, 1L, 0L, 1L), mentorSummary.getHistogram());
+        assertNotNull(mentorSummary.getLastReviewAt());
+
+        RatingSummaryDTO mentoredSummary = ratingSummaryService.getSummary(mentored.getId(), UserRole.MENTORADO);
+        assertEquals(1, mentoredSummary.getCount());
+        assertEquals(List.of(0L, 0L, 0L, 1L, 0L), mentoredSummary.getHistogram());
+    }
+
+    @Test
+    void testPerfilSemAvaliacoesRetornaResumoVazio() {
+        RatingSummaryDTO summary = ratingSummaryService.getSummary(mentor.getId(), UserRole.MENTOR);
+
+        assertEquals(0, summary.getCount());
+        assertNull(summary.getMean());
+
+        Map<Long, RatingSummaryDTO> summaries = ratingSummaryService.getSummaries(List.of(mentor.getId()), UserRole.MENTOR);
+        assertEquals(0, summaries.get(mentor.getId()).getCount());
+    }
+
+    @Test
+    void testMontaResumosAPartirDasAvaliacoesExistentes() {
+        Session session = sessionRepository.findById(completedSession()).orElseThrow();
+        reviewRepository.save(new Review(2, "Regular", mentor, mentored, session, UserRole.MENTORADO));
+        reviewRepository.save(new Review(4, "Bom", mentor, mentored, session, UserRole.MENTORADO));
+        entityManager.flush();
+
+        ratingSummaryService.backfillIfEmpty();
+        entityManager.flush();
+        entityManager.clear();
+
+        RatingSummaryDTO summary = ratingSummaryService.getSummary(mentor.getId(), UserRole.MENTOR);
+        assertEquals(2, summary.getCount());
+        assertEquals(3.0, summary.getMean());
+        assertEquals(1, ratingSummaryRepository.count());
+    }
+
+    @Test
+    void testInsercaoDoPrimeiroResumoNaoDuplicaAoConcorrer() {
+        // A outra transação já criou o resumo entre o UPDATE e a inserção
+        assertEquals(1, ratingSummaryRepository.insertIfAbsent(mentor.getId(), UserRole.MENTOR, 5,
+                LocalDateTime.now()));
+        assertEquals(0, ratingSummaryRepository.insertIfAbsent(mentor.getId(), UserRole.MENTOR, 3,
+                LocalDateTime.now()));
+        entityManager.clear();
+
+        RatingSummaryDTO summary = ratingSummaryService.getSummary(mentor.getId(), UserRole.MENTOR);
+        assertEquals(1, summary.getCount());
+        assertEquals(List.of(0L, 0L, 0L, 0L, 1L), summary.getHistogram());
+        assertEquals(1, ratingSummaryRepository.count());
+    }
+}
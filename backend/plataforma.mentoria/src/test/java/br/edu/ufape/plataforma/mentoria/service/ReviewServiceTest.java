@@ -0,0 +1,132 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.CursorPage;
+import br.edu.ufape.plataforma.mentoria.dto.ReviewDTO;
+import br.edu.ufape.plataforma.mentoria.dto.ReviewResponseDTO;
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.model.Session;
+import br.edu.ufape.plataforma.mentoria.model.User;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SessionRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({ ReviewService.class, RatingSummaryService.class })
+class ReviewServiceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private MentoredRepository mentoredRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    private Mentor mentor;
+    private Mentored mentored;
+
+    @BeforeEach
+    void setUp() {
+        mentor = mentorRepository.save(new Mentor.Builder()
+                .fullName("Mentor")
+                .cpf("12345678900")
+                .specializations(List.of("Java"))
+                .affiliationType(AffiliationType.DOCENTE)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .professionalSummary("Professional")
+                .user(newUser("mentor@teste.com", UserRole.MENTOR))
+                .interestArea(List.of(InterestArea.CIBERSEGURANCA))
+                .course(Course.ADMINISTRACAO)
+                .build());
+
+        mentored = new Mentored();
+        mentored.setFullName("Mentorado");
+        mentored.setCpf("12345678901");
+        mentored.setBirthDate(LocalDate.of(2000, 1, 1));
+        mentored.setUser(newUser("mentorado@teste.com", UserRole.MENTORADO));
+        mentored.setInterestArea(List.of(InterestArea.CIBERSEGURANCA));
+        mentored.setCourse(Course.ADMINISTRACAO);
+        mentored = mentoredRepository.save(mentored);
+    }
+
+    private User newUser(String email, UserRole role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("senhaSegura123");
+        user.setRole(role);
+        return user;
+    }
+
+    private Long completedSession() {
+        Session session = new Session(mentor, mentored, LocalDate.of(2025, 1, 1), LocalTime.NOON, "Carreira", "Online");
+        session.setStatus(Status.COMPLETED);
+        return sessionRepository.save(session).getId();
+    }
+
+    private List<Integer> scores(CursorPage<ReviewResponseDTO> page) {
+        return page.items().stream().map(ReviewResponseDTO::getScore).toList();
+    }
+
+    @Test
+    void testAvaliacoesRecebidasPaginadasDaMaisRecente() {
+        reviewService.createReview(new ReviewDTO(1, "Primeira", completedSession(), UserRole.MENTORADO));
+        reviewService.createReview(new ReviewDTO(2, "Segunda", completedSession(), UserRole.MENTORADO));
+        reviewService.createReview(new ReviewDTO(3, "Terceira", completedSession(), UserRole.MENTORADO));
+        // Avaliação feita pelo mentor: recebida pelo mentorado, não pelo mentor
+        reviewService.createReview(new ReviewDTO(5, "Do mentor", completedSession(), UserRole.MENTOR));
+        entityManager.flush();
+        entityManager.clear();
+
+        CursorPage<ReviewResponseDTO> first = reviewService.getReceivedReviewsPage(mentor.getId(), 0L, 2);
+        assertEquals(List.of(3, 2), scores(first));
+        assertNotNull(first.nextCursor());
+        ReviewResponseDTO latest = first.items().get(0);
+        assertEquals(mentor.getId(), latest.getMentorId());
+        assertEquals(mentored.getId(), latest.getMentoredId());
+        assertEquals(UserRole.MENTORADO, latest.getReviewerRole());
+        assertEquals("Terceira", latest.getComment());
+        assertNotNull(latest.getSessionId());
+        assertNotNull(latest.getCreatedAt());
+
+        CursorPage<ReviewResponseDTO> second = reviewService.getReceivedReviewsPage(mentor.getId(),
+                first.nextCursor(), 2);
+        assertEquals(List.of(1), scores(second));
+        assertNull(second.nextCursor());
+
+        CursorPage<ReviewResponseDTO> received = reviewService.getReceivedReviewsPage(mentored.getId(), 0L, 10);
+        assertEquals(List.of(5), scores(received));
+        assertEquals(UserRole.MENTOR, received.items().get(0).getReviewerRole());
+    }
+
+    @Test
+    void testCursorDeAvaliacaoInexistente() {
+        assertThrows(EntityNotFoundException.class,
+                () -> reviewService.getReceivedReviewsPage(mentor.getId(), 999L, 10));
+    }
+}
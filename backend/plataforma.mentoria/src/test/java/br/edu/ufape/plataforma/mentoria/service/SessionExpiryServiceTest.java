@@ -0,0 +1,171 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.mapper.SessionMapper;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.model.Session;
+import br.edu.ufape.plataforma.mentoria.model.User;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SessionRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SessionStatusChangeRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SlotClaimRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({ SessionExpiryService.class, SessionService.class, SessionMapper.class, AvailabilityService.class,
+        SessionIntervalIndex.class })
+@TestPropertySource(properties = "app.sessions.expiry.batch-size=2")
+class SessionExpiryServiceTest {
+
+    @Autowired
+    private SessionExpiryService expiryService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SessionStatusChangeRepository statusChangeRepository;
+
+    @Autowired
+    private SlotClaimRepository slotClaimRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private MentoredRepository mentoredRepository;
+
+    private Mentor mentor;
+    private Mentored mentored;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        mentor = mentorRepository.save(new Mentor.Builder()
+                .fullName("Mentor")
+                .cpf("12345678900")
+                .specializations(List.of("Java"))
+                .affiliationType(AffiliationType.DOCENTE)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .professionalSummary("Professional")
+                .user(newUser("mentor@teste.com", UserRole.MENTOR))
+                .interestArea(List.of(InterestArea.CIBERSEGURANCA))
+                .course(Course.ADMINISTRACAO)
+                .build());
+
+        mentored = new Mentored();
+        mentored.setFullName("Mentorado");
+        mentored.setCpf("12345678901");
+        mentored.setBirthDate(LocalDate.of(2000, 1, 1));
+        mentored.setUser(newUser("mentorado@teste.com", UserRole.MENTORADO));
+        mentored.setInterestArea(List.of(InterestArea.CIBERSEGURANCA));
+        mentored.setCourse(Course.ADMINISTRACAO);
+        mentored = mentoredRepository.save(mentored);
+
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+    }
+
+    private User newUser(String email, UserRole role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("senhaSegura123");
+        user.setRole(role);
+        return user;
+    }
+
+    private Session saveSession(LocalDateTime start, Status status) {
+        Session session = new Session(mentor, mentored, start.toLocalDate(), start.toLocalTime(), "Carreira", "Online");
+        session.setStatus(status);
+        return sessionRepository.save(session);
+    }
+
+    private Status statusOf(Session session) {
+        return sessionRepository.findById(session.getId()).orElseThrow().getStatus();
+    }
+
+    @Test
+    void testPendentesVencidasSaoCanceladasEmLotes() {
+        Session first = saveSession(now.minusDays(3), Status.PENDING);
+        Session second = saveSession(now.minusDays(2), Status.PENDING);
+        Session third = saveSession(now.minusHours(2), Status.PENDING);
+        availabilityService.claim(third);
+        Session upcoming = saveSession(now.plusDays(1), Status.PENDING);
+
+        expiryService.expireStaleSessions();
+
+        assertEquals(Status.CANCELLED, statusOf(first));
+        assertEquals(Status.CANCELLED, statusOf(second));
+        assertEquals(Status.CANCELLED, statusOf(third));
+        assertEquals(Status.PENDING, statusOf(upcoming));
+        assertEquals(0, slotClaimRepository.count());
+        assertEquals(Status.PENDING, statusChangeRepository.findBySessionIdOrderByIdAsc(first.getId())
+                .get(0).getFromStatus());
+    }
+
+    @Test
+    void testAceitasFicamAguardandoConfirmacaoAoTerminar() {
+        Session finished = saveSession(now.minusHours(2), Status.ACCEPTED);
+        Session inProgress = saveSession(LocalDateTime.now().minusMinutes(30), Status.ACCEPTED);
+
+        expiryService.expireStaleSessions();
+
+        Session reloaded = sessionRepository.findById(finished.getId()).orElseThrow();
+        assertEquals(Status.ACCEPTED, reloaded.getStatus());
+        assertTrue(reloaded.isAwaitingConfirmation());
+        assertTrue(statusChangeRepository.findBySessionIdOrderByIdAsc(finished.getId()).isEmpty());
+        assertFalse(sessionRepository.findById(inProgress.getId()).orElseThrow().isAwaitingConfirmation());
+    }
+
+    @Test
+    void testConfirmacaoConcluiSessaoAguardando() {
+        Session finished = saveSession(now.minusHours(2), Status.ACCEPTED);
+        expiryService.expireStaleSessions();
+        LocalDateTime markedAt = sessionRepository.findById(finished.getId()).orElseThrow()
+                .getAwaitingConfirmationSince();
+
+        // Uma nova execução não remarca a sessão
+        expiryService.expireStaleSessions();
+        assertEquals(markedAt, sessionRepository.findById(finished.getId()).orElseThrow()
+                .getAwaitingConfirmationSince());
+
+        sessionService.updateSessionStatus(finished.getId(), Status.COMPLETED);
+        Session completed = sessionRepository.findById(finished.getId()).orElseThrow();
+        assertEquals(Status.COMPLETED, completed.getStatus());
+        assertFalse(completed.isAwaitingConfirmation());
+    }
+
+    @Test
+    void testSessaoAlteradaPorOutroNoEIgnorada() {
+        Session stale = saveSession(now.minusDays(1), Status.PENDING);
+        // Outro nó rejeitou a sessão depois que este leu o lote
+        sessionRepository.updateStatusIf(stale.getId(), Status.PENDING, Status.REJECTED);
+
+        assertFalse(sessionService.applyStatusTransition(stale, Status.CANCELLED));
+        assertEquals(Status.REJECTED, statusOf(stale));
+        assertEquals(0, expiryService.expire(Status.PENDING, now, Status.CANCELLED));
+    }
+}
@@ -0,0 +1,194 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.dto.SessionDTO;
+import br.edu.ufape.plataforma.mentoria.dto.SessionOccurrenceDTO;
+import br.edu.ufape.plataforma.mentoria.dto.SessionSeriesDTO;
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+import br.edu.ufape.plataforma.mentoria.enums.RecurrenceFrequency;
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+import br.edu.ufape.plataforma.mentoria.enums.UserRole;
+import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
+import br.edu.ufape.plataforma.mentoria.exceptions.SlotUnavailableException;
+import br.edu.ufape.plataforma.mentoria.mapper.SessionMapper;
+import br.edu.ufape.plataforma.mentoria.model.Mentor;
+import br.edu.ufape.plataforma.mentoria.model.Mentored;
+import br.edu.ufape.plataforma.mentoria.model.Session;
+import br.edu.ufape.plataforma.mentoria.model.User;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@Import({ SessionSeriesService.class, SessionService.class, SessionMapper.class, AvailabilityService.class,
+        SessionIntervalIndex.class })
+class SessionSeriesServiceTest {
+
+    @Autowired
+    private SessionSeriesService seriesService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private SessionIntervalIndex intervalIndex;
+
+    @MockitoSpyBean
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private MentoredRepository mentoredRepository;
+
+    private Mentor mentor;
+    private Mentored mentored;
+    private LocalDate monday;
+
+    @BeforeEach
+    void setUp() {
+        mentor = mentorRepository.save(new Mentor.Builder()
+                .fullName("Mentor")
+                .cpf("12345678900")
+                .specializations(List.of("Java"))
+                .affiliationType(AffiliationType.DOCENTE)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .professionalSummary("Professional")
+                .user(newUser("mentor@teste.com", UserRole.MENTOR))
+                .interestArea(List.of(InterestArea.CIBERSEGURANCA))
+                .course(Course.ADMINISTRACAO)
+                .build());
+
+        mentored = new Mentored();
+        mentored.setFullName("Mentorado");
+        mentored.setCpf("12345678901");
+        mentored.setBirthDate(LocalDate.of(2000, 1, 1));
+        mentored.setUser(newUser("mentorado@teste.com", UserRole.MENTORADO));
+        mentored.setInterestArea(List.of(InterestArea.CIBERSEGURANCA));
+        mentored.setCourse(Course.ADMINISTRACAO);
+        mentored = mentoredRepository.save(mentored);
+
+        monday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    }
+
+    private User newUser(String email, UserRole role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("senhaSegura123");
+        user.setRole(role);
+        return user;
+    }
+
+    private SessionSeriesDTO createSeries(RecurrenceFrequency frequency, LocalDate untilDate, Integer count) {
+        return seriesService.createSeries(new SessionSeriesDTO(mentor.getId(), mentored.getId(), frequency, monday,
+                LocalTime.of(10, 0), untilDate, count, "Carreira", "Online"));
+    }
+
+    @Test
+    void testOcorrenciasSaoExpandidasSoNoIntervalo() {
+        SessionSeriesDTO series = createSeries(RecurrenceFrequency.WEEKLY, null, 10);
+        assertEquals(monday.plusWeeks(9), series.getLastDate());
+
+        List<SessionOccurrenceDTO> occurrences = seriesService.getMentorOccurrences(mentor.getId(),
+                monday.plusWeeks(2).minusDays(1), monday.plusWeeks(4));
+
+        assertEquals(List.of(monday.plusWeeks(2), monday.plusWeeks(3), monday.plusWeeks(4)),
+                occurrences.stream().map(SessionOccurrenceDTO::date).toList());
+        assertTrue(occurrences.stream().allMatch(occurrence -> occurrence.sessionId() == null));
+        assertEquals(0, sessionRepository.count());
+    }
+
+    @Test
+    void testSerieQuinzenalTerminaNaUltimaDataAntesDoFim() {
+        SessionSeriesDTO series = createSeries(RecurrenceFrequency.BIWEEKLY, monday.plusWeeks(5), null);
+        assertEquals(monday.plusWeeks(4), series.getLastDate());
+
+        List<SessionOccurrenceDTO> occurrences = seriesService.getMentoredOccurrences(mentored.getId(), monday,
+                monday.plusWeeks(20));
+        assertEquals(3, occurrences.size());
+    }
+
+    @Test
+    void testOcorrenciaMaterializadaSegueOFluxoDasSessoes() {
+        SessionSeriesDTO series = createSeries(RecurrenceFrequency.WEEKLY, null, 4);
+        LocalDate second = monday.plusWeeks(1);
+
+        SessionDTO session = seriesService.materialize(series.getId(), second);
+        assertEquals(session.getId(), seriesService.materialize(series.getId(), second).getId());
+        sessionService.updateSessionStatus(session.getId(), Status.ACCEPTED);
+
+        List<SessionOccurrenceDTO> occurrences = seriesService.getMentorOccurrences(mentor.getId(), monday,
+                monday.plusWeeks(3));
+        assertEquals(4, occurrences.size());
+        SessionOccurrenceDTO materialized = occurrences.get(1);
+        assertEquals(session.getId(), materialized.sessionId());
+        assertEquals(Status.ACCEPTED, materialized.status());
+        assertEquals(Status.PENDING, occurrences.get(0).status());
+        assertEquals(1, sessionRepository.count());
+    }
+
+    @Test
+    void testDataForaDaSerieNaoPodeSerMaterializada() {
+        SessionSeriesDTO series = createSeries(RecurrenceFrequency.WEEKLY, null, 4);
+        Long seriesId = series.getId();
+        LocalDate tuesday = monday.plusDays(1);
+
+        assertThrows(EntityNotFoundException.class, () -> seriesService.materialize(seriesId, tuesday));
+        assertThrows(IllegalArgumentException.class, () -> createSeries(RecurrenceFrequency.WEEKLY, null, null));
+    }
+
+    @Test
+    void testOcorrenciaNaoMaterializadaOcupaOHorario() {
+        SessionSeriesDTO series = createSeries(RecurrenceFrequency.WEEKLY, null, 4);
+        LocalDate second = monday.plusWeeks(1);
+        SessionDTO overlapping = new SessionDTO(mentor.getId(), mentored.getId(), second, LocalTime.of(10, 30),
+                "Outra", "Online");
+
+        assertThrows(SlotUnavailableException.class, () -> sessionService.createSession(overlapping));
+        assertThrows(SlotUnavailableException.class,
+                () -> availabilityService.checkAvailable(mentor.getId(), mentored.getId(), second,
+                        LocalTime.of(9, 30), null));
+
+        // Materializada e cancelada, a ocorrência libera o horário
+        SessionDTO session = seriesService.materialize(series.getId(), second);
+        sessionService.updateSessionStatus(session.getId(), Status.CANCELLED);
+        intervalIndex.clear();
+        assertDoesNotThrow(() -> sessionService.createSession(overlapping));
+    }
+
+    @Test
+    void testMaterializacaoConcorrenteRetornaASessaoGravada() {
+        SessionSeriesDTO series = createSeries(RecurrenceFrequency.WEEKLY, null, 4);
+        SessionDTO first = seriesService.materialize(series.getId(), monday);
+        intervalIndex.clear();
+
+        // A outra requisição gravou a ocorrência depois que esta procurou por ela
+        Optional<Session> stored = sessionRepository.findBySeriesIdAndOccurrenceDate(series.getId(), monday);
+        doReturn(Optional.empty()).doReturn(stored).when(sessionRepository)
+                .findBySeriesIdAndOccurrenceDate(series.getId(), monday);
+
+        assertEquals(first.getId(), seriesService.materialize(series.getId(), monday).getId());
+        assertEquals(1, sessionRepository.count());
+    }
+}
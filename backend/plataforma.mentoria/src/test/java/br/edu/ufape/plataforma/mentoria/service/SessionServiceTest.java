@@ -3,20 +3,24 @@ package br.edu.ufape.plataforma.mentoria.service;
 import br.edu.ufape.plataforma.mentoria.dto.SessionDTO;
 import br.edu.ufape.plataforma.mentoria.enums.*;
 import br.edu.ufape.plataforma.mentoria.exceptions.EntityNotFoundException;
+import br.edu.ufape.plataforma.mentoria.exceptions.SessionStatusConflictException;
 import br.edu.ufape.plataforma.mentoria.mapper.SessionMapper;
 import br.edu.ufape.plataforma.mentoria.model.Mentor;
 import br.edu.ufape.plataforma.mentoria.model.Mentored;
 import br.edu.ufape.plataforma.mentoria.model.Session;
+import br.edu.ufape.plataforma.mentoria.model.SessionStatusChange;
 import br.edu.ufape.plataforma.mentoria.model.User;
 import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
 import br.edu.ufape.plataforma.mentoria.repository.MentoredRepository;
 import br.edu.ufape.plataforma.mentoria.repository.SessionRepository;
+import br.edu.ufape.plataforma.mentoria.repository.SessionStatusChangeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
@@ -42,6 +46,15 @@ class SessionServiceTest {
     @Mock
     private SessionMapper sessionMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AvailabilityService availabilityService;
+
+    @Mock
+    private SessionStatusChangeRepository statusChangeRepository;
+
     private Mentor mentor;
     private Mentored mentored;
     private Session session;
@@ -269,20 +282,53 @@ class SessionServiceTest {
     void updateSession() {
         when(sessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
         when(sessionRepository.save(any(Session.class))).thenReturn(session);
-        when(sessionMapper.toDTO(any())).thenAnswer(inv -> {
-            SessionDTO dto = new SessionDTO();
-            dto.setDate(session.getDate());
-            dto.setTime(session.getTime());
-            dto.setMeetingTopic(session.getMeetingTopic());
-            dto.setLocation("Casa nova");
-            dto.setStatus(Status.CANCELLED); // Corrija para o status esperado
-            return dto;
-        });
+        when(sessionMapper.toDTO(any(Session.class))).thenReturn(sessionDTO);
+        sessionDTO.setLocation("Casa nova");
 
         SessionDTO updated = sessionService.updateSession(session.getId(), sessionDTO);
 
         assertNotNull(updated);
-        assertEquals(Status.CANCELLED, updated.getStatus());
+        assertEquals("Casa nova", session.getLocation());
+        verify(sessionRepository, never()).updateStatusIf(any(), any(), any());
+        verifyNoInteractions(statusChangeRepository);
+    }
+
+    @Test
+    void updateSession_StatusChangeUsesConditionalTransition() {
+        when(sessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
+        when(sessionRepository.save(any(Session.class))).thenReturn(session);
+        when(sessionRepository.updateStatusIf(session.getId(), Status.PENDING, Status.CANCELLED)).thenReturn(1);
+        when(sessionMapper.toDTO(any(Session.class))).thenReturn(sessionDTO);
+        sessionDTO.setStatus(Status.CANCELLED);
+
+        sessionService.updateSession(session.getId(), sessionDTO);
+
+        assertEquals(Status.CANCELLED, session.getStatus());
+        verify(statusChangeRepository).save(any(SessionStatusChange.class));
+        verify(availabilityService, never()).claim(any());
+    }
+
+    @Test
+    void updateSession_InvalidStatusChange_ShouldThrow() {
+        when(sessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
+        when(sessionRepository.save(any(Session.class))).thenReturn(session);
+        sessionDTO.setStatus(Status.COMPLETED);
+        Long sessionId = session.getId();
+
+        assertThrows(IllegalArgumentException.class, () -> sessionService.updateSession(sessionId, sessionDTO));
+        verify(sessionRepository, never()).updateStatusIf(any(), any(), any());
+    }
+
+    @Test
+    void updateSession_ConcurrentStatusChange_ShouldThrow() {
+        when(sessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
+        when(sessionRepository.save(any(Session.class))).thenReturn(session);
+        when(sessionRepository.updateStatusIf(session.getId(), Status.PENDING, Status.ACCEPTED)).thenReturn(0);
+        sessionDTO.setStatus(Status.ACCEPTED);
+        Long sessionId = session.getId();
+
+        assertThrows(SessionStatusConflictException.class, () -> sessionService.updateSession(sessionId, sessionDTO));
+        verifyNoInteractions(statusChangeRepository, eventPublisher);
     }
 
     @Test
@@ -299,39 +345,54 @@ class SessionServiceTest {
     void updateSessionStatus_PendingToAccepted() {
         session.setStatus(Status.PENDING);
         when(sessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
-        when(sessionRepository.save(any(Session.class))).thenReturn(session);
+        when(sessionRepository.updateStatusIf(session.getId(), Status.PENDING, Status.ACCEPTED)).thenReturn(1);
         when(sessionMapper.toDTO(any(Session.class))).thenReturn(sessionDTO);
 
         SessionDTO result = sessionService.updateSessionStatus(session.getId(), Status.ACCEPTED);
 
         assertNotNull(result);
-        verify(sessionRepository).save(session);
+        verify(sessionRepository).updateStatusIf(session.getId(), Status.PENDING, Status.ACCEPTED);
+        verify(statusChangeRepository).save(any(SessionStatusChange.class));
     }
 
     @Test
     void updateSessionStatus_PendingToRejected() {
         session.setStatus(Status.PENDING);
         when(sessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
-        when(sessionRepository.save(any(Session.class))).thenReturn(session);
+        when(sessionRepository.updateStatusIf(session.getId(), Status.PENDING, Status.REJECTED)).thenReturn(1);
         when(sessionMapper.toDTO(any(Session.class))).thenReturn(sessionDTO);
 
         SessionDTO result = sessionService.updateSessionStatus(session.getId(), Status.REJECTED);
 
         assertNotNull(result);
-        verify(sessionRepository).save(session);
+        verify(sessionRepository).updateStatusIf(session.getId(), Status.PENDING, Status.REJECTED);
+        verify(statusChangeRepository).save(any(SessionStatusChange.class));
     }
 
     @Test
     void updateSessionStatus_PendingToCancelled() {
         session.setStatus(Status.PENDING);
         when(sessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
-        when(sessionRepository.save(any(Session.class))).thenReturn(session);
+        when(sessionRepository.updateStatusIf(session.getId(), Status.PENDING, Status.CANCELLED)).thenReturn(1);
         when(sessionMapper.toDTO(any(Session.class))).thenReturn(sessionDTO);
 
         SessionDTO result = sessionService.updateSessionStatus(session.getId(), Status.CANCELLED);
 
         assertNotNull(result);
-        verify(sessionRepository).save(session);
+        verify(sessionRepository).updateStatusIf(session.getId(), Status.PENDING, Status.CANCELLED);
+        verify(statusChangeRepository).save(any(SessionStatusChange.class));
+    }
+
+    @Test
+    void updateSessionStatus_ConcurrentChange_ShouldThrow() {
+        session.setStatus(Status.PENDING);
+        when(sessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
+        when(sessionRepository.updateStatusIf(session.getId(), Status.PENDING, Status.ACCEPTED)).thenReturn(0);
+        Long sessionId = session.getId();
+        assertThrows(SessionStatusConflictException.class, () ->
+                sessionService.updateSessionStatus(sessionId, Status.ACCEPTED)
+        );
+        verifyNoInteractions(statusChangeRepository, eventPublisher);
     }
 
     @Test
@@ -360,26 +421,28 @@ class SessionServiceTest {
     void updateSessionStatus_AcceptedToCompleted() {
         session.setStatus(Status.ACCEPTED);
         when(sessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
-        when(sessionRepository.save(any(Session.class))).thenReturn(session);
+        when(sessionRepository.updateStatusIf(session.getId(), Status.ACCEPTED, Status.COMPLETED)).thenReturn(1);
         when(sessionMapper.toDTO(any(Session.class))).thenReturn(sessionDTO);
 
         SessionDTO result = sessionService.updateSessionStatus(session.getId(), Status.COMPLETED);
 
         assertNotNull(result);
-        verify(sessionRepository).save(session);
+        verify(sessionRepository).updateStatusIf(session.getId(), Status.ACCEPTED, Status.COMPLETED);
+        verify(statusChangeRepository).save(any(SessionStatusChange.class));
     }
 
     @Test
     void updateSessionStatus_AcceptedToCancelled() {
         session.setStatus(Status.ACCEPTED);
         when(sessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
-        when(sessionRepository.save(any(Session.class))).thenReturn(session);
+        when(sessionRepository.updateStatusIf(session.getId(), Status.ACCEPTED, Status.CANCELLED)).thenReturn(1);
         when(sessionMapper.toDTO(any(Session.class))).thenReturn(sessionDTO);
 
         SessionDTO result = sessionService.updateSessionStatus(session.getId(), Status.CANCELLED);
 
         assertNotNull(result);
-        verify(sessionRepository).save(session);
+        verify(sessionRepository).updateStatusIf(session.getId(), Status.ACCEPTED, Status.CANCELLED);
+        verify(statusChangeRepository).save(any(SessionStatusChange.class));
     }
 
     @Test
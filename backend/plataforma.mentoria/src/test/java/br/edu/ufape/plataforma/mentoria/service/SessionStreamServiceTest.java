@@ -0,0 +1,53 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.enums.Status;
+import br.edu.ufape.plataforma.mentoria.event.SessionStatusChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionStreamServiceTest {
+
+    private final SessionStreamService streamService = new SessionStreamService(60_000, 4);
+
+    @AfterEach
+    void tearDown() {
+        streamService.shutdown();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condição não atingida a tempo");
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void testConexoesSaoMantidasPorUsuario() {
+        streamService.subscribe(1L);
+        streamService.subscribe(1L);
+        streamService.subscribe(2L);
+
+        assertEquals(2, streamService.connectionCount(1L));
+        assertEquals(1, streamService.connectionCount(2L));
+        assertEquals(0, streamService.connectionCount(3L));
+    }
+
+    @Test
+    void testConexaoEncerradaESaiAoReceberAviso() throws InterruptedException {
+        SseEmitter closed = streamService.subscribe(1L);
+        streamService.subscribe(2L);
+        closed.complete();
+
+        streamService.onSessionStatusChanged(new SessionStatusChangedEvent(10L, 1L, 2L, Status.PENDING,
+                Status.ACCEPTED));
+
+        await(() -> streamService.connectionCount(1L) == 0);
+        assertEquals(1, streamService.connectionCount(2L));
+    }
+}
@@ -0,0 +1,102 @@
+package br.edu.ufape.plataforma.mentoria.service;
+
+import br.edu.ufape.plataforma.mentoria.event.MentorChangedEvent;
+import br.edu.ufape.plataforma.mentoria.repository.MentorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpecializationTrieTest {
+
+    @Mock
+    private MentorRepository mentorRepository;
+
+    @InjectMocks
+    private SpecializationTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        when(mentorRepository.findAllSpecializationRows()).thenReturn(List.of());
+
+        trie.onMentorChanged(changed(1L, "Java", "Programação", "Python"));
+        trie.onMentorChanged(changed(2L, "java", "Python"));
+        trie.onMentorChanged(changed(3L, "JAVA", "JavaScript", "Programação Funcional"));
+        trie.onMentorChanged(changed(4L, "JavaScript", "Python"));
+        trie.onMentorChanged(changed(5L, "Python"));
+    }
+
+    private static MentorChangedEvent changed(long mentorId, String... specializations) {
+        return new MentorChangedEvent(mentorId, Set.of(), List.of(specializations), null, null, null);
+    }
+
+    @Test
+    void testSugestoesOrdenadasPorFrequencia() {
+        assertEquals(List.of("Java", "JavaScript"), trie.suggest("ja", 10));
+        assertEquals(List.of("Python", "Java"), trie.suggest("", 2));
+    }
+
+    @Test
+    void testPrefixoSemAcentoEMaiusculas() {
+        assertEquals(List.of("Programação", "Programação Funcional"), trie.suggest("PROGRAMACAO", 10));
+        assertEquals(3, trie.count("java"));
+    }
+
+    @Test
+    void testPrefixoInexistente() {
+        assertTrue(trie.suggest("rust", 10).isEmpty());
+    }
+
+    @Test
+    void testAtualizacaoDescontaTermosAntigos() {
+        trie.onMentorChanged(changed(1L, "Rust"));
+        trie.onMentorChanged(changed(2L, "Rust"));
+
+        assertEquals(1, trie.count("java"));
+        assertEquals(0, trie.count("programacao"));
+        assertEquals(List.of("Rust"), trie.suggest("r", 10));
+        assertEquals(List.of("Programação Funcional"), trie.suggest("prog", 10));
+    }
+
+    @Test
+    void testRemocaoDoMentor() {
+        trie.onMentorChanged(MentorChangedEvent.deleted(5L));
+        trie.onMentorChanged(MentorChangedEvent.deleted(4L));
+
+        assertEquals(2, trie.count("python"));
+        assertEquals(List.of("JavaScript"), trie.suggest("javas", 10));
+    }
+
+    @Test
+    void testEspecializacaoRepetidaContaUmaVez() {
+        trie.onMentorChanged(changed(6L, "Go", "go", " GO "));
+
+        assertEquals(1, trie.count("go"));
+    }
+
+    @Test
+    void testEventoDuranteReconstrucaoNaoSePerde() {
+        MentorRepository.SpecializationRow row = mock(MentorRepository.SpecializationRow.class);
+        when(row.getMentorId()).thenReturn(1L);
+        when(row.getSpecialization()).thenReturn("Java");
+        // A leitura do banco termina antes do commit da alteração do mentor 1
+        when(mentorRepository.findAllSpecializationRows()).thenAnswer(invocation -> {
+            trie.onMentorChanged(changed(1L, "Kotlin"));
+            return List.of(row);
+        });
+
+        trie.rebuild();
+
+        assertEquals(0, trie.count("java"));
+        assertEquals(1, trie.count("kotlin"));
+    }
+}
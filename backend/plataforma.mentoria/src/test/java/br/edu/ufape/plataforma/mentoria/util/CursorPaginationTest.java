@@ -0,0 +1,47 @@
+package br.edu.ufape.plataforma.mentoria.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import br.edu.ufape.plataforma.mentoria.dto.CursorPage;
+
+class CursorPaginationTest {
+
+    @Test
+    void testTamanhoDaPaginaLimitado() {
+        assertEquals(CursorPagination.DEFAULT_PAGE_SIZE, CursorPagination.pageSize(null));
+        assertEquals(CursorPagination.DEFAULT_PAGE_SIZE, CursorPagination.pageSize(0));
+        assertEquals(5, CursorPagination.pageSize(5));
+        assertEquals(CursorPagination.MAX_PAGE_SIZE, CursorPagination.pageSize(10_000));
+    }
+
+    @Test
+    void testCursorAusenteComecaDoInicio() {
+        assertEquals(0L, CursorPagination.afterId(null));
+        assertEquals(42L, CursorPagination.afterId(42L));
+    }
+
+    @Test
+    void testItemExcedenteIndicaProximaPagina() {
+        CursorPage<Long> page = CursorPage.of(List.of(3L, 5L, 8L), 2, id -> id);
+
+        assertEquals(List.of(3L, 5L), page.items());
+        assertEquals(5L, page.nextCursor());
+
+        ResponseEntity<List<Long>> response = CursorPagination.toResponse(page);
+        assertEquals("5", response.getHeaders().getFirst(CursorPagination.NEXT_CURSOR_HEADER));
+        assertEquals(List.of(3L, 5L), response.getBody());
+    }
+
+    @Test
+    void testUltimaPaginaSemCursor() {
+        CursorPage<Long> page = CursorPage.of(List.of(3L, 5L), 2, id -> id);
+
+        assertNull(page.nextCursor());
+        assertFalse(CursorPagination.toResponse(page).getHeaders().containsKey(CursorPagination.NEXT_CURSOR_HEADER));
+    }
+}
@@ -0,0 +1,112 @@
+package br.edu.ufape.plataforma.mentoria.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.edu.ufape.plataforma.mentoria.enums.AffiliationType;
+import br.edu.ufape.plataforma.mentoria.enums.Course;
+import br.edu.ufape.plataforma.mentoria.enums.InterestArea;
+
+class FacetIndexTest {
+
+    private FacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Class<? extends Enum<?>>> dimensions = new LinkedHashMap<>();
+        dimensions.put("course", Course.class);
+        dimensions.put("affiliationType", AffiliationType.class);
+        dimensions.put("interestArea", InterestArea.class);
+        index = new FacetIndex(dimensions);
+
+        put(1L, Course.MEDICINA, AffiliationType.DOCENTE, InterestArea.MEDICINA);
+        put(2L, Course.MEDICINA, AffiliationType.PESQUISADOR, InterestArea.MEDICINA, InterestArea.FISICA);
+        put(3L, Course.ZOOTECNIA, AffiliationType.DOCENTE, InterestArea.FISICA);
+    }
+
+    private void put(long id, Course course, AffiliationType affiliationType, InterestArea... areas) {
+        index.put(id, Map.of(
+                "course", Set.of(course),
+                "affiliationType", Set.of(affiliationType),
+                "interestArea", Set.of(areas)));
+    }
+
+    private static Map<String, Collection<? extends Enum<?>>> filters(Object... pairs) {
+        Map<String, Collection<? extends Enum<?>>> filters = new HashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            filters.put((String) pairs[i], (Collection<? extends Enum<?>>) pairs[i + 1]);
+        }
+        return filters;
+    }
+
+    @Test
+    void testSemFiltrosRetornaTodosComContagens() {
+        FacetIndex.Result result = index.search(filters());
+
+        assertArrayEquals(new long[] { 1L, 2L, 3L }, result.ids());
+        assertEquals(2, result.facets().get("course").get("MEDICINA"));
+        assertEquals(1, result.facets().get("course").get("ZOOTECNIA"));
+        assertEquals(0, result.facets().get("course").get("DIREITO"));
+        assertEquals(2, result.facets().get("interestArea").get("FISICA"));
+    }
+
+    @Test
+    void testFiltrosCombinamDimensoesComE() {
+        FacetIndex.Result result = index.search(filters(
+                "course", Set.of(Course.MEDICINA),
+                "affiliationType", Set.of(AffiliationType.DOCENTE)));
+
+        assertArrayEquals(new long[] { 1L }, result.ids());
+    }
+
+    @Test
+    void testValoresDaMesmaDimensaoCombinamComOu() {
+        FacetIndex.Result result = index.search(filters(
+                "affiliationType", Set.of(AffiliationType.DOCENTE, AffiliationType.PESQUISADOR)));
+
+        assertArrayEquals(new long[] { 1L, 2L, 3L }, result.ids());
+    }
+
+    @Test
+    void testContagemIgnoraOFiltroDaPropriaDimensao() {
+        FacetIndex.Result result = index.search(filters("course", Set.of(Course.MEDICINA)));
+
+        // As alternativas de curso continuam visíveis com as suas contagens
+        assertEquals(1, result.facets().get("course").get("ZOOTECNIA"));
+        // As demais dimensões contam só os resultados filtrados
+        assertEquals(1, result.facets().get("affiliationType").get("DOCENTE"));
+        assertEquals(1, result.facets().get("interestArea").get("FISICA"));
+    }
+
+    @Test
+    void testAtualizacaoSubstituiValoresAntigos() {
+        put(1L, Course.ZOOTECNIA, AffiliationType.GESTOR, InterestArea.FISICA);
+
+        FacetIndex.Result result = index.search(filters("course", Set.of(Course.MEDICINA)));
+
+        assertArrayEquals(new long[] { 2L }, result.ids());
+        assertEquals(1, result.facets().get("course").get("MEDICINA"));
+        assertEquals(2, result.facets().get("course").get("ZOOTECNIA"));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testRemocaoLiberaAPosicao() {
+        index.remove(2L);
+        put(4L, Course.MEDICINA, AffiliationType.GESTOR, InterestArea.MEDICINA);
+
+        FacetIndex.Result result = index.search(filters("interestArea", Set.of(InterestArea.MEDICINA)));
+
+        assertArrayEquals(new long[] { 1L, 4L }, result.ids());
+        assertEquals(0, result.facets().get("affiliationType").get("PESQUISADOR"));
+        assertEquals(3, index.size());
+    }
+}
@@ -0,0 +1,48 @@
+package br.edu.ufape.plataforma.mentoria.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class FileSignaturesTest {
+
+    private static boolean matches(String extension, byte[] header) {
+        return FileSignatures.matches(extension, header, header.length);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    void testReconheceFormatosPermitidos() {
+        assertTrue(matches(".pdf", ascii("%PDF-1.7\n")));
+        assertTrue(matches(".png", new byte[] { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0 }));
+        assertTrue(matches(".jpg", new byte[] { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0 }));
+        assertTrue(matches(".jpeg", new byte[] { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE1 }));
+        assertTrue(matches(".docx", new byte[] { 'P', 'K', 0x03, 0x04, 0x14, 0 }));
+        assertTrue(matches(".doc", new byte[] { (byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1,
+                (byte) 0xB1, 0x1A, (byte) 0xE1 }));
+        assertTrue(matches(".avi", ascii("RIFF\u0000\u0000\u0000\u0000AVI LIST")));
+        assertTrue(matches(".mp4", ascii("\u0000\u0000\u0000\u0018ftypmp42")));
+        assertTrue(matches(".mov", ascii("\u0000\u0000\u0000\u0014ftypqt  ")));
+        assertTrue(matches(".mov", ascii("\u0000\u0000\u0000\u0008wide")));
+        assertTrue(matches(".txt", ascii("anotações da aula")));
+    }
+
+    @Test
+    void testRejeitaConteudoIncompativel() {
+        assertFalse(matches(".pdf", ascii("<html>")));
+        assertFalse(matches(".mp4", ascii("%PDF-1.7")));
+        assertFalse(matches(".txt", new byte[] { 'a', 0, 'b' }));
+        assertFalse(matches(".exe", ascii("MZ")));
+    }
+
+    @Test
+    void testCabecalhoCurtoNaoCorresponde() {
+        assertFalse(matches(".pdf", ascii("%PD")));
+        assertFalse(matches(".mp4", ascii("\u0000\u0000")));
+    }
+}
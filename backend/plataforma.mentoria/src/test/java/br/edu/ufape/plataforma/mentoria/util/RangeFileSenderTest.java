@@ -0,0 +1,146 @@
+package br.edu.ufape.plataforma.mentoria.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RangeFileSenderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = tempDir.resolve("video.mp4");
+        Files.writeString(file, "0123456789", StandardCharsets.UTF_8);
+        request = new MockHttpServletRequest("GET", "/api/materials/1/content");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void testEnviaArquivoCompleto() throws Exception {
+        RangeFileSender.send(file, "video.mp4", request, response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+        assertEquals(10, response.getContentLengthLong());
+        assertEquals("video/mp4", response.getContentType());
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        assertNotNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    void testEnviaIntervaloParcial() throws Exception {
+        request.addHeader("Range", "bytes=2-5");
+
+        RangeFileSender.send(file, "video.mp4", request, response);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("2345", response.getContentAsString());
+        assertEquals("bytes 2-5/10", response.getHeader("Content-Range"));
+        assertEquals(4, response.getContentLengthLong());
+    }
+
+    @Test
+    void testEnviaSufixo() throws Exception {
+        request.addHeader("Range", "bytes=-3");
+
+        RangeFileSender.send(file, "video.mp4", request, response);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("789", response.getContentAsString());
+        assertEquals("bytes 7-9/10", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    void testIntervaloInsatisfazivel() throws Exception {
+        request.addHeader("Range", "bytes=20-30");
+
+        RangeFileSender.send(file, "video.mp4", request, response);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeader("Content-Range"));
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    void testIfRangeDesatualizadoEnviaArquivoCompleto() throws Exception {
+        request.addHeader("Range", "bytes=2-5");
+        request.addHeader("If-Range", "\"outra-versao\"");
+
+        RangeFileSender.send(file, "video.mp4", request, response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+        assertNull(response.getHeader("Content-Range"));
+    }
+
+    @Test
+    void testIfRangeAtualAplicaIntervalo() throws Exception {
+        RangeFileSender.send(file, "video.mp4", request, response);
+        String etag = response.getHeader("ETag");
+
+        MockHttpServletRequest rangeRequest = new MockHttpServletRequest("GET", "/api/materials/1/content");
+        rangeRequest.addHeader("Range", "bytes=0-1");
+        rangeRequest.addHeader("If-Range", etag);
+        MockHttpServletResponse rangeResponse = new MockHttpServletResponse();
+
+        RangeFileSender.send(file, "video.mp4", rangeRequest, rangeResponse);
+
+        assertEquals(206, rangeResponse.getStatus());
+        assertEquals("01", rangeResponse.getContentAsString());
+    }
+
+    @Test
+    void testIfNoneMatchRetornaNaoModificado() throws Exception {
+        RangeFileSender.send(file, "video.mp4", request, response);
+        String etag = response.getHeader("ETag");
+
+        MockHttpServletRequest conditionalRequest = new MockHttpServletRequest("GET", "/api/materials/1/content");
+        conditionalRequest.addHeader("If-None-Match", etag);
+        MockHttpServletResponse conditionalResponse = new MockHttpServletResponse();
+
+        RangeFileSender.send(file, "video.mp4", conditionalRequest, conditionalResponse);
+
+        assertEquals(304, conditionalResponse.getStatus());
+        assertEquals("", conditionalResponse.getContentAsString());
+    }
+
+    @Test
+    void testHeadNaoEnviaCorpo() throws Exception {
+        request.setMethod("HEAD");
+
+        RangeFileSender.send(file, "video.mp4", request, response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(10, response.getContentLengthLong());
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    void testDelegaAoSendfileQuandoSuportado() throws Exception {
+        Path large = tempDir.resolve("grande.pdf");
+        Files.write(large, new byte[64 * 1024]);
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader("Range", "bytes=1024-");
+
+        RangeFileSender.send(large, "grande.pdf", request, response);
+
+        assertEquals(206, response.getStatus());
+        assertEquals(1024L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+        assertEquals(64L * 1024, request.getAttribute("org.apache.tomcat.sendfile.end"));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+}
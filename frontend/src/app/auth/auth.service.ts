@@ -7,6 +7,7 @@ import { responseMentored } from '../entity/responses/response-mentored';
 import { responseMentor } from '../entity/responses/response-mentor';
 import { MentorDTO } from '../entity/dto/mentor-dto';
 import { environment } from '../../../environments/environment';
+import { fetchAllPagesWithFetch } from '../services/cursor-pagination';
 @Injectable({
   providedIn: 'root',
 })
@@ -118,24 +119,13 @@ export class AuthService {
 
   async getAllMentor(): Promise<MentorDTO[] | null> {
     try {
-      const response = await fetch(this.apiUrlMentor, {
+      return await fetchAllPagesWithFetch<MentorDTO>(this.apiUrlMentor, {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json',
           Authorization: `Bearer ${localStorage.getItem('token')}`,
         }
-      });
-
-      if (!response.ok) {
-        const errorData = await response
-          .json()
-          .catch(() => ({ message: 'Erro desconhecido' }));
-        const error = new Error(errorData.message || 'Buscar mentores falhou');
-        (error as any).status = response.status;
-        throw error;
-      }
-
-      return await response.json();
+      }, 'Buscar mentores falhou');
     } catch (error) {
       console.error('Erro ao Buscar mentores no AuthService:', error);
       throw error;
@@ -171,24 +161,13 @@ export class AuthService {
 
   async getAllMentored(): Promise<responseMentored[] | null> {
     try {
-      const response = await fetch(this.apiUrlMentored, {
+      return await fetchAllPagesWithFetch<responseMentored>(this.apiUrlMentored, {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json',
           Authorization: `Bearer ${localStorage.getItem('token')}`,
         }
-      });
-
-      if (!response.ok) {
-        const errorData = await response
-          .json()
-          .catch(() => ({ message: 'Erro desconhecido' }));
-        const error = new Error(errorData.message || 'Buscar mentorados falhou');
-        (error as any).status = response.status;
-        throw error;
-      }
-
-      return await response.json();
+      }, 'Buscar mentorados falhou');
     } catch (error) {
       console.error('Erro ao Buscar mentorados no AuthService:', error);
       throw error;
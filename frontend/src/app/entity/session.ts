@@ -8,4 +8,5 @@ export interface Session {
     meetingTopic: string;
     status: string;
     location: string;
+    awaitingConfirmation?: boolean;
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ import { HttpClient, HttpHeaders } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { Material, InterestArea } from './material-module';
 import { environment } from '../../../environments/environment';
+import { fetchAllPages } from '../services/cursor-pagination';
 
 @Injectable({
   providedIn: 'root'
@@ -28,7 +29,9 @@ export class MaterialService {
 
   getAllMaterials(): Observable<Material[]> {
     const headers = this.getAuthHeaders();
-    return this.http.get<Material[]>(this.apiUrl, { headers });
+    return fetchAllPages<Material>(params =>
+      this.http.get<Material[]>(this.apiUrl, { headers, params, observe: 'response' })
+    );
   }
 
   getSuggestedMaterials(): Observable<Material[]> {
@@ -83,7 +86,9 @@ export class MaterialService {
 
   filterMaterialsByInterestAreas(areas: InterestArea[]): Observable<Material[]> {
     const headers = this.getAuthHeaders();
-    return this.http.post<Material[]>(`${this.apiUrl}/filtrar-por-areas`, areas, { headers });
+    return fetchAllPages<Material>(params =>
+      this.http.post<Material[]>(`${this.apiUrl}/filtrar-por-areas`, areas, { headers, params, observe: 'response' })
+    );
   }
   
   getDownloadUrl(filePath: string): string {
@@ -0,0 +1,65 @@
+import { HttpParams, HttpResponse } from '@angular/common/http';
+import { EMPTY, Observable } from 'rxjs';
+import { expand, reduce } from 'rxjs/operators';
+
+// As listagens da API são paginadas por cursor: o cursor da próxima página
+// vem neste header, ausente na última página
+export const NEXT_CURSOR_HEADER = 'X-Next-Cursor';
+export const PAGE_SIZE = 100;
+
+/**
+ * Busca todas as páginas de uma listagem, seguindo o header X-Next-Cursor.
+ * A requisição deve usar os parâmetros recebidos e `observe: 'response'`.
+ */
+export function fetchAllPages<T>(
+  request: (params: HttpParams) => Observable<HttpResponse<T[]>>
+): Observable<T[]> {
+  const page = (cursor: string | null) => {
+    let params = new HttpParams().set('size', PAGE_SIZE);
+    if (cursor) {
+      params = params.set('cursor', cursor);
+    }
+    return request(params);
+  };
+
+  return page(null).pipe(
+    expand(response => {
+      const nextCursor = response.headers.get(NEXT_CURSOR_HEADER);
+      return nextCursor ? page(nextCursor) : EMPTY;
+    }),
+    reduce((items, response) => items.concat(response.body ?? []), [] as T[])
+  );
+}
+
+/**
+ * Equivalente de fetchAllPages para os serviços que usam fetch. Uma página
+ * com erro interrompe a busca com um Error contendo o status da resposta.
+ */
+export async function fetchAllPagesWithFetch<T>(
+  url: string,
+  init: RequestInit,
+  errorMessage: string
+): Promise<T[]> {
+  const items: T[] = [];
+  let cursor: string | null = null;
+  do {
+    const params = new URLSearchParams({ size: String(PAGE_SIZE) });
+    if (cursor) {
+      params.set('cursor', cursor);
+    }
+
+    const response = await fetch(`${url}?${params}`, init);
+    if (!response.ok) {
+      const errorData = await response
+        .json()
+        .catch(() => ({ message: 'Erro desconhecido' }));
+      const error = new Error(errorData.message || errorMessage);
+      (error as any).status = response.status;
+      throw error;
+    }
+
+    items.push(...((await response.json()) as T[]));
+    cursor = response.headers.get(NEXT_CURSOR_HEADER);
+  } while (cursor);
+  return items;
+}
@@ -4,6 +4,7 @@ import { Observable, of } from 'rxjs';
 import { catchError } from 'rxjs/operators';
 import { environment } from '../../../environments/environment';
 import { Feedback } from '../entity/Feedback';
+import { fetchAllPages } from './cursor-pagination';
 
 export interface ReviewData {
   score: number;
@@ -88,7 +89,9 @@ export class ReviewService {
       Authorization: `Bearer ${token}` 
     });
 
-    return this.http.get<any[]>(`${this.apiUrl}/minhas`, { headers }).pipe(
+    return fetchAllPages<Feedback>(params =>
+      this.http.get<Feedback[]>(`${this.apiUrl}/minhas`, { headers, params, observe: 'response' })
+    ).pipe(
       catchError((error: any) => {
         console.error('Erro ao carregar avaliações recebidas:', error);
         return of([]);